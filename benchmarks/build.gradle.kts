@@ -13,6 +13,7 @@ dependencies {
     compile(project(":compiler:frontend"))
     compile(projectTests(":compiler:tests-common"))
     compile(project(":compiler:cli"))
+    compile(project(":compiler:cli-js"))
     compile(intellijCoreDep()) { includeJars("intellij-core") }
     compile(jpsStandalone()) { includeJars("jps-model") }
     compile(intellijPluginDep("java"))
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2010-2021 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.benchmarks
+
+import com.intellij.openapi.Disposable
+import com.intellij.openapi.util.Disposer
+import org.jetbrains.kotlin.backend.common.phaser.PhaseConfig
+import org.jetbrains.kotlin.backend.common.phaser.invokeToplevel
+import org.jetbrains.kotlin.cli.common.CLIConfigurationKeys
+import org.jetbrains.kotlin.cli.common.messages.AnalyzerWithCompilerReport
+import org.jetbrains.kotlin.cli.common.messages.MessageCollector
+import org.jetbrains.kotlin.cli.jvm.compiler.EnvironmentConfigFiles
+import org.jetbrains.kotlin.cli.jvm.compiler.KotlinCoreEnvironment
+import org.jetbrains.kotlin.config.CommonConfigurationKeys
+import org.jetbrains.kotlin.config.CompilerConfiguration
+import org.jetbrains.kotlin.config.addKotlinSourceRoot
+import org.jetbrains.kotlin.ir.backend.js.*
+import org.jetbrains.kotlin.ir.backend.js.lower.moveBodilessDeclarationsToSeparatePlace
+import org.jetbrains.kotlin.ir.declarations.IrFactoryImpl
+import org.jetbrains.kotlin.ir.declarations.IrModuleFragment
+import org.jetbrains.kotlin.ir.util.ExternalDependenciesGenerator
+import org.jetbrains.kotlin.js.config.JSConfigurationKeys
+import org.openjdk.jmh.annotations.*
+import org.openjdk.jmh.infra.Blackhole
+import java.io.File
+import java.nio.file.Files
+import java.util.concurrent.TimeUnit
+
+/**
+ * Reachability pass of JS IR DCE ([findUsefulDeclarations]) over a lowered synthetic module of [size] files and the stdlib.
+ *   Every file declares classes whose methods call methods of other classes, mostly of the same file, and exports a function
+ *   which uses a few of its classes; half of the classes are unreachable. Compiling and lowering of the module are done once per trial and are not measured.
+ *
+ * Requires the JS IR stdlib, see [STDLIB_PATH_PROPERTY]
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+open class DceReachabilityBenchmark {
+    @Param("100")
+    private var size: Int = 0
+
+    @Param("false", "true")
+    private var parallel: Boolean = false
+
+    private val disposable: Disposable = Disposer.newDisposable()
+    private lateinit var sourceDir: File
+    private lateinit var modules: List<IrModuleFragment>
+    private lateinit var context: JsIrBackendContext
+
+    @Setup(Level.Trial)
+    fun setUp() {
+        System.setProperty(PARALLEL_DCE_PROPERTY, parallel.toString())
+
+        sourceDir = Files.createTempDirectory("dceBenchmark").toFile()
+        for (file in 0 until size) {
+            File(sourceDir, "file$file.kt").writeText(generateFile(file))
+        }
+
+        val stdlib = System.getProperty(STDLIB_PATH_PROPERTY) ?: "../libraries/stdlib/js-ir/build/classes/kotlin/js/main"
+        val configuration = CompilerConfiguration().apply {
+            put(CommonConfigurationKeys.MODULE_NAME, "benchmark")
+            put(CLIConfigurationKeys.MESSAGE_COLLECTOR_KEY, MessageCollector.NONE)
+            put(JSConfigurationKeys.LIBRARIES, listOf(stdlib))
+            put(JSConfigurationKeys.TRANSITIVE_LIBRARIES, listOf(stdlib))
+            addKotlinSourceRoot(sourceDir.path)
+        }
+        val environment = KotlinCoreEnvironment.createForProduction(disposable, configuration, EnvironmentConfigFiles.JS_CONFIG_FILES)
+
+        // Same preparation as in compile(), up to the DCE of IrModuleToJsTransformer
+        val (moduleFragment, dependencyModules, irBuiltIns, symbolTable, deserializer) = loadIr(
+            environment.project,
+            MainModule.SourceFiles(environment.getSourceFiles()),
+            AnalyzerWithCompilerReport(configuration),
+            configuration,
+            listOf(stdlib),
+            friendDependencies = emptyList(),
+            IrFactoryImpl,
+            verifySignatures = false
+        )
+        modules = dependencyModules + moduleFragment
+        context = JsIrBackendContext(moduleFragment.descriptor, irBuiltIns, symbolTable, modules.first(), emptySet(), configuration)
+
+        ExternalDependenciesGenerator(symbolTable, listOf(deserializer)).generateUnboundSymbolsAsDependencies()
+        deserializer.postProcess()
+
+        modules.forEach { moveBodilessDeclarationsToSeparatePlace(context, it) }
+        jsPhases.invokeToplevel(PhaseConfig(jsPhases), context, modules)
+    }
+
+    @TearDown(Level.Trial)
+    fun tearDown() {
+        System.clearProperty(PARALLEL_DCE_PROPERTY)
+        Disposer.dispose(disposable)
+        sourceDir.deleteRecursively()
+    }
+
+    @Benchmark
+    fun benchmark(bh: Blackhole) {
+        bh.consume(findUsefulDeclarations(modules, context).size)
+    }
+
+    private fun generateFile(file: Int): String = buildString {
+        appendLine("package p$file")
+        appendLine()
+        for (c in 0 until CLASSES_PER_FILE) {
+            appendLine("open class C$c(val x: Int) {")
+            for (m in 0 until METHODS_PER_CLASS) {
+                // Calls a method of another class of this file and, for some methods, the same class of the next file.
+                // Callees are in the first half of classes only, so the second half is left for DCE to remove
+                val callee = "C${(c + 1) % (CLASSES_PER_FILE / 2)}(x).m${(m + 1) % METHODS_PER_CLASS}(depth - 1)"
+                val otherFile = "p${(file + 1) % size}.C$c(x).m$m(depth - 1)"
+                val calls = if (m % 4 == 0) "$callee + $otherFile" else callee
+                appendLine("    open fun m$m(depth: Int): Int = if (depth <= 0) x + $m else $calls")
+            }
+            appendLine("    override fun toString(): String = \"C$c(\$x)\"")
+            appendLine("}")
+            appendLine()
+        }
+        appendLine("@JsExport")
+        appendLine("fun entry$file(n: Int): String = C0(n).m0(3).toString() + listOf(C1(n)).joinToString()")
+    }
+
+    private companion object {
+        const val CLASSES_PER_FILE = 8
+        const val METHODS_PER_CLASS = 6
+        const val PARALLEL_DCE_PROPERTY = "kotlin.js.ir.dce.parallel"
+        const val STDLIB_PATH_PROPERTY = "kotlin.js.full.stdlib.path"
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2010-2021 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.benchmarks
+
+import org.jetbrains.kotlin.storage.LockBasedStorageManager
+import org.jetbrains.kotlin.storage.MemoizedFunctionToNotNull
+import org.jetbrains.kotlin.storage.NotNullLazyValue
+import org.openjdk.jmh.annotations.*
+import org.openjdk.jmh.infra.Blackhole
+import java.util.concurrent.Callable
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+/**
+ * Contention on a storage manager shared by [threads] threads: every thread requests all values of a memoized function
+ *   in its own order. Computing of a value requests a few other values and a lazy value, like resolution of a declaration
+ *   requests its supertypes and signature types
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+open class StorageManagerContentionBenchmark {
+    @Param("1", "2", "4", "8", "16", "32")
+    private var threads: Int = 0
+
+    @Param("false", "true")
+    private var concurrent: Boolean = false
+
+    @Param("10000")
+    private var size: Int = 0
+
+    private lateinit var executor: ExecutorService
+
+    @Setup
+    fun setUp() {
+        executor = Executors.newFixedThreadPool(threads)
+    }
+
+    @TearDown
+    fun tearDown() {
+        executor.shutdownNow()
+    }
+
+    @Benchmark
+    fun benchmark(bh: Blackhole) {
+        val storageManager =
+            if (concurrent) LockBasedStorageManager.createConcurrent("benchmark", LockBasedStorageManager.ExceptionHandlingStrategy.THROW, null, null)
+            else LockBasedStorageManager("benchmark")
+
+        lateinit var values: MemoizedFunctionToNotNull<Int, Long>
+        val lazyValues: Array<NotNullLazyValue<Long>> = Array(size / VALUES_PER_LAZY_VALUE) { index ->
+            storageManager.createLazyValue { work(index.toLong()) }
+        }
+        values = storageManager.createMemoizedFunction { key ->
+            var result = lazyValues[key / VALUES_PER_LAZY_VALUE]()
+            // References go to much smaller keys only, so there is no recursion and nesting is shallow
+            if (key > 0) {
+                for (divisor in 2..REFERENCES + 1) {
+                    result += values(key / divisor)
+                }
+            }
+            work(result)
+        }
+
+        val tasks = (0 until threads).map { thread ->
+            Callable {
+                var sum = 0L
+                val start = thread * size / threads
+                for (i in 0 until size) {
+                    // Threads start from different keys, half of them go backwards
+                    val key = if (thread % 2 == 0) (start + i) % size else (start - i + size) % size
+                    sum += values(key)
+                }
+                sum
+            }
+        }
+        for (future in executor.invokeAll(tasks)) {
+            bh.consume(future.get())
+        }
+    }
+
+    // Imitates some work of a computation
+    private fun work(seed: Long): Long {
+        var result = seed
+        repeat(WORK) {
+            result = result * 6364136223846793005L + 1442695040888963407L
+        }
+        return result
+    }
+
+    private companion object {
+        const val VALUES_PER_LAZY_VALUE = 8
+        const val REFERENCES = 3
+        const val WORK = 200
+    }
+}
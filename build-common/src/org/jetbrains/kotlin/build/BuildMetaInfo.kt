@@ -65,7 +65,7 @@ abstract class BuildMetaInfoFactory<T : BuildMetaInfo>(private val metaInfoClass
         deserializeFromPlainText(str, metaInfoClass)
 
     companion object {
-        const val OWN_VERSION: Int = 0
+        const val OWN_VERSION: Int = 1
         const val COROUTINES_VERSION: Int = 0
         const val MULTIPLATFORM_VERSION: Int = 0
     }
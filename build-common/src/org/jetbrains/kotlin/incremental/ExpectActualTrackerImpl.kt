@@ -14,6 +14,7 @@ class ExpectActualTrackerImpl : ExpectActualTracker {
     val expectToActualMap: Map<File, Set<File>>
         get() = expectToActual
 
+    @Synchronized
     override fun report(expectedFile: File, actualFile: File) {
         expectToActual.getOrPut(expectedFile) { hashSetOf() }.add(actualFile)
     }
@@ -43,6 +43,7 @@ class JavaClassesTrackerImpl(
 
     private val classDescriptors: MutableList<JavaClassDescriptor> = mutableListOf()
 
+    @Synchronized
     override fun reportClass(classDescriptor: JavaClassDescriptor) {
         val classId = classDescriptor.classId!!
         if (!cache.isJavaClassToTrack(classId) || classDescriptor.javaSourceFile == null) return
@@ -18,6 +18,7 @@ package org.jetbrains.kotlin.incremental
 
 import com.intellij.openapi.diagnostic.Logger
 import com.intellij.util.containers.MultiMap
+import com.intellij.util.io.DataExternalizer
 import org.jetbrains.annotations.TestOnly
 import org.jetbrains.kotlin.incremental.components.LookupTracker
 import org.jetbrains.kotlin.incremental.components.Position
@@ -26,6 +27,8 @@ import org.jetbrains.kotlin.incremental.storage.*
 import org.jetbrains.kotlin.utils.Printer
 import org.jetbrains.kotlin.utils.createStringInterner
 import org.jetbrains.kotlin.utils.keysToMap
+import java.io.DataInput
+import java.io.DataOutput
 import java.io.File
 import java.io.IOException
 import java.util.*
@@ -39,23 +42,38 @@ open class LookupStorage(
     companion object {
         private val DELETED_TO_SIZE_TRESHOLD = 0.5
         private val MINIMUM_GARBAGE_COLLECTIBLE_SIZE = 10000
+        // Number of lookups compacted on each flush, so that garbage is collected gradually instead of rewriting the whole map
+        private val COMPACTION_BATCH_SIZE = 1000
+        private val MAX_LOOKUPS_TO_COMPACT = 100000
+
+        // Written to the second line of the counters file:
+        // 0 - file ids are saved as plain ints
+        // 1 - file ids are saved as sorted deltas (see IntSetDeltaExternalizer)
+        // Older compilers ignore this line, so changing the format also requires BuildMetaInfoFactory.OWN_VERSION to be bumped
+        private val LOOKUPS_FORMAT_VERSION = 1
     }
 
     private val countersFile = "counters".storageFile
     private val idToFile = registerMap(IdToFileMap("id-to-file".storageFile, pathConverter))
     private val fileToId = registerMap(FileToIdMap("file-to-id".storageFile, pathConverter))
-    val lookupMap = registerMap(LookupMap("lookups".storageFile))
 
     @Volatile
     private var size: Int = 0
     private var oldSize: Int = 0
 
+    // Existing storages keep their format until they're cleaned on rebuild
+    private var formatVersion: Int = LOOKUPS_FORMAT_VERSION
+
+    // Lookups which refer to removed files, they're rewritten without them in batches on flush
+    private val lookupsToCompact = LinkedHashSet<LookupSymbolKey>()
+
     init {
         try {
             if (countersFile.exists()) {
                 val lines = countersFile.readLines()
                 size = lines.firstOrNull()?.toIntOrNull() ?: throw IOException("$countersFile exists, but it is empty. " +
                                                                                        "Counters file is corrupted")
+                formatVersion = lines.getOrNull(1)?.toIntOrNull() ?: 0
                 oldSize = size
             }
         } catch (e: IOException) {
@@ -65,6 +83,20 @@ open class LookupStorage(
         }
     }
 
+    // Format is checked on each read and write, since it's changed when the storage is cleaned
+    private val fileIdsExternalizer = object : DataExternalizer<Collection<Int>> {
+        private val currentExternalizer: DataExternalizer<Collection<Int>>
+            get() = if (formatVersion == 0) IntCollectionExternalizer else IntSetDeltaExternalizer
+
+        override fun read(input: DataInput): Collection<Int> = currentExternalizer.read(input)
+
+        override fun save(output: DataOutput, value: Collection<Int>) {
+            currentExternalizer.save(output, value)
+        }
+    }
+
+    val lookupMap = registerMap(LookupMap("lookups".storageFile, fileIdsExternalizer))
+
     @Synchronized
     fun get(lookupSymbol: LookupSymbol): Collection<String> {
         val key = LookupSymbolKey(lookupSymbol.name, lookupSymbol.scope)
@@ -82,8 +114,11 @@ open class LookupStorage(
 
         }
 
-        if (size > MINIMUM_GARBAGE_COLLECTIBLE_SIZE && filtered.size.toDouble() / fileIds.size.toDouble() < DELETED_TO_SIZE_TRESHOLD) {
-            lookupMap[key] = filtered
+        if (size > MINIMUM_GARBAGE_COLLECTIBLE_SIZE &&
+            filtered.size.toDouble() / fileIds.size.toDouble() < DELETED_TO_SIZE_TRESHOLD &&
+            lookupsToCompact.size < MAX_LOOKUPS_TO_COMPACT
+        ) {
+            lookupsToCompact.add(key)
         }
 
         return paths
@@ -118,6 +153,9 @@ open class LookupStorage(
         }
 
         size = 0
+        oldSize = 0
+        formatVersion = LOOKUPS_FORMAT_VERSION
+        lookupsToCompact.clear()
 
         super.clean()
     }
@@ -125,6 +163,8 @@ open class LookupStorage(
     @Synchronized
     override fun flush(memoryCachesOnly: Boolean) {
         try {
+            compactLookups()
+
             if (size != oldSize) {
                 if (size > 0) {
                     if (!countersFile.exists()) {
@@ -132,7 +172,7 @@ open class LookupStorage(
                         countersFile.createNewFile()
                     }
 
-                    countersFile.writeText("$size\n0")
+                    countersFile.writeText("$size\n$formatVersion")
                 }
             }
         } finally {
@@ -140,6 +180,22 @@ open class LookupStorage(
         }
     }
 
+    private fun compactLookups() {
+        val iterator = lookupsToCompact.iterator()
+        var compacted = 0
+        while (iterator.hasNext() && compacted++ < COMPACTION_BATCH_SIZE) {
+            val key = iterator.next()
+            iterator.remove()
+            val fileIds = lookupMap[key] ?: continue
+            val filtered = fileIds.filterTo(HashSet()) { it in idToFile }
+
+            when {
+                filtered.isEmpty() -> lookupMap.remove(key)
+                filtered.size < fileIds.size -> lookupMap[key] = filtered
+            }
+        }
+    }
+
     private fun addFileIfNeeded(file: File): Int {
         val existing = fileToId[file]
         if (existing != null) return existing
@@ -224,6 +280,8 @@ class LookupTrackerImpl(private val delegate: LookupTracker) : LookupTracker {
     override val requiresPosition: Boolean
         get() = delegate.requiresPosition
 
+    // Bodies of different files can be resolved in parallel, see -Xparallel-body-resolve-threads
+    @Synchronized
     override fun record(filePath: String, position: Position, scopeFqName: String, scopeKind: ScopeKind, name: String) {
         val internedScopeFqName = interner.intern(scopeFqName)
         val internedName = interner.intern(name)
@@ -25,18 +25,15 @@ import java.io.File
 
 abstract class BasicMap<K : Comparable<K>, V>(
         internal val storageFile: File,
-        keyDescriptor: KeyDescriptor<K>,
-        valueExternalizer: DataExternalizer<V>
+        private val keyDescriptor: KeyDescriptor<K>,
+        private val valueExternalizer: DataExternalizer<V>
 ) {
-    protected val storage: LazyStorage<K, V>
-    private val nonCachingStorage = System.getProperty("kotlin.jps.non.caching.storage")?.toBoolean() ?: false
-
-    init {
-        storage = if (nonCachingStorage) {
-            NonCachingLazyStorage(storageFile, keyDescriptor, valueExternalizer)
-        } else {
-            CachingLazyStorage(storageFile, keyDescriptor, valueExternalizer)
-        }
+    protected var storage: LazyStorage<K, V> = LazyStorageKind.DEFAULT.create(storageFile, keyDescriptor, valueExternalizer)
+        private set
+
+    // storages are lazy and don't touch files until first access, so a storage can be replaced right after the map is created
+    internal fun useStorage(kind: LazyStorageKind) {
+        storage = kind.create(storageFile, keyDescriptor, valueExternalizer)
     }
 
     fun clean() {
@@ -20,7 +20,10 @@ import org.jetbrains.annotations.TestOnly
 import java.io.File
 import java.io.IOException
 
-open class BasicMapsOwner(val cachesDir: File) {
+/**
+ * @param storageKind kind of storage used by all registered maps, or `null` for the default one (see [LazyStorageKind.DEFAULT])
+ */
+open class BasicMapsOwner(val cachesDir: File, private val storageKind: LazyStorageKind? = null) {
     private val maps = arrayListOf<BasicMap<*, *>>()
 
     companion object {
@@ -32,6 +35,7 @@ open class BasicMapsOwner(val cachesDir: File) {
 
     @Synchronized
     protected fun <K, V, M : BasicMap<K, V>> registerMap(map: M): M {
+        storageKind?.let(map::useStorage)
         maps.add(map)
         return map
     }
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2010-2021 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.incremental.storage
+
+import com.intellij.util.io.DataExternalizer
+import com.intellij.util.io.IOUtil
+import com.intellij.util.io.KeyDescriptor
+import com.intellij.util.io.PersistentHashMap
+import java.io.File
+import java.io.IOException
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * Storage which serves reads of already loaded keys without locking, unlike [CachingLazyStorage] which synchronizes every operation.
+ *
+ * Values read from the underlying [PersistentHashMap] (including absence of a value) are kept in a concurrent in-memory map,
+ *   so only the first read of a key takes the lock.
+ * The in-memory map is bounded by the estimated weight of the values rather than by their count,
+ *   since a single value may be a set of thousands of ids. When the bound is reached, the map is dropped.
+ * All modifications are written through to the persistent map, so nothing is lost if the storage is not flushed
+ */
+class ConcurrentLazyStorage<K, V>(
+    private val storageFile: File,
+    private val keyDescriptor: KeyDescriptor<K>,
+    private val valueExternalizer: DataExternalizer<V>
+) : LazyStorage<K, V> {
+    private val lock = Any()
+
+    // Guarded by lock
+    private var storage: PersistentHashMap<K, V>? = null
+    private var isStorageFileExist = true
+    private var cachedWeight = 0L
+
+    // Values are either V or ABSENT; all modifications are done under the lock
+    private val cache = ConcurrentHashMap<K, Any>()
+
+    private fun getStorageIfExists(): PersistentHashMap<K, V>? {
+        if (storage != null) return storage
+
+        if (!isStorageFileExist) return null
+
+        if (storageFile.exists()) {
+            storage = createMap()
+            return storage
+        }
+
+        isStorageFileExist = false
+        return null
+    }
+
+    private fun getStorageOrCreateNew(): PersistentHashMap<K, V> {
+        if (storage == null) {
+            storage = createMap()
+        }
+        return storage!!
+    }
+
+    override val keys: Collection<K>
+        get() = synchronized(lock) {
+            getStorageIfExists()?.allKeysWithExistingMapping ?: listOf()
+        }
+
+    override operator fun contains(key: K): Boolean {
+        cache[key]?.let { return it !== ABSENT }
+        return synchronized(lock) {
+            cache[key]?.let { return it !== ABSENT }
+            getStorageIfExists()?.containsMapping(key) ?: false
+        }
+    }
+
+    override operator fun get(key: K): V? {
+        cache[key]?.let { return it.unwrap() }
+        return synchronized(lock) { load(key) }
+    }
+
+    override operator fun set(key: K, value: V) {
+        synchronized(lock) {
+            getStorageOrCreateNew().put(key, value)
+            cache(key, value as Any)
+        }
+    }
+
+    override fun remove(key: K) {
+        synchronized(lock) {
+            getStorageIfExists()?.remove(key)
+            cache(key, ABSENT)
+        }
+    }
+
+    override fun append(key: K, value: V) {
+        synchronized(lock) {
+            getStorageOrCreateNew().appendData(key) { dataOutput -> valueExternalizer.save(dataOutput, value) }
+            uncache(key)
+        }
+    }
+
+    override fun clean() {
+        synchronized(lock) {
+            dropCache()
+            try {
+                storage?.close()
+            } finally {
+                storage = null
+                if (!IOUtil.deleteAllFilesStartingWith(storageFile)) {
+                    throw IOException("Could not delete internal storage: ${storageFile.absolutePath}")
+                }
+            }
+        }
+    }
+
+    override fun flush(memoryCachesOnly: Boolean) {
+        synchronized(lock) {
+            val existingStorage = storage ?: return
+
+            if (memoryCachesOnly) {
+                if (existingStorage.isDirty) {
+                    existingStorage.dropMemoryCaches()
+                }
+            } else {
+                existingStorage.force()
+            }
+        }
+    }
+
+    override fun close() {
+        synchronized(lock) {
+            dropCache()
+            try {
+                storage?.close()
+            } finally {
+                storage = null
+            }
+        }
+    }
+
+    // Should be called under the lock
+    private fun load(key: K): V? {
+        cache[key]?.let { return it.unwrap() }
+        val value = getStorageIfExists()?.get(key)
+        cache(key, value ?: ABSENT)
+        return value
+    }
+
+    // Should be called under the lock
+    private fun cache(key: K, value: Any) {
+        uncache(key)
+        val weight = weightOf(value)
+        if (weight > MAX_CACHED_WEIGHT) return
+        if (cachedWeight + weight > MAX_CACHED_WEIGHT) {
+            dropCache()
+        }
+        cache[key] = value
+        cachedWeight += weight
+    }
+
+    // Should be called under the lock
+    private fun uncache(key: K) {
+        val oldValue = cache.remove(key) ?: return
+        cachedWeight = maxOf(0, cachedWeight - weightOf(oldValue))
+    }
+
+    // Should be called under the lock
+    private fun dropCache() {
+        cache.clear()
+        cachedWeight = 0
+    }
+
+    @Suppress("UNCHECKED_CAST")
+    private fun Any.unwrap(): V? = if (this === ABSENT) null else this as V
+
+    private fun createMap(): PersistentHashMap<K, V> = PersistentHashMap(storageFile, keyDescriptor, valueExternalizer)
+
+    private companion object {
+        val ABSENT = Any()
+
+        // Roughly the number of references held by cached values of a single storage
+        const val MAX_CACHED_WEIGHT = 128 * 1024L
+
+        fun weightOf(value: Any): Int = when (value) {
+            is Collection<*> -> 1 + value.size
+            is Map<*, *> -> 1 + value.size
+            is Array<*> -> 1 + value.size
+            is IntArray -> 1 + value.size / 2
+            is LongArray -> 1 + value.size
+            is ByteArray -> 1 + value.size / 8
+            is CharSequence -> 1 + value.length / 4
+            is ProtoMapValue -> 1 + value.bytes.size / 8 + value.strings.size
+            else -> 1
+        }
+    }
+}
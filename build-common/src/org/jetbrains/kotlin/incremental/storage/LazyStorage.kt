@@ -16,6 +16,10 @@
 
 package org.jetbrains.kotlin.incremental.storage
 
+import com.intellij.util.io.DataExternalizer
+import com.intellij.util.io.KeyDescriptor
+import java.io.File
+
 interface LazyStorage<K, V> {
     val keys: Collection<K>
     operator fun contains(key: K): Boolean
@@ -26,4 +30,33 @@ interface LazyStorage<K, V> {
     fun clean()
     fun flush(memoryCachesOnly: Boolean)
     fun close()
-}
\ No newline at end of file
+}
+
+/**
+ * Kind of [LazyStorage] used by [BasicMap]; the default one can be changed by system properties
+ */
+enum class LazyStorageKind {
+    CACHING {
+        override fun <K, V> create(storageFile: File, keyDescriptor: KeyDescriptor<K>, valueExternalizer: DataExternalizer<V>) =
+            CachingLazyStorage(storageFile, keyDescriptor, valueExternalizer)
+    },
+    NON_CACHING {
+        override fun <K, V> create(storageFile: File, keyDescriptor: KeyDescriptor<K>, valueExternalizer: DataExternalizer<V>) =
+            NonCachingLazyStorage(storageFile, keyDescriptor, valueExternalizer)
+    },
+    CONCURRENT {
+        override fun <K, V> create(storageFile: File, keyDescriptor: KeyDescriptor<K>, valueExternalizer: DataExternalizer<V>) =
+            ConcurrentLazyStorage(storageFile, keyDescriptor, valueExternalizer)
+    };
+
+    abstract fun <K, V> create(storageFile: File, keyDescriptor: KeyDescriptor<K>, valueExternalizer: DataExternalizer<V>): LazyStorage<K, V>
+
+    companion object {
+        val DEFAULT: LazyStorageKind
+            get() = when {
+                System.getProperty("kotlin.jps.non.caching.storage")?.toBoolean() == true -> NON_CACHING
+                System.getProperty("kotlin.incremental.concurrent.storage")?.toBoolean() == true -> CONCURRENT
+                else -> CACHING
+            }
+    }
+}
@@ -19,6 +19,7 @@ package org.jetbrains.kotlin.incremental.storage
 import com.intellij.openapi.util.io.FileUtil
 import com.intellij.openapi.util.text.StringUtil
 import com.intellij.util.io.DataExternalizer
+import com.intellij.util.io.DataInputOutputUtil
 import com.intellij.util.io.EnumeratorStringDescriptor
 import com.intellij.util.io.IOUtil
 import com.intellij.util.io.KeyDescriptor
@@ -244,3 +245,38 @@ open class CollectionExternalizer<T>(
 object StringCollectionExternalizer : CollectionExternalizer<String>(EnumeratorStringDescriptor(), { HashSet() })
 
 object IntCollectionExternalizer : CollectionExternalizer<Int>(IntExternalizer, { HashSet() })
+
+/**
+ * Externalizer of sets of non-negative ints (e.g. file ids) as sorted deltas in variable-length encoding,
+ *   so dense sets take about a byte per element instead of four.
+ *
+ * Each saved or appended chunk is written as its size followed by its deltas, chunks appended to the same key are merged on reading
+ */
+object IntSetDeltaExternalizer : DataExternalizer<Collection<Int>> {
+    override fun read(input: DataInput): Collection<Int> {
+        val result = HashSet<Int>()
+        val stream = input as DataInputStream
+
+        while (stream.available() > 0) {
+            val size = DataInputOutputUtil.readINT(stream)
+            var element = 0
+            repeat(size) {
+                element += DataInputOutputUtil.readINT(stream)
+                result.add(element)
+            }
+        }
+
+        return result
+    }
+
+    override fun save(output: DataOutput, value: Collection<Int>) {
+        val elements = value.toIntArray()
+        elements.sort()
+        DataInputOutputUtil.writeINT(output, elements.size)
+        var previous = 0
+        for (element in elements) {
+            DataInputOutputUtil.writeINT(output, element - previous)
+            previous = element
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2010-2021 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.incremental.storage
+
+import com.intellij.util.io.EnumeratorStringDescriptor
+import org.jetbrains.kotlin.TestWithWorkingDir
+import org.junit.Test
+import java.io.File
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+internal class ConcurrentLazyStorageTest : TestWithWorkingDir() {
+    private val storageFile: File
+        get() = workingDir.resolve("storage.tab")
+
+    private fun createStorage() =
+        ConcurrentLazyStorage(storageFile, EnumeratorStringDescriptor.INSTANCE, StringCollectionExternalizer)
+
+    @Test
+    fun testChangesAreWrittenWithoutFlush() {
+        val storage = createStorage()
+        storage["a"] = setOf("1")
+        storage["b"] = setOf("2")
+        storage.remove("b")
+        storage.close()
+
+        val reopened = createStorage()
+        assertEquals(setOf("1"), reopened["a"])
+        assertNull(reopened["b"])
+        assertEquals(setOf("a"), reopened.keys.toSet())
+        reopened.close()
+    }
+
+    @Test
+    fun testContains() {
+        createStorage().apply {
+            set("a", setOf("1"))
+            close()
+        }
+
+        val storage = createStorage()
+        assertTrue("a" in storage)
+        assertFalse("b" in storage)
+
+        storage.remove("a")
+        assertFalse("a" in storage)
+        storage["b"] = setOf("2")
+        assertTrue("b" in storage)
+        storage.close()
+    }
+
+    @Test
+    fun testAppendToCachedValue() {
+        val storage = createStorage()
+        storage["a"] = setOf("1")
+        assertEquals(setOf("1"), storage["a"])
+
+        storage.append("a", setOf("2"))
+        assertEquals(setOf("1", "2"), storage["a"])
+
+        storage.append("b", setOf("3"))
+        assertEquals(setOf("3"), storage["b"])
+        storage.close()
+    }
+
+    @Test
+    fun testValuesHeavierThanCache() {
+        val storage = createStorage()
+        val heavyValue = (0 until 200_000).mapTo(HashSet()) { it.toString() }
+        storage["heavy"] = heavyValue
+        repeat(1000) { storage["light$it"] = setOf(it.toString()) }
+
+        assertEquals(heavyValue, storage["heavy"])
+        repeat(1000) { assertEquals(setOf(it.toString()), storage["light$it"]) }
+        storage.close()
+    }
+
+    @Test
+    fun testConcurrentReadsAndWrites() {
+        val storage = createStorage()
+        repeat(1000) { storage["key$it"] = setOf(it.toString()) }
+
+        val executor = Executors.newFixedThreadPool(4)
+        val futures = (0 until 4).map { thread ->
+            executor.submit {
+                repeat(1000) {
+                    if (it % 4 == thread) {
+                        storage["key$it"] = setOf(it.toString(), "changed")
+                    }
+                    val value = storage["key$it"]
+                    assertTrue(value == setOf(it.toString()) || value == setOf(it.toString(), "changed"))
+                }
+            }
+        }
+        futures.forEach { it.get() }
+        executor.shutdown()
+        executor.awaitTermination(1, TimeUnit.MINUTES)
+
+        repeat(1000) { assertEquals(setOf(it.toString(), "changed"), storage["key$it"]) }
+        storage.close()
+    }
+
+    @Test
+    fun testClean() {
+        val storage = createStorage()
+        storage["a"] = setOf("1")
+        assertEquals(setOf("1"), storage["a"])
+        storage.clean()
+
+        assertNull(storage["a"])
+        assertFalse("a" in storage)
+        storage.close()
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2010-2021 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.incremental.storage
+
+import com.intellij.util.containers.MultiMap
+import com.intellij.util.io.DataExternalizer
+import org.jetbrains.kotlin.TestWithWorkingDir
+import org.jetbrains.kotlin.incremental.LookupStorage
+import org.jetbrains.kotlin.incremental.LookupSymbol
+import org.junit.Test
+import java.io.ByteArrayInputStream
+import java.io.ByteArrayOutputStream
+import java.io.DataInputStream
+import java.io.DataOutputStream
+import java.io.File
+
+internal class IntSetDeltaExternalizerTest : TestWithWorkingDir() {
+    @Test
+    fun testRoundTrip() {
+        for (value in listOf(setOf(), setOf(0), setOf(5, 1, 3), setOf(0, 127, 128, 16383, 16384, Int.MAX_VALUE), (0 until 1000).toSet())) {
+            assertEquals(value, read(write(value)))
+        }
+    }
+
+    @Test
+    fun testAppendedChunksAreMerged() {
+        val bytes = write(setOf(10, 2)) + write(setOf(2, 7)) + write(setOf())
+        assertEquals(setOf(2, 7, 10), read(bytes))
+    }
+
+    @Test
+    fun testDenseSetIsSmallerThanPlainInts() {
+        val value = (1000 until 2000).toSet()
+        val plainInts = ByteArrayOutputStream().also { IntCollectionExternalizer.save(DataOutputStream(it), value) }.toByteArray()
+        assertTrue(write(value).size * 3 < plainInts.size)
+    }
+
+    @Test
+    fun testLegacyLookupStorageIsReadAsPlainInts() {
+        val storageDir = workingDir.resolve("storage")
+        storageDir.mkdirs()
+        // Counters file of a storage written by an older compiler, which didn't write the format version
+        storageDir.resolve("counters.tab").writeText("0")
+
+        val symbol = LookupSymbol("foo", "bar")
+        val paths = setOf(workingDir.resolve("a.kt"), workingDir.resolve("b.kt")).mapTo(HashSet()) { it.canonicalPath }
+        LookupStorage(storageDir, FileToCanonicalPathConverter).apply {
+            addAll(lookupsOf(symbol, paths), paths)
+            flush(memoryCachesOnly = false)
+            close()
+        }
+        assertEquals("2\n0", storageDir.resolve("counters.tab").readText())
+        assertEquals(setOf(0, 1), readLookupMap(storageDir, IntCollectionExternalizer, symbol))
+
+        LookupStorage(storageDir, FileToCanonicalPathConverter).apply {
+            assertEquals(paths, get(symbol).toSet())
+            close()
+        }
+    }
+
+    @Test
+    fun testCleanedLegacyLookupStorageUsesCurrentFormat() {
+        val storageDir = workingDir.resolve("storage")
+        storageDir.mkdirs()
+        storageDir.resolve("counters.tab").writeText("0\n0")
+
+        val symbol = LookupSymbol("foo", "bar")
+        val paths = setOf(workingDir.resolve("a.kt").canonicalPath)
+        LookupStorage(storageDir, FileToCanonicalPathConverter).apply {
+            clean()
+            addAll(lookupsOf(symbol, paths), paths)
+            flush(memoryCachesOnly = false)
+            close()
+        }
+        assertEquals("1\n1", storageDir.resolve("counters.tab").readText())
+        assertEquals(setOf(0), readLookupMap(storageDir, IntSetDeltaExternalizer, symbol))
+
+        LookupStorage(storageDir, FileToCanonicalPathConverter).apply {
+            assertEquals(paths, get(symbol).toSet())
+            close()
+        }
+    }
+
+    private fun write(value: Set<Int>): ByteArray =
+        ByteArrayOutputStream().also { IntSetDeltaExternalizer.save(DataOutputStream(it), value) }.toByteArray()
+
+    private fun read(bytes: ByteArray): Collection<Int> =
+        IntSetDeltaExternalizer.read(DataInputStream(ByteArrayInputStream(bytes)))
+
+    private fun lookupsOf(symbol: LookupSymbol, paths: Set<String>): MultiMap<LookupSymbol, String> =
+        MultiMap.createOrderedSet<LookupSymbol, String>().apply { putValues(symbol, paths) }
+
+    private fun readLookupMap(
+        storageDir: File,
+        externalizer: DataExternalizer<Collection<Int>>,
+        symbol: LookupSymbol
+    ): Collection<Int>? {
+        val lookupMap = LookupMap(storageDir.resolve("lookups.tab"), externalizer)
+        try {
+            return lookupMap[LookupSymbolKey(symbol.name, symbol.scope)]?.toSet()
+        } finally {
+            lookupMap.close()
+        }
+    }
+}
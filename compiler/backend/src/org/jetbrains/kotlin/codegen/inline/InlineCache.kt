@@ -22,7 +22,7 @@ import org.jetbrains.org.objectweb.asm.commons.Method
 
 data class MethodId(val ownerInternalName: String, val method: Method)
 
-class InlineCache {
+class InlineCache(val shared: SharedInlineCache.CompilationInlineCache? = null) {
     val classBytes: SLRUMap<String, ByteArray> = SLRUMap(30, 20)
     val methodNodeById: SLRUMap<MethodId, SMAPAndMethodNode> = SLRUMap(60, 50)
 }
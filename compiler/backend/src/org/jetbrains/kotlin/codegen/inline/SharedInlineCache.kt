@@ -0,0 +1,136 @@
+/*
+ * Copyright 2010-2021 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.codegen.inline
+
+import java.io.File
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicLong
+import java.util.concurrent.locks.ReentrantLock
+
+/**
+ * Cache of parsed inline functions from library jars which is shared between all compilations in the same process
+ *   (e.g. in the Kotlin daemon), unlike [InlineCache] which lives as long as a single generation state.
+ *
+ * Entries are keyed by path, size and modification time of the jar, so a changed jar never hits outdated entries.
+ * Jars are checked once per compilation, see [forCompilation].
+ * Size of the cache is bounded by an estimated size of cached method nodes; least recently used entries are evicted first.
+ */
+class SharedInlineCache(private val maxWeight: Long) {
+    private data class JarStamp(val length: Long, val timeStamp: Long)
+
+    private data class Key(val jarPath: String, val jarStamp: JarStamp, val entryPath: String, val methodId: MethodId)
+
+    private class Entry(val value: SMAPAndMethodNode, val weight: Long) {
+        @Volatile
+        var lastAccess: Long = 0
+    }
+
+    class Statistics(val hits: Long, val misses: Long, val evictions: Long, val entries: Int, val weight: Long) {
+        override fun toString(): String =
+            "Shared inline cache: $hits hits, $misses misses, $evictions evictions, $entries entries of estimated size ${weight / 1024} KB"
+    }
+
+    private val entries = ConcurrentHashMap<Key, Entry>()
+    private val accessCounter = AtomicLong()
+    private val totalWeight = AtomicLong()
+    private val evictionLock = ReentrantLock()
+
+    private val hits = AtomicLong()
+    private val misses = AtomicLong()
+    private val evictions = AtomicLong()
+
+    val statistics: Statistics
+        get() = Statistics(hits.get(), misses.get(), evictions.get(), entries.size, totalWeight.get())
+
+    /**
+     * Returns the cache for one compilation. Jars aren't expected to change during a compilation, so size and modification time
+     *   of every jar are read on the first access to its methods only
+     */
+    fun forCompilation(): CompilationInlineCache = CompilationInlineCache()
+
+    inner class CompilationInlineCache internal constructor() {
+        private val jarStamps = ConcurrentHashMap<String, JarStamp>()
+
+        /**
+         * Returns method node for [methodId] from the class file at [path], computing it with [compute] if it's not cached.
+         * Files which are not located in jars are never cached
+         */
+        fun getOrPut(path: String, methodId: MethodId, compute: () -> SMAPAndMethodNode): SMAPAndMethodNode {
+            val separatorIndex = path.indexOf(JAR_SEPARATOR)
+            if (separatorIndex < 0) return compute()
+            val jarPath = path.substring(0, separatorIndex)
+            val jarStamp = jarStamps.getOrPut(jarPath) { File(jarPath).let { JarStamp(it.length(), it.lastModified()) } }
+            return getOrPut(Key(jarPath, jarStamp, path.substring(separatorIndex + JAR_SEPARATOR.length), methodId), compute)
+        }
+    }
+
+    private fun getOrPut(key: Key, compute: () -> SMAPAndMethodNode): SMAPAndMethodNode {
+        entries[key]?.let { entry ->
+            hits.incrementAndGet()
+            entry.lastAccess = accessCounter.incrementAndGet()
+            return entry.value
+        }
+        misses.incrementAndGet()
+        val value = compute()
+        val entry = Entry(value, value.estimateWeight()).apply { lastAccess = accessCounter.incrementAndGet() }
+        if (entries.putIfAbsent(key, entry) == null) {
+            if (totalWeight.addAndGet(entry.weight) > maxWeight) {
+                evict()
+            }
+        }
+        return value
+    }
+
+    private fun evict() {
+        // Only one thread evicts entries, others go on without waiting for it
+        if (!evictionLock.tryLock()) return
+        try {
+            val targetWeight = maxWeight * 3 / 4
+            if (totalWeight.get() <= targetWeight) return
+            // Access times are copied, since they may be updated concurrently while sorting
+            val entriesByAccess = entries.entries.map { Triple(it.key, it.value, it.value.lastAccess) }.sortedBy { it.third }
+            for ((key, entry) in entriesByAccess) {
+                if (entries.remove(key, entry)) {
+                    evictions.incrementAndGet()
+                    if (totalWeight.addAndGet(-entry.weight) <= targetWeight) break
+                }
+            }
+        } finally {
+            evictionLock.unlock()
+        }
+    }
+
+    fun clear() {
+        evictionLock.lock()
+        try {
+            for ((key, entry) in entries) {
+                if (entries.remove(key, entry)) {
+                    totalWeight.addAndGet(-entry.weight)
+                }
+            }
+        } finally {
+            evictionLock.unlock()
+        }
+    }
+
+    companion object {
+        private const val DEFAULT_MAX_WEIGHT = 64L * 1024 * 1024
+        private const val JAR_SEPARATOR = "!/"
+
+        @Volatile
+        var instanceIfCreated: SharedInlineCache? = null
+            private set
+
+        val instance: SharedInlineCache
+            get() = instanceIfCreated ?: synchronized(this) {
+                instanceIfCreated ?: SharedInlineCache(DEFAULT_MAX_WEIGHT).also { instanceIfCreated = it }
+            }
+
+        // Rough estimate of memory retained by a method node: instructions, their operands and local variables
+        private fun SMAPAndMethodNode.estimateWeight(): Long =
+            256L + node.instructions.size() * 48L + (node.localVariables?.size ?: 0) * 64L
+    }
+}
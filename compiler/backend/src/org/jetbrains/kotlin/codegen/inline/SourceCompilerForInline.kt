@@ -78,12 +78,15 @@ fun loadCompiledInlineFunction(
     state: GenerationState
 ): SMAPAndMethodNode {
     val containerType = AsmUtil.asmTypeByClassId(containerId)
-    val resultInCache = state.inlineCache.methodNodeById.getOrPut(MethodId(containerType.descriptor, asmMethod)) {
-        val bytes = state.inlineCache.classBytes.getOrPut(containerType.internalName) {
-            findVirtualFile(state, containerId)?.contentsToByteArray()
-                ?: throw IllegalStateException("Couldn't find declaration file for $containerId")
+    val methodId = MethodId(containerType.descriptor, asmMethod)
+    val resultInCache = state.inlineCache.methodNodeById.getOrPut(methodId) {
+        val file = findVirtualFile(state, containerId)
+            ?: throw IllegalStateException("Couldn't find declaration file for $containerId")
+        val loadMethodNode = {
+            val bytes = state.inlineCache.classBytes.getOrPut(containerType.internalName) { file.contentsToByteArray() }
+            getMethodNode(containerType, bytes, asmMethod, isSuspend, isMangled)
         }
-        getMethodNode(containerType, bytes, asmMethod, isSuspend, isMangled)
+        state.inlineCache.shared?.getOrPut(file.path, methodId, loadMethodNode) ?: loadMethodNode()
     }
     return SMAPAndMethodNode(cloneMethodNode(resultInCache.node), resultInCache.classSMAP)
 }
@@ -16,6 +16,7 @@ import org.jetbrains.kotlin.codegen.context.RootContext
 import org.jetbrains.kotlin.codegen.extensions.ClassBuilderInterceptorExtension
 import org.jetbrains.kotlin.codegen.inline.GlobalInlineContext
 import org.jetbrains.kotlin.codegen.inline.InlineCache
+import org.jetbrains.kotlin.codegen.inline.SharedInlineCache
 import org.jetbrains.kotlin.codegen.intrinsics.IntrinsicMethods
 import org.jetbrains.kotlin.codegen.optimization.OptimizationClassBuilderFactory
 import org.jetbrains.kotlin.codegen.serialization.JvmSerializationBindings
@@ -149,7 +150,9 @@ class GenerationState private constructor(
 
     val languageVersionSettings = configuration.languageVersionSettings
 
-    val inlineCache: InlineCache = InlineCache()
+    val inlineCache: InlineCache = InlineCache(
+        if (configuration.getBoolean(JVMConfigurationKeys.USE_SHARED_INLINE_CACHE)) SharedInlineCache.instance.forCompilation() else null
+    )
 
     val incrementalCacheForThisTarget: IncrementalCache?
     val packagesWithObsoleteParts: Set<FqName>
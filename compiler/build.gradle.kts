@@ -41,6 +41,7 @@ dependencies {
     }
     testCompileOnly(intellijCoreDep()) { includeJars("intellij-core") }
     testCompileOnly(intellijDep()) { includeJars("idea", "idea_rt", "util", "asm-all", rootProject = rootProject) }
+    testCompileOnly(intellijDep()) { includeJars("gson", rootProject = rootProject) }
 
     testRuntimeOnly(intellijPluginDep("java"))
 
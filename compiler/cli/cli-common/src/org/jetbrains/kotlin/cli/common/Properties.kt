@@ -34,8 +34,10 @@ enum class CompilerSystemProperties(val property: String, val alwaysDirectAccess
     DAEMON_RMI_SOCKET_CONNECT_ATTEMPTS_PROPERTY("kotlin.daemon.socket.connect.attempts"),
     DAEMON_RMI_SOCKET_CONNECT_INTERVAL_PROPERTY("kotlin.daemon.socket.connect.interval"),
     KOTLIN_COMPILER_ENVIRONMENT_KEEPALIVE_PROPERTY("kotlin.environment.keepalive"),
+    KOTLIN_COMPILER_SHARED_LIBRARY_METADATA_PROPERTY("kotlin.environment.shared.library.metadata"),
     COMPILE_DAEMON_CUSTOM_RUN_FILES_PATH_FOR_TESTS("kotlin.daemon.custom.run.files.path.for.tests"),
     COMPILE_INCREMENTAL_WITH_CLASSPATH_SHAPSHOTS("kotlin.incremental.classpath.snapshot.enabled"),
+    COMPILE_INCREMENTAL_WITH_CLASSPATH_FINGERPRINTS("kotlin.incremental.classpath.fingerprints.enabled"),
     KOTLIN_COLORS_ENABLED_PROPERTY("kotlin.colors.enabled"),
 
     KOTLIN_STAT_ENABLED_PROPERTY("kotlin.plugin.stat.enabled"),
@@ -193,6 +193,19 @@ class K2JSCompilerArguments : CommonCompilerArguments() {
     @Argument(value = "-Xir-build-cache", description = "Use compiler to build cache")
     var irBuildCache: Boolean by FreezableVar(false)
 
+    @Argument(
+        value = "-Xir-library-caches-dir",
+        valueDescription = "<path>",
+        description = "Directory for lowered IR caches of libraries, which are built automatically and reused between compilations"
+    )
+    var irLibraryCachesDir: String? by NullableStringFreezableVar(null)
+
+    @Argument(
+        value = "-Xir-cache-file-fragments",
+        description = "Reuse JS code of unchanged files from the previous compilation of the module in the same daemon"
+    )
+    var irCacheFileFragments: Boolean by FreezableVar(false)
+
     @Argument(
         value = "-Xgenerate-dts",
         description = "Generate TypeScript declarations .d.ts file alongside JS file. Available in IR backend only."
@@ -111,6 +111,13 @@ class K2JVMCompilerArguments : CommonCompilerArguments() {
     )
     var allowUnstableDependencies: Boolean by FreezableVar(false)
 
+    @Argument(
+        value = "-Xkeep-library-members-off-heap",
+        description = "Keep serialized members of library classes outside of the Java heap until they are looked up.\n" +
+                "This reduces the heap used for large classpaths"
+    )
+    var keepLibraryMembersOffHeap: Boolean by FreezableVar(false)
+
     @Argument(
         value = "-Xabi-stability",
         valueDescription = "{stable|unstable}",
@@ -135,6 +142,42 @@ class K2JVMCompilerArguments : CommonCompilerArguments() {
     )
     var parallelBackendThreads: String by FreezableVar("1")
 
+    @Argument(
+        value = "-Xparallel-body-resolve-threads",
+        description = "When using the old front-end, resolve bodies of functions of different files in N parallel threads.\n" +
+                "0 means use a thread per processor core.\n" +
+                "Default value is 1"
+    )
+    var parallelBodyResolveThreads: String by FreezableVar("1")
+
+    @Argument(
+        value = "-Xparallel-fir-resolve-threads",
+        description = "When using Front-end IR, resolve imports and types of different files in N parallel threads.\n" +
+                "0 means use a thread per processor core.\n" +
+                "Default value is 1"
+    )
+    var parallelFirResolveThreads: String by FreezableVar("1")
+
+    @Argument(
+        value = "-Xuse-fir-thread-safe-caches",
+        description = "When using Front-end IR, use caches which allow sharing of sessions between threads.\n" +
+                "Always enabled if -Xparallel-fir-resolve-threads is greater than 1"
+    )
+    var useFirThreadSafeCaches: Boolean by FreezableVar(false)
+
+    @Argument(
+        value = "-Xuse-fir-lt",
+        description = "When using Front-end IR, build raw FIR from light syntax trees instead of PSI"
+    )
+    var useFirLightTree: Boolean by FreezableVar(false)
+
+    @Argument(
+        value = "-Xdump-fir-profile",
+        valueDescription = "<path>",
+        description = "When using Front-end IR, measure time and allocations of each resolve phase and checker and dump them as JSON to the specified file"
+    )
+    var dumpFirProfile: String? by NullableStringFreezableVar(null)
+
     @Argument(value = "-Xmodule-path", valueDescription = "<path>", description = "Paths where to find Java 9+ modules")
     var javaModulePath: String? by NullableStringFreezableVar(null)
 
@@ -220,6 +263,21 @@ class K2JVMCompilerArguments : CommonCompilerArguments() {
     )
     var useFastJarFileSystem: Boolean by FreezableVar(false)
 
+    @Argument(
+        value = "-Xfast-jar-fs-index-cache",
+        valueDescription = "<path>",
+        description = "Directory to store indices of jar files read by the fast Jar FS, so that their central directories are not parsed again\n" +
+                "in subsequent compilations. Indices are rebuilt when the size or the modification time of a jar changes"
+    )
+    var fastJarFsIndexCache: String? by NullableStringFreezableVar(null)
+
+    @Argument(
+        value = "-Xfast-jar-fs-keep-mapped",
+        description = "Keep jars memory-mapped by the fast Jar FS during the whole compilation instead of mapping them on each read.\n" +
+                "This reduces overhead of reading class files, but jars stay open (and locked on Windows) until the compilation ends"
+    )
+    var fastJarFsKeepMapped: Boolean by FreezableVar(false)
+
     @Argument(
         value = "-Xdump-declarations-to",
         valueDescription = "<path>",
@@ -541,6 +599,7 @@ default: `indy-with-constants` for JVM target 9 or greater, `inline` otherwise""
         result[JvmAnalysisFlags.suppressMissingBuiltinsError] = suppressMissingBuiltinsError
         result[JvmAnalysisFlags.enableJvmPreview] = enableJvmPreview
         result[AnalysisFlags.allowUnstableDependencies] = allowUnstableDependencies || useFir
+        result[AnalysisFlags.keepMemberProtosOffHeap] = keepLibraryMembersOffHeap
         result[JvmAnalysisFlags.disableUltraLightClasses] = disableUltraLightClasses
         result[JvmAnalysisFlags.useIR] = !useOldBackend
         return result
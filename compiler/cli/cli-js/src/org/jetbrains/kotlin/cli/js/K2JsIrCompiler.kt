@@ -318,14 +318,15 @@ class K2JsIrCompiler : CLICompiler<K2JSCompilerArguments>() {
                 lowerPerModule = icCaches.isNotEmpty(),
                 useStdlibCache = icCaches.isNotEmpty(),
                 icCache = if (icCaches.isNotEmpty()) checkCaches(libraries, icCaches, skipLib = includes).data else emptyMap(),
+                libraryCachesDir = arguments.irLibraryCachesDir?.takeIf { icCaches.isEmpty() && !arguments.irDceDriven }?.let(::File),
             )
 
             messageCollector.report(INFO, "Executable production duration: ${System.currentTimeMillis() - start}ms")
 
             val outputs = if (arguments.irDce && !arguments.irDceDriven) compiledModule.outputsAfterDce!! else compiledModule.outputs!!
-            outputFile.write(outputs)
+            outputs.writeTo(outputFile)
             outputs.dependencies.forEach { (name, content) ->
-                outputFile.resolveSibling("$name.js").write(content)
+                content.writeTo(outputFile.resolveSibling("$name.js"))
             }
             if (arguments.generateDts) {
                 val dtsFile = outputFile.withReplacedExtensionOrNull(outputFile.extension, "d.ts")!!
@@ -336,15 +337,6 @@ class K2JsIrCompiler : CLICompiler<K2JSCompilerArguments>() {
         return OK
     }
 
-    private fun File.write(outputs: CompilationOutputs) {
-        writeText(outputs.jsCode)
-        outputs.sourceMap?.let {
-            val mapFile = resolveSibling("$name.map")
-            appendText("\n//# sourceMappingURL=${mapFile.name}")
-            mapFile.writeText(it)
-        }
-    }
-
     override fun setupPlatformSpecificArgumentsAndServices(
         configuration: CompilerConfiguration,
         arguments: K2JSCompilerArguments,
@@ -442,6 +434,7 @@ class K2JsIrCompiler : CLICompiler<K2JSCompilerArguments>() {
 
         configuration.put(JSConfigurationKeys.PRINT_REACHABILITY_INFO, arguments.irDcePrintReachabilityInfo)
         configuration.put(JSConfigurationKeys.FAKE_OVERRIDE_VALIDATOR, arguments.fakeOverrideValidator)
+        configuration.put(JSConfigurationKeys.CACHE_FILE_FRAGMENTS, arguments.irCacheFileFragments)
     }
 
     override fun executableScriptFileName(): String {
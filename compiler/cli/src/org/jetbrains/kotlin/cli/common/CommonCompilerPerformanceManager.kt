@@ -14,7 +14,8 @@ import java.util.concurrent.TimeUnit
 abstract class CommonCompilerPerformanceManager(private val presentableName: String) {
     @Suppress("MemberVisibilityCanBePrivate")
     protected val measurements: MutableList<PerformanceMeasurement> = mutableListOf()
-    protected var isEnabled: Boolean = false
+    var isEnabled: Boolean = false
+        protected set
     private var initStartNanos = PerformanceCounter.currentTime()
     private var analysisStart: Long = 0
     private var generationStart: Long = 0
@@ -67,6 +68,14 @@ abstract class CommonCompilerPerformanceManager(private val presentableName: Str
         measurements += CodeAnalysisMeasurement(lines, TimeUnit.NANOSECONDS.toMillis(time))
     }
 
+    /**
+     * Records total wall time of a FIR resolve phase. For phases resolved in parallel, times of all worker threads are summed up
+     */
+    open fun notifyFirResolvePhaseFinished(phaseName: String, milliseconds: Long) {
+        if (!isEnabled) return
+        measurements += FirResolvePhaseMeasurement(phaseName, lines, milliseconds)
+    }
+
     open fun notifyGenerationStarted() {
         generationStart = PerformanceCounter.currentTime()
     }
@@ -5,6 +5,7 @@
 
 package org.jetbrains.kotlin.cli.common.fir
 
+import com.intellij.psi.PsiFile
 import org.jetbrains.kotlin.cli.common.messages.AnalyzerWithCompilerReport
 import org.jetbrains.kotlin.cli.common.messages.CompilerMessageSourceLocation
 import org.jetbrains.kotlin.cli.common.messages.MessageCollector
@@ -17,10 +18,14 @@ import org.jetbrains.kotlin.fir.analysis.diagnostics.FirDefaultErrorMessages
 import org.jetbrains.kotlin.fir.analysis.diagnostics.FirDiagnostic
 
 object FirDiagnosticsCompilerResultsReporter {
-    fun reportDiagnostics(diagnostics: Collection<FirDiagnostic>, reporter: MessageCollector): Boolean {
+    /**
+     * Light tree elements don't know the file they belong to, so diagnostics reported on them are located in [lightTreeFile],
+     * and are not reported if it's not given
+     */
+    fun reportDiagnostics(diagnostics: Collection<FirDiagnostic>, reporter: MessageCollector, lightTreeFile: PsiFile? = null): Boolean {
         var hasErrors = false
         for (diagnostic in diagnostics.sortedWith(DiagnosticComparator)) {
-            hasErrors = reportDiagnostic(diagnostic, reporter) || hasErrors
+            hasErrors = reportDiagnostic(diagnostic, reporter, lightTreeFile) || hasErrors
         }
         reportSpecialErrors(diagnostics)
         return hasErrors
@@ -37,9 +42,9 @@ object FirDiagnosticsCompilerResultsReporter {
          */
     }
 
-    private fun reportDiagnostic(diagnostic: FirDiagnostic, reporter: MessageCollector): Boolean {
+    private fun reportDiagnostic(diagnostic: FirDiagnostic, reporter: MessageCollector, lightTreeFile: PsiFile?): Boolean {
         if (!diagnostic.isValid) return false
-        diagnostic.location()?.let { location ->
+        diagnostic.location(lightTreeFile)?.let { location ->
             val severity = AnalyzerWithCompilerReport.convertSeverity(diagnostic.severity)
             // TODO: support multiple maps with messages
             val renderer = FirDefaultErrorMessages.getRendererForDiagnostic(diagnostic)
@@ -48,34 +53,28 @@ object FirDiagnosticsCompilerResultsReporter {
         return diagnostic.severity == Severity.ERROR
     }
 
-    private fun FirDiagnostic.location(): CompilerMessageSourceLocation? = when (val element = element) {
-        is FirPsiSourceElement -> element.location(this)
-        is FirLightSourceElement -> element.location(this)
-    }
-
-    private fun FirPsiSourceElement.location(diagnostic: FirDiagnostic): CompilerMessageSourceLocation? {
-        val file = psi.containingFile
-        return MessageUtil.psiFileToMessageLocation(file, file.name, DiagnosticUtils.getLineAndColumnRange(file, diagnostic.textRanges))
-    }
-
-    @Suppress("UNUSED_PARAMETER")
-    private fun FirLightSourceElement.location(diagnostic: FirDiagnostic): CompilerMessageSourceLocation? {
-        // TODO: support light tree
-        return null
+    private fun FirDiagnostic.location(lightTreeFile: PsiFile?): CompilerMessageSourceLocation? {
+        val file = when (val element = element) {
+            is FirPsiSourceElement -> element.psi.containingFile
+            is FirLightSourceElement -> lightTreeFile ?: return null
+        }
+        return MessageUtil.psiFileToMessageLocation(file, file.name, DiagnosticUtils.getLineAndColumnRange(file, textRanges))
     }
 
     private object DiagnosticComparator : Comparator<FirDiagnostic> {
         override fun compare(o1: FirDiagnostic, o2: FirDiagnostic): Int {
             val element1 = o1.element
             val element2 = o1.element
-            // TODO: support light tree
-            if (element1 !is FirPsiSourceElement || element2 !is FirPsiSourceElement) return 0
-
-            val file1 = element1.psi.containingFile
-            val file2 = element2.psi.containingFile
-            val path1 = file1.viewProvider.virtualFile.path
-            val path2 = file2.viewProvider.virtualFile.path
-            if (path1 != path2) return path1.compareTo(path2)
+            // Light tree diagnostics are reported file by file, so only their ranges are compared
+            if (element1 is FirPsiSourceElement && element2 is FirPsiSourceElement) {
+                val file1 = element1.psi.containingFile
+                val file2 = element2.psi.containingFile
+                val path1 = file1.viewProvider.virtualFile.path
+                val path2 = file2.viewProvider.virtualFile.path
+                if (path1 != path2) return path1.compareTo(path2)
+            } else if (element1 !is FirLightSourceElement || element2 !is FirLightSourceElement) {
+                return 0
+            }
 
             val range1 = DiagnosticUtils.firstRange(o1.textRanges)
             val range2 = DiagnosticUtils.firstRange(o2.textRanges)
@@ -25,6 +25,10 @@ class CodeGenerationMeasurement(private val lines: Int?, val milliseconds: Long)
     override fun render(): String = formatMeasurement("GENERATE", milliseconds, lines)
 }
 
+class FirResolvePhaseMeasurement(val phaseName: String, private val lines: Int?, val milliseconds: Long) : PerformanceMeasurement {
+    override fun render(): String = formatMeasurement("FIR $phaseName", milliseconds, lines)
+}
+
 class GarbageCollectionMeasurement(val garbageCollectionKind: String, val milliseconds: Long, val count: Long) : PerformanceMeasurement {
     override fun render(): String = "GC time for $garbageCollectionKind is $milliseconds ms, $count collections"
 }
@@ -5,12 +5,17 @@
 
 package org.jetbrains.kotlin.cli.jvm.compiler
 
+import com.intellij.lang.LighterASTNode
+import com.intellij.lang.impl.PsiBuilderImpl
 import com.intellij.openapi.project.Project
 import com.intellij.openapi.util.Disposer
+import com.intellij.openapi.util.Ref
+import com.intellij.openapi.util.TextRange
 import com.intellij.openapi.vfs.StandardFileSystems
 import com.intellij.openapi.vfs.VirtualFileManager
 import com.intellij.openapi.vfs.VirtualFileSystem
 import com.intellij.psi.PsiElementFinder
+import com.intellij.psi.TokenType
 import com.intellij.psi.search.GlobalSearchScope
 import com.intellij.psi.search.ProjectScope
 import org.jetbrains.kotlin.analyzer.common.CommonPlatformAnalyzerServices
@@ -25,21 +30,31 @@ import org.jetbrains.kotlin.cli.common.CommonCompilerPerformanceManager
 import org.jetbrains.kotlin.cli.common.checkKotlinPackageUsage
 import org.jetbrains.kotlin.cli.common.fir.FirDiagnosticsCompilerResultsReporter
 import org.jetbrains.kotlin.cli.common.messages.AnalyzerWithCompilerReport
+import org.jetbrains.kotlin.cli.common.messages.CompilerMessageSeverity.ERROR
 import org.jetbrains.kotlin.cli.common.messages.CompilerMessageSeverity.STRONG_WARNING
+import org.jetbrains.kotlin.cli.common.messages.MessageUtil
 import org.jetbrains.kotlin.cli.jvm.config.jvmClasspathRoots
 import org.jetbrains.kotlin.cli.jvm.config.jvmModularRoots
 import org.jetbrains.kotlin.codegen.ClassBuilderFactories
 import org.jetbrains.kotlin.codegen.CodegenFactory
 import org.jetbrains.kotlin.codegen.state.GenerationState
 import org.jetbrains.kotlin.config.*
+import org.jetbrains.kotlin.diagnostics.DiagnosticUtils
 import org.jetbrains.kotlin.fir.DependencyListForCliModule
+import org.jetbrains.kotlin.fir.FirLightSourceElement
+import org.jetbrains.kotlin.fir.FirPerformanceProfiler
 import org.jetbrains.kotlin.fir.FirSession
 import org.jetbrains.kotlin.fir.analysis.FirAnalyzerFacade
 import org.jetbrains.kotlin.fir.analysis.diagnostics.FirDiagnostic
 import org.jetbrains.kotlin.fir.backend.Fir2IrResult
 import org.jetbrains.kotlin.fir.backend.jvm.FirJvmBackendClassResolver
 import org.jetbrains.kotlin.fir.backend.jvm.FirJvmBackendExtension
+import org.jetbrains.kotlin.fir.backend.sourceKtFile
+import org.jetbrains.kotlin.fir.caches.FirConcurrentCachesFactory
+import org.jetbrains.kotlin.fir.caches.FirThreadUnsafeCachesFactory
 import org.jetbrains.kotlin.fir.checkers.registerExtendedCommonCheckers
+import org.jetbrains.kotlin.fir.declarations.FirFile
+import org.jetbrains.kotlin.fir.declarations.FirResolvePhase
 import org.jetbrains.kotlin.fir.java.FirProjectSessionProvider
 import org.jetbrains.kotlin.fir.moduleData
 import org.jetbrains.kotlin.fir.session.FirSessionFactory
@@ -58,10 +73,10 @@ import org.jetbrains.kotlin.psi.KtFile
 import org.jetbrains.kotlin.resolve.PlatformDependentAnalyzerServices
 import org.jetbrains.kotlin.resolve.jvm.platform.JvmPlatformAnalyzerServices
 import org.jetbrains.kotlin.resolve.multiplatform.isCommonSource
-import org.jetbrains.kotlin.utils.addToStdlib.flattenTo
 import org.jetbrains.kotlin.utils.addToStdlib.runIf
 import org.jetbrains.kotlin.utils.newLinkedHashMapWithExpectedSize
 import java.io.File
+import java.util.concurrent.TimeUnit
 import kotlin.collections.set
 
 object FirKotlinToJvmBytecodeCompiler {
@@ -91,26 +106,35 @@ object FirKotlinToJvmBytecodeCompiler {
         val targetIds = environment.configuration.get(JVMConfigurationKeys.MODULES)?.map(::TargetId)
         val incrementalComponents = environment.configuration.get(JVMConfigurationKeys.INCREMENTAL_COMPILATION_COMPONENTS)
         val isMultiModuleChunk = chunk.size > 1
-
-        for (module in chunk) {
-            val moduleConfiguration = projectConfiguration.applyModuleProperties(module, buildFile)
-            val context = CompilationContext(
-                module,
-                project,
-                environment,
-                moduleConfiguration,
-                localFileSystem,
-                isMultiModuleChunk,
-                buildFile,
-                performanceManager,
-                targetIds,
-                incrementalComponents,
-                extendedAnalysisMode
-            )
-            val generationState = context.compileModule() ?: return false
-            outputs[module] = generationState
-
-            Disposer.dispose(environment.project)
+        val firProfileDumpPath = projectConfiguration.get(CommonConfigurationKeys.FIR_PROFILE_DUMP_PATH)
+        val firProfilers = runIf(firProfileDumpPath != null) { LinkedHashMap<String, FirPerformanceProfiler>() }
+
+        try {
+            for (module in chunk) {
+                val moduleConfiguration = projectConfiguration.applyModuleProperties(module, buildFile)
+                val context = CompilationContext(
+                    module,
+                    project,
+                    environment,
+                    moduleConfiguration,
+                    localFileSystem,
+                    isMultiModuleChunk,
+                    buildFile,
+                    performanceManager,
+                    targetIds,
+                    incrementalComponents,
+                    extendedAnalysisMode,
+                    firProfilers
+                )
+                val generationState = context.compileModule() ?: return false
+                outputs[module] = generationState
+
+                Disposer.dispose(environment.project)
+            }
+        } finally {
+            if (firProfileDumpPath != null && firProfilers != null) {
+                File(firProfileDumpPath).writeText(FirPerformanceProfiler.renderJson(firProfilers))
+            }
         }
 
         val mainClassFqName: FqName? =
@@ -126,7 +150,8 @@ object FirKotlinToJvmBytecodeCompiler {
         ProgressIndicatorAndCompilationCanceledStatus.checkCanceled()
 
         val ktFiles = module.getSourceFiles(environment, localFileSystem, isMultiModuleChunk, buildFile)
-        if (!checkKotlinPackageUsage(environment, ktFiles)) return null
+        // In light tree mode the package directives are checked on the raw FIR, so that ASTs of the files are not loaded
+        if (!useLightTree && !checkKotlinPackageUsage(environment, ktFiles)) return null
 
         val firAnalyzerFacade = runFrontend(ktFiles).also {
             performanceManager?.notifyAnalysisFinished()
@@ -158,7 +183,7 @@ object FirKotlinToJvmBytecodeCompiler {
     private fun CompilationContext.runFrontend(ktFiles: List<KtFile>): FirAnalyzerFacade? {
         @Suppress("NAME_SHADOWING")
         var ktFiles = ktFiles
-        val syntaxErrors = ktFiles.fold(false) { errorsFound, ktFile ->
+        var syntaxErrors = !useLightTree && ktFiles.fold(false) { errorsFound, ktFile ->
             AnalyzerWithCompilerReport.reportSyntaxErrors(ktFile, environment.messageCollector).isHasErrors or errorsFound
         }
 
@@ -179,6 +204,15 @@ object FirKotlinToJvmBytecodeCompiler {
 
         val sessionProvider = FirProjectSessionProvider()
 
+        val resolveThreads = moduleConfiguration.get(CommonConfigurationKeys.PARALLEL_FIR_RESOLVE_THREADS) ?: 1
+        val useThreadSafeCaches = resolveThreads > 1 || moduleConfiguration.getBoolean(CommonConfigurationKeys.USE_FIR_THREAD_SAFE_CACHES)
+        val cachesFactory = if (useThreadSafeCaches) FirConcurrentCachesFactory else FirThreadUnsafeCachesFactory
+        val profiler = when {
+            firProfilers != null -> FirPerformanceProfiler().also { firProfilers[module.getModuleName()] = it }
+            performanceManager?.isEnabled == true -> FirPerformanceProfiler(detailed = false)
+            else -> null
+        }
+
         fun createSession(
             name: String,
             platform: TargetPlatform,
@@ -204,10 +238,14 @@ object FirKotlinToJvmBytecodeCompiler {
                     friendDependencies(moduleConfiguration[JVMConfigurationKeys.FRIEND_PATHS] ?: emptyList())
                     dependenciesConfigurator()
                 },
+                cachesFactory = cachesFactory,
                 sessionConfigurator = {
                     if (extendedAnalysisMode) {
                         registerExtendedCommonCheckers()
                     }
+                    if (profiler != null) {
+                        usePerformanceProfiler(profiler)
+                    }
                 }
             )
         }
@@ -238,19 +276,93 @@ object FirKotlinToJvmBytecodeCompiler {
             friendDependencies(module.getFriendPaths())
         }
 
-        val commonAnalyzerFacade = commonSession?.let { FirAnalyzerFacade(it, languageVersionSettings, commonKtFiles) }
-        val firAnalyzerFacade = FirAnalyzerFacade(session, languageVersionSettings, ktFiles)
+        val commonAnalyzerFacade = commonSession?.let {
+            FirAnalyzerFacade(it, languageVersionSettings, commonKtFiles, useLightTree = useLightTree, resolveThreads = resolveThreads)
+        }
+        val firAnalyzerFacade =
+            FirAnalyzerFacade(session, languageVersionSettings, ktFiles, useLightTree = useLightTree, resolveThreads = resolveThreads)
+
+        if (useLightTree) {
+            val firFiles = commonAnalyzerFacade?.buildRawFir().orEmpty() + firAnalyzerFacade.buildRawFir()
+            if (!checkKotlinPackageUsageInFir(firFiles)) return null
+            syntaxErrors = firFiles.fold(false) { errorsFound, firFile ->
+                reportLightTreeSyntaxErrors(firFile) or errorsFound
+            }
+        }
 
         commonAnalyzerFacade?.runResolution()
-        val allFirDiagnostics = mutableListOf<FirDiagnostic>()
-        commonAnalyzerFacade?.runCheckers()?.values?.flattenTo(allFirDiagnostics)
+        val firDiagnosticsByFile = mutableMapOf<FirFile, List<FirDiagnostic>>()
+        commonAnalyzerFacade?.runCheckers()?.let { firDiagnosticsByFile.putAll(it) }
         firAnalyzerFacade.runResolution()
-        firAnalyzerFacade.runCheckers().values.flattenTo(allFirDiagnostics)
-        val hasErrors = FirDiagnosticsCompilerResultsReporter.reportDiagnostics(allFirDiagnostics, environment.messageCollector)
+        profiler?.getMeasurements(FirPerformanceProfiler.RESOLVE_PHASES)?.sortedBy { FirResolvePhase.valueOf(it.name) }?.forEach {
+            performanceManager?.notifyFirResolvePhaseFinished(it.name, TimeUnit.NANOSECONDS.toMillis(it.wallTimeNanos.sum()))
+        }
+        firDiagnosticsByFile.putAll(firAnalyzerFacade.runCheckers())
+        val hasErrors = if (useLightTree) {
+            // Light tree elements don't know their files, so diagnostics are reported file by file
+            val sortedEntries = firDiagnosticsByFile.entries.sortedBy { it.key.sourceKtFile!!.virtualFilePath }
+            sortedEntries.fold(false) { errorsFound, (firFile, diagnostics) ->
+                FirDiagnosticsCompilerResultsReporter.reportDiagnostics(
+                    diagnostics, environment.messageCollector, lightTreeFile = firFile.sourceKtFile
+                ) or errorsFound
+            }
+        } else {
+            FirDiagnosticsCompilerResultsReporter.reportDiagnostics(firDiagnosticsByFile.values.flatten(), environment.messageCollector)
+        }
 
         return firAnalyzerFacade.takeUnless { syntaxErrors || hasErrors }
     }
 
+    private fun CompilationContext.checkKotlinPackageUsageInFir(firFiles: List<FirFile>): Boolean {
+        if (moduleConfiguration.getBoolean(CLIConfigurationKeys.ALLOW_KOTLIN_PACKAGE)) return true
+        val kotlinPackage = FqName("kotlin")
+        for (firFile in firFiles) {
+            val packageDirective = firFile.packageDirective
+            if (packageDirective.packageFqName.isSubpackageOf(kotlinPackage)) {
+                val ktFile = firFile.sourceKtFile!!
+                val source = packageDirective.source
+                val range = if (source != null) TextRange(source.startOffset, source.endOffset) else TextRange.EMPTY_RANGE
+                environment.messageCollector.report(
+                    ERROR,
+                    "Only the Kotlin standard library is allowed to use the 'kotlin' package",
+                    MessageUtil.psiFileToMessageLocation(ktFile, ktFile.name, DiagnosticUtils.getLineAndColumnRangeInPsiFile(ktFile, range))
+                )
+                return false
+            }
+        }
+        return true
+    }
+
+    private fun CompilationContext.reportLightTreeSyntaxErrors(firFile: FirFile): Boolean {
+        val ktFile = firFile.sourceKtFile!!
+        val source = firFile.source as FirLightSourceElement
+        val tree = source.treeStructure
+        var hasErrors = false
+
+        fun visit(node: LighterASTNode) {
+            if (node.tokenType == TokenType.ERROR_ELEMENT) {
+                val description = PsiBuilderImpl.getErrorMessage(node)
+                environment.messageCollector.report(
+                    ERROR,
+                    if (description.isNullOrEmpty()) "Syntax error" else description,
+                    MessageUtil.psiFileToMessageLocation(
+                        ktFile, ktFile.name,
+                        DiagnosticUtils.getLineAndColumnRangeInPsiFile(ktFile, TextRange(node.startOffset, node.endOffset))
+                    )
+                )
+                hasErrors = true
+            }
+            val children = Ref<Array<LighterASTNode?>>()
+            val count = tree.getChildren(node, children)
+            for (i in 0 until count) {
+                children.get()[i]?.let(::visit)
+            }
+        }
+
+        visit(source.lighterASTNode)
+        return hasErrors
+    }
+
     private fun CompilationContext.createComponentsForIncrementalCompilation(
         sourceScope: GlobalSearchScope
     ): FirSessionFactory.ProviderAndScopeForIncrementalCompilation? {
@@ -333,6 +445,9 @@ object FirKotlinToJvmBytecodeCompiler {
         return generationState
     }
 
+    private val CompilationContext.useLightTree: Boolean
+        get() = moduleConfiguration.getBoolean(CommonConfigurationKeys.USE_FIR_LIGHT_TREE)
+
     private class CompilationContext(
         val module: Module,
         val project: Project,
@@ -344,6 +459,7 @@ object FirKotlinToJvmBytecodeCompiler {
         val performanceManager: CommonCompilerPerformanceManager?,
         val targetIds: List<TargetId>?,
         val incrementalComponents: IncrementalCompilationComponents?,
-        val extendedAnalysisMode: Boolean
+        val extendedAnalysisMode: Boolean,
+        val firProfilers: MutableMap<String, FirPerformanceProfiler>?
     )
 }
@@ -72,7 +72,7 @@ class KotlinCliJavaFileManagerImpl(private val myPsiManager: PsiManager) : CoreJ
 
     private fun findVirtualFileForTopLevelClass(classId: ClassId, searchScope: GlobalSearchScope): VirtualFile? {
         val relativeClassName = classId.relativeClassName.asString()
-        return topLevelClassesCache.getOrPut(classId.packageFqName.child(classId.relativeClassName.pathSegments().first())) {
+        return topLevelClassesCache.getOrPutSynchronized(classId.packageFqName.child(classId.relativeClassName.pathSegments().first())) {
             index.findClass(classId) { dir, type ->
                 findVirtualFileGivenPackage(dir, relativeClassName, type)
             } ?: singleJavaFileRootsIndex.findJavaSourceClass(classId)
@@ -90,7 +90,7 @@ class KotlinCliJavaFileManagerImpl(private val myPsiManager: PsiManager) : CoreJ
 
         if (!usePsiClassFilesReading && virtualFile.extension == "class") {
             // We return all class files' names in the directory in knownClassNamesInPackage method, so one may request an inner class
-            return binaryCache.getOrPut(classId) {
+            return binaryCache.getOrPutSynchronized(classId) {
                 // Note that currently we implicitly suppose that searchScope for binary classes is constant and we do not use it
                 // as a key in cache
                 // This is a true assumption by now since there are two search scopes in compiler: one for sources and another one for binary
@@ -108,7 +108,7 @@ class KotlinCliJavaFileManagerImpl(private val myPsiManager: PsiManager) : CoreJ
 
                 // Here, we assume the class is top-level
                 val classContent = classFileContentFromRequest ?: virtualFile.contentsToByteArray()
-                if (virtualFile.nameWithoutExtension.contains("$") && isNotTopLevelClass(classContent)) return@getOrPut null
+                if (virtualFile.nameWithoutExtension.contains("$") && isNotTopLevelClass(classContent)) return@getOrPutSynchronized null
 
                 val resolver = ClassifierResolutionContext { findClass(it, allScope) }
 
@@ -257,6 +257,21 @@ class KotlinCliJavaFileManagerImpl(private val myPsiManager: PsiManager) : CoreJ
     companion object {
         private val LOG = Logger.getInstance(KotlinCliJavaFileManagerImpl::class.java)
 
+        // Classes can be looked up from several threads at once (see -Xparallel-body-resolve-threads), so caches are accessed
+        // under their monitors. Values are computed outside of them, and the value stored first wins
+        @Suppress("UNCHECKED_CAST")
+        private inline fun <K, V> MutableMap<K, V>.getOrPutSynchronized(key: K, compute: () -> V): V {
+            synchronized(this) {
+                if (containsKey(key)) return get(key) as V
+            }
+            val value = compute()
+            synchronized(this) {
+                if (containsKey(key)) return get(key) as V
+                put(key, value)
+            }
+            return value
+        }
+
         private fun findClassInPsiFile(classNameWithInnerClassesDotSeparated: String, file: PsiClassOwner): PsiClass? {
             for (topLevelClass in file.classes) {
                 val candidate = findClassByTopLevelClass(classNameWithInnerClassesDotSeparated, topLevelClass)
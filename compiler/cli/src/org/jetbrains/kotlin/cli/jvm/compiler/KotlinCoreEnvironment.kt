@@ -134,7 +134,10 @@ class KotlinCoreEnvironment private constructor(
 
             jarFileSystem = when {
                 configuration.getBoolean(JVMConfigurationKeys.USE_FAST_JAR_FILE_SYSTEM) || configuration.getBoolean(CommonConfigurationKeys.USE_FIR) -> {
-                    val fastJarFs = FastJarFileSystem.createIfUnmappingPossible()
+                    val fastJarFs = FastJarFileSystem.createIfUnmappingPossible(
+                        configuration.get(JVMConfigurationKeys.FAST_JAR_FS_INDEX_CACHE_DIRECTORY),
+                        configuration.getBoolean(JVMConfigurationKeys.FAST_JAR_FS_KEEP_JARS_MAPPED)
+                    )
 
                     if (fastJarFs == null) {
                         messageCollector?.report(
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2010-2021 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.cli.jvm.compiler
+
+import org.jetbrains.kotlin.cli.common.CompilerSystemProperties
+import org.jetbrains.kotlin.cli.common.toBooleanLenient
+import org.jetbrains.kotlin.load.kotlin.KotlinJvmBinaryClass
+import org.jetbrains.kotlin.load.kotlin.KotlinMetadataProtoCache
+import java.io.File
+import java.io.IOException
+import java.lang.ref.ReferenceQueue
+import java.lang.ref.SoftReference
+import java.security.MessageDigest
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * Metadata protos of Kotlin classes from library jars, shared by all compilations in the process.
+ * It's enabled in the daemon, see [CompilerSystemProperties.KOTLIN_COMPILER_SHARED_LIBRARY_METADATA_PROPERTY].
+ *
+ * Protos are keyed by the content hash of the jar and the path of the class in the jar, so a rebuilt jar never gets protos
+ *   of its previous version. The hash of a jar is recomputed only when its size or modification time changes.
+ * Jars are checked once per compilation, see [forCompilation].
+ * Classes outside of jars (e.g. in output directories of modules being compiled) are not cached.
+ *
+ * Protos are softly referenced, so they are evicted under memory pressure.
+ */
+object SharedLibraryMetadataProtoCache {
+    private class JarHash(val length: Long, val lastModified: Long, val hash: String)
+
+    private data class Key(val jarHash: String, val pathInJar: String)
+
+    private class ProtosReference(val key: Key, protos: Any, queue: ReferenceQueue<Any>) : SoftReference<Any>(protos, queue)
+
+    private val jarHashes = ConcurrentHashMap<String, JarHash>()
+    private val protosByKey = ConcurrentHashMap<Key, ProtosReference>()
+    private val collectedProtos = ReferenceQueue<Any>()
+
+    val isEnabled: Boolean
+        get() = CompilerSystemProperties.KOTLIN_COMPILER_SHARED_LIBRARY_METADATA_PROPERTY.value.toBooleanLenient() == true
+
+    /**
+     * Returns the cache for one compilation. Jars aren't expected to change during a compilation, so the state of every jar
+     *   is checked on the first access to its classes only
+     */
+    fun forCompilation(): KotlinMetadataProtoCache = CompilationProtoCache()
+
+    private class CompilationProtoCache : KotlinMetadataProtoCache {
+        // Hashes of jars by their paths, NOT_CACHED for jars whose classes are not cached
+        private val jarHashes = ConcurrentHashMap<String, String>()
+
+        override fun <T : Any> getOrParse(kotlinClass: KotlinJvmBinaryClass, parse: () -> T): T {
+            val key = keyOf(kotlinClass) ?: return parse()
+
+            @Suppress("UNCHECKED_CAST")
+            protosByKey[key]?.get()?.let { return it as T }
+
+            val protos = parse()
+            removeCollectedProtos()
+            protosByKey[key] = ProtosReference(key, protos, collectedProtos)
+            return protos
+        }
+
+        private fun keyOf(kotlinClass: KotlinJvmBinaryClass): Key? {
+            val location = kotlinClass.location
+            val separator = location.indexOf(JAR_SEPARATOR)
+            if (separator < 0) return null
+
+            val jarHash = jarHashes.getOrPut(location.substring(0, separator)) { jarHash(location.substring(0, separator)) ?: NOT_CACHED }
+            if (jarHash == NOT_CACHED) return null
+            return Key(jarHash, location.substring(separator + JAR_SEPARATOR.length))
+        }
+    }
+
+    private fun jarHash(jarPath: String): String? {
+        val jar = File(jarPath)
+        val length = jar.length()
+        val lastModified = jar.lastModified()
+        // E.g. classes of the JDK image
+        if (lastModified == 0L || !jar.isFile) return null
+
+        val known = jarHashes[jarPath]
+        if (known != null && known.length == length && known.lastModified == lastModified) return known.hash
+
+        val digest = MessageDigest.getInstance("SHA-256")
+        try {
+            jar.inputStream().buffered().use { input ->
+                val buffer = ByteArray(DEFAULT_BUFFER_SIZE)
+                while (true) {
+                    val read = input.read(buffer)
+                    if (read < 0) break
+                    digest.update(buffer, 0, read)
+                }
+            }
+        } catch (e: IOException) {
+            return null
+        }
+        val hash = digest.digest().joinToString("") { "%02x".format(it) }
+
+        // A jar written right before the compilation can be rewritten again without changing its timestamp (timestamps are coarse
+        // on some file systems), so the hash of such a jar is not reused by next compilations
+        if (System.currentTimeMillis() - lastModified > UNRELIABLE_TIMESTAMP_INTERVAL_MS) {
+            jarHashes[jarPath] = JarHash(length, lastModified, hash)
+        } else {
+            jarHashes.remove(jarPath)
+        }
+        return hash
+    }
+
+    private fun removeCollectedProtos() {
+        while (true) {
+            val reference = collectedProtos.poll() as ProtosReference? ?: return
+            protosByKey.remove(reference.key, reference)
+        }
+    }
+
+    private const val JAR_SEPARATOR = "!/"
+    private const val NOT_CACHED = ""
+    private const val UNRELIABLE_TIMESTAMP_INTERVAL_MS = 2000L
+}
@@ -29,10 +29,7 @@ import org.jetbrains.kotlin.container.ComponentProvider
 import org.jetbrains.kotlin.container.StorageComponentContainer
 import org.jetbrains.kotlin.container.get
 import org.jetbrains.kotlin.container.useImpl
-import org.jetbrains.kotlin.context.ContextForNewModule
-import org.jetbrains.kotlin.context.ModuleContext
-import org.jetbrains.kotlin.context.MutableModuleContext
-import org.jetbrains.kotlin.context.ProjectContext
+import org.jetbrains.kotlin.context.*
 import org.jetbrains.kotlin.descriptors.ClassDescriptor
 import org.jetbrains.kotlin.descriptors.ModuleCapability
 import org.jetbrains.kotlin.descriptors.ModuleDescriptor
@@ -151,7 +148,13 @@ object TopDownAnalyzerFacadeForJVM {
         val languageVersionSettings = configuration.languageVersionSettings
         val jvmPlatform = JvmPlatforms.jvmPlatformByTargetVersion(jvmTarget)
 
-        val moduleContext = createModuleContext(project, configuration, jvmPlatform, moduleCapabilities)
+        // Bodies can be resolved in parallel only if the trace allows it
+        val bodyResolveThreads = configuration.get(CommonConfigurationKeys.PARALLEL_BODY_RESOLVE_THREADS) ?: 1
+        val bodyResolveParallelism =
+            if (bodyResolveThreads > 1 && (trace as? BindingTraceContext)?.isThreadSafe == true) BodyResolveParallelism.Parallel(bodyResolveThreads)
+            else null
+
+        val moduleContext = createModuleContext(project, configuration, jvmPlatform, moduleCapabilities, bodyResolveParallelism != null)
 
         val storageManager = moduleContext.storageManager
         val module = moduleContext.module
@@ -163,6 +166,8 @@ object TopDownAnalyzerFacadeForJVM {
 
         val separateModules = !configuration.getBoolean(JVMConfigurationKeys.USE_SINGLE_MODULE)
 
+        val metadataProtoCache = if (SharedLibraryMetadataProtoCache.isEnabled) SharedLibraryMetadataProtoCache.forCompilation() else null
+
         val sourceScope = if (separateModules) sourceModuleSearchScope else GlobalSearchScope.allScope(project)
         val moduleClassResolver = SourceOrBinaryModuleClassResolver(sourceScope)
 
@@ -197,7 +202,8 @@ object TopDownAnalyzerFacadeForJVM {
                 packagePartProvider(dependencyScope), languageVersionSettings,
                 useBuiltInsProvider = true,
                 configureJavaClassFinder = configureJavaClassFinder,
-                implicitsResolutionFilter = implicitsResolutionFilter
+                implicitsResolutionFilter = implicitsResolutionFilter,
+                metadataProtoCache = metadataProtoCache
             )
 
             moduleClassResolver.compiledCodeResolver = dependenciesContainer.get()
@@ -233,7 +239,9 @@ object TopDownAnalyzerFacadeForJVM {
             useBuiltInsProvider = true,
             configureJavaClassFinder = configureJavaClassFinder,
             javaClassTracker = configuration[JVMConfigurationKeys.JAVA_CLASSES_TRACKER],
-            implicitsResolutionFilter = implicitsResolutionFilter
+            implicitsResolutionFilter = implicitsResolutionFilter,
+            bodyResolveParallelism = bodyResolveParallelism,
+            metadataProtoCache = metadataProtoCache
         ).apply {
             initJvmBuiltInsForTopDownAnalysis()
             (partProvider as? IncrementalPackagePartProvider)?.deserializationConfiguration = get()
@@ -326,9 +334,11 @@ object TopDownAnalyzerFacadeForJVM {
         project: Project,
         configuration: CompilerConfiguration,
         platform: TargetPlatform?,
-        capabilities: Map<ModuleCapability<*>, Any?> = emptyMap()
+        capabilities: Map<ModuleCapability<*>, Any?> = emptyMap(),
+        isConcurrent: Boolean = false
     ): MutableModuleContext {
-        val projectContext = ProjectContext(project, "TopDownAnalyzer for JVM")
+        val debugName = "TopDownAnalyzer for JVM"
+        val projectContext = (if (isConcurrent) ConcurrentGlobalContext(debugName) else GlobalContext(debugName)).withProject(project)
         val builtIns = JvmBuiltIns(projectContext.storageManager, JvmBuiltIns.Kind.FROM_DEPENDENCIES)
         return ContextForNewModule(
             projectContext, Name.special("<${configuration.getNotNull(CommonConfigurationKeys.MODULE_NAME)}>"),
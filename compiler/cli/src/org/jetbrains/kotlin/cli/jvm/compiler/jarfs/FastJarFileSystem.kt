@@ -19,7 +19,13 @@ import java.nio.channels.FileChannel
 
 private typealias RandomAccessFileAndBuffer = Pair<RandomAccessFile, MappedByteBuffer>
 
-class FastJarFileSystem private constructor(internal val unmapBuffer: MappedByteBuffer.() -> Unit) : DeprecatedVirtualFileSystem() {
+class FastJarFileSystem private constructor(
+    internal val unmapBuffer: MappedByteBuffer.() -> Unit,
+    indexCacheDirectory: File?,
+    internal val keepJarsMapped: Boolean
+) : DeprecatedVirtualFileSystem() {
+    internal val indexCache: FastJarIndexCache? = indexCacheDirectory?.let { FastJarIndexCache(it, unmapBuffer) }
+
     private val myHandlers: MutableMap<String, FastJarHandler> =
         ConcurrentFactoryMap.createMap { key: String -> FastJarHandler(this@FastJarFileSystem, key) }
 
@@ -57,7 +63,9 @@ class FastJarFileSystem private constructor(internal val unmapBuffer: MappedByte
     }
 
     fun clearHandlersCache() {
+        val handlers = myHandlers.values.toList()
         myHandlers.clear()
+        handlers.forEach(FastJarHandler::unmapJar)
         cachedOpenFileHandles.clear()
     }
 
@@ -70,9 +78,14 @@ class FastJarFileSystem private constructor(internal val unmapBuffer: MappedByte
             return Couple.of(localPath, pathInJar)
         }
 
-        fun createIfUnmappingPossible(): FastJarFileSystem? {
+        /**
+         * @param indexCacheDirectory directory to store parsed central directories of jars between compilations, see [FastJarIndexCache]
+         * @param keepJarsMapped whether jars should stay memory-mapped until [clearHandlersCache] instead of being mapped on each read,
+         *   which is faster but keeps jars open (and locked on Windows) for the whole lifetime of the file system
+         */
+        fun createIfUnmappingPossible(indexCacheDirectory: File? = null, keepJarsMapped: Boolean = false): FastJarFileSystem? {
             val cleanerCallBack = prepareCleanerCallback() ?: return null
-            return FastJarFileSystem(cleanerCallBack)
+            return FastJarFileSystem(cleanerCallBack, indexCacheDirectory, keepJarsMapped)
         }
     }
 }
@@ -9,29 +9,32 @@ import com.intellij.openapi.vfs.VirtualFile
 import java.io.File
 import java.io.FileNotFoundException
 import java.io.RandomAccessFile
+import java.nio.MappedByteBuffer
 import java.nio.channels.FileChannel
+import java.util.concurrent.locks.ReentrantReadWriteLock
+import kotlin.concurrent.read
+import kotlin.concurrent.write
 
 class FastJarHandler(val fileSystem: FastJarFileSystem, path: String) {
     private val myRoot: VirtualFile?
     internal val file = File(path)
 
+    // Mapping of the whole jar which is kept until the file system is cleared, if the file system keeps jars mapped.
+    // Otherwise jars are mapped on demand via FastJarFileSystem.cachedOpenFileHandles
+    private var mappedJar: MappedByteBuffer? =
+        if (fileSystem.keepJarsMapped) RandomAccessFile(file, "r").use { it.channel.map(FileChannel.MapMode.READ_ONLY, 0, it.length()) }
+        else null
+
+    // Entries are read from mappedJar under the read lock, and it's unmapped under the write lock,
+    // since reading from an unmapped buffer crashes the JVM
+    private val mappedJarLock = ReentrantReadWriteLock()
+
     private val cachedManifest: ByteArray?
 
     init {
-        val entries: List<ZipEntryDescription>
-        RandomAccessFile(file, "r").use { randomAccessFile ->
-            val mappedByteBuffer = randomAccessFile.channel.map(FileChannel.MapMode.READ_ONLY, 0, randomAccessFile.length())
-            try {
-                entries = mappedByteBuffer.parseCentralDirectory()
-                cachedManifest =
-                    entries.singleOrNull { StringUtil.equals(MANIFEST_PATH, it.relativePath) }
-                        ?.let(mappedByteBuffer::contentsToByteArray)
-            } finally {
-                with(fileSystem) {
-                    mappedByteBuffer.unmapBuffer()
-                }
-            }
-        }
+        val index = fileSystem.indexCache?.getOrCreate(file, ::readIndex) ?: readIndex()
+        val entries = index.entries
+        cachedManifest = index.manifest
 
         myRoot = FastJarVirtualFile(this, "", -1, parent = null, entryDescription = null)
 
@@ -53,6 +56,28 @@ class FastJarHandler(val fileSystem: FastJarFileSystem, path: String) {
         }
     }
 
+    private fun readIndex(): JarIndex {
+        mappedJar?.let { return readIndex(it) }
+        RandomAccessFile(file, "r").use { randomAccessFile ->
+            val mappedByteBuffer = randomAccessFile.channel.map(FileChannel.MapMode.READ_ONLY, 0, randomAccessFile.length())
+            try {
+                return readIndex(mappedByteBuffer)
+            } finally {
+                with(fileSystem) {
+                    mappedByteBuffer.unmapBuffer()
+                }
+            }
+        }
+    }
+
+    private fun readIndex(mappedByteBuffer: MappedByteBuffer): JarIndex {
+        val entries = mappedByteBuffer.parseCentralDirectory()
+        val manifest =
+            entries.singleOrNull { StringUtil.equals(MANIFEST_PATH, it.relativePath) }
+                ?.let(mappedByteBuffer::contentsToByteArray)
+        return JarIndex(entries, manifest)
+    }
+
     private fun createFile(entry: ZipEntryDescription, directories: MutableMap<String, FastJarVirtualFile>): FastJarVirtualFile {
         val (parentName, shortName) = entry.relativePath.splitPath()
 
@@ -96,11 +121,22 @@ class FastJarHandler(val fileSystem: FastJarFileSystem, path: String) {
     fun contentsToByteArray(zipEntryDescription: ZipEntryDescription): ByteArray {
         val relativePath = zipEntryDescription.relativePath
         if (StringUtil.equals(relativePath, MANIFEST_PATH)) return cachedManifest ?: throw FileNotFoundException("$file!/$relativePath")
-        return fileSystem.cachedOpenFileHandles[file].use {
-            synchronized(it) {
-                it.get().second.contentsToByteArray(zipEntryDescription)
+        if (fileSystem.keepJarsMapped) {
+            mappedJarLock.read {
+                mappedJar?.let { return it.contentsToByteArray(zipEntryDescription) }
             }
         }
+        return fileSystem.cachedOpenFileHandles[file].use {
+            it.get().second.contentsToByteArray(zipEntryDescription)
+        }
+    }
+
+    internal fun unmapJar() {
+        // Readers which come after the write lock is released don't see the mapping anymore, so it's unmapped outside of the lock
+        val mapped = mappedJarLock.write { mappedJar.also { mappedJar = null } } ?: return
+        with(fileSystem) {
+            mapped.unmapBuffer()
+        }
     }
 }
 
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2010-2021 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+package org.jetbrains.kotlin.cli.jvm.compiler.jarfs
+
+import java.io.File
+import java.io.IOException
+import java.io.RandomAccessFile
+import java.nio.ByteBuffer
+import java.nio.ByteOrder
+import java.nio.MappedByteBuffer
+import java.nio.channels.FileChannel
+import java.nio.file.Files
+import java.nio.file.StandardCopyOption
+
+internal class JarIndex(val entries: List<ZipEntryDescription>, val manifest: ByteArray?)
+
+/**
+ * Persistent cache of parsed central directories of jars, stored in [directory] with one index file per jar.
+ *
+ * Index is valid as long as path, size and modification time of the jar are the same as when it was written,
+ *   otherwise it's rebuilt from the jar. Any I/O problems with the cache itself are ignored, and the jar is parsed as usual.
+ *
+ * Index file layout (little endian):
+ *  - header: magic, version, jar size, jar modification time, number of entries, size of manifest, size of names
+ *  - jar path in UTF-8 prefixed by its size
+ *  - fixed-size records of entries (see [ENTRY_RECORD_SIZE])
+ *  - manifest bytes
+ *  - names of all entries as a single blob, so names are not copied one by one on loading
+ */
+internal class FastJarIndexCache(private val directory: File, private val unmapBuffer: MappedByteBuffer.() -> Unit) {
+    fun getOrCreate(jar: File, create: () -> JarIndex): JarIndex {
+        val jarPath = jar.absolutePath
+        val jarLength = jar.length()
+        val jarTimeStamp = jar.lastModified()
+        val indexFile = File(directory, "${jar.name}-${Integer.toHexString(jarPath.hashCode())}.idx")
+
+        if (indexFile.isFile) {
+            try {
+                readIndex(indexFile, jarPath, jarLength, jarTimeStamp)?.let { return it }
+            } catch (e: Exception) {
+                // corrupted index, it will be rewritten
+            }
+        }
+
+        val index = create()
+        try {
+            writeIndex(indexFile, index, jarPath, jarLength, jarTimeStamp)
+        } catch (e: IOException) {
+            // cache directory is not writable, the index will be recreated next time
+        }
+        return index
+    }
+
+    private fun readIndex(indexFile: File, jarPath: String, jarLength: Long, jarTimeStamp: Long): JarIndex? {
+        RandomAccessFile(indexFile, "r").use { randomAccessFile ->
+            val buffer = randomAccessFile.channel.map(FileChannel.MapMode.READ_ONLY, 0, randomAccessFile.length())
+            try {
+                buffer.order(ByteOrder.LITTLE_ENDIAN)
+                if (buffer.int != MAGIC || buffer.int != VERSION) return null
+                if (buffer.long != jarLength || buffer.long != jarTimeStamp) return null
+                val entriesNumber = buffer.int
+                val manifestSize = buffer.int
+                val namesSize = buffer.int
+                val pathSize = buffer.int
+                // Sizes are checked before allocating arrays, so that a corrupted index can't cause an OutOfMemoryError
+                if (entriesNumber < 0 || manifestSize < -1 || namesSize < 0 || pathSize < 0) return null
+                val expectedRemaining =
+                    pathSize.toLong() + entriesNumber.toLong() * ENTRY_RECORD_SIZE + manifestSize.coerceAtLeast(0) + namesSize
+                if (expectedRemaining != buffer.remaining().toLong()) return null
+                val storedPath = ByteArray(pathSize).also { buffer.get(it) }
+                if (String(storedPath, Charsets.UTF_8) != jarPath) return null
+
+                val recordsStart = buffer.position()
+                buffer.position(recordsStart + entriesNumber * ENTRY_RECORD_SIZE)
+                val manifest = if (manifestSize < 0) null else ByteArray(manifestSize).also { buffer.get(it) }
+                val names = ByteArray(namesSize).also { buffer.get(it) }
+
+                val entries = ArrayList<ZipEntryDescription>(entriesNumber)
+                buffer.position(recordsStart)
+                for (i in 0 until entriesNumber) {
+                    val nameStart = buffer.int
+                    val nameEnd = buffer.int
+                    val compressedSize = buffer.int
+                    val uncompressedSize = buffer.int
+                    val offsetInFile = buffer.int
+                    val fileNameSize = buffer.int
+                    val flags = buffer.int
+                    if (nameStart < 0 || nameStart > nameEnd || nameEnd > namesSize) return null
+                    val name =
+                        if (flags and FLAG_ASCII_NAME != 0) ByteArrayCharSequence(names, nameStart, nameEnd)
+                        else String(names, nameStart, nameEnd - nameStart, Charsets.UTF_8)
+                    val compressionKind =
+                        if (flags and FLAG_DEFLATE != 0) ZipEntryDescription.CompressionKind.DEFLATE
+                        else ZipEntryDescription.CompressionKind.PLAIN
+                    entries += ZipEntryDescription(name, compressedSize, uncompressedSize, offsetInFile, compressionKind, fileNameSize)
+                }
+                return JarIndex(entries, manifest)
+            } finally {
+                buffer.unmapBuffer()
+            }
+        }
+    }
+
+    private fun writeIndex(indexFile: File, index: JarIndex, jarPath: String, jarLength: Long, jarTimeStamp: Long) {
+        val encodedNames = index.entries.map { entry ->
+            val name = entry.relativePath
+            if (name is ByteArrayCharSequence) name.toString().toByteArray(Charsets.ISO_8859_1) to true
+            else name.toString().toByteArray(Charsets.UTF_8) to false
+        }
+        val pathBytes = jarPath.toByteArray(Charsets.UTF_8)
+        val manifestSize = index.manifest?.size ?: -1
+        val namesSize = encodedNames.sumOf { it.first.size }
+
+        val buffer = ByteBuffer.allocate(
+            HEADER_SIZE + pathBytes.size + index.entries.size * ENTRY_RECORD_SIZE + manifestSize.coerceAtLeast(0) + namesSize
+        ).order(ByteOrder.LITTLE_ENDIAN)
+        buffer.putInt(MAGIC).putInt(VERSION).putLong(jarLength).putLong(jarTimeStamp)
+        buffer.putInt(index.entries.size).putInt(manifestSize).putInt(namesSize)
+        buffer.putInt(pathBytes.size).put(pathBytes)
+
+        var nameStart = 0
+        for ((entry, encodedName) in index.entries.zip(encodedNames)) {
+            val (nameBytes, isAscii) = encodedName
+            var flags = 0
+            if (isAscii) flags = flags or FLAG_ASCII_NAME
+            if (entry.compressionKind == ZipEntryDescription.CompressionKind.DEFLATE) flags = flags or FLAG_DEFLATE
+            buffer.putInt(nameStart).putInt(nameStart + nameBytes.size)
+            buffer.putInt(entry.compressedSize).putInt(entry.uncompressedSize).putInt(entry.offsetInFile).putInt(entry.fileNameSize)
+            buffer.putInt(flags)
+            nameStart += nameBytes.size
+        }
+        index.manifest?.let { buffer.put(it) }
+        for ((nameBytes, _) in encodedNames) {
+            buffer.put(nameBytes)
+        }
+
+        // Index is written to a temporary file first, so that concurrent compilations never read a partially written one
+        directory.mkdirs()
+        val tempFile = File.createTempFile(indexFile.name, ".tmp", directory)
+        try {
+            tempFile.writeBytes(buffer.array())
+            Files.move(tempFile.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE)
+        } finally {
+            tempFile.delete()
+        }
+    }
+
+    companion object {
+        private const val MAGIC = 0x4b4a4958 // "KJIX"
+        private const val VERSION = 1
+
+        private const val HEADER_SIZE = 4 + 4 + 8 + 8 + 4 + 4 + 4 + 4
+        private const val ENTRY_RECORD_SIZE = 7 * 4
+
+        private const val FLAG_ASCII_NAME = 1
+        private const val FLAG_DEFLATE = 2
+    }
+}
@@ -31,31 +31,38 @@ private const val END_OF_CENTRAL_DIR_SIZE = 22
 private const val LOCAL_FILE_HEADER_EXTRA_OFFSET = 28
 private const val LOCAL_FILE_HEADER_SIZE = LOCAL_FILE_HEADER_EXTRA_OFFSET + 2
 
-fun MappedByteBuffer.contentsToByteArray(
+fun ByteBuffer.contentsToByteArray(
     zipEntryDescription: ZipEntryDescription
 ): ByteArray {
-    order(ByteOrder.LITTLE_ENDIAN)
+    // Reading is done via a duplicate, so that the same buffer can be read concurrently without synchronization
+    val buffer = duplicate().order(ByteOrder.LITTLE_ENDIAN)
     val extraSize =
-        getUnsignedShort(zipEntryDescription.offsetInFile + LOCAL_FILE_HEADER_EXTRA_OFFSET)
+        buffer.getUnsignedShort(zipEntryDescription.offsetInFile + LOCAL_FILE_HEADER_EXTRA_OFFSET)
 
-    position(
+    buffer.position(
         zipEntryDescription.offsetInFile + LOCAL_FILE_HEADER_SIZE + zipEntryDescription.fileNameSize + extraSize
     )
-    val compressed = ByteArray(zipEntryDescription.compressedSize + 1)
-    get(compressed, 0, zipEntryDescription.compressedSize)
 
     return when (zipEntryDescription.compressionKind) {
         ZipEntryDescription.CompressionKind.DEFLATE -> {
+            // Inflater in "nowrap" mode requires an extra dummy byte after the compressed data
+            val compressed = ByteArray(zipEntryDescription.compressedSize + 1)
+            buffer.get(compressed, 0, zipEntryDescription.compressedSize)
+
             val inflater = Inflater(true)
-            inflater.setInput(compressed, 0, zipEntryDescription.compressedSize)
+            try {
+                inflater.setInput(compressed, 0, zipEntryDescription.compressedSize)
 
-            val result = ByteArray(zipEntryDescription.uncompressedSize)
+                val result = ByteArray(zipEntryDescription.uncompressedSize)
 
-            inflater.inflate(result)
+                inflater.inflate(result)
 
-            result
+                result
+            } finally {
+                inflater.end()
+            }
         }
-        ZipEntryDescription.CompressionKind.PLAIN -> compressed.copyOf(zipEntryDescription.compressedSize)
+        ZipEntryDescription.CompressionKind.PLAIN -> ByteArray(zipEntryDescription.compressedSize).also { buffer.get(it) }
     }
 }
 
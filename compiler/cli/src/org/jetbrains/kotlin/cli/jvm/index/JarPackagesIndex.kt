@@ -0,0 +1,88 @@
+/*
+ * Copyright 2010-2021 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.cli.jvm.index
+
+import com.intellij.openapi.vfs.StandardFileSystems
+import com.intellij.openapi.vfs.VirtualFile
+import java.io.File
+import java.lang.ref.SoftReference
+import java.util.BitSet
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * Index from package FQ name to binary jar roots which contain this package.
+ *
+ * Unlike directories, jars don't change during compilation, so the whole list of packages of a jar can be collected at once.
+ * Lists of packages are cached per process (keyed by path, size and modification time of a jar), so in the daemon they're reused
+ *   between modules and compilations with the same jars on the classpath.
+ * Roots which are not jars are not indexed and should be searched in the usual way.
+ */
+class JarPackagesIndex(roots: List<JavaRoot>) {
+    private val indexedRoots = BitSet(roots.size)
+
+    private val rootsByPackage: Map<String, IntArray>
+
+    init {
+        val rootIndicesByPackage = HashMap<String, MutableList<Int>>()
+        for ((rootIndex, root) in roots.withIndex()) {
+            val packages = getPackagesIfJarRoot(root) ?: continue
+            indexedRoots.set(rootIndex)
+            for (packageFqName in packages) {
+                rootIndicesByPackage.getOrPut(packageFqName) { ArrayList(1) }.add(rootIndex)
+            }
+        }
+        rootsByPackage = rootIndicesByPackage.mapValuesTo(HashMap(rootIndicesByPackage.size)) { it.value.toIntArray() }
+    }
+
+    fun isIndexed(rootIndex: Int): Boolean = indexedRoots[rootIndex]
+
+    /**
+     * Returns indices of indexed roots which contain a directory for [packageFqName], in ascending order
+     */
+    fun rootsContaining(packageFqName: String): IntArray = rootsByPackage[packageFqName] ?: EMPTY_INT_ARRAY
+
+    private class JarPackages(val length: Long, val timeStamp: Long, val packages: Set<String>)
+
+    companion object {
+        private val EMPTY_INT_ARRAY = IntArray(0)
+
+        private const val JAR_SEPARATOR = "!/"
+
+        private val packagesByJarPath = ConcurrentHashMap<String, SoftReference<JarPackages>>()
+
+        private fun getPackagesIfJarRoot(root: JavaRoot): Set<String>? {
+            val file = root.file
+            if (root.type != JavaRoot.RootType.BINARY || root.prefixFqName != null) return null
+            if (file.fileSystem.protocol != StandardFileSystems.JAR_PROTOCOL || file.parent != null) return null
+
+            val jarPath = file.path.substringBefore(JAR_SEPARATOR)
+            val jar = File(jarPath)
+            val length = jar.length()
+            val timeStamp = jar.lastModified()
+            packagesByJarPath[jarPath]?.get()?.let { cached ->
+                if (cached.length == length && cached.timeStamp == timeStamp) return cached.packages
+            }
+            val packages = collectPackages(file)
+            packagesByJarPath[jarPath] = SoftReference(JarPackages(length, timeStamp, packages))
+            return packages
+        }
+
+        private fun collectPackages(jarRoot: VirtualFile): Set<String> {
+            val result = HashSet<String>()
+            val stack = ArrayDeque<Pair<VirtualFile, String>>()
+            stack.addLast(jarRoot to "")
+            while (stack.isNotEmpty()) {
+                val (directory, packageFqName) = stack.removeLast()
+                result.add(packageFqName)
+                for (child in directory.children) {
+                    if (!child.isDirectory) continue
+                    stack.addLast(child to if (packageFqName.isEmpty()) child.name else "$packageFqName.${child.name}")
+                }
+            }
+            return result
+        }
+    }
+}
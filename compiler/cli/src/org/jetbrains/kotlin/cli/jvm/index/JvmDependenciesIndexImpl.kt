@@ -27,7 +27,8 @@ import org.jetbrains.kotlin.utils.IntArrayList
 import java.util.*
 
 // speeds up finding files/classes in classpath/java source roots
-// NOT THREADSAFE, needs to be adapted/removed if we want compiler to be multithreaded
+// thread-safe: classes can be looked up from several threads at once (see -Xparallel-body-resolve-threads), so all caches below
+// are only accessed under the lock of the index. Searches fill caches of several packages at once, so the whole search is done under it
 // the main idea of this class is for each package to store roots which contains it to avoid excessive file system traversal
 class JvmDependenciesIndexImpl(_roots: List<JavaRoot>) : JvmDependenciesIndex {
     //these fields are computed based on _roots passed to constructor which are filled in later
@@ -49,11 +50,15 @@ class JvmDependenciesIndexImpl(_roots: List<JavaRoot>) : JvmDependenciesIndex {
         val rootIndices = com.intellij.util.containers.IntArrayList(2)
     }
 
+    // packages of jar roots are known in advance, so such roots are never traversed by "Cache" objects below,
+    // instead they're merged with the roots found by caches in the search
+    private val jarPackagesIndex: JarPackagesIndex by lazy { JarPackagesIndex(roots) }
+
     // root "Cache" object corresponds to DefaultPackage which exists in every root. Roots with non-default fqname are also listed here but
     // they will be ignored on requests with invalid fqname prefix.
     private val rootCache: Cache by lazy {
         Cache().apply {
-            roots.indices.forEach(rootIndices::add)
+            roots.indices.filterNot(jarPackagesIndex::isIndexed).forEach(rootIndices::add)
             rootIndices.add(maxIndex)
             rootIndices.trimToSize()
         }
@@ -65,6 +70,8 @@ class JvmDependenciesIndexImpl(_roots: List<JavaRoot>) : JvmDependenciesIndex {
 
     override val indexedRoots by lazy { roots.asSequence() }
 
+    private val lock = Any()
+
     private val packageCache: Array<out MutableMap<String, VirtualFile?>> by lazy {
         Array(roots.size) { THashMap<String, VirtualFile?>() }
     }
@@ -74,8 +81,10 @@ class JvmDependenciesIndexImpl(_roots: List<JavaRoot>) : JvmDependenciesIndex {
         acceptedRootTypes: Set<JavaRoot.RootType>,
         continueSearch: (VirtualFile, JavaRoot.RootType) -> Boolean
     ) {
-        search(TraverseRequest(packageFqName, acceptedRootTypes)) { dir, rootType ->
-            if (continueSearch(dir, rootType)) null else Unit
+        synchronized(lock) {
+            search(TraverseRequest(packageFqName, acceptedRootTypes)) { dir, rootType ->
+                if (continueSearch(dir, rootType)) null else Unit
+            }
         }
     }
 
@@ -85,26 +94,28 @@ class JvmDependenciesIndexImpl(_roots: List<JavaRoot>) : JvmDependenciesIndex {
         acceptedRootTypes: Set<JavaRoot.RootType>,
         findClassGivenDirectory: (VirtualFile, JavaRoot.RootType) -> T?
     ): T? {
-        // make a decision based on information saved from last class search
-        if (lastClassSearch?.first?.classId != classId) {
-            return search(FindClassRequest(classId, acceptedRootTypes), findClassGivenDirectory)
-        }
+        synchronized(lock) {
+            // make a decision based on information saved from last class search
+            if (lastClassSearch?.first?.classId != classId) {
+                return search(FindClassRequest(classId, acceptedRootTypes), findClassGivenDirectory)
+            }
 
-        val (cachedRequest, cachedResult) = lastClassSearch!!
-        return when (cachedResult) {
-            is SearchResult.NotFound -> {
-                val limitedRootTypes = acceptedRootTypes - cachedRequest.acceptedRootTypes
-                if (limitedRootTypes.isEmpty()) {
-                    null
-                } else {
-                    search(FindClassRequest(classId, limitedRootTypes), findClassGivenDirectory)
+            val (cachedRequest, cachedResult) = lastClassSearch!!
+            return when (cachedResult) {
+                is SearchResult.NotFound -> {
+                    val limitedRootTypes = acceptedRootTypes - cachedRequest.acceptedRootTypes
+                    if (limitedRootTypes.isEmpty()) {
+                        null
+                    } else {
+                        search(FindClassRequest(classId, limitedRootTypes), findClassGivenDirectory)
+                    }
                 }
-            }
-            is SearchResult.Found -> {
-                if (cachedRequest.acceptedRootTypes == acceptedRootTypes) {
-                    findClassGivenDirectory(cachedResult.packageDirectory, cachedResult.root.type)
-                } else {
-                    search(FindClassRequest(classId, acceptedRootTypes), findClassGivenDirectory)
+                is SearchResult.Found -> {
+                    if (cachedRequest.acceptedRootTypes == acceptedRootTypes) {
+                        findClassGivenDirectory(cachedResult.packageDirectory, cachedResult.root.type)
+                    } else {
+                        search(FindClassRequest(classId, acceptedRootTypes), findClassGivenDirectory)
+                    }
                 }
             }
         }
@@ -116,6 +127,10 @@ class JvmDependenciesIndexImpl(_roots: List<JavaRoot>) : JvmDependenciesIndex {
         // a list of caches corresponding to packages, [default, "org", "org.jb", "org.jb.kotlin"]
         val caches = cachesPath(packagesPath)
 
+        // jar roots which contain this package, they're processed in between other roots to preserve the order of roots
+        val jarRootIndices = jarPackagesIndex.rootsContaining(request.packageFqName.asString())
+        var nextJarRoot = 0
+
         var processedRootsUpTo = -1
         // traverse caches starting from last, which contains most specific information
 
@@ -126,27 +141,57 @@ class JvmDependenciesIndexImpl(_roots: List<JavaRoot>) : JvmDependenciesIndex {
                 val rootIndex = cacheRootIndices[i]
                 if (rootIndex <= processedRootsUpTo) continue // roots with those indices have been processed by now
 
-                val directoryInRoot = travelPath(rootIndex, request.packageFqName, packagesPath, cacheIndex, caches) ?: continue
-                val root = roots[rootIndex]
-                if (root.type in request.acceptedRootTypes) {
-                    val result = handler(directoryInRoot, root.type)
-                    if (result != null) {
-                        if (request is FindClassRequest) {
-                            lastClassSearch = Pair(request, SearchResult.Found(directoryInRoot, root))
-                        }
-                        return result
-                    }
+                while (nextJarRoot < jarRootIndices.size && jarRootIndices[nextJarRoot] < rootIndex) {
+                    searchInJarRoot(jarRootIndices[nextJarRoot++], request, packagesPath, handler)?.let { return it }
                 }
+
+                val directoryInRoot = travelPath(rootIndex, request.packageFqName, packagesPath, cacheIndex, caches) ?: continue
+                handleDirectory(rootIndex, directoryInRoot, request, handler)?.let { return it }
             }
             processedRootsUpTo = if (cacheRootIndices.isEmpty) processedRootsUpTo else cacheRootIndices[cacheRootIndices.size() - 1]
         }
 
+        while (nextJarRoot < jarRootIndices.size) {
+            searchInJarRoot(jarRootIndices[nextJarRoot++], request, packagesPath, handler)?.let { return it }
+        }
+
         if (request is FindClassRequest) {
             lastClassSearch = Pair(request, SearchResult.NotFound)
         }
         return null
     }
 
+    private fun <T : Any> handleDirectory(
+        rootIndex: Int,
+        directoryInRoot: VirtualFile,
+        request: SearchRequest,
+        handler: (VirtualFile, JavaRoot.RootType) -> T?
+    ): T? {
+        val root = roots[rootIndex]
+        if (root.type !in request.acceptedRootTypes) return null
+        val result = handler(directoryInRoot, root.type) ?: return null
+        if (request is FindClassRequest) {
+            lastClassSearch = Pair(request, SearchResult.Found(directoryInRoot, root))
+        }
+        return result
+    }
+
+    private fun <T : Any> searchInJarRoot(
+        rootIndex: Int,
+        request: SearchRequest,
+        packagesPath: List<String>,
+        handler: (VirtualFile, JavaRoot.RootType) -> T?
+    ): T? {
+        val root = roots[rootIndex]
+        if (root.type !in request.acceptedRootTypes) return null
+        val directoryInRoot = packageCache[rootIndex].getOrPut(request.packageFqName.asString()) {
+            packagesPath.fold(root.file as VirtualFile?) { directory, subPackageName ->
+                directory?.findChildPackage(subPackageName, root.type)
+            }
+        } ?: return null
+        return handleDirectory(rootIndex, directoryInRoot, request, handler)
+    }
+
     // try to find a target directory corresponding to package represented by packagesPath in a given root represented by index
     // possibly filling "Cache" objects with new information
     private fun travelPath(
@@ -6,10 +6,12 @@
 package org.jetbrains.kotlin.cli.jvm
 
 import org.jetbrains.kotlin.cli.common.CLIConfigurationKeys
+import org.jetbrains.kotlin.cli.common.CompilerSystemProperties
 import org.jetbrains.kotlin.cli.common.arguments.K2JVMCompilerArguments
 import org.jetbrains.kotlin.cli.common.getLibraryFromHome
 import org.jetbrains.kotlin.cli.common.messages.CompilerMessageSeverity.*
 import org.jetbrains.kotlin.cli.common.messages.MessageCollector
+import org.jetbrains.kotlin.cli.common.toBooleanLenient
 import org.jetbrains.kotlin.cli.jvm.compiler.KotlinCoreEnvironment
 import org.jetbrains.kotlin.cli.jvm.config.JvmClasspathRoot
 import org.jetbrains.kotlin.cli.jvm.config.JvmModulePathRoot
@@ -284,6 +286,13 @@ fun CompilerConfiguration.configureAdvancedJvmOptions(arguments: K2JVMCompilerAr
     put(JVMConfigurationKeys.SKIP_RUNTIME_VERSION_CHECK, arguments.skipRuntimeVersionCheck)
     put(JVMConfigurationKeys.USE_PSI_CLASS_FILES_READING, arguments.useOldClassFilesReading)
     put(JVMConfigurationKeys.USE_FAST_JAR_FILE_SYSTEM, arguments.useFastJarFileSystem)
+    arguments.fastJarFsIndexCache?.let { put(JVMConfigurationKeys.FAST_JAR_FS_INDEX_CACHE_DIRECTORY, File(it)) }
+    put(JVMConfigurationKeys.FAST_JAR_FS_KEEP_JARS_MAPPED, arguments.fastJarFsKeepMapped)
+    // Inline functions from library jars are shared between compilations only in long-living processes such as the daemon
+    put(
+        JVMConfigurationKeys.USE_SHARED_INLINE_CACHE,
+        CompilerSystemProperties.KOTLIN_COMPILER_ENVIRONMENT_KEEPALIVE_PROPERTY.value.toBooleanLenient() == true
+    )
 
     if (arguments.useOldClassFilesReading) {
         messageCollector.report(INFO, "Using the old java class files reading implementation")
@@ -308,6 +317,17 @@ fun CompilerConfiguration.configureAdvancedJvmOptions(arguments: K2JVMCompilerAr
     val nThreadsRaw = arguments.parallelBackendThreads.toIntOrNull() ?: 1
     val nThreads = if (nThreadsRaw == 0) Runtime.getRuntime().availableProcessors() else nThreadsRaw
     put(CommonConfigurationKeys.PARALLEL_BACKEND_THREADS, nThreads)
+
+    val nBodyResolveThreadsRaw = arguments.parallelBodyResolveThreads.toIntOrNull() ?: 1
+    val nBodyResolveThreads = if (nBodyResolveThreadsRaw == 0) Runtime.getRuntime().availableProcessors() else nBodyResolveThreadsRaw
+    put(CommonConfigurationKeys.PARALLEL_BODY_RESOLVE_THREADS, nBodyResolveThreads)
+
+    val nResolveThreadsRaw = arguments.parallelFirResolveThreads.toIntOrNull() ?: 1
+    val nResolveThreads = if (nResolveThreadsRaw == 0) Runtime.getRuntime().availableProcessors() else nResolveThreadsRaw
+    put(CommonConfigurationKeys.PARALLEL_FIR_RESOLVE_THREADS, nResolveThreads)
+    put(CommonConfigurationKeys.USE_FIR_THREAD_SAFE_CACHES, arguments.useFirThreadSafeCaches)
+    put(CommonConfigurationKeys.USE_FIR_LIGHT_TREE, arguments.useFirLightTree)
+    arguments.dumpFirProfile?.let { put(CommonConfigurationKeys.FIR_PROFILE_DUMP_PATH, it) }
 }
 
 fun CompilerConfiguration.configureKlibPaths(arguments: K2JVMCompilerArguments) {
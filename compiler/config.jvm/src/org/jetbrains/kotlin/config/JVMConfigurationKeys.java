@@ -102,6 +102,15 @@ public class JVMConfigurationKeys {
     public static final CompilerConfigurationKey<Boolean> USE_FAST_JAR_FILE_SYSTEM =
             CompilerConfigurationKey.create("use a faster JAR filesystem implementation");
 
+    public static final CompilerConfigurationKey<File> FAST_JAR_FS_INDEX_CACHE_DIRECTORY =
+            CompilerConfigurationKey.create("directory for persistent indices of JAR files used by the faster JAR filesystem");
+
+    public static final CompilerConfigurationKey<Boolean> FAST_JAR_FS_KEEP_JARS_MAPPED =
+            CompilerConfigurationKey.create("keep JAR files memory-mapped in the faster JAR filesystem");
+
+    public static final CompilerConfigurationKey<Boolean> USE_SHARED_INLINE_CACHE =
+            CompilerConfigurationKey.create("share parsed inline functions from library jars between compilations");
+
     public static final CompilerConfigurationKey<Boolean> USE_JAVAC =
             CompilerConfigurationKey.create("use javac [experimental]");
 
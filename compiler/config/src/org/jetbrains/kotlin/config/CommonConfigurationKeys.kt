@@ -54,6 +54,26 @@ object CommonConfigurationKeys {
     @JvmField
     val PARALLEL_BACKEND_THREADS =
         CompilerConfigurationKey.create<Int>("When using the IR backend, run lowerings by file in N parallel threads")
+
+    @JvmField
+    val PARALLEL_BODY_RESOLVE_THREADS =
+        CompilerConfigurationKey.create<Int>("When using the old front-end, resolve bodies of functions of different files in N parallel threads")
+
+    @JvmField
+    val PARALLEL_FIR_RESOLVE_THREADS =
+        CompilerConfigurationKey.create<Int>("When using Front-end IR, resolve independent files in N parallel threads")
+
+    @JvmField
+    val USE_FIR_THREAD_SAFE_CACHES =
+        CompilerConfigurationKey.create<Boolean>("Use thread-safe caches in Front-end IR sessions")
+
+    @JvmField
+    val USE_FIR_LIGHT_TREE =
+        CompilerConfigurationKey.create<Boolean>("Build raw Front-end IR from light syntax trees")
+
+    @JvmField
+    val FIR_PROFILE_DUMP_PATH =
+        CompilerConfigurationKey.create<String>("Path to the file where the Front-end IR profile is dumped")
 }
 
 var CompilerConfiguration.languageVersionSettings: LanguageVersionSettings
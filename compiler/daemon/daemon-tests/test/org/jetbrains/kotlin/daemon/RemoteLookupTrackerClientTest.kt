@@ -0,0 +1,134 @@
+/*
+ * Copyright 2010-2021 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.daemon
+
+import org.jetbrains.kotlin.daemon.common.CompilerCallbackServicesFacade
+import org.jetbrains.kotlin.incremental.components.LookupInfo
+import org.jetbrains.kotlin.incremental.components.Position
+import org.jetbrains.kotlin.incremental.components.ScopeKind
+import org.junit.Assert
+import org.junit.Test
+import java.lang.reflect.Proxy
+
+class RemoteLookupTrackerClientTest {
+    @Test
+    fun lookupsAreDeduplicatedAndSorted() {
+        val facade = TestFacade()
+        val eventManager = EventManagerImpl()
+        val client = RemoteLookupTrackerClient(facade.proxy, eventManager)
+
+        // Files are interleaved to switch the cached set of the last file, the same strings are used as scopes and as names
+        val lookups = listOf(
+            Triple("b.kt", "foo", "bar"),
+            Triple("a.kt", "", "foo"),
+            Triple("b.kt", "foo", "bar"),
+            Triple("a.kt", "foo.bar", "baz"),
+            Triple("b.kt", "bar", "foo"),
+            Triple("a.kt", "", "foo"),
+            Triple("c.kt", "ünïcödé", "имя"),
+            Triple("b.kt", "foo", "Bar")
+        )
+        for ((filePath, scopeFqName, name) in lookups) {
+            client.record(filePath, Position.NO_POSITION, scopeFqName, ScopeKind.PACKAGE, name)
+        }
+        eventManager.fireCompilationFinished()
+
+        Assert.assertEquals(
+            listOf(
+                classifierLookup("a.kt", "", "foo"),
+                classifierLookup("a.kt", "foo.bar", "baz"),
+                classifierLookup("b.kt", "bar", "foo"),
+                classifierLookup("b.kt", "foo", "Bar"),
+                classifierLookup("b.kt", "foo", "bar"),
+                classifierLookup("c.kt", "ünïcödé", "имя")
+            ),
+            facade.flushes.single()
+        )
+    }
+
+    @Test
+    fun idsOfManyStringsDoNotOverlap() {
+        val facade = TestFacade()
+        val eventManager = EventManagerImpl()
+        val client = RemoteLookupTrackerClient(facade.proxy, eventManager)
+
+        // More strings than fit in the lower half of an int, so ids of scopes and names are checked not to mix in the packed lookups
+        val expected = (0 until 70_000).map { classifierLookup("file${it % 7}.kt", "scope${it % 100_003}", "name$it") }
+        for (lookup in expected.asReversed()) {
+            client.record(lookup.filePath, lookup.position, lookup.scopeFqName, lookup.scopeKind, lookup.name)
+            client.record(lookup.filePath, lookup.position, lookup.scopeFqName, lookup.scopeKind, lookup.name)
+        }
+        eventManager.fireCompilationFinished()
+
+        val sent = facade.flushes.single()
+        Assert.assertEquals(expected.size, sent.size)
+        Assert.assertEquals(expected.toSet(), sent.toSet())
+        Assert.assertEquals(expected.sortedWith(compareBy({ it.filePath }, { it.scopeFqName }, { it.name })), sent)
+    }
+
+    @Test
+    fun stateIsClearedAfterFlush() {
+        val facade = TestFacade()
+        val eventManager = EventManagerImpl()
+        val client = RemoteLookupTrackerClient(facade.proxy, eventManager)
+
+        client.record("a.kt", Position.NO_POSITION, "foo", ScopeKind.PACKAGE, "bar")
+        eventManager.fireCompilationFinished()
+        // Nothing is recorded, so nothing is sent
+        eventManager.fireCompilationFinished()
+        client.record("b.kt", Position.NO_POSITION, "bar", ScopeKind.PACKAGE, "foo")
+        client.record("a.kt", Position.NO_POSITION, "foo", ScopeKind.PACKAGE, "baz")
+        eventManager.fireCompilationFinished()
+
+        Assert.assertEquals(
+            listOf(
+                listOf(classifierLookup("a.kt", "foo", "bar")),
+                listOf(classifierLookup("a.kt", "foo", "baz"), classifierLookup("b.kt", "bar", "foo"))
+            ),
+            facade.flushes
+        )
+    }
+
+    @Test
+    fun lookupsWithPositionsAreDeduplicatedAndSorted() {
+        val facade = TestFacade(requiresPosition = true)
+        val eventManager = EventManagerImpl()
+        val client = RemoteLookupTrackerClient(facade.proxy, eventManager)
+
+        val expected = listOf(
+            LookupInfo("a.kt", Position(1, 10), "foo", ScopeKind.PACKAGE, "bar"),
+            LookupInfo("a.kt", Position(2, 5), "foo", ScopeKind.PACKAGE, "bar"),
+            LookupInfo("a.kt", Position(2, 5), "foo", ScopeKind.CLASSIFIER, "bar"),
+            LookupInfo("b.kt", Position(1, 1), "", ScopeKind.PACKAGE, "foo")
+        )
+        for (lookup in expected.asReversed() + expected) {
+            client.record(lookup.filePath, lookup.position, lookup.scopeFqName, lookup.scopeKind, lookup.name)
+        }
+        eventManager.fireCompilationFinished()
+
+        Assert.assertEquals(expected, facade.flushes.single())
+    }
+
+    private fun classifierLookup(filePath: String, scopeFqName: String, name: String): LookupInfo =
+        LookupInfo(filePath, Position.NO_POSITION, scopeFqName, ScopeKind.CLASSIFIER, name)
+
+    private class TestFacade(private val requiresPosition: Boolean = false) {
+        val flushes = ArrayList<List<LookupInfo>>()
+
+        @Suppress("DEPRECATION", "UNCHECKED_CAST")
+        val proxy = Proxy.newProxyInstance(javaClass.classLoader, arrayOf(CompilerCallbackServicesFacade::class.java)) { _, method, args ->
+            when (method.name) {
+                "lookupTracker_isDoNothing" -> false
+                "lookupTracker_requiresPosition" -> requiresPosition
+                "lookupTracker_record" -> {
+                    flushes.add((args[0] as Collection<LookupInfo>).toList())
+                    null
+                }
+                else -> throw UnsupportedOperationException(method.name)
+            }
+        } as CompilerCallbackServicesFacade
+    }
+}
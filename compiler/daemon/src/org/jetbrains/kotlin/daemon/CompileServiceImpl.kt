@@ -106,6 +106,9 @@ abstract class CompileServiceImplBase(
 
     init {
         CompilerSystemProperties.KOTLIN_COMPILER_ENVIRONMENT_KEEPALIVE_PROPERTY.value = "true"
+        if (CompilerSystemProperties.KOTLIN_COMPILER_SHARED_LIBRARY_METADATA_PROPERTY.value == null) {
+            CompilerSystemProperties.KOTLIN_COMPILER_SHARED_LIBRARY_METADATA_PROPERTY.value = "true"
+        }
     }
 
     // wrapped in a class to encapsulate alive check logic
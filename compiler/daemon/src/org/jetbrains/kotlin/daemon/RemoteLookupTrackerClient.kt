@@ -18,6 +18,8 @@ package org.jetbrains.kotlin.daemon
 
 import gnu.trove.THashMap
 import gnu.trove.THashSet
+import gnu.trove.TLongHashSet
+import gnu.trove.TObjectIntHashMap
 import org.jetbrains.kotlin.daemon.common.DummyProfiler
 import org.jetbrains.kotlin.daemon.common.Profiler
 import org.jetbrains.kotlin.daemon.common.withMeasure
@@ -25,7 +27,6 @@ import org.jetbrains.kotlin.incremental.components.LookupInfo
 import org.jetbrains.kotlin.incremental.components.LookupTracker
 import org.jetbrains.kotlin.incremental.components.Position
 import org.jetbrains.kotlin.incremental.components.ScopeKind
-import org.jetbrains.kotlin.utils.createStringInterner
 
 class RemoteLookupTrackerClient(
     @Suppress("DEPRECATION") val facade: org.jetbrains.kotlin.daemon.common.CompilerCallbackServicesFacade,
@@ -34,52 +35,80 @@ class RemoteLookupTrackerClient(
 ) : LookupTracker {
     private val isDoNothing = profiler.withMeasure(this) { facade.lookupTracker_isDoNothing() }
 
-    // Map: FileName -> (ScopeFqName -> Set<Name[String] | LookupInfo>)
-    private val lookups = THashMap<String, MutableMap<String, MutableSet<Any>>>()
-    private val interner = createStringInterner()
+    // Map: FileName -> Set<(id of ScopeFqName) shl 32 | (id of Name)>
+    // Lookups are packed into primitive sets, so recording an already seen lookup allocates nothing
+    // Lookups may be recorded from several threads (e.g. by parallel resolve), all the state below is guarded by this tracker
+    private val lookups = THashMap<String, TLongHashSet>()
+    private val lookupsWithPosition = THashSet<LookupInfo>()
+
+    // Ids of scope FQ names and names start from 1, since 0 is returned by TObjectIntHashMap for absent keys
+    private val stringIds = TObjectIntHashMap<String>()
+    private val strings = ArrayList<String>()
+
+    // Lookups of the same file are usually recorded in a row, so the set of the last file is cached
+    private var lastFilePath: String? = null
+    private var lastFileLookups: TLongHashSet? = null
 
     override val requiresPosition: Boolean = profiler.withMeasure(this) { facade.lookupTracker_requiresPosition() }
 
+    @Synchronized
     override fun record(filePath: String, position: Position, scopeFqName: String, scopeKind: ScopeKind, name: String) {
         if (isDoNothing) return
 
-        val internedSymbolFqName = interner.intern(scopeFqName)
-        val internedName = interner.intern(name)
+        if (requiresPosition) {
+            lookupsWithPosition.add(LookupInfo(filePath, position, scopeFqName, scopeKind, name))
+            return
+        }
 
-        val objectToPut: Any =
-            if (requiresPosition)
-                LookupInfo(filePath, position, scopeFqName, scopeKind, name)
-            else
-                internedName
+        val fileLookups = lastFileLookups.takeIf { filePath == lastFilePath }
+            ?: lookups.getOrPut(filePath, ::TLongHashSet).also {
+                lastFilePath = filePath
+                lastFileLookups = it
+            }
+        fileLookups.add(getStringId(scopeFqName).toLong() shl 32 or getStringId(name).toLong())
+    }
 
-        lookups.getOrPut(filePath, ::THashMap).getOrPut(internedSymbolFqName, ::THashSet).add(objectToPut)
+    private fun getStringId(string: String): Int {
+        val existingId = stringIds.get(string)
+        if (existingId != 0) return existingId
+
+        strings.add(string)
+        stringIds.put(string, strings.size)
+        return strings.size
     }
 
     init {
         eventManager.onCompilationFinished { flush() }
     }
 
+    @Synchronized
     private fun flush() {
-        if (isDoNothing || lookups.isEmpty) return
+        if (isDoNothing || (lookups.isEmpty && lookupsWithPosition.isEmpty)) return
 
         profiler.withMeasure(this) {
-            facade.lookupTracker_record(
-                lookups.flatMap { (filePath, lookupsByFile) ->
-                    lookupsByFile.flatMap { (scopeFqName, lookupsByScopeFqName) ->
-                        lookupsByScopeFqName.map { lookupInfoOrString ->
-                            if (requiresPosition)
-                                lookupInfoOrString as LookupInfo
-                            else
-                                LookupInfo(
-                                    filePath, Position.NO_POSITION, scopeFqName, ScopeKind.CLASSIFIER,
-                                    lookupInfoOrString as String
-                                )
-                        }
-                    }
+            val lookupInfos = ArrayList<LookupInfo>(lookupsWithPosition.size + lookups.values.sumOf { it.size() })
+            lookupInfos.addAll(lookupsWithPosition)
+            for ((filePath, fileLookups) in lookups) {
+                for (lookup in fileLookups.toArray()) {
+                    val scopeFqName = strings[(lookup ushr 32).toInt() - 1]
+                    val name = strings[lookup.toInt() - 1]
+                    lookupInfos.add(LookupInfo(filePath, Position.NO_POSITION, scopeFqName, ScopeKind.CLASSIFIER, name))
                 }
-            )
+            }
+            // Iteration order of the sets depends on ids, i.e. on the order of recording, so lookups are sorted to be sent in a stable order
+            lookupInfos.sortWith(LOOKUP_INFO_ORDER)
+            facade.lookupTracker_record(lookupInfos)
         }
 
         lookups.clear()
+        lookupsWithPosition.clear()
+        lastFilePath = null
+        lastFileLookups = null
+    }
+
+    private companion object {
+        val LOOKUP_INFO_ORDER: Comparator<LookupInfo> = compareBy(
+            { it.filePath }, { it.scopeFqName }, { it.name }, { it.scopeKind }, { it.position.line }, { it.position.column }
+        )
     }
 }
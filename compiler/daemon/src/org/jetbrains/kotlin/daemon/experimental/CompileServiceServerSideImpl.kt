@@ -404,6 +404,9 @@ class CompileServiceServerSideImpl(
 
         // assuming logically synchronized
         CompilerSystemProperties.KOTLIN_COMPILER_ENVIRONMENT_KEEPALIVE_PROPERTY.value = "true"
+        if (CompilerSystemProperties.KOTLIN_COMPILER_SHARED_LIBRARY_METADATA_PROPERTY.value == null) {
+            CompilerSystemProperties.KOTLIN_COMPILER_SHARED_LIBRARY_METADATA_PROPERTY.value = "true"
+        }
 
         // TODO UNCOMMENT THIS : this.toRMIServer(daemonOptions, compilerId) // also create RMI server in order to support old clients
 //        rmiServer = this.toRMIServer(daemonOptions, compilerId)
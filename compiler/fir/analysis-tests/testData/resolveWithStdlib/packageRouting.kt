@@ -0,0 +1,11 @@
+// Symbols from packages of different providers of the composite symbol provider:
+// a package of a Kotlin-only library, built-in packages, the package of Cloneable
+// and a package which is absent in all providers and is looked up twice
+
+fun kotlinOnlyLibraryPackage(s: String, regex: kotlin.text.Regex): String = s.trimIndent()
+
+fun builtInPackages(list: List<Int>, f: (Int) -> Unit) {}
+
+fun cloneablePackage(c: Cloneable) {}
+
+fun absentPackage(a: <!UNRESOLVED_REFERENCE!>absent.pkg.A<!>, b: <!UNRESOLVED_REFERENCE!>absent.pkg.B<!>) {}
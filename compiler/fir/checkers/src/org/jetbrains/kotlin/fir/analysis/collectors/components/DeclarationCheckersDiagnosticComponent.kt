@@ -5,6 +5,7 @@
 
 package org.jetbrains.kotlin.fir.analysis.collectors.components
 
+import org.jetbrains.kotlin.fir.FirPerformanceProfiler
 import org.jetbrains.kotlin.fir.FirSession
 import org.jetbrains.kotlin.fir.analysis.CheckersComponentInternal
 import org.jetbrains.kotlin.fir.analysis.checkers.context.CheckerContext
@@ -13,6 +14,7 @@ import org.jetbrains.kotlin.fir.analysis.checkers.declaration.FirDeclarationChec
 import org.jetbrains.kotlin.fir.analysis.checkersComponent
 import org.jetbrains.kotlin.fir.analysis.diagnostics.DiagnosticReporter
 import org.jetbrains.kotlin.fir.declarations.*
+import org.jetbrains.kotlin.fir.performanceProfiler
 
 @OptIn(CheckersComponentInternal::class)
 class DeclarationCheckersDiagnosticComponent(
@@ -20,6 +22,7 @@ class DeclarationCheckersDiagnosticComponent(
     reporter: DiagnosticReporter,
     private val checkers: DeclarationCheckers = session.checkersComponent.declarationCheckers,
 ) : AbstractDiagnosticCollectorComponent(session, reporter) {
+    private val profiler = session.performanceProfiler?.takeIf { it.detailed }
 
     override fun visitFile(file: FirFile, data: CheckerContext) {
         checkers.allFileCheckers.check(file, data, reporter)
@@ -83,7 +86,11 @@ class DeclarationCheckersDiagnosticComponent(
         reporter: DiagnosticReporter
     ) {
         for (checker in this) {
-            checker.check(declaration, context, reporter)
+            if (profiler != null) {
+                profiler.measure(FirPerformanceProfiler.CHECKERS, checker.javaClass.name) { checker.check(declaration, context, reporter) }
+            } else {
+                checker.check(declaration, context, reporter)
+            }
         }
     }
 }
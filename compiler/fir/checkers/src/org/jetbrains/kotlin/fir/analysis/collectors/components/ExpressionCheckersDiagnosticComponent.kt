@@ -5,6 +5,7 @@
 
 package org.jetbrains.kotlin.fir.analysis.collectors.components
 
+import org.jetbrains.kotlin.fir.FirPerformanceProfiler
 import org.jetbrains.kotlin.fir.FirSession
 import org.jetbrains.kotlin.fir.analysis.CheckersComponentInternal
 import org.jetbrains.kotlin.fir.analysis.checkers.context.CheckerContext
@@ -14,6 +15,7 @@ import org.jetbrains.kotlin.fir.analysis.checkersComponent
 import org.jetbrains.kotlin.fir.analysis.diagnostics.DiagnosticReporter
 import org.jetbrains.kotlin.fir.declarations.FirAnonymousFunction
 import org.jetbrains.kotlin.fir.expressions.*
+import org.jetbrains.kotlin.fir.performanceProfiler
 
 @OptIn(CheckersComponentInternal::class)
 class ExpressionCheckersDiagnosticComponent(
@@ -21,6 +23,8 @@ class ExpressionCheckersDiagnosticComponent(
     reporter: DiagnosticReporter,
     private val checkers: ExpressionCheckers = session.checkersComponent.expressionCheckers,
 ) : AbstractDiagnosticCollectorComponent(session, reporter) {
+    private val profiler = session.performanceProfiler?.takeIf { it.detailed }
+
     override fun visitTypeOperatorCall(typeOperatorCall: FirTypeOperatorCall, data: CheckerContext) {
         checkers.allTypeOperatorCallCheckers.check(typeOperatorCall, data, reporter)
     }
@@ -139,7 +143,11 @@ class ExpressionCheckersDiagnosticComponent(
         reporter: DiagnosticReporter
     ) {
         for (checker in this) {
-            checker.check(expression, context, reporter)
+            if (profiler != null) {
+                profiler.measure(FirPerformanceProfiler.CHECKERS, checker.javaClass.name) { checker.check(expression, context, reporter) }
+            } else {
+                checker.check(expression, context, reporter)
+            }
         }
     }
 }
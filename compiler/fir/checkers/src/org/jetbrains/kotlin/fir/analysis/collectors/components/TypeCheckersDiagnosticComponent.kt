@@ -5,6 +5,7 @@
 
 package org.jetbrains.kotlin.fir.analysis.collectors.components
 
+import org.jetbrains.kotlin.fir.FirPerformanceProfiler
 import org.jetbrains.kotlin.fir.FirSession
 import org.jetbrains.kotlin.fir.analysis.CheckersComponentInternal
 import org.jetbrains.kotlin.fir.analysis.checkers.context.CheckerContext
@@ -13,6 +14,7 @@ import org.jetbrains.kotlin.fir.analysis.checkers.type.TypeCheckers
 import org.jetbrains.kotlin.fir.analysis.checkersComponent
 import org.jetbrains.kotlin.fir.analysis.collectors.AbstractDiagnosticCollector
 import org.jetbrains.kotlin.fir.analysis.diagnostics.DiagnosticReporter
+import org.jetbrains.kotlin.fir.performanceProfiler
 import org.jetbrains.kotlin.fir.types.*
 
 @OptIn(CheckersComponentInternal::class)
@@ -21,6 +23,7 @@ class TypeCheckersDiagnosticComponent(
     reporter: DiagnosticReporter,
     private val checkers: TypeCheckers = session.checkersComponent.typeCheckers,
 ) : AbstractDiagnosticCollectorComponent(session, reporter) {
+    private val profiler = session.performanceProfiler?.takeIf { it.detailed }
 
     override fun visitDynamicTypeRef(dynamicTypeRef: FirDynamicTypeRef, data: CheckerContext) {
         checkers.allTypeRefCheckers.check(dynamicTypeRef, data, reporter)
@@ -60,7 +63,11 @@ class TypeCheckersDiagnosticComponent(
         reporter: DiagnosticReporter
     ) {
         for (checker in this) {
-            checker.check(typeRef, context, reporter)
+            if (profiler != null) {
+                profiler.measure(FirPerformanceProfiler.CHECKERS, checker.javaClass.name) { checker.check(typeRef, context, reporter) }
+            } else {
+                checker.check(typeRef, context, reporter)
+            }
         }
     }
 }
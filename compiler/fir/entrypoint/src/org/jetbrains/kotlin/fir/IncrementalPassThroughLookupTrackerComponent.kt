@@ -30,8 +30,11 @@ class IncrementalPassThroughLookupTrackerComponent(
             getLineAndColumnInPsiFile(source.psi.containingFile, source.psi.textRange).let { Position(it.line, it.column) }
         } else Position.NO_POSITION
 
-        for (scope in inScopes) {
-            lookupTracker.record(path, position, scope, ScopeKind.PACKAGE, name.asString())
+        // Files may be resolved in parallel, while lookup trackers are not required to be thread-safe
+        synchronized(lookupTracker) {
+            for (scope in inScopes) {
+                lookupTracker.record(path, position, scope, ScopeKind.PACKAGE, name.asString())
+            }
         }
     }
 
@@ -16,6 +16,7 @@ import org.jetbrains.kotlin.fir.backend.Fir2IrResult
 import org.jetbrains.kotlin.fir.backend.jvm.Fir2IrJvmSpecialAnnotationSymbolProvider
 import org.jetbrains.kotlin.fir.backend.jvm.FirJvmKotlinMangler
 import org.jetbrains.kotlin.fir.backend.jvm.FirJvmVisibilityConverter
+import org.jetbrains.kotlin.fir.backend.sourceKtFile
 import org.jetbrains.kotlin.fir.builder.PsiHandlingMode
 import org.jetbrains.kotlin.fir.builder.RawFirBuilder
 import org.jetbrains.kotlin.fir.declarations.FirFile
@@ -44,8 +45,9 @@ class FirAnalyzerFacade(
     val session: FirSession,
     val languageVersionSettings: LanguageVersionSettings,
     val ktFiles: Collection<KtFile> = emptyList(), // may be empty if light tree mode enabled
-    val originalFiles: Collection<File> = emptyList(), // may be empty if light tree mode disabled
-    val useLightTree: Boolean = false
+    val originalFiles: Collection<File> = emptyList(), // may be empty if light tree mode disabled or ktFiles are given
+    val useLightTree: Boolean = false,
+    val resolveThreads: Int = 1
 ) : AbstractFirAnalyzerFacade() {
     private var firFiles: List<FirFile>? = null
     private var _scopeSession: ScopeSession? = null
@@ -54,10 +56,20 @@ class FirAnalyzerFacade(
 
     private var collectedDiagnostics: Map<FirFile, List<FirDiagnostic>>? = null
 
-    private fun buildRawFir() {
-        if (firFiles != null) return
+    fun buildRawFir(): List<FirFile> {
+        firFiles?.let { return it }
         val firProvider = (session.firProvider as FirProviderImpl)
-        firFiles = if (useLightTree) {
+        val firFiles = if (useLightTree && ktFiles.isNotEmpty()) {
+            // Only the text of the KtFiles is read, so their ASTs are never loaded. The light tree of each file is only referenced
+            // from its FIR and becomes unreachable together with it
+            val builder = LightTree2Fir(session, firProvider.kotlinScopeProvider)
+            ktFiles.map { ktFile ->
+                builder.buildFirFile(ktFile.viewProvider.contents.toString(), ktFile.name).also { firFile ->
+                    firFile.sourceKtFile = ktFile
+                    firProvider.recordFile(firFile)
+                }
+            }
+        } else if (useLightTree) {
             val builder = LightTree2Fir(session, firProvider.kotlinScopeProvider)
             originalFiles.map {
                 builder.buildFirFile(it).also { firFile ->
@@ -72,12 +84,14 @@ class FirAnalyzerFacade(
                 }
             }
         }
+        this.firFiles = firFiles
+        return firFiles
     }
 
     override fun runResolution(): List<FirFile> {
         if (firFiles == null) buildRawFir()
         if (_scopeSession != null) return firFiles!!
-        val resolveProcessor = FirTotalResolveProcessor(session)
+        val resolveProcessor = FirTotalResolveProcessor(session, resolveThreads)
         resolveProcessor.process(firFiles!!)
         _scopeSession = resolveProcessor.scopeSession
         return firFiles!!
@@ -55,8 +55,8 @@ fun FirSession.registerCommonComponents(languageVersionSettings: LanguageVersion
 }
 
 @OptIn(SessionConfiguration::class)
-fun FirSession.registerCliCompilerOnlyComponents() {
-    register(FirCachesFactory::class, FirThreadUnsafeCachesFactory)
+fun FirSession.registerCliCompilerOnlyComponents(cachesFactory: FirCachesFactory = FirThreadUnsafeCachesFactory) {
+    register(FirCachesFactory::class, cachesFactory)
     register(SealedClassInheritorsProvider::class, SealedClassInheritorsProviderImpl)
     register(FirPhaseManager::class, FirPhaseCheckingPhaseManager)
 }
@@ -17,6 +17,8 @@ import org.jetbrains.kotlin.fir.analysis.checkers.expression.ExpressionCheckers
 import org.jetbrains.kotlin.fir.analysis.checkers.type.TypeCheckers
 import org.jetbrains.kotlin.fir.analysis.checkersComponent
 import org.jetbrains.kotlin.fir.analysis.extensions.additionalCheckers
+import org.jetbrains.kotlin.fir.caches.FirCachesFactory
+import org.jetbrains.kotlin.fir.caches.FirThreadUnsafeCachesFactory
 import org.jetbrains.kotlin.fir.checkers.registerCommonCheckers
 import org.jetbrains.kotlin.fir.checkers.registerJvmCheckers
 import org.jetbrains.kotlin.fir.deserialization.ModuleDataProvider
@@ -63,6 +65,11 @@ object FirSessionFactory {
             session.checkersComponent.register(checkers)
         }
 
+        @OptIn(SessionConfiguration::class)
+        fun usePerformanceProfiler(profiler: FirPerformanceProfiler) {
+            session.register(FirPerformanceProfiler::class, profiler)
+        }
+
         @SessionConfiguration
         fun configure() {
             session.extensionService.registerExtensions(registeredExtensions.reduce(BunchOfRegisteredExtensions::plus))
@@ -88,6 +95,7 @@ object FirSessionFactory {
         providerAndScopeForIncrementalCompilation: ProviderAndScopeForIncrementalCompilation?,
         getPackagePartProvider: (GlobalSearchScope) -> PackagePartProvider,
         dependenciesConfigurator: DependencyListForCliModule.Builder.() -> Unit = {},
+        cachesFactory: FirCachesFactory = FirThreadUnsafeCachesFactory,
         noinline sessionConfigurator: FirSessionConfigurator.() -> Unit = {},
     ): FirSession {
         val dependencyList = DependencyListForCliModule.build(moduleName, platform, analyzerServices, dependenciesConfigurator)
@@ -99,7 +107,8 @@ object FirSessionFactory {
             librariesScope,
             project,
             getPackagePartProvider(librariesScope),
-            languageVersionSettings
+            languageVersionSettings,
+            cachesFactory
         )
 
         val mainModuleData = FirModuleDataImpl(
@@ -118,6 +127,7 @@ object FirSessionFactory {
             providerAndScopeForIncrementalCompilation,
             languageVersionSettings = languageVersionSettings,
             lookupTracker = lookupTracker,
+            cachesFactory = cachesFactory,
             init = sessionConfigurator
         )
     }
@@ -130,13 +140,14 @@ object FirSessionFactory {
         providerAndScopeForIncrementalCompilation: ProviderAndScopeForIncrementalCompilation?,
         languageVersionSettings: LanguageVersionSettings = LanguageVersionSettingsImpl.DEFAULT,
         lookupTracker: LookupTracker? = null,
+        cachesFactory: FirCachesFactory = FirThreadUnsafeCachesFactory,
         init: FirSessionConfigurator.() -> Unit = {}
     ): FirSession {
         return FirCliSession(sessionProvider, FirSession.Kind.Source).apply session@{
             moduleData.bindSession(this@session)
             sessionProvider.registerSession(moduleData, this@session)
             registerModuleData(moduleData)
-            registerCliCompilerOnlyComponents()
+            registerCliCompilerOnlyComponents(cachesFactory)
             registerCommonJavaComponents()
             registerCommonComponents(languageVersionSettings)
             registerResolveComponents(lookupTracker)
@@ -197,6 +208,7 @@ object FirSessionFactory {
         project: Project,
         packagePartProvider: PackagePartProvider,
         languageVersionSettings: LanguageVersionSettings = LanguageVersionSettingsImpl.DEFAULT,
+        cachesFactory: FirCachesFactory = FirThreadUnsafeCachesFactory,
     ): FirSession {
         return FirCliSession(sessionProvider, FirSession.Kind.Library).apply session@{
             moduleDataProvider.allModuleData.forEach {
@@ -204,7 +216,7 @@ object FirSessionFactory {
                 it.bindSession(this)
             }
 
-            registerCliCompilerOnlyComponents()
+            registerCliCompilerOnlyComponents(cachesFactory)
             registerCommonComponents(languageVersionSettings)
             registerCommonJavaComponents()
 
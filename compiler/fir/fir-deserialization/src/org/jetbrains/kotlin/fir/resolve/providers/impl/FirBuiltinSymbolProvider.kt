@@ -72,6 +72,11 @@ open class FirBuiltinSymbolProvider(
         return null
     }
 
+    // Synthetic functional interfaces are declared in built-in packages too
+    override fun mayHaveSymbolsInPackage(fqName: FqName): Boolean {
+        return allPackageFragments.containsKey(fqName)
+    }
+
     override fun getClassLikeSymbolByFqName(classId: ClassId): FirRegularClassSymbol? {
         return allPackageFragments[classId.packageFqName]?.firstNotNullOfOrNull {
             it.getClassLikeSymbolByFqName(classId)
@@ -5,7 +5,12 @@
 
 package org.jetbrains.kotlin.fir.backend
 
+import com.intellij.lang.LighterASTNode
+import com.intellij.openapi.util.Ref
 import com.intellij.psi.PsiCompiledElement
+import com.intellij.psi.TokenType
+import com.intellij.psi.tree.IElementType
+import com.intellij.util.diff.FlyweightCapableTreeStructure
 import org.jetbrains.kotlin.KtNodeTypes
 import org.jetbrains.kotlin.descriptors.ClassKind
 import org.jetbrains.kotlin.descriptors.InlineClassRepresentation
@@ -52,7 +57,10 @@ import org.jetbrains.kotlin.ir.types.*
 import org.jetbrains.kotlin.ir.types.impl.IrErrorTypeImpl
 import org.jetbrains.kotlin.ir.util.SymbolTable
 import org.jetbrains.kotlin.ir.util.functions
+import org.jetbrains.kotlin.lexer.KtTokens
 import org.jetbrains.kotlin.name.SpecialNames
+import org.jetbrains.kotlin.psi.KtBinaryExpression
+import org.jetbrains.kotlin.psi.KtForExpression
 import org.jetbrains.kotlin.psi.KtQualifiedExpression
 import org.jetbrains.kotlin.psi.psiUtil.endOffset
 import org.jetbrains.kotlin.psi.psiUtil.startOffsetSkippingComments
@@ -63,6 +71,8 @@ import org.jetbrains.kotlin.util.OperatorNameConventions
 internal fun <T : IrElement> FirElement.convertWithOffsets(
     f: (startOffset: Int, endOffset: Int) -> T
 ): T {
+    val source = source
+    if (source is FirLightSourceElement) return f(source.startOffsetSkippingComments(source.lighterASTNode), source.endOffset)
     val psi = psi
     if (psi is PsiCompiledElement || psi == null) return f(UNDEFINED_OFFSET, UNDEFINED_OFFSET)
     val startOffset = psi.startOffsetSkippingComments
@@ -73,6 +83,11 @@ internal fun <T : IrElement> FirElement.convertWithOffsets(
 internal fun <T : IrElement> FirQualifiedAccess.convertWithOffsets(
     f: (startOffset: Int, endOffset: Int) -> T
 ): T {
+    val source = source
+    if (source is FirLightSourceElement) {
+        val selector = source.selectorOfQualifiedExpression() ?: source.lighterASTNode
+        return f(source.startOffsetSkippingComments(selector), source.endOffset)
+    }
     val psi = psi
     if (psi is PsiCompiledElement || psi == null) return f(UNDEFINED_OFFSET, UNDEFINED_OFFSET)
     val startOffset = if (psi is KtQualifiedExpression) {
@@ -84,6 +99,45 @@ internal fun <T : IrElement> FirQualifiedAccess.convertWithOffsets(
     return f(startOffset, endOffset)
 }
 
+internal fun FirSourceElement?.isForLoopParameter(): Boolean = when (this) {
+    is FirPsiSourceElement -> psi.parent is KtForExpression
+    is FirLightSourceElement -> treeStructure.getParent(lighterASTNode)?.tokenType == KtNodeTypes.FOR
+    else -> false
+}
+
+internal fun FirSourceElement?.binaryOperationToken(): IElementType? = when (this) {
+    is FirPsiSourceElement -> (psi as? KtBinaryExpression)?.operationToken
+    is FirLightSourceElement -> lighterASTNode.getChildren(treeStructure)
+        .firstOrNull { it.tokenType == KtNodeTypes.OPERATION_REFERENCE }
+        ?.getChildren(treeStructure)?.firstOrNull()?.tokenType
+    else -> null
+}
+
+// Light tree counterparts of PsiElement.startOffsetSkippingComments and KtQualifiedExpression.selectorExpression
+
+private fun FirLightSourceElement.startOffsetSkippingComments(node: LighterASTNode): Int {
+    val offsetDelta = startOffset - lighterASTNode.startOffset
+    val firstChild = node.getChildren(treeStructure).firstOrNull { !it.isCommentOrWhiteSpace() }
+    return (firstChild ?: node).startOffset + offsetDelta
+}
+
+private fun FirLightSourceElement.selectorOfQualifiedExpression(): LighterASTNode? {
+    if (elementType != KtNodeTypes.DOT_QUALIFIED_EXPRESSION && elementType != KtNodeTypes.SAFE_ACCESS_EXPRESSION) return null
+    val children = lighterASTNode.getChildren(treeStructure)
+    val operationIndex = children.indexOfFirst { it.tokenType == KtTokens.DOT || it.tokenType == KtTokens.SAFE_ACCESS }
+    if (operationIndex < 0) return null
+    return children.subList(operationIndex + 1, children.size).firstOrNull { !it.isCommentOrWhiteSpace() }
+}
+
+private fun LighterASTNode.isCommentOrWhiteSpace(): Boolean =
+    tokenType == TokenType.WHITE_SPACE || tokenType in KtTokens.COMMENTS
+
+private fun LighterASTNode.getChildren(tree: FlyweightCapableTreeStructure<LighterASTNode>): List<LighterASTNode> {
+    val children = Ref<Array<LighterASTNode?>>()
+    val count = tree.getChildren(this, children)
+    return if (count > 0) children.get().take(count).filterNotNull() else emptyList()
+}
+
 internal fun createErrorType(): IrErrorType = IrErrorTypeImpl(null, emptyList(), Variance.INVARIANT)
 
 internal enum class ConversionTypeOrigin {
@@ -0,0 +1,23 @@
+/*
+ * Copyright 2010-2021 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.fir.backend
+
+import org.jetbrains.kotlin.fir.declarations.FirDeclarationDataKey
+import org.jetbrains.kotlin.fir.declarations.FirDeclarationDataRegistry
+import org.jetbrains.kotlin.fir.declarations.FirFile
+import org.jetbrains.kotlin.fir.psi
+import org.jetbrains.kotlin.psi.KtFile
+
+private object SourceKtFileKey : FirDeclarationDataKey()
+
+/**
+ * [KtFile] the file was built from if it was built from a light tree, i.e. has no PSI of its own.
+ * Only the text of such a [KtFile] is used, its AST is never loaded
+ */
+var FirFile.sourceKtFile: KtFile? by FirDeclarationDataRegistry.data(SourceKtFileKey)
+
+internal val FirFile.ktFile: KtFile
+    get() = sourceKtFile ?: psi as KtFile
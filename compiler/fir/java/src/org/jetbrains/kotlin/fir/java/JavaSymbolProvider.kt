@@ -14,6 +14,7 @@ import org.jetbrains.kotlin.descriptors.EffectiveVisibility
 import org.jetbrains.kotlin.descriptors.Modality
 import org.jetbrains.kotlin.descriptors.Visibilities
 import org.jetbrains.kotlin.fir.*
+import org.jetbrains.kotlin.fir.caches.FirConcurrentCachesFactory
 import org.jetbrains.kotlin.fir.caches.createCache
 import org.jetbrains.kotlin.fir.caches.firCachesFactory
 import org.jetbrains.kotlin.fir.caches.getValue
@@ -49,6 +50,7 @@ import org.jetbrains.kotlin.name.Name
 import org.jetbrains.kotlin.resolve.jvm.KotlinJavaPsiFacade
 import org.jetbrains.kotlin.types.Variance.INVARIANT
 import org.jetbrains.kotlin.util.OperatorNameConventions
+import java.util.concurrent.ConcurrentHashMap
 
 @ThreadSafeMutableState
 class JavaSymbolProvider(
@@ -76,8 +78,12 @@ class JavaSymbolProvider(
     private val scopeProvider = JavaScopeProvider(this)
 
     private val facade: KotlinJavaPsiFacade get() = KotlinJavaPsiFacade.getInstance(project)
-    private val parentClassTypeParameterStackCache = mutableMapOf<FirRegularClassSymbol, JavaTypeParameterStack>()
-    private val parentClassEffectiveVisibilityCache = mutableMapOf<FirRegularClassSymbol, EffectiveVisibility>()
+    // Classes are converted by several resolve threads at once only in sessions with thread-safe caches
+    private val parentClassTypeParameterStackCache = createParentClassCache<JavaTypeParameterStack>()
+    private val parentClassEffectiveVisibilityCache = createParentClassCache<EffectiveVisibility>()
+
+    private fun <V> createParentClassCache(): MutableMap<FirRegularClassSymbol, V> =
+        if (session.firCachesFactory is FirConcurrentCachesFactory) ConcurrentHashMap() else mutableMapOf()
 
     private fun findClass(
         classId: ClassId,
@@ -593,6 +599,10 @@ class JavaSymbolProvider(
         return packageCache.getValue(fqName)
     }
 
+    override fun mayHaveSymbolsInPackage(fqName: FqName): Boolean {
+        return getPackage(fqName) != null
+    }
+
     private fun findPackage(fqName: FqName): FqName? {
         return try {
             val facade = KotlinJavaPsiFacade.getInstance(project)
@@ -43,7 +43,7 @@ class KotlinDeserializedJvmSymbolsProvider(
     private val packagePartProvider: PackagePartProvider,
     private val kotlinClassFinder: KotlinClassFinder,
     private val javaSymbolProvider: JavaSymbolProvider,
-    javaClassFinder: JavaClassFinder,
+    private val javaClassFinder: JavaClassFinder,
 ) : AbstractFirDeserializedSymbolsProvider(session, moduleDataProvider, kotlinScopeProvider) {
     private val knownNameInPackageCache = KnownNameInPackageCache(session, javaClassFinder)
     private val annotationsLoader = AnnotationsLoader(session, kotlinClassFinder)
@@ -154,6 +154,12 @@ class KotlinDeserializedJvmSymbolsProvider(
         return JvmProtoBufUtil.readClassDataFrom(data, strings)
     }
 
+    // Both classes and package parts are class files, so there are none of them in packages absent in the class path.
+    // Package parts are also checked separately, because a Java class finder isn't required to see packages without Java classes
+    override fun mayHaveSymbolsInPackage(fqName: FqName): Boolean {
+        return javaClassFinder.findPackage(fqName) != null || packagePartProvider.findPackageParts(fqName.asString()).isNotEmpty()
+    }
+
     private class KnownNameInPackageCache(
         session: FirSession,
         private val javaClassFinder: JavaClassFinder
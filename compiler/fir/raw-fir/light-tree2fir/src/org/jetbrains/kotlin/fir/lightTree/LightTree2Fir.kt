@@ -63,8 +63,10 @@ class LightTree2Fir(
     }
 
     fun buildFirFile(code: String, fileName: String): FirFile {
-        val lightTree = buildLightTree(code)
+        return buildFirFile(buildLightTree(code), fileName)
+    }
 
+    fun buildFirFile(lightTree: FlyweightCapableTreeStructure<LighterASTNode>, fileName: String): FirFile {
         return DeclarationsConverter(session, scopeProvider, stubMode, lightTree)
             .convertFile(lightTree.root, fileName)
     }
@@ -8,6 +8,7 @@ package org.jetbrains.kotlin.fir.resolve.providers
 import org.jetbrains.kotlin.fir.FirSession
 import org.jetbrains.kotlin.fir.FirSessionComponent
 import org.jetbrains.kotlin.fir.resolve.getSymbolByLookupTag
+import org.jetbrains.kotlin.fir.resolve.providers.impl.FirCompositeSymbolProvider
 import org.jetbrains.kotlin.fir.scopes.FirScope
 import org.jetbrains.kotlin.fir.scopes.getDeclaredConstructors
 import org.jetbrains.kotlin.fir.scopes.getFunctions
@@ -53,6 +54,12 @@ abstract class FirSymbolProvider(val session: FirSession) : FirSessionComponent
     abstract fun getTopLevelPropertySymbolsTo(destination: MutableList<FirPropertySymbol>, packageFqName: FqName, name: Name)
 
     abstract fun getPackage(fqName: FqName): FqName? // TODO: Replace to symbol sometime
+
+    /**
+     * Returns `false` if the provider certainly has no symbols in the package [fqName], which allows [FirCompositeSymbolProvider]
+     *   to skip it in lookups of symbols from this package. The result is cached, so it shouldn't change during the life of the session
+     */
+    open fun mayHaveSymbolsInPackage(fqName: FqName): Boolean = true
 }
 
 abstract class FirDependenciesSymbolProvider(session: FirSession) : FirSymbolProvider(session)
@@ -87,4 +87,8 @@ class FirCloneableSymbolProvider(
     override fun getPackage(fqName: FqName): FqName? {
         return null
     }
+
+    override fun mayHaveSymbolsInPackage(fqName: FqName): Boolean {
+        return fqName == CLONEABLE_CLASS_ID.packageFqName
+    }
 }
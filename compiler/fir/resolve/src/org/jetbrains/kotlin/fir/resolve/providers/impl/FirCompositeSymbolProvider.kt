@@ -6,7 +6,10 @@
 package org.jetbrains.kotlin.fir.resolve.providers.impl
 
 import org.jetbrains.kotlin.fir.FirSession
-import org.jetbrains.kotlin.fir.NoMutableState
+import org.jetbrains.kotlin.fir.ThreadSafeMutableState
+import org.jetbrains.kotlin.fir.caches.createCache
+import org.jetbrains.kotlin.fir.caches.firCachesFactory
+import org.jetbrains.kotlin.fir.caches.getValue
 import org.jetbrains.kotlin.fir.resolve.providers.FirSymbolProvider
 import org.jetbrains.kotlin.fir.resolve.providers.FirSymbolProviderInternals
 import org.jetbrains.kotlin.fir.symbols.impl.FirCallableSymbol
@@ -17,36 +20,54 @@ import org.jetbrains.kotlin.name.ClassId
 import org.jetbrains.kotlin.name.FqName
 import org.jetbrains.kotlin.name.Name
 
-@NoMutableState
+@ThreadSafeMutableState
 class FirCompositeSymbolProvider(session: FirSession, val providers: List<FirSymbolProvider>) : FirSymbolProvider(session) {
+    // Providers which may have symbols in a package, usually there are only a few of them for a package.
+    // An empty list for packages absent in all providers serves as a negative cache of lookups in them
+    private val providersByPackage = session.firCachesFactory.createCache { fqName: FqName ->
+        providers.filter { it.mayHaveSymbolsInPackage(fqName) }
+    }
+
+    private fun providersForPackage(fqName: FqName): List<FirSymbolProvider> =
+        providersByPackage.getValue(fqName)
+
+    @OptIn(FirSymbolProviderInternals::class)
     override fun getTopLevelCallableSymbols(packageFqName: FqName, name: Name): List<FirCallableSymbol<*>> {
-        return providers.flatMap { it.getTopLevelCallableSymbols(packageFqName, name) }
+        val providers = providersForPackage(packageFqName)
+        if (providers.isEmpty()) return emptyList()
+        return ArrayList<FirCallableSymbol<*>>().also { getTopLevelCallableSymbolsTo(it, packageFqName, name) }
     }
 
     @FirSymbolProviderInternals
     override fun getTopLevelCallableSymbolsTo(destination: MutableList<FirCallableSymbol<*>>, packageFqName: FqName, name: Name) {
-        destination += getTopLevelCallableSymbols(packageFqName, name)
+        providersForPackage(packageFqName).forEach {
+            it.getTopLevelCallableSymbolsTo(destination, packageFqName, name)
+        }
     }
 
     @FirSymbolProviderInternals
     override fun getTopLevelFunctionSymbolsTo(destination: MutableList<FirNamedFunctionSymbol>, packageFqName: FqName, name: Name) {
-        providers.forEach {
+        providersForPackage(packageFqName).forEach {
             it.getTopLevelFunctionSymbolsTo(destination, packageFqName, name)
         }
     }
 
     @FirSymbolProviderInternals
     override fun getTopLevelPropertySymbolsTo(destination: MutableList<FirPropertySymbol>, packageFqName: FqName, name: Name) {
-        providers.forEach {
+        providersForPackage(packageFqName).forEach {
             it.getTopLevelPropertySymbolsTo(destination, packageFqName, name)
         }
     }
 
     override fun getPackage(fqName: FqName): FqName? {
-        return providers.firstNotNullOfOrNull { it.getPackage(fqName) }
+        return providersForPackage(fqName).firstNotNullOfOrNull { it.getPackage(fqName) }
+    }
+
+    override fun mayHaveSymbolsInPackage(fqName: FqName): Boolean {
+        return providersForPackage(fqName).isNotEmpty()
     }
 
     override fun getClassLikeSymbolByFqName(classId: ClassId): FirClassLikeSymbol<*>? {
-        return providers.firstNotNullOfOrNull { it.getClassLikeSymbolByFqName(classId) }
+        return providersForPackage(classId.packageFqName).firstNotNullOfOrNull { it.getClassLikeSymbolByFqName(classId) }
     }
 }
@@ -27,6 +27,7 @@ open class FirDependenciesSymbolProviderImpl(session: FirSession) : FirDependenc
     private val topLevelFunctionCache = session.firCachesFactory.createCache(::computeTopLevelFunctions)
     private val topLevelPropertyCache = session.firCachesFactory.createCache(::computeTopLevelProperties)
     private val packageCache = session.firCachesFactory.createCache(::computePackage)
+    private val mayHaveSymbolsInPackageCache = session.firCachesFactory.createCache(::computeMayHaveSymbolsInPackage)
 
 
     protected open val dependencyProviders by lazy {
@@ -54,6 +55,9 @@ open class FirDependenciesSymbolProviderImpl(session: FirSession) : FirDependenc
     private fun computePackage(it: FqName): FqName? =
         dependencyProviders.firstNotNullOfOrNull { provider -> provider.getPackage(it) }
 
+    private fun computeMayHaveSymbolsInPackage(fqName: FqName): Boolean =
+        dependencyProviders.any { it.mayHaveSymbolsInPackage(fqName) }
+
     private fun computeClass(classId: ClassId): FirClassLikeSymbol<*>? =
         dependencyProviders.firstNotNullOfOrNull { provider -> provider.getClassLikeSymbolByFqName(classId) }
 
@@ -84,4 +88,8 @@ open class FirDependenciesSymbolProviderImpl(session: FirSession) : FirDependenc
     override fun getPackage(fqName: FqName): FqName? {
         return packageCache.getValue(fqName)
     }
+
+    override fun mayHaveSymbolsInPackage(fqName: FqName): Boolean {
+        return mayHaveSymbolsInPackageCache.getValue(fqName)
+    }
 }
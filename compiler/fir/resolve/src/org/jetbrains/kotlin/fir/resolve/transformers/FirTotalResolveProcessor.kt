@@ -5,30 +5,110 @@
 
 package org.jetbrains.kotlin.fir.resolve.transformers
 
+import org.jetbrains.kotlin.fir.FirPerformanceProfiler
 import org.jetbrains.kotlin.fir.FirSession
 import org.jetbrains.kotlin.fir.declarations.FirFile
 import org.jetbrains.kotlin.fir.declarations.FirResolvePhase
+import org.jetbrains.kotlin.fir.performanceProfiler
 import org.jetbrains.kotlin.fir.resolve.ScopeSession
+import java.util.concurrent.Callable
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.ForkJoinPool
 
-class FirTotalResolveProcessor(session: FirSession) {
-    val scopeSession: ScopeSession = ScopeSession()
+/**
+ * Runs all compiler resolve phases over given files
+ *
+ * If [parallelism] is greater than 1 then phases from [PARALLEL_RESOLVE_PHASES] are run over different files
+ *   in a fork-join pool of [parallelism] threads. Each [FirGlobalResolveProcessor] still works on all files
+ *   at once, and all files finish the previous phase before it starts.
+ * [session] should use a thread-safe [org.jetbrains.kotlin.fir.caches.FirCachesFactory] in parallel mode
+ */
+class FirTotalResolveProcessor(private val session: FirSession, private val parallelism: Int = 1) {
+    val scopeSession: ScopeSession = ScopeSession(threadSafe = parallelism > 1)
+
+    private val phases: List<FirResolvePhase> = allResolvePhasesWithProcessors(pluginPhasesEnabled = false)
 
-    private val processors: List<FirResolveProcessor> = createAllCompilerResolveProcessors(session, scopeSession)
+    private val processors: List<FirResolveProcessor> = phases.map { it.createCompilerProcessorByPhase(session, scopeSession) }
 
     fun process(files: List<FirFile>) {
-        for (processor in processors) {
+        if (parallelism > 1 && files.size > 1) {
+            val pool = ForkJoinPool(parallelism)
+            try {
+                process(files, pool)
+            } finally {
+                pool.shutdown()
+            }
+        } else {
+            process(files, pool = null)
+        }
+    }
+
+    private fun process(files: List<FirFile>, pool: ForkJoinPool?) {
+        val profiler = session.performanceProfiler
+        for ((phase, processor) in phases.zip(processors)) {
             when (processor) {
                 is FirTransformerBasedResolveProcessor -> {
-                    for (file in files) {
-                        processor.processFile(file)
+                    if (pool != null && phase in PARALLEL_RESOLVE_PHASES) {
+                        processInParallel(phase, files, pool, profiler)
+                    } else if (profiler != null) {
+                        profiler.measure(FirPerformanceProfiler.RESOLVE_PHASES, phase.name) {
+                            for (file in files) {
+                                processor.processFile(file)
+                            }
+                        }
+                    } else {
+                        for (file in files) {
+                            processor.processFile(file)
+                        }
                     }
                 }
                 is FirGlobalResolveProcessor -> {
-                    processor.process(files)
+                    if (profiler != null) {
+                        profiler.measure(FirPerformanceProfiler.RESOLVE_PHASES, phase.name) { processor.process(files) }
+                    } else {
+                        processor.process(files)
+                    }
                 }
             }
         }
     }
+
+    private fun processInParallel(phase: FirResolvePhase, files: List<FirFile>, pool: ForkJoinPool, profiler: FirPerformanceProfiler?) {
+        // Transformers keep per-file state, so each worker thread gets its own processor
+        val processorForThread = ThreadLocal.withInitial {
+            phase.createCompilerProcessorByPhase(session, scopeSession) as FirTransformerBasedResolveProcessor
+        }
+        val futures = pool.invokeAll(files.map { file ->
+            Callable {
+                if (profiler != null) {
+                    profiler.measure(FirPerformanceProfiler.RESOLVE_PHASES, phase.name) { processorForThread.get().processFile(file) }
+                } else {
+                    processorForThread.get().processFile(file)
+                }
+            }
+        })
+        for (future in futures) {
+            try {
+                future.get()
+            } catch (e: ExecutionException) {
+                throw e.cause ?: e
+            }
+        }
+    }
+
+    companion object {
+        /**
+         * Phases in which transformation of a file does not modify declarations from other files, and the shared state of the session
+         *   is only read through thread-safe caches, the scope session and the lookup tracker.
+         * Phases which resolve calls (annotation arguments, bodies) are run sequentially: they use member scopes of classes
+         *   (use-site, substitution, intersection and Java enhancement scopes) which are cached in the scope session and fill
+         *   their own caches without synchronization
+         */
+        val PARALLEL_RESOLVE_PHASES: Set<FirResolvePhase> = setOf(
+            FirResolvePhase.IMPORTS,
+            FirResolvePhase.TYPES,
+        )
+    }
 }
 
 fun createAllCompilerResolveProcessors(
@@ -48,8 +128,11 @@ inline fun <T : FirResolveProcessor> createAllResolveProcessors(
 ): List<T> {
     @Suppress("NAME_SHADOWING")
     val scopeSession = scopeSession ?: ScopeSession()
-    val phases = FirResolvePhase.values().filter {
-        !it.noProcessor && if (!pluginPhasesEnabled) !it.pluginPhase else true
-    }
+    val phases = allResolvePhasesWithProcessors(pluginPhasesEnabled)
     return phases.map { it.creator(scopeSession) }
 }
+
+fun allResolvePhasesWithProcessors(pluginPhasesEnabled: Boolean): List<FirResolvePhase> =
+    FirResolvePhase.values().filter {
+        !it.noProcessor && if (!pluginPhasesEnabled) !it.pluginPhase else true
+    }
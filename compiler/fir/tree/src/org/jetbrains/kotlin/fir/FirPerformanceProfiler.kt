@@ -0,0 +1,131 @@
+/*
+ * Copyright 2010-2021 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.fir
+
+import java.lang.management.ManagementFactory
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.LongAdder
+
+/**
+ * Collects wall time, CPU time and allocated bytes of FIR resolve phases and checkers.
+ *
+ * Profiler is registered in a session only if `-Xdump-fir-profile` or `-Xreport-perf` is specified, otherwise
+ *   [FirSession.performanceProfiler] is `null` and instrumented code pays only for a null check.
+ * Measuring CPU time and allocations of every checker call is not free, so a profiler which is not [detailed]
+ *   (the one used for `-Xreport-perf` alone) measures only wall time of resolve phases to keep the reported timings undistorted.
+ * Measurements are done in the thread which runs the measured code, so for phases resolved in parallel
+ *   times of all worker threads are summed up
+ */
+class FirPerformanceProfiler(val detailed: Boolean = true) : FirSessionComponent {
+    class Measurement(val name: String) {
+        val count = LongAdder()
+        val wallTimeNanos = LongAdder()
+        val cpuTimeNanos = LongAdder()
+        val allocatedBytes = LongAdder()
+    }
+
+    @PublishedApi
+    internal class Start(val wallTime: Long, val cpuTime: Long, val allocatedBytes: Long)
+
+    private val measurementsByCategory = ConcurrentHashMap<String, ConcurrentHashMap<String, Measurement>>()
+
+    inline fun <R> measure(category: String, name: String, block: () -> R): R {
+        val start = start()
+        try {
+            return block()
+        } finally {
+            finish(category, name, start)
+        }
+    }
+
+    @PublishedApi
+    internal fun start(): Start =
+        if (detailed) Start(System.nanoTime(), currentThreadCpuTime(), currentThreadAllocatedBytes())
+        else Start(System.nanoTime(), 0, 0)
+
+    @PublishedApi
+    internal fun finish(category: String, name: String, start: Start) {
+        val measurements = measurementsByCategory.computeIfAbsent(category) { ConcurrentHashMap() }
+        val measurement = measurements.computeIfAbsent(name, ::Measurement)
+        measurement.count.increment()
+        measurement.wallTimeNanos.add(System.nanoTime() - start.wallTime)
+        if (detailed) {
+            measurement.cpuTimeNanos.add(currentThreadCpuTime() - start.cpuTime)
+            measurement.allocatedBytes.add(currentThreadAllocatedBytes() - start.allocatedBytes)
+        }
+    }
+
+    fun getMeasurements(category: String): List<Measurement> =
+        measurementsByCategory[category]?.values?.sortedByDescending { it.wallTimeNanos.sum() }.orEmpty()
+
+    /**
+     * Renders all measurements as a single line of JSON: an object with an array of measurements for each category
+     */
+    fun renderJson(): String = buildString {
+        append("{")
+        for ((categoryIndex, category) in measurementsByCategory.keys.sorted().withIndex()) {
+            if (categoryIndex > 0) append(",")
+            append("\"").append(category.escapeJson()).append("\":[")
+            for ((index, measurement) in getMeasurements(category).withIndex()) {
+                if (index > 0) append(",")
+                append("{\"name\":\"").append(measurement.name.escapeJson()).append("\"")
+                append(",\"count\":").append(measurement.count.sum())
+                append(",\"wallTimeNanos\":").append(measurement.wallTimeNanos.sum())
+                append(",\"cpuTimeNanos\":").append(measurement.cpuTimeNanos.sum())
+                append(",\"allocatedBytes\":").append(measurement.allocatedBytes.sum())
+                append("}")
+            }
+            append("]")
+        }
+        append("}")
+    }
+
+    companion object {
+        const val RESOLVE_PHASES = "resolvePhases"
+        const val CHECKERS = "checkers"
+
+        /**
+         * Renders profiles of several modules as a JSON object with a profile for each module name
+         */
+        fun renderJson(profilersByModuleName: Map<String, FirPerformanceProfiler>): String = buildString {
+            append("{")
+            for ((index, entry) in profilersByModuleName.entries.withIndex()) {
+                if (index > 0) append(",")
+                append("\"").append(entry.key.escapeJson()).append("\":").append(entry.value.renderJson())
+            }
+            append("}")
+        }
+
+        private val threadMXBean = ManagementFactory.getThreadMXBean()
+
+        // Allocation counters are available only in HotSpot-based JVMs
+        private val allocationMXBean = (threadMXBean as? com.sun.management.ThreadMXBean)
+            ?.takeIf { it.isThreadAllocatedMemorySupported && it.isThreadAllocatedMemoryEnabled }
+
+        private val isCpuTimeSupported = threadMXBean.isCurrentThreadCpuTimeSupported
+
+        private fun currentThreadCpuTime(): Long =
+            if (isCpuTimeSupported) threadMXBean.currentThreadCpuTime else 0
+
+        private fun currentThreadAllocatedBytes(): Long =
+            allocationMXBean?.getThreadAllocatedBytes(Thread.currentThread().id) ?: 0
+
+        private fun String.escapeJson(): String = buildString(length) {
+            for (c in this@escapeJson) {
+                when (c) {
+                    '\\' -> append("\\\\")
+                    '"' -> append("\\\"")
+                    '\n' -> append("\\n")
+                    '\r' -> append("\\r")
+                    '\t' -> append("\\t")
+                    else -> if (c < ' ') append("\\u%04x".format(c.code)) else append(c)
+                }
+            }
+        }
+    }
+}
+
+val FirSession.performanceProfiler: FirPerformanceProfiler? by FirSession.nullableSessionComponentAccessor()
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2010-2021 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.fir.caches
+
+import org.jetbrains.kotlin.fir.PrivateForInline
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.CountDownLatch
+
+/**
+ * Caches factory which can be used in sessions shared between several resolve threads
+ *
+ * Values of simple caches are computed without holding any locks, so the same value may be computed by several threads in a race.
+ *   Only the first published value is returned to callers
+ * Values of caches created by [createCacheWithPostCompute] are computed once and become visible to other threads
+ *   only after post-compute has finished
+ */
+object FirConcurrentCachesFactory : FirCachesFactory() {
+    override fun <K : Any, V, CONTEXT> createCache(createValue: (K, CONTEXT) -> V): FirCache<K, V, CONTEXT> =
+        FirConcurrentCache(createValue)
+
+    override fun <K : Any, V, CONTEXT, DATA> createCacheWithPostCompute(
+        createValue: (K, CONTEXT) -> Pair<V, DATA>,
+        postCompute: (K, V, DATA) -> Unit
+    ): FirCache<K, V, CONTEXT> =
+        FirConcurrentCacheWithPostCompute(createValue, postCompute)
+}
+
+@OptIn(PrivateForInline::class)
+@Suppress("UNCHECKED_CAST")
+private class FirConcurrentCache<K : Any, V, CONTEXT>(
+    private val createValue: (K, CONTEXT) -> V
+) : FirCache<K, V, CONTEXT>() {
+    private val map = ConcurrentHashMap<K, Any>()
+
+    override fun getValue(key: K, context: CONTEXT): V {
+        val value = map[key] ?: run {
+            val createdValue = createValue(key, context) ?: NullValue
+            map.putIfAbsent(key, createdValue) ?: createdValue
+        }
+        return value.takeUnless { it === NullValue } as V
+    }
+
+    override fun getValueIfComputed(key: K): V? =
+        map[key]?.takeUnless { it === NullValue } as V?
+}
+
+/**
+ * Value of the cache is published in two steps:
+ *  - a [Computation] owned by the computing thread is put into the map before [createValue] is called
+ *  - after [postCompute] is finished the computation is replaced with the value itself
+ *
+ * Other threads wait for the computation to finish, while the owner thread (i.e. from inside [postCompute])
+ *   gets the value created by [createValue] right away
+ */
+@OptIn(PrivateForInline::class)
+@Suppress("UNCHECKED_CAST")
+private class FirConcurrentCacheWithPostCompute<K : Any, V, CONTEXT, DATA>(
+    private val createValue: (K, CONTEXT) -> Pair<V, DATA>,
+    private val postCompute: (K, V, DATA) -> Unit
+) : FirCache<K, V, CONTEXT>() {
+    private val map = ConcurrentHashMap<K, Any>()
+
+    override fun getValue(key: K, context: CONTEXT): V {
+        while (true) {
+            when (val value = map[key]) {
+                null -> {
+                    val computation = Computation()
+                    when (val existing = map.putIfAbsent(key, computation)) {
+                        null -> return compute(key, context, computation)
+                        is Computation -> existing.awaitValue()?.let { return it.unwrap() }
+                        else -> return existing.unwrap()
+                    }
+                }
+                is Computation -> value.awaitValue()?.let { return it.unwrap() }
+                else -> return value.unwrap()
+            }
+            // computation failed in other thread, so we should try to compute value by ourselves
+        }
+    }
+
+    override fun getValueIfComputed(key: K): V? =
+        when (val value = map[key]) {
+            null -> null
+            is Computation -> value.valueIfOwnedByCurrentThread()?.unwrap()
+            else -> value.unwrap()
+        }
+
+    private fun compute(key: K, context: CONTEXT, computation: Computation): V {
+        try {
+            val (createdValue, data) = createValue(key, context)
+            computation.value = createdValue ?: NullValue
+            postCompute(key, createdValue, data)
+            map[key] = createdValue ?: NullValue
+            return createdValue
+        } catch (e: Throwable) {
+            computation.value = null
+            map.remove(key, computation)
+            throw e
+        } finally {
+            computation.finish()
+        }
+    }
+
+    private fun Any.unwrap(): V = takeUnless { it === NullValue } as V
+}
+
+private class Computation {
+    private val owner: Thread = Thread.currentThread()
+    private val finished = CountDownLatch(1)
+
+    @Volatile
+    var value: Any? = null
+
+    private val isFinished: Boolean
+        get() = finished.count == 0L
+
+    fun valueIfOwnedByCurrentThread(): Any? =
+        if (owner === Thread.currentThread()) value else null
+
+    /**
+     * Returns `null` if computation failed
+     */
+    fun awaitValue(): Any? {
+        if (owner === Thread.currentThread()) {
+            return value ?: error("FirCache.getValue should not be called inside createValue")
+        }
+        val waitingThread = Thread.currentThread()
+        synchronized(waitsLock) {
+            if (isOwnedBy(waitingThread)) {
+                // The owner transitively waits for the current thread, so waiting for it would be a deadlock.
+                // Value is already created here, so it's returned in the same way as to the owner thread during post-compute
+                return value ?: error("Recursive FirCache computation between threads $owner and $waitingThread")
+            }
+            waitingFor[waitingThread] = this
+        }
+        try {
+            finished.await()
+        } finally {
+            synchronized(waitsLock) {
+                waitingFor.remove(waitingThread)
+            }
+        }
+        return value
+    }
+
+    fun finish() {
+        finished.countDown()
+    }
+
+    // Should be called under waitsLock
+    private fun isOwnedBy(thread: Thread): Boolean {
+        if (isFinished) return false
+
+        var current = this
+        // Waiting threads form chains, since every thread waits for at most one computation.
+        // A chain which doesn't come to the given thread may end with a cycle of other threads, so the walk is bounded
+        for (i in 0..waitingFor.size) {
+            if (current.owner === thread) return true
+            current = waitingFor[current.owner] ?: return false
+            // A thread which waits for a finished computation is about to wake up
+            if (current.isFinished) return false
+        }
+        return false
+    }
+
+    companion object {
+        private val waitsLock = Any()
+
+        // Guarded by waitsLock
+        private val waitingFor = HashMap<Thread, Computation>()
+    }
+}
@@ -6,22 +6,47 @@
 package org.jetbrains.kotlin.fir.resolve
 
 import org.jetbrains.kotlin.fir.PrivateForInline
+import java.util.concurrent.ConcurrentHashMap
 
-class ScopeSession {
-    private val scopes = hashMapOf<Any, HashMap<ScopeSessionKey<*, *>, Any>>()
+/**
+ * Storage of scopes built during resolution
+ *
+ * If [threadSafe] is true then the session can be shared between several threads resolving imports and types of different files.
+ * In this case a scope may be built more than once in a race, but all callers observe the same (first published) instance
+ */
+class ScopeSession(val threadSafe: Boolean = false) {
+    private val scopes: MutableMap<Any, MutableMap<ScopeSessionKey<*, *>, Any>> = createMap()
 
     @PrivateForInline
     fun scopes() = scopes
 
+    // Used only in thread-safe mode, where all maps are concurrent
+    @PrivateForInline
+    fun scopesForId(id: Any): MutableMap<ScopeSessionKey<*, *>, Any> {
+        scopes[id]?.let { return it }
+        return publish(scopes, id, ConcurrentHashMap())
+    }
+
+    @PrivateForInline
+    fun <K : Any, V : Any> publish(map: MutableMap<K, V>, key: K, value: V): V =
+        (map as ConcurrentHashMap<K, V>).putIfAbsent(key, value) ?: value
+
+    private fun <K : Any, V : Any> createMap(): MutableMap<K, V> =
+        if (threadSafe) ConcurrentHashMap() else hashMapOf()
+
     @OptIn(PrivateForInline::class)
     inline fun <reified ID : Any, reified FS : Any> getOrBuild(id: ID, key: ScopeSessionKey<ID, FS>, build: () -> FS): FS {
-        return scopes().getOrPut(id) {
-            hashMapOf()
-        }.getOrPut(key) {
-            build()
-        } as FS
+        if (!threadSafe) {
+            return scopes().getOrPut(id) {
+                hashMapOf()
+            }.getOrPut(key) {
+                build()
+            } as FS
+        }
+        val scopesForId = scopesForId(id)
+        scopesForId[key]?.let { return it as FS }
+        return publish(scopesForId, key, build()) as FS
     }
 }
 
 abstract class ScopeSessionKey<ID : Any, FS : Any>
-
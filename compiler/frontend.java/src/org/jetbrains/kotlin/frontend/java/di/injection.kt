@@ -38,6 +38,7 @@ import org.jetbrains.kotlin.load.java.components.*
 import org.jetbrains.kotlin.load.java.lazy.JavaResolverSettings
 import org.jetbrains.kotlin.load.java.lazy.ModuleClassResolver
 import org.jetbrains.kotlin.load.kotlin.DeserializationComponentsForJava
+import org.jetbrains.kotlin.load.kotlin.KotlinMetadataProtoCache
 import org.jetbrains.kotlin.load.kotlin.PackagePartProvider
 import org.jetbrains.kotlin.load.kotlin.VirtualFileFinderFactory
 import org.jetbrains.kotlin.platform.TargetPlatform
@@ -67,7 +68,9 @@ fun createContainerForLazyResolveWithJava(
     configureJavaClassFinder: (StorageComponentContainer.() -> Unit)? = null,
     javaClassTracker: JavaClassesTracker? = null,
     implicitsResolutionFilter: ImplicitsExtensionsResolutionFilter? = null,
-    sealedInheritorsProvider: SealedClassInheritorsProvider = CliSealedClassInheritorsProvider
+    sealedInheritorsProvider: SealedClassInheritorsProvider = CliSealedClassInheritorsProvider,
+    bodyResolveParallelism: BodyResolveParallelism? = null,
+    metadataProtoCache: KotlinMetadataProtoCache? = null
 ): StorageComponentContainer = createContainer("LazyResolveWithJava", JvmPlatformAnalyzerServices) {
     configureModule(
         moduleContext, jvmPlatform, JvmPlatformAnalyzerServices, bindingTrace, languageVersionSettings,
@@ -81,6 +84,8 @@ fun createContainerForLazyResolveWithJava(
     useInstance(packagePartProvider)
     useInstance(declarationProviderFactory)
     useInstanceIfNotNull(implicitsResolutionFilter)
+    useInstanceIfNotNull(bodyResolveParallelism)
+    useInstanceIfNotNull(metadataProtoCache)
 
     useInstance(VirtualFileFinderFactory.getInstance(moduleContext.project).create(moduleContentScope))
 
@@ -93,6 +93,17 @@ fun GlobalContext(debugName: String): GlobalContextImpl {
     }, { throw ProcessCanceledException(it) }), tracker)
 }
 
+/**
+ * Creates a context whose storage manager allows different threads to compute different lazy values at the same time,
+ * see [LockBasedStorageManager.createConcurrent]
+ */
+fun ConcurrentGlobalContext(debugName: String): GlobalContextImpl {
+    val tracker = ExceptionTracker()
+    return GlobalContextImpl(LockBasedStorageManager.createConcurrent(debugName, tracker, {
+        ProgressManager.checkCanceled()
+    }, { throw ProcessCanceledException(it) }), tracker)
+}
+
 fun ProjectContext(project: Project, debugName: String): ProjectContext = ProjectContextImpl(project, GlobalContext(debugName))
 fun ModuleContext(module: ModuleDescriptor, project: Project, debugName: String): ModuleContext =
     ModuleContextImpl(module, ProjectContext(project, debugName))
@@ -39,6 +39,7 @@ public class BindingTraceContext implements BindingTrace {
 
     private final MutableSlicedMap map;
     private final MutableDiagnosticsWithSuppression mutableDiagnostics;
+    private final boolean isThreadSafe;
 
     private final BindingContext bindingContext = new CleanableBindingContext() {
         @NotNull
@@ -91,11 +92,23 @@ public class BindingTraceContext implements BindingTrace {
     }
 
     public BindingTraceContext(BindingTraceFilter filter, boolean allowSliceRewrite) {
-        this(TRACK_REWRITES && !allowSliceRewrite ? new TrackingSlicedMap(TRACK_WITH_STACK_TRACES) : new SlicedMapImpl(allowSliceRewrite), filter);
+        this(TRACK_REWRITES && !allowSliceRewrite ? new TrackingSlicedMap(TRACK_WITH_STACK_TRACES) : new SlicedMapImpl(allowSliceRewrite), filter, false);
     }
 
-    private BindingTraceContext(@NotNull MutableSlicedMap map, BindingTraceFilter filter) {
+    /**
+     * @param isThreadSafe whether the trace can be used by several threads at the same time, e.g. while bodies of functions
+     *                     are resolved in parallel. The trace is read and written by several threads, but a key is still expected
+     *                     to be recorded by a single thread
+     */
+    public BindingTraceContext(BindingTraceFilter filter, boolean allowSliceRewrite, boolean isThreadSafe) {
+        this(isThreadSafe ? new SlicedMapImpl(allowSliceRewrite, true) :
+             TRACK_REWRITES && !allowSliceRewrite ? new TrackingSlicedMap(TRACK_WITH_STACK_TRACES) : new SlicedMapImpl(allowSliceRewrite),
+             filter, isThreadSafe);
+    }
+
+    private BindingTraceContext(@NotNull MutableSlicedMap map, BindingTraceFilter filter, boolean isThreadSafe) {
         this.map = map;
+        this.isThreadSafe = isThreadSafe;
         this.mutableDiagnostics =
                 filter.getIgnoreDiagnostics()
                 ? null
@@ -104,7 +117,7 @@ public class BindingTraceContext implements BindingTrace {
 
     @TestOnly
     public static BindingTraceContext createTraceableBindingTrace() {
-        return new BindingTraceContext(new TrackingSlicedMap(TRACK_WITH_STACK_TRACES), BindingTraceFilter.Companion.getACCEPT_ALL());
+        return new BindingTraceContext(new TrackingSlicedMap(TRACK_WITH_STACK_TRACES), BindingTraceFilter.Companion.getACCEPT_ALL(), false);
     }
 
     @Override
@@ -112,9 +125,19 @@ public class BindingTraceContext implements BindingTrace {
         if (mutableDiagnostics == null) {
             return;
         }
+        if (isThreadSafe) {
+            synchronized (mutableDiagnostics) {
+                mutableDiagnostics.report(diagnostic);
+            }
+            return;
+        }
         mutableDiagnostics.report(diagnostic);
     }
 
+    public boolean isThreadSafe() {
+        return isThreadSafe;
+    }
+
     public void clearDiagnostics() {
         if (mutableDiagnostics != null) {
             mutableDiagnostics.clear();
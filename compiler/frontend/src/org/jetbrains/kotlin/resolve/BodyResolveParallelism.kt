@@ -0,0 +1,25 @@
+/*
+ * Copyright 2010-2021 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.resolve
+
+import org.jetbrains.kotlin.container.DefaultImplementation
+
+/**
+ * Number of threads in which [BodyResolver] resolves bodies of functions of different files.
+ *
+ * More than one thread can be used only if the storage manager of the module is concurrent
+ * (see [org.jetbrains.kotlin.storage.LockBasedStorageManager.createConcurrent]) and the binding trace is thread-safe.
+ */
+@DefaultImplementation(BodyResolveParallelism.Sequential::class)
+interface BodyResolveParallelism {
+    val threads: Int
+
+    object Sequential : BodyResolveParallelism {
+        override val threads: Int get() = 1
+    }
+
+    class Parallel(override val threads: Int) : BodyResolveParallelism
+}
@@ -53,8 +53,13 @@ import org.jetbrains.kotlin.types.expressions.ValueParameterResolver;
 import org.jetbrains.kotlin.types.expressions.typeInfoFactory.TypeInfoFactoryKt;
 import org.jetbrains.kotlin.util.Box;
 import org.jetbrains.kotlin.util.ReenteringLazyValueComputationException;
+import org.jetbrains.kotlin.utils.ExceptionUtilsKt;
 
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.jetbrains.kotlin.config.LanguageFeature.AllowSealedInheritorsInDifferentFilesOfSamePackage;
 import static org.jetbrains.kotlin.config.LanguageFeature.TopLevelSealedInheritance;
@@ -79,6 +84,7 @@ public class BodyResolver {
     @NotNull private final KotlinBuiltIns builtIns;
     @NotNull private final OverloadChecker overloadChecker;
     @NotNull private final LanguageVersionSettings languageVersionSettings;
+    @NotNull private final BodyResolveParallelism bodyResolveParallelism;
 
     public BodyResolver(
             @NotNull Project project,
@@ -95,7 +101,8 @@ public class BodyResolver {
             @NotNull AnnotationChecker annotationChecker,
             @NotNull KotlinBuiltIns builtIns,
             @NotNull OverloadChecker overloadChecker,
-            @NotNull LanguageVersionSettings languageVersionSettings
+            @NotNull LanguageVersionSettings languageVersionSettings,
+            @NotNull BodyResolveParallelism bodyResolveParallelism
     ) {
         this.project = project;
         this.annotationResolver = annotationResolver;
@@ -112,6 +119,7 @@ public class BodyResolver {
         this.valueParameterResolver = valueParameterResolver;
         this.builtIns = builtIns;
         this.languageVersionSettings = languageVersionSettings;
+        this.bodyResolveParallelism = bodyResolveParallelism;
     }
 
     private void resolveBehaviorDeclarationBodies(@NotNull BodiesResolveContext c) {
@@ -952,22 +960,71 @@ public class BodyResolver {
     }
 
     private void resolveFunctionBodies(@NotNull BodiesResolveContext c) {
+        boolean useBodyResolveCache =
+                !c.getTopDownAnalysisMode().isLocalDeclarations() && !(bodyResolveCache instanceof BodyResolveCache.ThrowException) &&
+                expressionTypingServices.getStatementFilter() != StatementFilter.NONE;
+
+        if (!useBodyResolveCache && !c.getTopDownAnalysisMode().isLocalDeclarations() && bodyResolveParallelism.getThreads() > 1) {
+            resolveFunctionBodiesInParallel(c, bodyResolveParallelism.getThreads());
+            return;
+        }
+
         for (Map.Entry<KtNamedFunction, SimpleFunctionDescriptor> entry : c.getFunctions().entrySet()) {
             KtNamedFunction declaration = entry.getKey();
 
-            LexicalScope scope = c.getDeclaringScope(declaration);
-            assert scope != null : "Scope is null: " + PsiUtilsKt.getElementTextWithContext(declaration);
-
-            if (!c.getTopDownAnalysisMode().isLocalDeclarations() && !(bodyResolveCache instanceof BodyResolveCache.ThrowException) &&
-                expressionTypingServices.getStatementFilter() != StatementFilter.NONE) {
+            if (useBodyResolveCache) {
                 bodyResolveCache.resolveFunctionBody(declaration).addOwnDataTo(trace, true);
             }
             else {
-                resolveFunctionBody(c.getOuterDataFlowInfo(), trace, declaration, entry.getValue(), scope, c.getLocalContext());
+                resolveFunctionBody(c, declaration, entry.getValue());
             }
         }
     }
 
+    private void resolveFunctionBody(
+            @NotNull BodiesResolveContext c,
+            @NotNull KtNamedFunction declaration,
+            @NotNull SimpleFunctionDescriptor descriptor
+    ) {
+        LexicalScope scope = c.getDeclaringScope(declaration);
+        assert scope != null : "Scope is null: " + PsiUtilsKt.getElementTextWithContext(declaration);
+
+        resolveFunctionBody(c.getOuterDataFlowInfo(), trace, declaration, descriptor, scope, c.getLocalContext());
+    }
+
+    // Bodies of functions of different files are resolved in different threads, functions of a file are resolved in their order
+    private void resolveFunctionBodiesInParallel(@NotNull BodiesResolveContext c, int threads) {
+        Map<KtFile, List<Map.Entry<KtNamedFunction, SimpleFunctionDescriptor>>> functionsByFile = new LinkedHashMap<>();
+        for (Map.Entry<KtNamedFunction, SimpleFunctionDescriptor> entry : c.getFunctions().entrySet()) {
+            functionsByFile.computeIfAbsent(entry.getKey().getContainingKtFile(), file -> new ArrayList<>()).add(entry);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(threads, functionsByFile.size())));
+        try {
+            List<Future<?>> futures = new ArrayList<>(functionsByFile.size());
+            for (List<Map.Entry<KtNamedFunction, SimpleFunctionDescriptor>> functions : functionsByFile.values()) {
+                futures.add(executor.submit(() -> {
+                    for (Map.Entry<KtNamedFunction, SimpleFunctionDescriptor> entry : functions) {
+                        resolveFunctionBody(c, entry.getKey(), entry.getValue());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        catch (ExecutionException e) {
+            throw ExceptionUtilsKt.rethrow(e.getCause());
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw ExceptionUtilsKt.rethrow(e);
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
     public void resolveFunctionBody(
             @NotNull DataFlowInfo outerDataFlowInfo,
             @NotNull BindingTrace trace,
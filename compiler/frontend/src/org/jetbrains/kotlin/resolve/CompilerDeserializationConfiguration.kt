@@ -28,4 +28,6 @@ class CompilerDeserializationConfiguration(languageVersionSettings: LanguageVers
     override val readDeserializedContracts: Boolean = languageVersionSettings.supportsFeature(LanguageFeature.ReadDeserializedContracts)
 
     override val releaseCoroutines: Boolean = languageVersionSettings.supportsFeature(LanguageFeature.ReleaseCoroutines)
+
+    override val keepMemberProtosOffHeap: Boolean = languageVersionSettings.getFlag(AnalysisFlags.keepMemberProtosOffHeap)
 }
@@ -24,7 +24,10 @@ import com.intellij.util.keyFMap.KeyFMap;
 import kotlin.jvm.functions.Function3;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.jetbrains.kotlin.storage.EmptySimpleLock;
+import org.jetbrains.kotlin.storage.SimpleLock;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
@@ -32,12 +35,24 @@ import java.util.Map;
 public class SlicedMapImpl implements MutableSlicedMap {
 
     private final boolean alwaysAllowRewrite;
+    private final boolean isThreadSafe;
+    // Guards the maps, but not computing of values by slices
+    private final SimpleLock lock;
     @Nullable
     private Map<Object, KeyFMap> map = null;
     private Multimap<WritableSlice<?, ?>, Object> collectiveSliceKeys = null;
 
     public SlicedMapImpl(boolean alwaysAllowRewrite) {
+        this(alwaysAllowRewrite, false);
+    }
+
+    /**
+     * @param isThreadSafe whether the map can be read and written by several threads at the same time
+     */
+    public SlicedMapImpl(boolean alwaysAllowRewrite, boolean isThreadSafe) {
         this.alwaysAllowRewrite = alwaysAllowRewrite;
+        this.isThreadSafe = isThreadSafe;
+        this.lock = isThreadSafe ? SimpleLock.Companion.simpleLock(null, null) : EmptySimpleLock.INSTANCE;
     }
 
     @Override
@@ -46,6 +61,16 @@ public class SlicedMapImpl implements MutableSlicedMap {
             return;
         }
 
+        lock.lock();
+        try {
+            putUnderLock(slice, key, value);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    private <K, V> void putUnderLock(WritableSlice<K, V> slice, K key, V value) {
         if (map == null) {
             map = new OpenAddressLinearProbingHashTable<>();
         }
@@ -82,13 +107,26 @@ public class SlicedMapImpl implements MutableSlicedMap {
 
     @Override
     public void clear() {
-        map = null;
-        collectiveSliceKeys = null;
+        lock.lock();
+        try {
+            map = null;
+            collectiveSliceKeys = null;
+        }
+        finally {
+            lock.unlock();
+        }
     }
 
     @Override
     public <K, V> V get(ReadOnlySlice<K, V> slice, K key) {
-        KeyFMap holder = map != null ? map.get(key) : null;
+        KeyFMap holder;
+        lock.lock();
+        try {
+            holder = map != null ? map.get(key) : null;
+        }
+        finally {
+            lock.unlock();
+        }
 
         V value = holder == null ? null : holder.get(slice.getKey());
 
@@ -100,40 +138,60 @@ public class SlicedMapImpl implements MutableSlicedMap {
     public <K, V> Collection<K> getKeys(WritableSlice<K, V> slice) {
         assert slice.isCollective() : "Keys are not collected for slice " + slice;
 
-        if (collectiveSliceKeys == null) return Collections.emptyList();
-        return (Collection<K>) collectiveSliceKeys.get(slice);
+        lock.lock();
+        try {
+            if (collectiveSliceKeys == null) return Collections.emptyList();
+            Collection<K> keys = (Collection<K>) collectiveSliceKeys.get(slice);
+            // The live collection can't be read outside of the lock while other threads add keys to it
+            return isThreadSafe ? new ArrayList<>(keys) : keys;
+        }
+        finally {
+            lock.unlock();
+        }
     }
 
     @Override
     public void forEach(@NotNull Function3<WritableSlice, Object, Object, Void> f) {
-        if (map == null) return;
-        map.forEach((key, holder) -> {
-            if (holder == null) return;
+        lock.lock();
+        try {
+            if (map == null) return;
+            map.forEach((key, holder) -> {
+                if (holder == null) return;
 
-            for (Key<?> sliceKey : holder.getKeys()) {
-                Object value = holder.get(sliceKey);
+                for (Key<?> sliceKey : holder.getKeys()) {
+                    Object value = holder.get(sliceKey);
 
-                f.invoke(((AbstractWritableSlice) sliceKey).getSlice(), key, value);
-            }
-        });
+                    f.invoke(((AbstractWritableSlice) sliceKey).getSlice(), key, value);
+                }
+            });
+        }
+        finally {
+            lock.unlock();
+        }
     }
 
     @NotNull
     @Override
     @SuppressWarnings("unchecked")
     public <K, V> ImmutableMap<K, V> getSliceContents(@NotNull ReadOnlySlice<K, V> slice) {
-        if (map == null) return ImmutableMap.of();
+        lock.lock();
+        try {
+            if (map == null) return ImmutableMap.of();
 
-        ImmutableMap.Builder<K, V> builder = ImmutableMap.builder();
+            ImmutableMap.Builder<K, V> builder = ImmutableMap.builder();
 
-        map.forEach((key, holder) -> {
-            V value = holder.get(slice.getKey());
+            map.forEach((key, holder) -> {
+                V value = holder.get(slice.getKey());
 
-            if (value != null) {
-                builder.put((K) key, value);
-            }
-        });
+                if (value != null) {
+                    builder.put((K) key, value);
+                }
+            });
 
-        return builder.build();
+            return builder.build();
+        }
+        finally {
+            lock.unlock();
+        }
     }
 }
@@ -6,6 +6,7 @@
 package org.jetbrains.kotlin.incremental
 
 import org.jetbrains.kotlin.build.report.BuildReporter
+import org.jetbrains.kotlin.incremental.snapshots.murmurHash128
 import org.jetbrains.kotlin.metadata.deserialization.NameResolverImpl
 import org.jetbrains.kotlin.metadata.jvm.deserialization.JvmNameResolver
 import org.jetbrains.kotlin.metadata.jvm.deserialization.JvmProtoBufUtil
@@ -16,106 +17,119 @@ import java.io.*
 
 interface AbiSnapshot {
     val protos: MutableMap<FqName, ProtoData>
-}
-
 
+    /**
+     * Returns hash of the serialized proto of [fqName] if it's known without deserializing the proto,
+     *   i.e. if the snapshot was read from a file and the proto was not replaced since then.
+     * Protos with equal hashes are equal
+     */
+    fun getProtoHash(fqName: FqName): ByteArray? = null
+}
 
 class AbiSnapshotImpl(override val protos: MutableMap<FqName, ProtoData>) : AbiSnapshot {
+    override fun getProtoHash(fqName: FqName): ByteArray? = (protos as? EncodedProtoDataMap)?.getHash(fqName)
 
     companion object {
-        fun ObjectInputStream.readStringArray(): Array<String> {
-            val size = readInt()
-            val stringArray = arrayOfNulls<String>(size)
-            repeat(size) {
-                stringArray[it] = readUTF()
-            }
+        private const val MAGIC = 0x4b414249 // "KABI"
+        private const val VERSION = 1
 
-            return stringArray.requireNoNulls()
-        }
-
-
-        fun ObjectInputStream.readAbiSnapshot(): AbiSnapshotImpl {
+        fun DataInput.readAbiSnapshot(): AbiSnapshotImpl {
             // Format:
+            // magic: Int, version: Int
+            // string table: size: Int, strings
+            // data: size: Int, proto bytes of all records
             // numRecords: Int
             // record {
-            //   fqName
+            //   fqName: index in the string table
             //   isClassProtoData
-            //   *for packageClassData - packageFqName
-            //   protodata via JvmProtoBufUtil
-            //   string array with size
+            //   *for packageClassData - packageFqName: index in the string table
+            //   hash of proto bytes and strings
+            //   offset and size of proto bytes in data
+            //   strings of the name resolver: size: Int, indices in the string table
             // }
-            val size = readInt()
-            val mutableMap = hashMapOf<FqName, ProtoData>()
-            repeat(size) {
-                val fqNameString = readUTF()
-                val isClassProtoData = readBoolean()
-                if (isClassProtoData) {
-                    val fqName = FqName(fqNameString)
-                    val bytes = readStringArray()
-                    val strings = readStringArray()
-                    val (nameResolver, classProto) = JvmProtoBufUtil.readClassDataFrom(bytes, strings)
-                    mutableMap[fqName] = ClassProtoData(classProto, nameResolver)
-                } else {
-                    val fqName = FqName(fqNameString)
-                    val packageFqName = FqName(readUTF())
-                    val bytes = readStringArray()
-                    val strings = readStringArray()
-                    val (nameResolver, proto) = JvmProtoBufUtil.readPackageDataFrom(bytes, strings)
-                    mutableMap[fqName] = PackagePartProtoData(proto, nameResolver, packageFqName)
-                }
+            // Protos are deserialized only on the first access
+            if (readInt() != MAGIC) throw IOException("Unknown format of ABI snapshot")
+            val version = readInt()
+            if (version != VERSION) throw IOException("Unknown version of ABI snapshot: $version")
+
+            val stringTable = Array(readInt()) { readUTF() }
+            val data = ByteArray(readInt()).also { readFully(it) }
+            val numRecords = readInt()
+            val records = LinkedHashMap<FqName, Any>(numRecords)
+            repeat(numRecords) {
+                val fqName = FqName(stringTable[readInt()])
+                val packageFqName = if (readBoolean()) null else FqName(stringTable[readInt()])
+                val hash = ByteArray(HASH_SIZE).also { readFully(it) }
+                val offset = readInt()
+                val size = readInt()
+                val strings = Array(readInt()) { stringTable[readInt()] }
+                records[fqName] = EncodedProtoData(hash, data, offset, size, strings, packageFqName)
             }
-            return AbiSnapshotImpl(mutableMap)
+            return AbiSnapshotImpl(EncodedProtoDataMap(records))
         }
 
-        fun ObjectOutputStream.writeStringArray(stringArray: Array<String>) {
-            writeInt(stringArray.size)
-            stringArray.forEach { writeUTF(it) }
+        fun DataOutput.writeAbiSnapshot(abiSnapshot: AbiSnapshot) {
+            val encodedProtos = abiSnapshot.protos.encodedEntries().map { (fqName, protoData) -> fqName to protoData.encodeIfNeeded() }
+
+            val stringIndices = LinkedHashMap<String, Int>()
+            fun index(string: String): Int = stringIndices.getOrPut(string) { stringIndices.size }
+            for ((fqName, encoded) in encodedProtos) {
+                index(fqName.asString())
+                encoded.packageFqName?.let { index(it.asString()) }
+                encoded.strings.forEach(::index)
+            }
+
+            writeInt(MAGIC)
+            writeInt(VERSION)
+            writeInt(stringIndices.size)
+            stringIndices.keys.forEach(::writeUTF)
+
+            writeInt(encodedProtos.sumOf { it.second.size })
+            for ((_, encoded) in encodedProtos) {
+                write(encoded.data, encoded.offset, encoded.size)
+            }
+
+            writeInt(encodedProtos.size)
+            var offset = 0
+            for ((fqName, encoded) in encodedProtos) {
+                writeInt(index(fqName.asString()))
+                writeBoolean(encoded.packageFqName == null)
+                encoded.packageFqName?.let { writeInt(index(it.asString())) }
+                write(encoded.hash)
+                writeInt(offset)
+                writeInt(encoded.size)
+                writeInt(encoded.strings.size)
+                encoded.strings.forEach { writeInt(index(it)) }
+                offset += encoded.size
+            }
         }
 
-        fun ObjectOutputStream.writeAbiSnapshot(abiSnapshot: AbiSnapshot) {
-            //TODO(valtman) temp solution while packageProto is not fully support
-            writeInt(abiSnapshot.protos.size)
-            for (entry in abiSnapshot.protos) {
-                writeUTF(entry.key.asString())
-                val protoData = entry.value
-                when (protoData) {
-                    is ClassProtoData -> {
-                        writeBoolean(true) //TODO(valtman) until PackageProto doesn't work
-                        val nameResolver = protoData.nameResolver
-                        when (nameResolver) {
-                            is NameResolverImpl -> {
-                                writeMessageWithNameResolverImpl(protoData.proto, nameResolver)
-                            }
-                            is JvmNameResolver -> {
-                                writeMessageWithJvmNameResolver(protoData.proto, nameResolver)
-                            }
-                            else -> throw IllegalStateException("Can't store name resolver for class proto: ${nameResolver.javaClass}")
-                        }
-                    }
-                    is PackagePartProtoData -> {
-                        writeBoolean(false)
-                        writeUTF(protoData.packageFqName.asString())
-
-                        val nameResolver = protoData.nameResolver
-                        when (nameResolver) {
-                            is JvmNameResolver -> {
-                                writeMessageWithJvmNameResolver(protoData.proto, nameResolver)
-                            }
-                            is NameResolverImpl -> {
-                                writeMessageWithNameResolverImpl(protoData.proto, nameResolver)
-                            }
-                            else -> throw IllegalStateException("Can't store name resolver for package proto: ${nameResolver.javaClass}")
-                        }
+        // Protos which were read from a snapshot and were not accessed since then are written as is, without serializing them again
+        private fun MutableMap<FqName, ProtoData>.encodedEntries(): List<Pair<FqName, Any>> =
+            if (this is EncodedProtoDataMap) rawEntries() else entries.map { it.key to it.value }
 
-                    }
+        private fun Any.encodeIfNeeded(): EncodedProtoData =
+            this as? EncodedProtoData ?: (this as ProtoData).encode()
+
+        private fun ProtoData.encode(): EncodedProtoData {
+            //TODO(valtman) temp solution while packageProto is not fully support
+            val (bytes, strings) = when (this) {
+                is ClassProtoData -> when (nameResolver) {
+                    is NameResolverImpl -> serializeWithNameResolverImpl(proto, nameResolver)
+                    is JvmNameResolver -> serializeWithJvmNameResolver(proto, nameResolver)
+                    else -> throw IllegalStateException("Can't store name resolver for class proto: ${nameResolver.javaClass}")
+                }
+                is PackagePartProtoData -> when (nameResolver) {
+                    is JvmNameResolver -> serializeWithJvmNameResolver(proto, nameResolver)
+                    is NameResolverImpl -> serializeWithNameResolverImpl(proto, nameResolver)
+                    else -> throw IllegalStateException("Can't store name resolver for package proto: ${nameResolver.javaClass}")
                 }
             }
+            val packageFqName = (this as? PackagePartProtoData)?.packageFqName
+            return EncodedProtoData(computeHash(bytes, strings), bytes, 0, bytes.size, strings, packageFqName)
         }
 
-        private fun ObjectOutputStream.writeMessageWithNameResolverImpl(
-            message: MessageLite,
-            nameResolver: NameResolverImpl
-        ) {
+        private fun serializeWithNameResolverImpl(message: MessageLite, nameResolver: NameResolverImpl): Pair<ByteArray, Array<String>> {
             val stringTable = JvmStringTable()
             repeat(nameResolver.strings.getStringCount()) {
                 stringTable.getStringIndex(nameResolver.getString(it))
@@ -126,40 +140,141 @@ class AbiSnapshotImpl(override val protos: MutableMap<FqName, ProtoData>) : AbiS
                     nameResolver.isLocalClassName(it)
                 )
             }
-            val writeData = JvmProtoBufUtil.writeData(message, stringTable)
-            writeStringArray(writeData)
-            val size = nameResolver.strings.getStringCount()
-            writeInt(size)
-            repeat(size) {
-                val string = nameResolver.getString(it)
-                writeUTF(string)
-            }
+            val strings = Array(nameResolver.strings.getStringCount()) { nameResolver.getString(it) }
+            return serialize(message, stringTable) to strings
         }
 
-        private fun ObjectOutputStream.writeMessageWithJvmNameResolver(
-            message: MessageLite,
-            nameResolver: JvmNameResolver
-        ) {
-            val writeData = JvmProtoBufUtil.writeData(message, JvmStringTable(nameResolver))
-            writeStringArray(writeData)
-            writeStringArray(nameResolver.strings)
+        private fun serializeWithJvmNameResolver(message: MessageLite, nameResolver: JvmNameResolver): Pair<ByteArray, Array<String>> =
+            serialize(message, JvmStringTable(nameResolver)) to nameResolver.strings
+
+        // Same bytes as JvmProtoBufUtil.writeData produces, but without encoding them to strings
+        private fun serialize(message: MessageLite, stringTable: JvmStringTable): ByteArray =
+            ByteArrayOutputStream().apply {
+                stringTable.serializeTo(this)
+                message.writeTo(this)
+            }.toByteArray()
+
+        private fun computeHash(bytes: ByteArray, strings: Array<String>): ByteArray {
+            val output = ByteArrayOutputStream(bytes.size + strings.sumOf { it.length + 4 })
+            DataOutputStream(output).use { dataOutput ->
+                dataOutput.write(bytes)
+                for (string in strings) {
+                    val stringBytes = string.toByteArray(Charsets.UTF_8)
+                    dataOutput.writeInt(stringBytes.size)
+                    dataOutput.write(stringBytes)
+                }
+            }
+            return output.toByteArray().murmurHash128()
         }
 
+        private const val HASH_SIZE = 16
+
         fun write(buildInfo: AbiSnapshot, file: File) {
-            ObjectOutputStream(FileOutputStream(file)).use {
+            DataOutputStream(BufferedOutputStream(FileOutputStream(file))).use {
                 it.writeAbiSnapshot(buildInfo)
             }
         }
 
+        /**
+         * Returns null if [file] doesn't exist, throws [IOException] if it has an unknown format or is corrupted
+         */
         fun read(file: File, reporter: BuildReporter): AbiSnapshot? {
             if (!file.exists()) {
                 reporter.report { "jar snapshot $file is found for jar" }
                 return null
             }
 
-            ObjectInputStream(FileInputStream(file)).use {
-                return it.readAbiSnapshot()
+            try {
+                DataInputStream(ByteArrayInputStream(file.readBytes())).use {
+                    return it.readAbiSnapshot()
+                }
+            } catch (e: RuntimeException) {
+                // Out of range indices and sizes of a corrupted file
+                throw IOException("Corrupted ABI snapshot $file", e)
             }
         }
     }
-}
\ No newline at end of file
+}
+
+private class EncodedProtoData(
+    val hash: ByteArray,
+    val data: ByteArray,
+    val offset: Int,
+    val size: Int,
+    val strings: Array<String>,
+    // null for class protos
+    val packageFqName: FqName?
+) {
+    fun decode(): ProtoData {
+        val bytes = data.copyOfRange(offset, offset + size)
+        return if (packageFqName == null) {
+            val (nameResolver, classProto) = JvmProtoBufUtil.readClassDataFrom(bytes, strings)
+            ClassProtoData(classProto, nameResolver)
+        } else {
+            val (nameResolver, packageProto) = JvmProtoBufUtil.readPackageDataFrom(bytes, strings)
+            PackagePartProtoData(packageProto, nameResolver, packageFqName)
+        }
+    }
+}
+
+/**
+ * Map of protos read from an ABI snapshot, values are either [ProtoData] or [EncodedProtoData] which is decoded on the first access
+ */
+private class EncodedProtoDataMap(private val protos: MutableMap<FqName, Any>) : AbstractMutableMap<FqName, ProtoData>() {
+    fun getHash(fqName: FqName): ByteArray? = (protos[fqName] as? EncodedProtoData)?.hash
+
+    fun rawEntries(): List<Pair<FqName, Any>> = protos.entries.map { it.key to it.value }
+
+    private fun decodeIfNeeded(fqName: FqName, value: Any?): ProtoData? = when (value) {
+        null -> null
+        is EncodedProtoData -> value.decode().also { protos[fqName] = it }
+        else -> value as ProtoData
+    }
+
+    override val size: Int
+        get() = protos.size
+
+    override fun containsKey(key: FqName): Boolean = protos.containsKey(key)
+
+    override fun get(key: FqName): ProtoData? = decodeIfNeeded(key, protos[key])
+
+    override fun put(key: FqName, value: ProtoData): ProtoData? {
+        val previous = protos.put(key, value)
+        return if (previous is EncodedProtoData) previous.decode() else previous as ProtoData?
+    }
+
+    override fun remove(key: FqName): ProtoData? {
+        val previous = protos.remove(key)
+        return if (previous is EncodedProtoData) previous.decode() else previous as ProtoData?
+    }
+
+    override val entries: MutableSet<MutableMap.MutableEntry<FqName, ProtoData>> = object : AbstractMutableSet<MutableMap.MutableEntry<FqName, ProtoData>>() {
+        override val size: Int
+            get() = protos.size
+
+        override fun add(element: MutableMap.MutableEntry<FqName, ProtoData>): Boolean =
+            throw UnsupportedOperationException()
+
+        override fun iterator(): MutableIterator<MutableMap.MutableEntry<FqName, ProtoData>> {
+            val iterator = protos.entries.iterator()
+            return object : MutableIterator<MutableMap.MutableEntry<FqName, ProtoData>> {
+                override fun hasNext(): Boolean = iterator.hasNext()
+
+                override fun next(): MutableMap.MutableEntry<FqName, ProtoData> {
+                    val entry = iterator.next()
+                    return object : MutableMap.MutableEntry<FqName, ProtoData> {
+                        override val key: FqName
+                            get() = entry.key
+
+                        override val value: ProtoData
+                            get() = decodeIfNeeded(entry.key, entry.value)!!
+
+                        override fun setValue(newValue: ProtoData): ProtoData = value.also { entry.setValue(newValue) }
+                    }
+                }
+
+                override fun remove() = iterator.remove()
+            }
+        }
+    }
+}
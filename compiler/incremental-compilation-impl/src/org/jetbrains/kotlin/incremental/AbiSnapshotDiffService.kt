@@ -31,8 +31,13 @@ class AbiSnapshotDiffService() {
             val dirtyFqNames = mutableListOf<FqName>()
             val dirtyLookupSymbols = mutableListOf<LookupSymbol>()
 
-            for ((fqName, protoData) in snapshot.protos) {
+            for (fqName in snapshot.protos.keys) {
                 if (!inScope(fqName, scopes)) continue
+                // Protos with the same hashes are not changed, so they're not even deserialized
+                val oldHash = snapshot.getProtoHash(fqName)
+                if (oldHash != null && oldHash.contentEquals(actual.getProtoHash(fqName))) continue
+
+                val protoData = snapshot.protos.getValue(fqName)
                 val newProtoData = actual.protos[fqName]
                 if (newProtoData == null) {
                     val (fqNames, symbols) = addProtoInfo(protoData, fqName)
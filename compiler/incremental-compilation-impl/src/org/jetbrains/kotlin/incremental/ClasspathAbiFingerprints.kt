@@ -0,0 +1,352 @@
+/*
+ * Copyright 2010-2021 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.incremental
+
+import org.jetbrains.kotlin.build.report.BuildReporter
+import org.jetbrains.kotlin.incremental.snapshots.murmurHash128
+import org.jetbrains.kotlin.incremental.storage.ConstantsMapExternalizer
+import org.jetbrains.kotlin.incremental.storage.ProtoMapValue
+import org.jetbrains.kotlin.incremental.storage.ProtoMapValueExternalizer
+import org.jetbrains.kotlin.incremental.storage.StringToLongMapExternalizer
+import org.jetbrains.kotlin.load.kotlin.header.KotlinClassHeader
+import org.jetbrains.kotlin.metadata.jvm.deserialization.BitEncoding
+import org.jetbrains.kotlin.name.SpecialNames
+import org.jetbrains.kotlin.resolve.jvm.JvmClassName
+import org.jetbrains.org.objectweb.asm.ClassReader
+import org.jetbrains.org.objectweb.asm.ClassVisitor
+import org.jetbrains.org.objectweb.asm.FieldVisitor
+import org.jetbrains.org.objectweb.asm.MethodVisitor
+import org.jetbrains.org.objectweb.asm.Opcodes
+import java.io.*
+import java.nio.ByteBuffer
+import java.util.zip.ZipInputStream
+
+/**
+ * ABI fingerprints of classes from classpath jars, which are used to compute changes in jars without build history
+ *   (e.g. third-party libraries).
+ *
+ * Kotlin classes are fingerprinted by their metadata, constants and hashes of inline function bodies, which are compared
+ *   the same way as [IncrementalJvmCache] compares compiled classes, so only changed members are marked dirty.
+ * Java classes are fingerprinted by hashes of the class signature and of non-private members grouped by name.
+ * Fingerprints are computed once per jar checksum and stored in [directory] along with the jars from the classpath of the last build,
+ *   so that a changed jar can be compared with its previous version
+ */
+class ClasspathAbiFingerprints(private val directory: File) {
+    private sealed class ClassFingerprint {
+        class Kotlin(
+            val proto: ProtoMapValue,
+            val constants: Map<String, Any>,
+            val inlineFunctions: Map<String, Long>
+        ) : ClassFingerprint()
+
+        class Java(val signatureHash: Long, val memberHashes: Map<String, Long>) : ClassFingerprint()
+    }
+
+    private class JarState(val length: Long, val timeStamp: Long, val checksum: String)
+
+    private val classpathFile = File(directory, CLASSPATH_FILE_NAME)
+
+    // null if the classpath of the last build is unknown
+    private val lastClasspath: Map<String, JarState>? by lazy { readClasspath() }
+
+    /**
+     * Returns changes between the previous versions of [removedJars] and [modifiedJars] and the current versions of [modifiedJars],
+     *   or `null` if they can't be computed, because some jars were not on the classpath of the last build.
+     * Jars of the last build which are not on [classpath] anymore (e.g. the previous version of an updated library) are treated as removed
+     */
+    fun getChanges(
+        classpath: Collection<File>,
+        removedJars: Collection<File>,
+        modifiedJars: Collection<File>,
+        caches: IncrementalCacheCommon,
+        reporter: BuildReporter
+    ): DirtyData? {
+        val lastClasspath = lastClasspath ?: return null
+
+        val classpathPaths = classpath.mapTo(HashSet()) { it.absolutePath }
+        val removedPaths = removedJars.mapTo(LinkedHashSet()) { it.absolutePath }
+        lastClasspath.keys.filterTo(removedPaths) { it !in classpathPaths }
+
+        val oldClasses = HashMap<String, ClassFingerprint>()
+        for (path in removedPaths) {
+            val state = lastClasspath[path] ?: return null
+            oldClasses.putAll(readFingerprints(state.checksum) ?: return null)
+        }
+        val newClasses = HashMap<String, ClassFingerprint>()
+        for (jar in modifiedJars) {
+            // Jars which were not on the classpath are new, so all their classes are added
+            lastClasspath[jar.absolutePath]?.let { state -> oldClasses.putAll(readFingerprints(state.checksum) ?: return null) }
+            newClasses.putAll(getOrComputeFingerprints(jar).second)
+        }
+
+        val changesCollector = ChangesCollector()
+        for (internalName in oldClasses.keys + newClasses.keys) {
+            val oldClass = oldClasses[internalName]
+            val newClass = newClasses[internalName]
+            val className = JvmClassName.byInternalName(internalName)
+            when {
+                oldClass is ClassFingerprint.Kotlin? && newClass is ClassFingerprint.Kotlin? ->
+                    changesCollector.collectKotlinChanges(className, oldClass, newClass)
+                oldClass is ClassFingerprint.Java? && newClass is ClassFingerprint.Java? ->
+                    changesCollector.collectJavaChanges(className, oldClass, newClass)
+                else -> {
+                    // A Java class was replaced with a Kotlin one or vice versa
+                    changesCollector.collectClassChanges(className, oldClass, null)
+                    changesCollector.collectClassChanges(className, null, newClass)
+                }
+            }
+        }
+        return changesCollector.getDirtyData(listOf(caches), reporter)
+    }
+
+    private fun ChangesCollector.collectClassChanges(className: JvmClassName, oldClass: ClassFingerprint?, newClass: ClassFingerprint?) {
+        when (oldClass ?: newClass) {
+            is ClassFingerprint.Kotlin -> collectKotlinChanges(className, oldClass as ClassFingerprint.Kotlin?, newClass as ClassFingerprint.Kotlin?)
+            is ClassFingerprint.Java -> collectJavaChanges(className, oldClass as ClassFingerprint.Java?, newClass as ClassFingerprint.Java?)
+        }
+    }
+
+    // See ProtoMap, ConstantsMap and InlineFunctionsMap in IncrementalJvmCache
+    private fun ChangesCollector.collectKotlinChanges(className: JvmClassName, oldClass: ClassFingerprint.Kotlin?, newClass: ClassFingerprint.Kotlin?) {
+        if (oldClass == null && newClass == null) return
+        val packageFqName = className.packageFqName
+        collectProtoChanges(
+            oldClass?.proto?.toProtoData(packageFqName), newClass?.proto?.toProtoData(packageFqName),
+            packageProtoKey = className.internalName
+        )
+
+        val isPackageFacade = (newClass ?: oldClass)!!.proto.isPackageFacade
+        val classFqName = className.fqNameForClassNameWithoutDollars
+        val scopeFqName = if (isPackageFacade) packageFqName else classFqName
+        val oldConstants = oldClass?.constants.orEmpty()
+        val newConstants = newClass?.constants.orEmpty()
+        for (const in oldConstants.keys + newConstants.keys) {
+            // Constant can be declared via companion object or via const field declaration
+            if (!isPackageFacade) {
+                collectMemberIfValueWasChanged(
+                    classFqName.child(SpecialNames.DEFAULT_NAME_FOR_COMPANION_OBJECT), const, oldConstants[const], newConstants[const]
+                )
+            }
+            collectMemberIfValueWasChanged(scopeFqName, const, oldConstants[const], newConstants[const])
+        }
+
+        val oldInlineFunctions = oldClass?.inlineFunctions.orEmpty()
+        val newInlineFunctions = newClass?.inlineFunctions.orEmpty()
+        for (fn in oldInlineFunctions.keys + newInlineFunctions.keys) {
+            collectMemberIfValueWasChanged(scopeFqName, fn.substringBefore("("), oldInlineFunctions[fn], newInlineFunctions[fn])
+        }
+    }
+
+    private fun ChangesCollector.collectJavaChanges(className: JvmClassName, oldClass: ClassFingerprint.Java?, newClass: ClassFingerprint.Java?) {
+        if (oldClass == null && newClass == null) return
+        val fqName = className.fqNameForClassNameWithoutDollars
+        if (oldClass?.signatureHash != newClass?.signatureHash) {
+            collectSignature(fqName, areSubclassesAffected = true)
+        }
+        val oldMembers = oldClass?.memberHashes.orEmpty()
+        val newMembers = newClass?.memberHashes.orEmpty()
+        for (member in oldMembers.keys + newMembers.keys) {
+            collectMemberIfValueWasChanged(fqName, member, oldMembers[member], newMembers[member])
+        }
+    }
+
+    /**
+     * Saves fingerprints of [classpath] jars, they will be compared with the classpath of the next build.
+     * Fingerprints of jars which are not on [classpath] anymore are deleted
+     */
+    fun update(classpath: Collection<File>) {
+        val lastClasspath = lastClasspath.orEmpty()
+        val states = LinkedHashMap<String, JarState>()
+        for (jar in classpath) {
+            if (!jar.isFile || !jar.extension.equals("jar", ignoreCase = true)) continue
+            val path = jar.absolutePath
+            val lastState = lastClasspath[path]
+            states[path] =
+                if (lastState != null && lastState.length == jar.length() && lastState.timeStamp == jar.lastModified()) lastState
+                else JarState(jar.length(), jar.lastModified(), getOrComputeFingerprints(jar).first)
+        }
+
+        directory.mkdirs()
+        DataOutputStream(BufferedOutputStream(FileOutputStream(classpathFile))).use { output ->
+            output.writeInt(VERSION)
+            output.writeInt(states.size)
+            for ((path, state) in states) {
+                output.writeUTF(path)
+                output.writeLong(state.length)
+                output.writeLong(state.timeStamp)
+                output.writeUTF(state.checksum)
+            }
+        }
+
+        val usedChecksums = states.values.mapTo(HashSet()) { it.checksum }
+        directory.listFiles()?.forEach { file ->
+            if (file != classpathFile && file.extension == FINGERPRINTS_FILE_EXTENSION && file.nameWithoutExtension !in usedChecksums) {
+                file.delete()
+            }
+        }
+    }
+
+    private fun readClasspath(): Map<String, JarState>? {
+        if (!classpathFile.isFile) return null
+        return try {
+            DataInputStream(BufferedInputStream(FileInputStream(classpathFile))).use { input ->
+                if (input.readInt() != VERSION) return null
+                val size = input.readInt()
+                val result = HashMap<String, JarState>(size)
+                repeat(size) {
+                    result[input.readUTF()] = JarState(input.readLong(), input.readLong(), input.readUTF())
+                }
+                result
+            }
+        } catch (e: IOException) {
+            null
+        }
+    }
+
+    private fun getOrComputeFingerprints(jar: File): Pair<String, Map<String, ClassFingerprint>> {
+        val bytes = jar.readBytes()
+        val checksum = bytes.murmurHash128().joinToString("") { "%02x".format(it) }
+        readFingerprints(checksum)?.let { return checksum to it }
+
+        val fingerprints = computeFingerprints(jar, bytes)
+        writeFingerprints(checksum, fingerprints)
+        return checksum to fingerprints
+    }
+
+    private fun fingerprintsFile(checksum: String) = File(directory, "$checksum.$FINGERPRINTS_FILE_EXTENSION")
+
+    private fun readFingerprints(checksum: String): Map<String, ClassFingerprint>? {
+        val file = fingerprintsFile(checksum)
+        if (!file.isFile) return null
+        return try {
+            DataInputStream(BufferedInputStream(FileInputStream(file))).use { input ->
+                if (input.readInt() != VERSION) return null
+                val size = input.readInt()
+                val result = HashMap<String, ClassFingerprint>(size)
+                repeat(size) {
+                    val internalName = input.readUTF()
+                    result[internalName] = if (input.readBoolean()) {
+                        ClassFingerprint.Kotlin(
+                            ProtoMapValueExternalizer.read(input),
+                            ConstantsMapExternalizer.read(input),
+                            StringToLongMapExternalizer.read(input)!!
+                        )
+                    } else {
+                        ClassFingerprint.Java(input.readLong(), StringToLongMapExternalizer.read(input)!!)
+                    }
+                }
+                result
+            }
+        } catch (e: IOException) {
+            null
+        }
+    }
+
+    private fun writeFingerprints(checksum: String, fingerprints: Map<String, ClassFingerprint>) {
+        directory.mkdirs()
+        DataOutputStream(BufferedOutputStream(FileOutputStream(fingerprintsFile(checksum)))).use { output ->
+            output.writeInt(VERSION)
+            output.writeInt(fingerprints.size)
+            for ((internalName, fingerprint) in fingerprints) {
+                output.writeUTF(internalName)
+                when (fingerprint) {
+                    is ClassFingerprint.Kotlin -> {
+                        output.writeBoolean(true)
+                        ProtoMapValueExternalizer.save(output, fingerprint.proto)
+                        ConstantsMapExternalizer.save(output, fingerprint.constants)
+                        StringToLongMapExternalizer.save(output, fingerprint.inlineFunctions)
+                    }
+                    is ClassFingerprint.Java -> {
+                        output.writeBoolean(false)
+                        output.writeLong(fingerprint.signatureHash)
+                        StringToLongMapExternalizer.save(output, fingerprint.memberHashes)
+                    }
+                }
+            }
+        }
+    }
+
+    private fun computeFingerprints(jar: File, jarBytes: ByteArray): Map<String, ClassFingerprint> {
+        val result = HashMap<String, ClassFingerprint>()
+        ZipInputStream(ByteArrayInputStream(jarBytes)).use { zip ->
+            while (true) {
+                val entry = zip.nextEntry ?: break
+                if (entry.isDirectory || !entry.name.endsWith(".class") || entry.name.endsWith("module-info.class")) continue
+                val classBytes = zip.readBytes()
+                val (internalName, fingerprint) = computeFingerprint(File(jar, entry.name), classBytes) ?: continue
+                result[internalName] = fingerprint
+            }
+        }
+        return result
+    }
+
+    private fun computeFingerprint(classFile: File, classBytes: ByteArray): Pair<String, ClassFingerprint>? {
+        val kotlinClass = LocalFileKotlinClass.create(classFile, classBytes)
+        if (kotlinClass == null) {
+            val javaClass = JavaClassInfoCollector()
+            ClassReader(classBytes).accept(javaClass, ClassReader.SKIP_CODE or ClassReader.SKIP_DEBUG or ClassReader.SKIP_FRAMES)
+            val internalName = javaClass.internalName ?: return null
+            val memberHashes = javaClass.memberSignatures.mapValues { (_, signatures) -> signatures.sorted().hash() }
+            return internalName to ClassFingerprint.Java(listOf(javaClass.classSignature).hash(), memberHashes)
+        }
+
+        val classInfo = KotlinClassInfo(kotlinClass)
+        when (classInfo.classKind) {
+            KotlinClassHeader.Kind.CLASS, KotlinClassHeader.Kind.FILE_FACADE, KotlinClassHeader.Kind.MULTIFILE_CLASS_PART -> {}
+            // Members of multifile facades are declared in their parts, synthetic classes are not visible from sources
+            else -> return null
+        }
+        val proto = ProtoMapValue(
+            classInfo.classKind != KotlinClassHeader.Kind.CLASS,
+            BitEncoding.decodeBytes(classInfo.classHeaderData ?: return null),
+            classInfo.classHeaderStrings ?: return null
+        )
+        return classInfo.className.internalName to ClassFingerprint.Kotlin(proto, classInfo.constantsMap, classInfo.inlineFunctionsMap)
+    }
+
+    private class JavaClassInfoCollector : ClassVisitor(Opcodes.API_VERSION) {
+        var internalName: String? = null
+        var classSignature = ""
+        // Overloads are grouped, since usages are tracked by member names
+        val memberSignatures = HashMap<String, MutableList<String>>()
+
+        override fun visit(version: Int, access: Int, name: String, signature: String?, superName: String?, interfaces: Array<out String>?) {
+            internalName = name
+            classSignature = "class $access $name $signature $superName ${interfaces?.joinToString()}"
+        }
+
+        override fun visitField(access: Int, name: String, desc: String, signature: String?, value: Any?): FieldVisitor? {
+            if (access and Opcodes.ACC_PRIVATE != 0) return null
+            // Constants are inlined into call sites, so their values are a part of ABI
+            memberSignatures.getOrPut(name) { ArrayList() }.add("field $access $name $desc $signature $value")
+            return null
+        }
+
+        override fun visitMethod(access: Int, name: String, desc: String, signature: String?, exceptions: Array<out String>?): MethodVisitor? {
+            if (access and Opcodes.ACC_PRIVATE != 0) return null
+            memberSignatures.getOrPut(name) { ArrayList() }.add("method $access $name $desc $signature ${exceptions?.joinToString()}")
+            return null
+        }
+    }
+
+    companion object {
+        private const val VERSION = 2
+        private const val CLASSPATH_FILE_NAME = "classpath.bin"
+        private const val FINGERPRINTS_FILE_EXTENSION = "bin"
+
+        private fun List<String>.hash(): Long {
+            val hashOutput = ByteArrayOutputStream()
+            DataOutputStream(hashOutput).use { output ->
+                for (string in this) {
+                    val bytes = string.toByteArray(Charsets.UTF_8)
+                    output.writeInt(bytes.size)
+                    output.write(bytes)
+                }
+            }
+            return ByteBuffer.wrap(hashOutput.toByteArray().murmurHash128()).long
+        }
+    }
+}
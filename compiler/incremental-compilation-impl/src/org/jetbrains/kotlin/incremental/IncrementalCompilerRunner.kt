@@ -94,8 +94,8 @@ abstract class IncrementalCompilerRunner<
         if (withSnapshot) {
             reporter.report { "Incremental compilation with ABI snapshot enabled" }
         }
-        //TODO if abi-snapshot is corrupted unable to rebuild. Should roll back to withSnapshot = false?
-        val classpathAbiSnapshot =
+        // null if ABI snapshots of some dependencies can't be read, then their changes are unknown and everything is rebuilt
+        val classpathAbiSnapshotOrNull =
             if (withSnapshot) {
                 reporter.measure(BuildTime.SET_UP_ABI_SNAPSHOTS) {
                     setupJarDependencies(args, withSnapshot, reporter)
@@ -103,6 +103,7 @@ abstract class IncrementalCompilerRunner<
             } else {
                 emptyMap()
             }
+        val classpathAbiSnapshot = classpathAbiSnapshotOrNull ?: emptyMap()
 
         fun rebuild(reason: BuildAttribute): ExitCode {
             reporter.report { "Non-incremental compilation will be performed: $reason" }
@@ -136,7 +137,9 @@ abstract class IncrementalCompilerRunner<
             }
 
 
-            val compilationMode = sourcesToCompile(caches, changedFiles, args, messageCollector, classpathAbiSnapshot)
+            val compilationMode =
+                if (classpathAbiSnapshotOrNull == null) CompilationMode.Rebuild(BuildAttribute.DEP_CHANGE_HISTORY_CANNOT_BE_READ)
+                else sourcesToCompile(caches, changedFiles, args, messageCollector, classpathAbiSnapshotOrNull)
 
             val exitCode = when (compilationMode) {
                 is CompilationMode.Incremental -> {
@@ -244,7 +247,10 @@ abstract class IncrementalCompilerRunner<
         classpathAbiSnapshots: Map<String, AbiSnapshot>
     ): CompilationMode
 
-    protected open fun setupJarDependencies(args: Args, withSnapshot: Boolean, reporter: BuildReporter): Map<String, AbiSnapshot> = mapOf()
+    /**
+     * Returns ABI snapshots of jars on the classpath, or null if some of them can't be read
+     */
+    protected open fun setupJarDependencies(args: Args, withSnapshot: Boolean, reporter: BuildReporter): Map<String, AbiSnapshot>? = mapOf()
 
     protected fun initDirtyFiles(dirtyFiles: DirtyFilesContainer, changedFiles: ChangedFiles.Known) {
         dirtyFiles.add(changedFiles.modified, "was modified since last time")
@@ -269,6 +275,7 @@ abstract class IncrementalCompilerRunner<
     )
 
     protected open fun preBuildHook(args: Args, compilationMode: CompilationMode) {}
+    protected open fun postBuildHook(args: Args) {}
     protected open fun additionalDirtyFiles(caches: CacheManager, generatedFiles: List<GeneratedFile>, services: Services): Iterable<File> =
         emptyList()
 
@@ -432,6 +439,8 @@ abstract class IncrementalCompilerRunner<
                     //TODO(valtman) check method/class remove
                     AbiSnapshotImpl.write(abiSnapshot, abiSnapshotFile)
                 }
+
+                postBuildHook(args)
             }
         }
         if (exitCode == ExitCode.OK && compilationMode is CompilationMode.Incremental) {
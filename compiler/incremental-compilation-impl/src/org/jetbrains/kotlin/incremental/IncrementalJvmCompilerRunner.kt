@@ -31,10 +31,12 @@ import org.jetbrains.kotlin.build.report.ICReporter
 import org.jetbrains.kotlin.build.report.ICReporterBase
 import org.jetbrains.kotlin.build.report.metrics.*
 import org.jetbrains.kotlin.cli.common.CLIConfigurationKeys
+import org.jetbrains.kotlin.cli.common.CompilerSystemProperties
 import org.jetbrains.kotlin.cli.common.ExitCode
 import org.jetbrains.kotlin.cli.common.arguments.K2JVMCompilerArguments
 import org.jetbrains.kotlin.cli.common.messages.FilteringMessageCollector
 import org.jetbrains.kotlin.cli.common.messages.MessageCollector
+import org.jetbrains.kotlin.cli.common.toBooleanLenient
 import org.jetbrains.kotlin.cli.jvm.K2JVMCompiler
 import org.jetbrains.kotlin.cli.jvm.compiler.EnvironmentConfigFiles
 import org.jetbrains.kotlin.cli.jvm.compiler.KotlinCoreEnvironment
@@ -60,6 +62,7 @@ import org.jetbrains.kotlin.name.ClassId
 import org.jetbrains.kotlin.name.FqName
 import org.jetbrains.kotlin.name.Name
 import java.io.File
+import java.io.IOException
 
 @TestOnly
 fun makeIncrementally(
@@ -144,6 +147,12 @@ class IncrementalJvmCompilerRunner(
 
     private var dirtyClasspathChanges: Collection<FqName> = emptySet()
 
+    private val classpathFingerprints =
+        if (CompilerSystemProperties.COMPILE_INCREMENTAL_WITH_CLASSPATH_FINGERPRINTS.value.toBooleanLenient() == true)
+            ClasspathAbiFingerprints(File(cacheDirectory, "classpath-fingerprints"))
+        else
+            null
+
     private val psiFileProvider = object {
         val messageCollector = BufferingMessageCollector()
 
@@ -187,7 +196,7 @@ class IncrementalJvmCompilerRunner(
     //TODO can't use the same way as for build-history files because abi-snapshot for all dependencies should be stored into last-build
     // and not only changed one
     // (but possibly we dont need to read it all and may be it is possible to update only those who was changed)
-    override fun setupJarDependencies(args: K2JVMCompilerArguments, withSnapshot: Boolean, reporter: BuildReporter): Map<String, AbiSnapshot> {
+    override fun setupJarDependencies(args: K2JVMCompilerArguments, withSnapshot: Boolean, reporter: BuildReporter): Map<String, AbiSnapshot>? {
         //fill abiSnapshots
         if (!withSnapshot) return emptyMap()
         val abiSnapshots = HashMap<String, AbiSnapshot>()
@@ -197,7 +206,14 @@ class IncrementalJvmCompilerRunner(
                 modulesApiHistory.abiSnapshot(it).let { result ->
                     if (result is Either.Success<Set<File>>) {
                         result.value.forEach { file ->
-                            AbiSnapshotImpl.read(file, reporter)?.also { abiSnapshot -> abiSnapshots[it.absolutePath] = abiSnapshot }
+                            val abiSnapshot = try {
+                                AbiSnapshotImpl.read(file, reporter)
+                            } catch (e: IOException) {
+                                // E.g. a snapshot in an old format, changes of the jar are unknown
+                                reporter.report { "Could not read ABI snapshot $file of $it: $e" }
+                                return null
+                            }
+                            if (abiSnapshot != null) abiSnapshots[it.absolutePath] = abiSnapshot
                         }
                     }
                 }
@@ -226,7 +242,7 @@ class IncrementalJvmCompilerRunner(
                         val scopes = caches.lookupCache.lookupMap.keys.map { if (it.scope.isBlank()) it.name else it.scope }.distinct()
                         getClasspathChanges(
                             args.classpathAsList, changedFiles, lastBuildInfo, modulesApiHistory, reporter, abiSnapshots, withSnapshot,
-                            caches.platformCache, scopes
+                            caches.platformCache, scopes, classpathFingerprints
                         )
                     }
                 }
@@ -339,6 +355,10 @@ class IncrementalJvmCompilerRunner(
         }
     }
 
+    override fun postBuildHook(args: K2JVMCompilerArguments) {
+        classpathFingerprints?.update(args.classpathAsList)
+    }
+
     override fun updateCaches(
         services: Services,
         caches: IncrementalJvmCachesManager,
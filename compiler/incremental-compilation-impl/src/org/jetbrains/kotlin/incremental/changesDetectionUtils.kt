@@ -23,7 +23,8 @@ internal fun getClasspathChanges(
     abiSnapshots: Map<String, AbiSnapshot>,
     withSnapshot: Boolean,
     caches: IncrementalCacheCommon,
-    scopes: Collection<String>
+    scopes: Collection<String>,
+    classpathFingerprints: ClasspathAbiFingerprints? = null
 ): ChangesEither {
     val classpathSet = HashSet<File>()
     for (file in classpath) {
@@ -37,12 +38,14 @@ internal fun getClasspathChanges(
     val removedClasspath = changedFiles.removed.filterTo(HashSet()) { it in classpathSet }
 
     // todo: removed classes could be processed normally
-    if (removedClasspath.isNotEmpty()) {
+    // Removed jars are fine if their classes can be compared by fingerprints, e.g. when a library is replaced with its new version
+    val canCompareRemovedJars = classpathFingerprints != null && !withSnapshot && removedClasspath.all { it.isJar() }
+    if (removedClasspath.isNotEmpty() && !canCompareRemovedJars) {
         reporter.report { "Some files are removed from classpath: $removedClasspath" }
         return ChangesEither.Unknown(BuildAttribute.DEP_CHANGE_REMOVED_ENTRY)
     }
 
-    if (modifiedClasspath.isEmpty()) return ChangesEither.Known()
+    if (modifiedClasspath.isEmpty() && removedClasspath.isEmpty()) return ChangesEither.Known()
 
     if (withSnapshot) {
         fun analyzeJarFiles(): ChangesEither {
@@ -72,9 +75,20 @@ internal fun getClasspathChanges(
         val symbols = HashSet<LookupSymbol>()
         val fqNames = HashSet<FqName>()
 
+        // Jars without build history (e.g. third-party libraries) are compared by ABI fingerprints of their classes if it's enabled
+        val jarsWithoutHistory =
+            if (classpathFingerprints == null) emptySet()
+            else reporter.measure(BuildTime.IC_FIND_HISTORY_FILES) {
+                modifiedClasspath.filterTo(HashSet()) { file ->
+                    file.isJar() && modulesApiHistory.historyFilesForChangedFiles(setOf(file)) is Either.Error
+                }
+            }
+
         val historyFilesEither =
             reporter.measure(BuildTime.IC_FIND_HISTORY_FILES) {
-                modulesApiHistory.historyFilesForChangedFiles(modifiedClasspath)
+                val filesWithHistory = modifiedClasspath - jarsWithoutHistory
+                if (filesWithHistory.isEmpty()) Either.Success(emptySet())
+                else modulesApiHistory.historyFilesForChangedFiles(filesWithHistory)
             }
 
         val historyFiles = when (historyFilesEither) {
@@ -115,8 +129,23 @@ internal fun getClasspathChanges(
             return ChangesEither.Known(symbols, fqNames)
         }
 
+        fun analyzeFingerprints(): ChangesEither {
+            if (classpathFingerprints == null || (jarsWithoutHistory.isEmpty() && removedClasspath.isEmpty())) return ChangesEither.Known()
+
+            val dirtyData = classpathFingerprints.getChanges(classpath, removedClasspath, jarsWithoutHistory, caches, reporter)
+                ?: return run {
+                    reporter.report { "Could not find ABI fingerprints of previous versions of jars: ${jarsWithoutHistory + removedClasspath}" }
+                    ChangesEither.Unknown(BuildAttribute.DEP_CHANGE_HISTORY_IS_NOT_FOUND)
+                }
+            symbols.addAll(dirtyData.dirtyLookupSymbols)
+            fqNames.addAll(dirtyData.dirtyClassesFqNames)
+            return ChangesEither.Known(symbols, fqNames)
+        }
+
         return reporter.measure(BuildTime.IC_ANALYZE_HISTORY_FILES) {
-            analyzeHistoryFiles()
+            analyzeHistoryFiles().takeIf { it is ChangesEither.Unknown } ?: analyzeFingerprints()
         }
     }
-}
\ No newline at end of file
+}
+
+private fun File.isJar(): Boolean = extension.equals("jar", ignoreCase = true)
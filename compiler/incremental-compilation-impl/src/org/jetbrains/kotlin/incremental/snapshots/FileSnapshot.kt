@@ -19,10 +19,15 @@ package org.jetbrains.kotlin.incremental.snapshots
 import java.io.File
 import java.util.*
 
+/**
+ * [lastModified] is not a part of the snapshot identity: files with the same size and modification time are considered unchanged
+ *   without hashing them, but a touched file with the same contents is still equal to its previous snapshot
+ */
 class FileSnapshot(
     val file: File,
     val length: Long,
-    val hash: ByteArray
+    val hash: ByteArray,
+    val lastModified: Long = NO_TIMESTAMP
 ) {
     init {
         assert(!file.isDirectory)
@@ -48,7 +53,14 @@ class FileSnapshot(
         return result
     }
 
+    fun hasSameLengthAndTimestamp(file: File): Boolean =
+        lastModified != NO_TIMESTAMP && file.length() == length && file.lastModified() == lastModified
+
     override fun toString(): String {
         return "FileSnapshot(file=$file, length=$length, hash=${Arrays.toString(hash)})"
     }
+
+    companion object {
+        const val NO_TIMESTAMP = -1L
+    }
 }
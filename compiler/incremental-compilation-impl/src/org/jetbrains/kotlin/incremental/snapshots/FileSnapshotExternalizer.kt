@@ -17,24 +17,62 @@
 package org.jetbrains.kotlin.incremental.snapshots
 
 import com.intellij.util.io.DataExternalizer
+import java.io.ByteArrayInputStream
 import java.io.DataInput
+import java.io.DataInputStream
 import java.io.DataOutput
 import java.io.File
+import java.io.IOException
 
+/**
+ * Storage versioning:
+ * no version - path, length and MD5 hash are saved
+ * 1 - path, length, modification time and 128-bit MurmurHash3 are saved
+ *
+ * Snapshots of the old format are still read, but their hashes never match new ones, so all files are considered modified once
+ */
 object FileSnapshotExternalizer : DataExternalizer<FileSnapshot> {
+    // Written instead of the size of the path in modified UTF-8, which is never that big for real paths
+    private const val VERSION_MARKER = 0xFFFF
+    private const val VERSION = 1
+
     override fun save(out: DataOutput, value: FileSnapshot) {
+        out.writeShort(VERSION_MARKER)
+        out.writeByte(VERSION)
         out.writeUTF(value.file.canonicalPath)
         out.writeLong(value.length)
+        out.writeLong(value.lastModified)
         out.writeInt(value.hash.size)
         out.write(value.hash)
     }
 
     override fun read(input: DataInput): FileSnapshot {
+        val marker = input.readUnsignedShort()
+        if (marker != VERSION_MARKER) return readUnversioned(input, pathSize = marker)
+
+        val version = input.readByte().toInt()
+        if (version != VERSION) throw IOException("Unknown version of FileSnapshotExternalizer=$version")
+
         val file = File(input.readUTF())
         val length = input.readLong()
+        val lastModified = input.readLong()
+        return FileSnapshot(file, length, readHash(input), lastModified)
+    }
+
+    private fun readUnversioned(input: DataInput, pathSize: Int): FileSnapshot {
+        val pathBytes = ByteArray(pathSize + 2)
+        pathBytes[0] = (pathSize shr 8).toByte()
+        pathBytes[1] = pathSize.toByte()
+        input.readFully(pathBytes, 2, pathSize)
+        val file = File(DataInputStream(ByteArrayInputStream(pathBytes)).readUTF())
+        val length = input.readLong()
+        return FileSnapshot(file, length, readHash(input))
+    }
+
+    private fun readHash(input: DataInput): ByteArray {
         val hashSize = input.readInt()
         val hash = ByteArray(hashSize)
         input.readFully(hash)
-        return FileSnapshot(file, length, hash)
+        return hash
     }
 }
\ No newline at end of file
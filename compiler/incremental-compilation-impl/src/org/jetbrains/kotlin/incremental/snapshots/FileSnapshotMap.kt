@@ -22,6 +22,7 @@ import org.jetbrains.kotlin.incremental.storage.FileToPathConverter
 import org.jetbrains.kotlin.incremental.storage.PathStringDescriptor
 import java.io.File
 import java.util.*
+import java.util.stream.Collectors
 
 class FileSnapshotMap(
     storageFile: File,
@@ -45,15 +46,27 @@ class FileSnapshotMap(
             }
         }
 
+        val filesToHash = ArrayList<Pair<String, File>>()
         for (path in newPaths) {
             val file = pathConverter.toFile(path)
             val oldSnapshot = storage[path]
-            val newSnapshot = snapshotProvider[file]
+            if (oldSnapshot == null || !oldSnapshot.hasSameLengthAndTimestamp(file)) {
+                filesToHash.add(path to file)
+            }
+        }
+
+        // Files are hashed in parallel, storage is updated sequentially afterwards
+        val newSnapshots = filesToHash.parallelStream().map { (_, file) -> snapshotProvider[file] }.collect(Collectors.toList())
+        for ((index, pathAndFile) in filesToHash.withIndex()) {
+            val (path, file) = pathAndFile
+            val oldSnapshot = storage[path]
+            val newSnapshot = newSnapshots[index]
 
             if (oldSnapshot == null || oldSnapshot != newSnapshot) {
                 newOrModified.add(file)
-                storage[path] = newSnapshot
             }
+            // Snapshot is saved even if the file is not changed, so that its new timestamp is used next time
+            storage[path] = newSnapshot
         }
 
         return ChangedFiles.Known(newOrModified, removed)
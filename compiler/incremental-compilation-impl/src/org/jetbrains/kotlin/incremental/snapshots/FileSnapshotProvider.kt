@@ -24,8 +24,16 @@ interface FileSnapshotProvider {
 
 class SimpleFileSnapshotProviderImpl : FileSnapshotProvider {
     override fun get(file: File): FileSnapshot {
+        val lastModified = file.lastModified()
         val length = file.length()
-        val hash = file.md5
-        return FileSnapshot(file, length, hash)
+        val hash = file.murmurHash128
+        // A file modified right before the snapshot can be modified again without changing its timestamp (timestamps are coarse
+        // on some file systems), so such timestamps are not saved, and the file will be hashed next time
+        val isTimestampReliable = System.currentTimeMillis() - lastModified > UNRELIABLE_TIMESTAMP_INTERVAL_MS
+        return FileSnapshot(file, length, hash, if (isTimestampReliable) lastModified else FileSnapshot.NO_TIMESTAMP)
+    }
+
+    private companion object {
+        const val UNRELIABLE_TIMESTAMP_INTERVAL_MS = 2000L
     }
 }
\ No newline at end of file
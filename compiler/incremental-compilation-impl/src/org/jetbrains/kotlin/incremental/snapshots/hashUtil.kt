@@ -17,20 +17,67 @@
 package org.jetbrains.kotlin.incremental.snapshots
 
 import java.io.File
-import java.security.MessageDigest
-
-internal val File.md5: ByteArray
-    get() {
-        val messageDigest = MessageDigest.getInstance("MD5")
-        val buffer = ByteArray(4048)
-        inputStream().use { input ->
-            while (true) {
-                val len = input.read(buffer)
-                if (len < 0) {
-                    break
-                }
-                messageDigest.update(buffer, 0, len)
-            }
-        }
-        return messageDigest.digest()
+import java.nio.ByteBuffer
+import java.nio.ByteOrder
+
+/**
+ * 128-bit MurmurHash3 (x64 variant) of the file contents.
+ * It's not a cryptographic hash, but it's good enough for detecting changes and much faster than MD5
+ */
+internal val File.murmurHash128: ByteArray
+    get() = readBytes().murmurHash128()
+
+internal fun ByteArray.murmurHash128(): ByteArray {
+    val buffer = ByteBuffer.wrap(this).order(ByteOrder.LITTLE_ENDIAN)
+    var h1 = 0L
+    var h2 = 0L
+
+    val blocksEnd = size - size % 16
+    for (position in 0 until blocksEnd step 16) {
+        h1 = h1 xor mixK1(buffer.getLong(position))
+        h1 = java.lang.Long.rotateLeft(h1, 27) + h2
+        h1 = h1 * 5 + 0x52dce729
+
+        h2 = h2 xor mixK2(buffer.getLong(position + 8))
+        h2 = java.lang.Long.rotateLeft(h2, 31) + h1
+        h2 = h2 * 5 + 0x38495ab5
+    }
+
+    var k1 = 0L
+    var k2 = 0L
+    for (i in size - 1 downTo blocksEnd) {
+        val byte = (this[i].toLong() and 0xff)
+        val shift = ((i - blocksEnd) % 8) * 8
+        if (i - blocksEnd >= 8) k2 = k2 or (byte shl shift) else k1 = k1 or (byte shl shift)
     }
+    if (size - blocksEnd > 8) h2 = h2 xor mixK2(k2)
+    if (size > blocksEnd) h1 = h1 xor mixK1(k1)
+
+    h1 = h1 xor size.toLong()
+    h2 = h2 xor size.toLong()
+    h1 += h2
+    h2 += h1
+    h1 = fmix64(h1)
+    h2 = fmix64(h2)
+    h1 += h2
+    h2 += h1
+
+    return ByteBuffer.allocate(16).putLong(h1).putLong(h2).array()
+}
+
+private const val C1 = -0x783c846eeebdac2bL // 0x87c37b91114253d5
+private const val C2 = 0x4cf5ad432745937fL
+
+private fun mixK1(k1: Long): Long = java.lang.Long.rotateLeft(k1 * C1, 31) * C2
+
+private fun mixK2(k2: Long): Long = java.lang.Long.rotateLeft(k2 * C2, 33) * C1
+
+private fun fmix64(value: Long): Long {
+    var k = value
+    k = k xor (k ushr 33)
+    k *= -0xae502812aa7333L // 0xff51afd7ed558ccd
+    k = k xor (k ushr 33)
+    k *= -0x3b314601e57a13adL // 0xc4ceb9fe1a85ec53
+    k = k xor (k ushr 33)
+    return k
+}
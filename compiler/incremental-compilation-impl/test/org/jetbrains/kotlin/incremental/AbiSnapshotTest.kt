@@ -0,0 +1,221 @@
+/*
+ * Copyright 2010-2021 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.incremental
+
+import org.jetbrains.kotlin.TestWithWorkingDir
+import org.jetbrains.kotlin.build.report.BuildReporter
+import org.jetbrains.kotlin.build.report.metrics.DoNothingBuildMetricsReporter
+import org.jetbrains.kotlin.cli.common.CompilerSystemProperties
+import org.jetbrains.kotlin.cli.common.ExitCode
+import org.jetbrains.kotlin.cli.common.arguments.K2JVMCompilerArguments
+import org.jetbrains.kotlin.cli.jvm.K2JVMCompiler
+import org.jetbrains.kotlin.incremental.ClasspathChanges.NotAvailable.ReservedForTestsOnly
+import org.jetbrains.kotlin.incremental.multiproject.ModulesApiHistory
+import org.jetbrains.kotlin.incremental.storage.IncrementalFileToPathConverter
+import org.jetbrains.kotlin.incremental.util.Either
+import org.jetbrains.kotlin.incremental.utils.TestICReporter
+import org.jetbrains.kotlin.incremental.utils.TestMessageCollector
+import org.jetbrains.kotlin.metadata.ProtoBuf
+import org.jetbrains.kotlin.metadata.jvm.deserialization.JvmProtoBufUtil
+import org.jetbrains.kotlin.metadata.jvm.serialization.JvmStringTable
+import org.jetbrains.kotlin.name.FqName
+import org.jetbrains.kotlin.protobuf.MessageLite
+import java.io.ByteArrayOutputStream
+import java.io.File
+import java.io.IOException
+import java.io.ObjectOutputStream
+import kotlin.test.assertFailsWith
+
+class AbiSnapshotTest : TestWithWorkingDir() {
+    private val reporter = BuildReporter(icReporter = TestICReporter(), buildMetricsReporter = DoNothingBuildMetricsReporter)
+
+    fun testRoundTrip() {
+        val snapshot = AbiSnapshotImpl(
+            mutableMapOf(
+                FqName("a.Foo") to classProtoData("a/Foo", "foo", "фу"),
+                FqName("a.AKt") to packagePartProtoData("a", "bar")
+            )
+        )
+        val file = File(workingDir, "snapshot.bin")
+        AbiSnapshotImpl.write(snapshot, file)
+
+        val readSnapshot = AbiSnapshotImpl.read(file, reporter)!!
+        assertEquals(snapshot.protos.keys, readSnapshot.protos.keys)
+        assertEquals(snapshot.protos.describe(), readSnapshot.protos.describe())
+    }
+
+    fun testProtosAreDecodedOnFirstAccess() {
+        val file = File(workingDir, "snapshot.bin")
+        AbiSnapshotImpl.write(
+            AbiSnapshotImpl(mutableMapOf(FqName("a.Foo") to classProtoData("a/Foo", "foo"), FqName("a.Bar") to classProtoData("a/Bar", "bar"))),
+            file
+        )
+
+        val snapshot = AbiSnapshotImpl.read(file, reporter)!!
+        assertNotNull(snapshot.getProtoHash(FqName("a.Foo")))
+        assertNotNull(snapshot.getProtoHash(FqName("a.Bar")))
+
+        assertEquals("a/Foo: foo", snapshot.protos.getValue(FqName("a.Foo")).describe())
+        assertNull(snapshot.getProtoHash(FqName("a.Foo")))
+        assertNotNull(snapshot.getProtoHash(FqName("a.Bar")))
+
+        // Both accessed and not accessed protos are written back unchanged
+        val rewrittenFile = File(workingDir, "rewritten.bin")
+        AbiSnapshotImpl.write(snapshot, rewrittenFile)
+        assertEquals(file.readBytes().toList(), rewrittenFile.readBytes().toList())
+    }
+
+    fun testEqualHashesAreNotDecodedByDiff() {
+        val oldSnapshot = writeAndRead(
+            "old.bin",
+            FqName("a.Same") to classProtoData("a/Same", "same"),
+            FqName("a.Removed") to classProtoData("a/Removed", "removed"),
+            FqName("a.AKt") to packagePartProtoData("a", "bar")
+        )
+        val newSnapshot = writeAndRead(
+            "new.bin",
+            FqName("a.Same") to classProtoData("a/Same", "same"),
+            FqName("a.AKt") to packagePartProtoData("a", "bar", "baz"),
+            FqName("a.Added") to classProtoData("a/Added", "added")
+        )
+        assertTrue(oldSnapshot.getProtoHash(FqName("a.Same"))!!.contentEquals(newSnapshot.getProtoHash(FqName("a.Same"))))
+
+        val cache = IncrementalJvmCache(workingDir, null, IncrementalFileToPathConverter(null))
+        val dirtyData = try {
+            AbiSnapshotDiffService.doCompute(oldSnapshot, newSnapshot, cache, listOf(""))
+        } finally {
+            cache.close()
+        }
+
+        assertEquals(setOf(FqName("a.Removed"), FqName("a.Added")), dirtyData.dirtyClassesFqNames.toSet())
+        assertEquals(
+            setOf(LookupSymbol("removed", "a.Removed"), LookupSymbol("baz", "a.AKt")),
+            dirtyData.dirtyLookupSymbols.toSet()
+        )
+        assertNotNull(oldSnapshot.getProtoHash(FqName("a.Same")))
+        assertNotNull(newSnapshot.getProtoHash(FqName("a.Same")))
+    }
+
+    fun testUnreadableSnapshots() {
+        val missingFile = File(workingDir, "missing.bin")
+        assertNull(AbiSnapshotImpl.read(missingFile, reporter))
+
+        val oldFormatFile = File(workingDir, "old.bin")
+        ObjectOutputStream(oldFormatFile.outputStream()).use { it.writeObject(mapOf("a.Foo" to "foo")) }
+        assertFailsWith<IOException> { AbiSnapshotImpl.read(oldFormatFile, reporter) }
+
+        val file = File(workingDir, "snapshot.bin")
+        AbiSnapshotImpl.write(AbiSnapshotImpl(mutableMapOf(FqName("a.Foo") to classProtoData("a/Foo", "foo"))), file)
+        val bytes = file.readBytes()
+
+        val truncatedFile = File(workingDir, "truncated.bin").apply { writeBytes(bytes.copyOf(bytes.size - 1)) }
+        assertFailsWith<IOException> { AbiSnapshotImpl.read(truncatedFile, reporter) }
+
+        // The last index of a string of the name resolver is out of the string table
+        val corruptedFile = File(workingDir, "corrupted.bin").apply {
+            writeBytes(bytes.copyOf().also { it.fill(0x7f, fromIndex = it.size - 4, toIndex = it.size) })
+        }
+        assertFailsWith<IOException> { AbiSnapshotImpl.read(corruptedFile, reporter) }
+    }
+
+    fun testUnreadableSnapshotOfDependencyLeadsToRebuild() {
+        val lib = File(workingDir, "lib.jar")
+        val libSource = File(workingDir, "Lib.kt").apply { writeText("package lib\n\nclass Lib {\n    fun a(): Int = 1\n}\n") }
+        assertEquals(
+            ExitCode.OK,
+            K2JVMCompiler().exec(System.err, "-d", lib.path, "-no-stdlib", "-no-reflect", "-classpath", kotlinStdlibJvm.path, libSource.path)
+        )
+        val libSnapshot = File(workingDir, "lib-abi-snapshot.bin")
+
+        val srcDir = File(workingDir, "src").apply { mkdirs() }
+        val useA = File(srcDir, "useA.kt").apply { writeText("fun useA() = lib.Lib().a()\n") }
+        val other = File(srcDir, "other.kt").apply { writeText("fun other() = 1\n") }
+        val cacheDir = File(workingDir, "caches")
+
+        CompilerSystemProperties.COMPILE_INCREMENTAL_WITH_CLASSPATH_SHAPSHOTS.value = "true"
+        try {
+            assertEquals(ExitCode.OK, make(cacheDir, listOf(useA, other), lib, libSnapshot, changedFiles = null).exitCode)
+
+            ObjectOutputStream(libSnapshot.outputStream()).use { it.writeObject(mapOf("lib.Lib" to "a")) }
+            val secondBuild = make(cacheDir, listOf(useA, other), lib, libSnapshot, ChangedFiles.Known(listOf(lib), emptyList()))
+            assertEquals(ExitCode.OK, secondBuild.exitCode)
+            assertEquals(setOf(useA.canonicalPath, other.canonicalPath), secondBuild.compiledSources.map { it.canonicalPath }.toSet())
+        } finally {
+            CompilerSystemProperties.COMPILE_INCREMENTAL_WITH_CLASSPATH_SHAPSHOTS.clear()
+        }
+    }
+
+    private val kotlinStdlibJvm = File("dist/kotlinc/lib/kotlin-stdlib.jar")
+
+    private fun make(cacheDir: File, sourceFiles: List<File>, lib: File, libSnapshot: File, changedFiles: ChangedFiles?): TestICReporter {
+        val args = K2JVMCompilerArguments().apply {
+            moduleName = "test"
+            destination = File(workingDir, "out").path
+            classpath = listOf(kotlinStdlibJvm, lib).joinToString(File.pathSeparator) { it.path }
+        }
+        val modulesApiHistory = object : ModulesApiHistory {
+            override fun historyFilesForChangedFiles(changedFiles: Set<File>): Either<Set<File>> = Either.Error("Not supported")
+
+            override fun abiSnapshot(jar: File): Either<Set<File>> =
+                if (jar == lib && libSnapshot.exists()) Either.Success(setOf(libSnapshot)) else Either.Error("No snapshot")
+        }
+        val icReporter = TestICReporter()
+        withIC {
+            IncrementalJvmCompilerRunner(
+                cacheDir,
+                BuildReporter(icReporter = icReporter, buildMetricsReporter = DoNothingBuildMetricsReporter),
+                usePreciseJavaTracking = true,
+                outputFiles = emptyList(),
+                buildHistoryFile = File(cacheDir, "build-history.bin"),
+                modulesApiHistory = modulesApiHistory,
+                kotlinSourceFilesExtensions = DEFAULT_KOTLIN_SOURCE_FILES_EXTENSIONS,
+                classpathChanges = ReservedForTestsOnly
+            ).compile(sourceFiles, args, TestMessageCollector(), changedFiles)
+        }
+        return icReporter
+    }
+
+    private fun writeAndRead(fileName: String, vararg protos: Pair<FqName, ProtoData>): AbiSnapshot {
+        val file = File(workingDir, fileName)
+        AbiSnapshotImpl.write(AbiSnapshotImpl(mutableMapOf(*protos)), file)
+        return AbiSnapshotImpl.read(file, reporter)!!
+    }
+
+    private fun classProtoData(className: String, vararg functions: String): ClassProtoData {
+        val stringTable = JvmStringTable()
+        val proto = ProtoBuf.Class.newBuilder()
+            .setFqName(stringTable.getQualifiedClassNameIndex(className, false))
+            .addAllFunction(functions.map { ProtoBuf.Function.newBuilder().setName(stringTable.getStringIndex(it)).build() })
+            .build()
+        val (nameResolver, classProto) = JvmProtoBufUtil.readClassDataFrom(serialize(proto, stringTable), stringTable.strings.toTypedArray())
+        return ClassProtoData(classProto, nameResolver)
+    }
+
+    private fun packagePartProtoData(packageFqName: String, vararg functions: String): PackagePartProtoData {
+        val stringTable = JvmStringTable()
+        val proto = ProtoBuf.Package.newBuilder()
+            .addAllFunction(functions.map { ProtoBuf.Function.newBuilder().setName(stringTable.getStringIndex(it)).build() })
+            .build()
+        val (nameResolver, packageProto) =
+            JvmProtoBufUtil.readPackageDataFrom(serialize(proto, stringTable), stringTable.strings.toTypedArray())
+        return PackagePartProtoData(packageProto, nameResolver, FqName(packageFqName))
+    }
+
+    private fun serialize(message: MessageLite, stringTable: JvmStringTable): ByteArray =
+        ByteArrayOutputStream().apply {
+            stringTable.serializeTo(this)
+            message.writeTo(this)
+        }.toByteArray()
+
+    private fun Map<FqName, ProtoData>.describe(): Map<FqName, String> = mapValues { it.value.describe() }
+
+    private fun ProtoData.describe(): String = when (this) {
+        is ClassProtoData ->
+            nameResolver.getQualifiedClassName(proto.fqName) + ": " + proto.functionList.joinToString { nameResolver.getString(it.name) }
+        is PackagePartProtoData ->
+            "$packageFqName: " + proto.functionList.joinToString { nameResolver.getString(it.name) }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2010-2021 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.incremental
+
+import org.jetbrains.kotlin.TestWithWorkingDir
+import org.jetbrains.kotlin.build.report.BuildReporter
+import org.jetbrains.kotlin.build.report.metrics.DoNothingBuildMetricsReporter
+import org.jetbrains.kotlin.cli.common.CompilerSystemProperties
+import org.jetbrains.kotlin.cli.common.ExitCode
+import org.jetbrains.kotlin.cli.common.arguments.K2JVMCompilerArguments
+import org.jetbrains.kotlin.cli.jvm.K2JVMCompiler
+import org.jetbrains.kotlin.incremental.ClasspathChanges.NotAvailable.ReservedForTestsOnly
+import org.jetbrains.kotlin.incremental.multiproject.EmptyModulesApiHistory
+import org.jetbrains.kotlin.incremental.utils.TestICReporter
+import org.jetbrains.kotlin.incremental.utils.TestMessageCollector
+import org.junit.Test
+import java.io.File
+
+class ClasspathAbiFingerprintsTest : TestWithWorkingDir() {
+    private val kotlinStdlibJvm = File("dist/kotlinc/lib/kotlin-stdlib.jar")
+
+    @Test
+    fun testOnlyUsagesOfChangedLibraryMemberAreRecompiled() {
+        val libV1 = compileLibrary("lib-1.jar", "package lib\n\nclass Lib {\n    fun a(): Int = 1\n    fun b(): Int = 2\n}\n")
+        val libV2 = compileLibrary("lib-2.jar", "package lib\n\nclass Lib {\n    fun a(): Long = 1L\n    fun b(): Int = 2\n}\n")
+
+        val srcDir = File(workingDir, "src").apply { mkdirs() }
+        val useA = File(srcDir, "useA.kt").apply { writeText("fun useA() = lib.Lib().a()\n") }
+        val useB = File(srcDir, "useB.kt").apply { writeText("fun useB() = lib.Lib().b()\n") }
+        val cacheDir = File(workingDir, "caches")
+        val fingerprintsDir = File(cacheDir, "classpath-fingerprints")
+
+        CompilerSystemProperties.COMPILE_INCREMENTAL_WITH_CLASSPATH_FINGERPRINTS.value = "true"
+        try {
+            val firstBuild = make(cacheDir, listOf(useA, useB), libV1, changedFiles = null)
+            assertEquals(ExitCode.OK, firstBuild.exitCode)
+            val libV1Fingerprints = fingerprintsDir.listFiles()!!.filter { it.name != "classpath.bin" }
+            assertEquals(1, libV1Fingerprints.size)
+
+            val secondBuild = make(cacheDir, listOf(useA, useB), libV2, ChangedFiles.Known(listOf(libV2), listOf(libV1)))
+            assertEquals(ExitCode.OK, secondBuild.exitCode)
+            assertEquals(listOf(useA.canonicalPath), secondBuild.compiledSources.map { it.canonicalPath })
+
+            // Fingerprints of the previous version are not needed anymore
+            assertFalse(libV1Fingerprints.single().exists())
+            assertEquals(1, fingerprintsDir.listFiles()!!.count { it.name != "classpath.bin" })
+        } finally {
+            CompilerSystemProperties.COMPILE_INCREMENTAL_WITH_CLASSPATH_FINGERPRINTS.clear()
+        }
+    }
+
+    private fun compileLibrary(jarName: String, source: String): File {
+        val libSrcDir = File(workingDir, "$jarName-src").apply { mkdirs() }
+        val libSource = File(libSrcDir, "Lib.kt").apply { writeText(source) }
+        val jar = File(workingDir, jarName)
+        val exitCode = K2JVMCompiler().exec(
+            System.err,
+            "-d", jar.path, "-no-stdlib", "-no-reflect", "-classpath", kotlinStdlibJvm.path, libSource.path
+        )
+        assertEquals(ExitCode.OK, exitCode)
+        return jar
+    }
+
+    private fun make(cacheDir: File, sourceFiles: List<File>, lib: File, changedFiles: ChangedFiles?): TestICReporter {
+        val args = K2JVMCompilerArguments().apply {
+            moduleName = "test"
+            destination = File(workingDir, "out").path
+            classpath = listOf(kotlinStdlibJvm, lib).joinToString(File.pathSeparator) { it.path }
+        }
+        val reporter = TestICReporter()
+        val messageCollector = TestMessageCollector()
+        withIC {
+            IncrementalJvmCompilerRunner(
+                cacheDir,
+                BuildReporter(icReporter = reporter, buildMetricsReporter = DoNothingBuildMetricsReporter),
+                usePreciseJavaTracking = true,
+                outputFiles = emptyList(),
+                buildHistoryFile = File(cacheDir, "build-history.bin"),
+                modulesApiHistory = EmptyModulesApiHistory,
+                kotlinSourceFilesExtensions = DEFAULT_KOTLIN_SOURCE_FILES_EXTENSIONS,
+                classpathChanges = ReservedForTestsOnly
+            ).compile(sourceFiles, args, messageCollector, changedFiles)
+        }
+        return reporter
+    }
+}
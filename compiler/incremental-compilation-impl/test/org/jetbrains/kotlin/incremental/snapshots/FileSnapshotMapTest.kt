@@ -75,6 +75,53 @@ class FileSnapshotMapTest : TestWithWorkingDir() {
         )
     }
 
+    @Test
+    fun testFileWithSameLengthAndTimestampIsNotHashed() {
+        val src = File(workingDir, "src").apply { mkdirs() }
+        val txt = File(src, "a.txt").apply { writeText("text") }
+        val oldTimestamp = System.currentTimeMillis() - 10_000
+        txt.setLastModified(oldTimestamp)
+        snapshotMap.compareAndUpdate(src.filesWithExt("txt"))
+
+        // Same size and timestamp, so the content is not compared
+        txt.writeText("next")
+        txt.setLastModified(oldTimestamp)
+        val diff = snapshotMap.compareAndUpdate(src.filesWithExt("txt"))
+        assertArrayEquals("diff.newOrModified", emptyArray<String>(), diff.modified.toSortedPaths())
+
+        txt.writeText("longer text")
+        txt.setLastModified(oldTimestamp)
+        val diffAfterResize = snapshotMap.compareAndUpdate(src.filesWithExt("txt"))
+        assertArrayEquals("diffAfterResize.newOrModified", listOf(txt).toSortedPaths(), diffAfterResize.modified.toSortedPaths())
+    }
+
+    @Test
+    fun testRecentTimestampIsNotTrusted() {
+        val src = File(workingDir, "src").apply { mkdirs() }
+        val txt = File(src, "a.txt").apply { writeText("text") }
+        // Modified right before the snapshot, so the file may change again within the timestamp granularity
+        val recentTimestamp = System.currentTimeMillis() - 500
+        txt.setLastModified(recentTimestamp)
+        snapshotMap.compareAndUpdate(src.filesWithExt("txt"))
+
+        txt.writeText("next")
+        txt.setLastModified(recentTimestamp)
+        val diff = snapshotMap.compareAndUpdate(src.filesWithExt("txt"))
+        assertArrayEquals("diff.newOrModified", listOf(txt).toSortedPaths(), diff.modified.toSortedPaths())
+    }
+
+    @Test
+    fun testTouchedFileWithSameContentIsNotModified() {
+        val src = File(workingDir, "src").apply { mkdirs() }
+        val txt = File(src, "a.txt").apply { writeText("text") }
+        txt.setLastModified(System.currentTimeMillis() - 20_000)
+        snapshotMap.compareAndUpdate(src.filesWithExt("txt"))
+
+        txt.setLastModified(System.currentTimeMillis() - 10_000)
+        val diff = snapshotMap.compareAndUpdate(src.filesWithExt("txt"))
+        assertArrayEquals("diff.newOrModified", emptyArray<String>(), diff.modified.toSortedPaths())
+    }
+
     private fun Iterable<File>.toSortedPaths(): Array<String> =
         map { it.canonicalPath }.sorted().toTypedArray()
 
@@ -72,6 +72,78 @@ class FileSnapshotTest : TestWithWorkingDir() {
         assertNotEquals(oldSnapshot, newSnapshot)
     }
 
+    @Test
+    fun testExternalizerWritesVersionMarker() {
+        val file = File(workingDir, "1.txt").apply { writeText("test") }
+        val bytes = save(fileSnapshotProvider[file])
+        assertEquals(0xFF, bytes[0].toInt() and 0xFF)
+        assertEquals(0xFF, bytes[1].toInt() and 0xFF)
+        assertEquals(1, bytes[2].toInt())
+    }
+
+    @Test
+    fun testExternalizerKeepsTimestamp() {
+        val file = File(workingDir, "1.txt").apply { writeText("test") }
+        file.setLastModified(System.currentTimeMillis() - 10_000)
+        val snapshot = fileSnapshotProvider[file]
+        assertEquals(file.lastModified(), snapshot.lastModified)
+        assertEquals(file.lastModified(), saveAndReadBack(snapshot).lastModified)
+    }
+
+    @Test
+    fun testExternalizerReadsUnversionedSnapshot() {
+        val file = File(workingDir, "1.txt").apply { writeText("test") }
+        val hash = ByteArray(16) { it.toByte() }
+        val byteOut = ByteArrayOutputStream()
+        DataOutputStream(byteOut).use {
+            it.writeUTF(file.canonicalPath)
+            it.writeLong(4)
+            it.writeInt(hash.size)
+            it.write(hash)
+        }
+        val snapshot = DataInputStream(ByteArrayInputStream(byteOut.toByteArray())).use { FileSnapshotExternalizer.read(it) }
+
+        assertEquals(FileSnapshot(file.canonicalFile, 4, hash), snapshot)
+        assertEquals(FileSnapshot.NO_TIMESTAMP, snapshot.lastModified)
+        assertFalse(snapshot.hasSameLengthAndTimestamp(file))
+    }
+
+    @Test
+    fun testRecentTimestampIsNotSaved() {
+        val file = File(workingDir, "1.txt").apply { writeText("test") }
+        val snapshot = fileSnapshotProvider[file]
+        assertEquals(FileSnapshot.NO_TIMESTAMP, snapshot.lastModified)
+        assertFalse(snapshot.hasSameLengthAndTimestamp(file))
+    }
+
+    @Test
+    fun testMurmurHash128() {
+        // Reference values of MurmurHash3_x64_128 with zero seed, h1 followed by h2
+        val expected = mapOf(
+            "" to "00000000000000000000000000000000",
+            "a" to "85555565f6597889e6b53a48510e895a",
+            "hello" to "cbd8a7b341bd9b025b1e906a48ae1d19",
+            "0123456789abcdef" to "4be06d94cf4ad1a787c35b5c63a708da",
+            "The quick brown fox jumps over the lazy dog" to "e34bbc7bbc071b6c7a433ca9c49a9347",
+            "0123456789abcdefghijklmnopqrstuvwxyz" to "efaada68afc26d951fd263b10d25fbaa"
+        )
+        for ((text, hash) in expected) {
+            assertEquals(text, hash, text.toByteArray().murmurHash128().toHexString())
+        }
+
+        val file = File(workingDir, "1.txt").apply { writeText("hello") }
+        assertEquals(expected["hello"], file.murmurHash128.toHexString())
+    }
+
+    private fun ByteArray.toHexString(): String =
+        joinToString("") { "%02x".format(it) }
+
+    private fun save(snapshot: FileSnapshot): ByteArray {
+        val byteOut = ByteArrayOutputStream()
+        DataOutputStream(byteOut).use { FileSnapshotExternalizer.save(it, snapshot) }
+        return byteOut.toByteArray()
+    }
+
     private fun saveAndReadBack(snapshot: FileSnapshot): FileSnapshot {
         val byteOut = ByteArrayOutputStream()
         DataOutputStream(byteOut).use { FileSnapshotExternalizer.save(it, snapshot) }
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2010-2021 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.backend.common.phaser
+
+import org.jetbrains.kotlin.backend.common.CodegenUtil
+import org.jetbrains.kotlin.ir.declarations.IrFile
+import org.jetbrains.kotlin.util.PerformanceCounter
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.ForkJoinPool
+import java.util.concurrent.ForkJoinWorkerThread
+
+/**
+ * Runs by-file phases of the parallel IR backend.
+ *
+ * Work-stealing pools are shared between all phases and all compilations in the same process (e.g. in the daemon),
+ *   so threads are not recreated for each group of by-file phases.
+ * Files are submitted largest first, so that huge files are started early and don't keep one thread busy
+ *   while the others are idle at the end of the phase.
+ *
+ * Busy time of workers (summed up over pools) and wall time of parallel phases are recorded as [PerformanceCounter]s,
+ *   which are reported with `-Xreport-perf`, so thread utilization can be estimated when tuning the number of threads
+ */
+object IrFileScheduler {
+    private val pools = ConcurrentHashMap<Int, ForkJoinPool>()
+
+    private val wallTimeCounter = PerformanceCounter.create("Parallel IR backend: phases by file")
+
+    // Counters are registered in PerformanceCounter forever, while pools drop idle threads and create new ones,
+    //   so counters are keyed by the index of a worker in its pool rather than by the thread itself
+    private val busyTimeCounters = ConcurrentHashMap<Int, PerformanceCounter>()
+
+    /**
+     * Runs [action] for each of [files] in [nThreads] threads.
+     *
+     * All files are processed even if some of them fail. Then the exception of the first failed file in the order of [files]
+     *   is reported with exceptions of other failed files attached to it as suppressed
+     */
+    fun runInParallel(nThreads: Int, files: List<IrFile>, action: (IrFile) -> Unit) {
+        val pool = pools.computeIfAbsent(nThreads, ::createPool)
+        val failures = ConcurrentLinkedQueue<Pair<IrFile, Throwable>>()
+        wallTimeCounter.time {
+            val tasks = files.sortedByDescending { it.estimatedSize() }.map { file ->
+                pool.submit {
+                    busyTimeCounter().time {
+                        try {
+                            action(file)
+                        } catch (e: Throwable) {
+                            failures += file to e
+                        }
+                    }
+                }
+            }
+            for (task in tasks) {
+                task.join()
+            }
+        }
+        if (failures.isNotEmpty()) {
+            val fileIndices = files.withIndex().associate { (index, file) -> file to index }
+            reportFailures(failures.sortedBy { (file, _) -> fileIndices[file] })
+        }
+    }
+
+    private fun reportFailures(failures: List<Pair<IrFile, Throwable>>): Nothing {
+        val (irFile, e) = failures.first()
+        for ((_, other) in failures.drop(1)) {
+            e.addSuppressed(other)
+        }
+        val otherFailures = failures.drop(1).takeIf { it.isNotEmpty() }?.joinToString(
+            separator = "\n", prefix = "Exceptions in other files:\n"
+        ) { (otherFile, other) -> "${otherFile.fileEntry.name}: $other" }
+        CodegenUtil.reportBackendException(e, "Experimental parallel IR backend", irFile.fileEntry.name, otherFailures)
+    }
+
+    private fun busyTimeCounter(): PerformanceCounter {
+        // Tasks are run only by workers of the pools, but a joining thread may run a task itself in some JDKs
+        val workerIndex = (Thread.currentThread() as? ForkJoinWorkerThread)?.poolIndex ?: -1
+        return busyTimeCounters.computeIfAbsent(workerIndex) {
+            PerformanceCounter.create(
+                if (workerIndex >= 0) "Parallel IR backend: busy time of worker $workerIndex"
+                else "Parallel IR backend: busy time of other threads"
+            )
+        }
+    }
+
+    private fun createPool(nThreads: Int): ForkJoinPool {
+        val threadFactory = ForkJoinPool.ForkJoinWorkerThreadFactory { pool ->
+            object : ForkJoinWorkerThread(pool) {}.apply {
+                name = "Kotlin parallel backend ($nThreads threads) worker $poolIndex"
+                isDaemon = true
+            }
+        }
+        return ForkJoinPool(nThreads, threadFactory, null, false)
+    }
+
+    // Exact size of IR would require a traversal of the whole file, so it's estimated by source ranges of top-level declarations
+    private fun IrFile.estimatedSize(): Int =
+        declarations.sumOf { (it.endOffset - it.startOffset).coerceAtLeast(0) + 1 }
+}
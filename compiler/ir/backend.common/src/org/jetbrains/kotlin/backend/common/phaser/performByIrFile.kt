@@ -23,9 +23,6 @@ import org.jetbrains.kotlin.ir.util.copyTypeAndValueArgumentsFrom
 import org.jetbrains.kotlin.ir.util.deepCopySavingMetadata
 import org.jetbrains.kotlin.ir.visitors.IrElementTransformerVoid
 import org.jetbrains.kotlin.ir.visitors.transformChildrenVoid
-import java.util.concurrent.Executors
-import java.util.concurrent.TimeUnit
-import java.util.concurrent.atomic.AtomicReference
 
 fun <Context : CommonBackendContext> performByIrFile(
     name: String = "PerformByIrFile",
@@ -78,9 +75,6 @@ private class PerformByIrFilePhase<Context : CommonBackendContext>(
     ): IrModuleFragment {
         if (input.files.isEmpty()) return input
 
-        // We can only report one exception through ISE
-        val thrownFromThread = AtomicReference<Pair<Throwable, IrFile>?>(null)
-
         val remappedFiles = mutableMapOf<IrFileSymbol, IrFileSymbol>()
         val remappedFunctions = mutableMapOf<IrSimpleFunctionSymbol, IrSimpleFunctionSymbol>()
         val remappedClasses = mutableMapOf<IrClassSymbol, IrClassSymbol>()
@@ -92,26 +86,14 @@ private class PerformByIrFilePhase<Context : CommonBackendContext>(
             else
                 it to phaserState.copyOf()
         }
+        val stateByFile = filesAndStates.toMap()
 
-        val executor = Executors.newFixedThreadPool(nThreads)
-        for ((irFile, state) in filesAndStates) {
-            executor.execute {
-                try {
-                    val filePhaserState = state.changeType<IrModuleFragment, IrFile>()
-                    for (phase in lower) {
-                        phase.invoke(phaseConfig, filePhaserState, context, irFile)
-                    }
-                } catch (e: Throwable) {
-                    thrownFromThread.set(Pair(e, irFile))
-                }
+        IrFileScheduler.runInParallel(nThreads, filesAndStates.map { it.first }) { irFile ->
+            val filePhaserState = stateByFile.getValue(irFile).changeType<IrModuleFragment, IrFile>()
+            for (phase in lower) {
+                phase.invoke(phaseConfig, filePhaserState, context, irFile)
             }
         }
-        executor.shutdown()
-        executor.awaitTermination(1, TimeUnit.DAYS) // Wait long enough
-
-        thrownFromThread.get()?.let { (e, irFile) ->
-            CodegenUtil.reportBackendException(e, "Experimental parallel IR backend", irFile.fileEntry.name)
-        }
 
         // Presumably each thread has run through the same list of phases.
         phaserState.alreadyDone.addAll(filesAndStates[0].second.alreadyDone)
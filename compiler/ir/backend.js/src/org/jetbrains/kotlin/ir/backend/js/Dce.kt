@@ -12,6 +12,7 @@ import org.jetbrains.kotlin.ir.backend.js.export.isExported
 import org.jetbrains.kotlin.ir.backend.js.ir.JsIrBuilder
 import org.jetbrains.kotlin.ir.backend.js.utils.*
 import org.jetbrains.kotlin.ir.declarations.*
+import org.jetbrains.kotlin.ir.declarations.persistent.PersistentIrFactory
 import org.jetbrains.kotlin.ir.expressions.*
 import org.jetbrains.kotlin.ir.symbols.IrClassSymbol
 import org.jetbrains.kotlin.ir.types.classOrNull
@@ -24,7 +25,6 @@ import org.jetbrains.kotlin.ir.visitors.acceptChildrenVoid
 import org.jetbrains.kotlin.ir.visitors.acceptVoid
 import org.jetbrains.kotlin.js.config.RuntimeDiagnostic
 import org.jetbrains.kotlin.js.config.JSConfigurationKeys
-import org.jetbrains.kotlin.utils.addIfNotNull
 import java.util.*
 
 fun eliminateDeadDeclarations(
@@ -33,9 +33,7 @@ fun eliminateDeadDeclarations(
     removeUnusedAssociatedObjects: Boolean = true,
 ) {
 
-    val allRoots = context.irFactory.stageController.withInitialIr { buildRoots(modules, context) }
-
-    val usefulDeclarations = usefulDeclarations(allRoots, context, removeUnusedAssociatedObjects)
+    val usefulDeclarations = findUsefulDeclarations(modules, context, removeUnusedAssociatedObjects)
 
     context.irFactory.stageController.unrestrictDeclarationListsAccess {
         processUselessDeclarations(
@@ -47,6 +45,18 @@ fun eliminateDeadDeclarations(
     }
 }
 
+/**
+ * Reachability pass of DCE: declarations of [modules] reachable from exported declarations and other roots
+ */
+fun findUsefulDeclarations(
+    modules: Iterable<IrModuleFragment>,
+    context: JsIrBackendContext,
+    removeUnusedAssociatedObjects: Boolean = true,
+): Set<IrDeclaration> {
+    val allRoots = context.irFactory.stageController.withInitialIr { buildRoots(modules, context) }
+    return usefulDeclarations(allRoots, context, removeUnusedAssociatedObjects)
+}
+
 private fun IrField.isConstant(): Boolean {
     return correspondingPropertySymbol?.owner?.isConst ?: false
 }
@@ -229,8 +239,19 @@ fun usefulDeclarations(
                 java.lang.Boolean.getBoolean("kotlin.js.ir.dce.print.reachability.info")
     val reachabilityInfo: MutableSet<String> = if (printReachabilityInfo) linkedSetOf() else Collections.emptySet()
 
-    val queue = ArrayDeque<IrDeclaration>()
-    val result = hashSetOf<IrDeclaration>()
+    val toStringMethod =
+        context.irBuiltIns.anyClass.owner.declarations.filterIsInstance<IrFunction>().single { it.name.asString() == "toString" }
+    val equalsMethod =
+        context.irBuiltIns.anyClass.owner.declarations.filterIsInstance<IrFunction>().single { it.name.asString() == "equals" }
+    val hashCodeMethod =
+        context.irBuiltIns.anyClass.owner.declarations.filterIsInstance<IrFunction>().single { it.name.asString() == "hashCode" }
+
+    // Lowerings on demand of the persistent IR aren't thread-safe, so references can be collected in parallel only for the plain IR
+    val isParallel = java.lang.Boolean.getBoolean("kotlin.js.ir.dce.parallel") && context.irFactory !is PersistentIrFactory
+    val referencesCollectors = ThreadLocal.withInitial {
+        DeclarationReferencesCollector(context, printReachabilityInfo, toStringMethod, equalsMethod, hashCodeMethod)
+    }
+    val worklist = ReachabilityWorklist<IrDeclaration, DeclarationReferences>(isParallel) { referencesCollectors.get().collect(it) }
 
     // This collection contains declarations whose reachability should be propagated to overrides.
     // Overriding uncontagious declaration will not lead to becoming a declaration reachable.
@@ -238,7 +259,7 @@ fun usefulDeclarations(
     // In case when we access a declaration through a fake-override declaration, the original (real) one will not be marked as contagious,
     // so, later, other overrides will not be processed unconditionally only because it overrides a reachable declaration.
     //
-    // The collection must be a subset of [result] set.
+    // The collection must be a subset of reached declarations.
     val contagiousReachableDeclarations = hashSetOf<IrOverridableDeclaration<*>>()
     val constructedClasses = hashSetOf<IrClass>()
 
@@ -273,10 +294,7 @@ fun usefulDeclarations(
             contagiousReachableDeclarations.add(this as IrOverridableDeclaration<*>)
         }
 
-        if (this !in result) {
-            result.add(this)
-            queue.addLast(this)
-        }
+        worklist.reach(this)
     }
 
     // use withInitialIr to avoid ConcurrentModificationException in dce-driven lowering when adding roots' nested declarations (members)
@@ -308,165 +326,16 @@ fun usefulDeclarations(
         }
     }
 
-    val toStringMethod =
-        context.irBuiltIns.anyClass.owner.declarations.filterIsInstance<IrFunction>().single { it.name.asString() == "toString" }
-    val equalsMethod =
-        context.irBuiltIns.anyClass.owner.declarations.filterIsInstance<IrFunction>().single { it.name.asString() == "equals" }
-    val hashCodeMethod =
-        context.irBuiltIns.anyClass.owner.declarations.filterIsInstance<IrFunction>().single { it.name.asString() == "hashCode" }
-
-    while (queue.isNotEmpty()) {
-        while (queue.isNotEmpty()) {
-            val declaration = queue.pollFirst()
-
-            fun IrDeclaration.enqueue(description: String, isContagious: Boolean = true) {
-                enqueue(declaration, description, isContagious)
-            }
+    while (worklist.hasUnprocessedNodes) {
+        worklist.process { declaration, references ->
+            references.classWithObjectAssociations?.let { classesWithObjectAssociations += it }
+            references.constructedClasses?.let { constructedClasses += it }
+            references.referencedJsClasses?.let { referencedJsClasses += it }
+            references.referencedJsClassesFromExpressions?.let { referencedJsClassesFromExpressions += it }
 
-            if (declaration is IrClass) {
-                declaration.superTypes.forEach {
-                    (it.classifierOrNull as? IrClassSymbol)?.owner?.enqueue("superTypes")
-                }
-
-                if (declaration.isObject && declaration.isExported(context)) {
-                    context.mapping.objectToGetInstanceFunction[declaration]!!
-                        .enqueue(declaration, "Exported object getInstance function")
-                }
-
-                declaration.annotations.forEach {
-                    val annotationClass = it.symbol.owner.constructedClass
-                    if (annotationClass.isAssociatedObjectAnnotatedAnnotation) {
-                        classesWithObjectAssociations += declaration
-                        annotationClass.enqueue("@AssociatedObject annotated annotation class")
-                    }
-                }
-            }
-
-            if (declaration is IrSimpleFunction && declaration.isFakeOverride) {
-                declaration.resolveFakeOverride()?.enqueue("real overridden fun", isContagious = false)
+            for ((index, target) in references.targets.withIndex()) {
+                target.enqueue(declaration, references.descriptions?.get(index), references.nonContagious?.get(index) != true)
             }
-
-            // Collect instantiated classes.
-            if (declaration is IrConstructor) {
-                declaration.constructedClass.let {
-                    it.enqueue("constructed class")
-                    constructedClasses += it
-                }
-            }
-
-            val body = when (declaration) {
-                is IrFunction -> declaration.body
-                is IrField -> declaration.initializer
-                is IrVariable -> declaration.initializer
-                else -> null
-            }
-
-            body?.acceptVoid(object : IrElementVisitorVoid {
-                override fun visitElement(element: IrElement) {
-                    element.acceptChildrenVoid(this)
-                }
-
-                override fun visitFunctionAccess(expression: IrFunctionAccessExpression) {
-                    super.visitFunctionAccess(expression)
-
-                    expression.symbol.owner.enqueue("function access")
-                }
-
-                override fun visitRawFunctionReference(expression: IrRawFunctionReference) {
-                    super.visitRawFunctionReference(expression)
-
-                    expression.symbol.owner.enqueue("raw function access")
-                }
-
-                override fun visitVariableAccess(expression: IrValueAccessExpression) {
-                    super.visitVariableAccess(expression)
-
-                    expression.symbol.owner.enqueue("variable access")
-                }
-
-                override fun visitFieldAccess(expression: IrFieldAccessExpression) {
-                    super.visitFieldAccess(expression)
-
-                    expression.symbol.owner.enqueue("field access")
-                }
-
-                override fun visitCall(expression: IrCall) {
-                    super.visitCall(expression)
-
-                    when (expression.symbol) {
-                        context.intrinsics.jsBoxIntrinsic -> {
-                            val inlineClass = context.inlineClassesUtils.getInlinedClass(expression.getTypeArgument(0)!!)!!
-                            val constructor = inlineClass.declarations.filterIsInstance<IrConstructor>().single { it.isPrimary }
-                            constructor.enqueue("intrinsic: jsBoxIntrinsic")
-                        }
-                        context.intrinsics.jsClass -> {
-                            val ref = expression.getTypeArgument(0)!!.classifierOrFail.owner as IrDeclaration
-                            ref.enqueue("intrinsic: jsClass")
-                            referencedJsClasses += ref
-                            // When class reference provided as parameter to external function
-                            // It can be instantiated by external JS script
-                            // Need to leave constructor for this
-                            // https://youtrack.jetbrains.com/issue/KT-46672
-                            // TODO: Possibly solution with origin is not so good
-                            //  There is option with applying this hack to jsGetKClass
-                            if (expression.origin == JsLoweredDeclarationOrigin.CLASS_REFERENCE) {
-                                // Maybe we need to filter primary constructor
-                                // Although at this time, we should have only primary constructor
-                                (ref as IrClass)
-                                    .constructors
-                                    .forEach {
-                                        it.enqueue("intrinsic: jsClass (constructor)")
-                                    }
-                            }
-                        }
-                        context.intrinsics.jsGetKClassFromExpression -> {
-                            val ref = expression.getTypeArgument(0)?.classOrNull ?: context.irBuiltIns.anyClass
-                            referencedJsClassesFromExpressions += ref.owner
-                        }
-                        context.intrinsics.jsObjectCreate -> {
-                            val classToCreate = expression.getTypeArgument(0)!!.classifierOrFail.owner as IrClass
-                            classToCreate.enqueue("intrinsic: jsObjectCreate")
-                            constructedClasses += classToCreate
-                        }
-                        context.intrinsics.jsEquals -> {
-                            equalsMethod.enqueue("intrinsic: jsEquals")
-                        }
-                        context.intrinsics.jsToString -> {
-                            toStringMethod.enqueue("intrinsic: jsToString")
-                        }
-                        context.intrinsics.jsHashCode -> {
-                            hashCodeMethod.enqueue("intrinsic: jsHashCode")
-                        }
-                        context.intrinsics.jsPlus -> {
-                            if (expression.getValueArgument(0)?.type?.classOrNull == context.irBuiltIns.stringClass) {
-                                toStringMethod.enqueue("intrinsic: jsPlus")
-                            }
-                        }
-                        context.intrinsics.jsConstruct -> {
-                            val callType = expression.getTypeArgument(0)!!
-                            val constructor = callType.getClass()!!.primaryConstructor
-                            constructor!!.enqueue("ctor call from jsConstruct-intrinsic")
-                        }
-                        context.intrinsics.es6DefaultType -> {
-                            //same as jsClass
-                            val ref = expression.getTypeArgument(0)!!.classifierOrFail.owner as IrDeclaration
-                            ref.enqueue("intrinsic: jsClass")
-                            referencedJsClasses += ref
-
-                            //Generate klass in `val currResultType = resultType || klass`
-                            val arg = expression.getTypeArgument(0)!!
-                            val klass = arg.getClass()
-                            constructedClasses.addIfNotNull(klass)
-                        }
-                    }
-                }
-
-                override fun visitStringConcatenation(expression: IrStringConcatenation) {
-                    super.visitStringConcatenation(expression)
-
-                    toStringMethod.enqueue("string concatenation")
-                }
-            })
         }
 
         fun IrOverridableDeclaration<*>.findOverriddenContagiousDeclaration(): IrOverridableDeclaration<*>? {
@@ -501,7 +370,7 @@ fun usefulDeclarations(
         for (klass in constructedClasses) {
             // TODO a better way to support inverse overrides.
             for (declaration in ArrayList(klass.declarations)) {
-                if (declaration in result) continue
+                if (worklist.isReached(declaration)) continue
 
                 if (declaration is IrOverridableDeclaration<*>) {
                     declaration.findOverriddenContagiousDeclaration()?.let {
@@ -542,7 +411,7 @@ fun usefulDeclarations(
         reachabilityInfo.forEach(::println)
     }
 
-    return result
+    return worklist.reachedNodes
 }
 
 private fun Collection<IrClass>.filterDescendantsOf(bases: Collection<IrClass>): Collection<IrClass> {
@@ -570,3 +439,207 @@ private fun Collection<IrClass>.filterDescendantsOf(bases: Collection<IrClass>):
 
     return this.filter { overridesAnyBase(it) }
 }
+
+/**
+ * References of a declaration collected by [DeclarationReferencesCollector], which are added to the reachability graph
+ *   by [usefulDeclarations] in the order of collection
+ */
+private class DeclarationReferences(collectDescriptions: Boolean) {
+    val targets = ArrayList<IrDeclaration>()
+    val descriptions: MutableList<String>? = if (collectDescriptions) ArrayList() else null
+
+    // Indices of targets which are not contagious, in most declarations there are none
+    var nonContagious: BitSet? = null
+
+    var classWithObjectAssociations: IrClass? = null
+    var constructedClasses: MutableList<IrClass>? = null
+    var referencedJsClasses: MutableList<IrDeclaration>? = null
+    var referencedJsClassesFromExpressions: MutableList<IrClass>? = null
+
+    fun add(target: IrDeclaration, description: String, isContagious: Boolean = true) {
+        if (!isContagious) {
+            (nonContagious ?: BitSet().also { nonContagious = it }).set(targets.size)
+        }
+        targets += target
+        descriptions?.add(description)
+    }
+
+    fun addConstructedClass(klass: IrClass) {
+        (constructedClasses ?: mutableListOf<IrClass>().also { constructedClasses = it }) += klass
+    }
+
+    fun addReferencedJsClass(declaration: IrDeclaration) {
+        (referencedJsClasses ?: mutableListOf<IrDeclaration>().also { referencedJsClasses = it }) += declaration
+    }
+
+    fun addReferencedJsClassFromExpression(klass: IrClass) {
+        (referencedJsClassesFromExpressions ?: mutableListOf<IrClass>().also { referencedJsClassesFromExpressions = it }) += klass
+    }
+}
+
+/**
+ * Collects references of a reachable declaration. It only reads IR, so different instances can be used from different threads
+ */
+private class DeclarationReferencesCollector(
+    private val context: JsIrBackendContext,
+    private val collectDescriptions: Boolean,
+    private val toStringMethod: IrFunction,
+    private val equalsMethod: IrFunction,
+    private val hashCodeMethod: IrFunction
+) : IrElementVisitorVoid {
+    private var references = DeclarationReferences(collectDescriptions)
+
+    private fun IrDeclaration.enqueue(description: String, isContagious: Boolean = true) {
+        references.add(this, description, isContagious)
+    }
+
+    fun collect(declaration: IrDeclaration): DeclarationReferences {
+        references = DeclarationReferences(collectDescriptions)
+
+        if (declaration is IrClass) {
+            declaration.superTypes.forEach {
+                (it.classifierOrNull as? IrClassSymbol)?.owner?.enqueue("superTypes")
+            }
+
+            if (declaration.isObject && declaration.isExported(context)) {
+                context.mapping.objectToGetInstanceFunction[declaration]!!
+                    .enqueue("Exported object getInstance function")
+            }
+
+            declaration.annotations.forEach {
+                val annotationClass = it.symbol.owner.constructedClass
+                if (annotationClass.isAssociatedObjectAnnotatedAnnotation) {
+                    references.classWithObjectAssociations = declaration
+                    annotationClass.enqueue("@AssociatedObject annotated annotation class")
+                }
+            }
+        }
+
+        if (declaration is IrSimpleFunction && declaration.isFakeOverride) {
+            declaration.resolveFakeOverride()?.enqueue("real overridden fun", isContagious = false)
+        }
+
+        // Collect instantiated classes.
+        if (declaration is IrConstructor) {
+            declaration.constructedClass.let {
+                it.enqueue("constructed class")
+                references.addConstructedClass(it)
+            }
+        }
+
+        val body = when (declaration) {
+            is IrFunction -> declaration.body
+            is IrField -> declaration.initializer
+            is IrVariable -> declaration.initializer
+            else -> null
+        }
+
+        body?.acceptVoid(this)
+
+        return references
+    }
+
+    override fun visitElement(element: IrElement) {
+        element.acceptChildrenVoid(this)
+    }
+
+    override fun visitFunctionAccess(expression: IrFunctionAccessExpression) {
+        super.visitFunctionAccess(expression)
+
+        expression.symbol.owner.enqueue("function access")
+    }
+
+    override fun visitRawFunctionReference(expression: IrRawFunctionReference) {
+        super.visitRawFunctionReference(expression)
+
+        expression.symbol.owner.enqueue("raw function access")
+    }
+
+    override fun visitVariableAccess(expression: IrValueAccessExpression) {
+        super.visitVariableAccess(expression)
+
+        expression.symbol.owner.enqueue("variable access")
+    }
+
+    override fun visitFieldAccess(expression: IrFieldAccessExpression) {
+        super.visitFieldAccess(expression)
+
+        expression.symbol.owner.enqueue("field access")
+    }
+
+    override fun visitCall(expression: IrCall) {
+        super.visitCall(expression)
+
+        when (expression.symbol) {
+            context.intrinsics.jsBoxIntrinsic -> {
+                val inlineClass = context.inlineClassesUtils.getInlinedClass(expression.getTypeArgument(0)!!)!!
+                val constructor = inlineClass.declarations.filterIsInstance<IrConstructor>().single { it.isPrimary }
+                constructor.enqueue("intrinsic: jsBoxIntrinsic")
+            }
+            context.intrinsics.jsClass -> {
+                val ref = expression.getTypeArgument(0)!!.classifierOrFail.owner as IrDeclaration
+                ref.enqueue("intrinsic: jsClass")
+                references.addReferencedJsClass(ref)
+                // When class reference provided as parameter to external function
+                // It can be instantiated by external JS script
+                // Need to leave constructor for this
+                // https://youtrack.jetbrains.com/issue/KT-46672
+                // TODO: Possibly solution with origin is not so good
+                //  There is option with applying this hack to jsGetKClass
+                if (expression.origin == JsLoweredDeclarationOrigin.CLASS_REFERENCE) {
+                    // Maybe we need to filter primary constructor
+                    // Although at this time, we should have only primary constructor
+                    (ref as IrClass)
+                        .constructors
+                        .forEach {
+                            it.enqueue("intrinsic: jsClass (constructor)")
+                        }
+                }
+            }
+            context.intrinsics.jsGetKClassFromExpression -> {
+                val ref = expression.getTypeArgument(0)?.classOrNull ?: context.irBuiltIns.anyClass
+                references.addReferencedJsClassFromExpression(ref.owner)
+            }
+            context.intrinsics.jsObjectCreate -> {
+                val classToCreate = expression.getTypeArgument(0)!!.classifierOrFail.owner as IrClass
+                classToCreate.enqueue("intrinsic: jsObjectCreate")
+                references.addConstructedClass(classToCreate)
+            }
+            context.intrinsics.jsEquals -> {
+                equalsMethod.enqueue("intrinsic: jsEquals")
+            }
+            context.intrinsics.jsToString -> {
+                toStringMethod.enqueue("intrinsic: jsToString")
+            }
+            context.intrinsics.jsHashCode -> {
+                hashCodeMethod.enqueue("intrinsic: jsHashCode")
+            }
+            context.intrinsics.jsPlus -> {
+                if (expression.getValueArgument(0)?.type?.classOrNull == context.irBuiltIns.stringClass) {
+                    toStringMethod.enqueue("intrinsic: jsPlus")
+                }
+            }
+            context.intrinsics.jsConstruct -> {
+                val callType = expression.getTypeArgument(0)!!
+                val constructor = callType.getClass()!!.primaryConstructor
+                constructor!!.enqueue("ctor call from jsConstruct-intrinsic")
+            }
+            context.intrinsics.es6DefaultType -> {
+                //same as jsClass
+                val ref = expression.getTypeArgument(0)!!.classifierOrFail.owner as IrDeclaration
+                ref.enqueue("intrinsic: jsClass")
+                references.addReferencedJsClass(ref)
+
+                //Generate klass in `val currResultType = resultType || klass`
+                val arg = expression.getTypeArgument(0)!!
+                arg.getClass()?.let { references.addConstructedClass(it) }
+            }
+        }
+    }
+
+    override fun visitStringConcatenation(expression: IrStringConcatenation) {
+        super.visitStringConcatenation(expression)
+
+        toStringMethod.enqueue("string concatenation")
+    }
+}
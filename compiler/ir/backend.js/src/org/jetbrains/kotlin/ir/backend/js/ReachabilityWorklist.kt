@@ -0,0 +1,68 @@
+/*
+ * Copyright 2010-2021 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.ir.backend.js
+
+import java.util.stream.Collectors
+
+/**
+ * Worklist of reachability analysis over a graph whose edges are collected lazily, when a node becomes reachable
+ *   (e.g. declarations and references from their bodies).
+ *
+ * Nodes are processed level by level. [collectReferences] is called for all nodes of a level, in parallel if [parallel] is set,
+ *   so it must not modify any shared state. Then collected references are added in the order of nodes in the calling thread,
+ *   so the set of reached nodes and the order of reaching them don't depend on the parallelism.
+ */
+class ReachabilityWorklist<N : Any, R>(
+    private val parallel: Boolean,
+    private val collectReferences: (N) -> R
+) {
+    private val reached = HashSet<N>()
+    private val nodes = ArrayList<N>()
+
+    private var processedCount = 0
+
+    val reachedNodes: Set<N>
+        get() = reached
+
+    fun isReached(node: N): Boolean = node in reached
+
+    val hasUnprocessedNodes: Boolean
+        get() = processedCount < nodes.size
+
+    /**
+     * Marks [node] as reached, returns `false` if it has been reached before
+     */
+    fun reach(node: N): Boolean {
+        if (!reached.add(node)) return false
+        nodes += node
+        return true
+    }
+
+    /**
+     * Processes all reached nodes which haven't been processed yet, including the ones reached during processing.
+     * [addReferences] is called for every node with its collected references and should [reach] referenced nodes
+     */
+    fun process(addReferences: (node: N, references: R) -> Unit) {
+        while (processedCount < nodes.size) {
+            val level = nodes.subList(processedCount, nodes.size).toList()
+            val levelReferences: List<R> =
+                if (parallel && level.size >= MIN_PARALLEL_LEVEL_SIZE)
+                    level.parallelStream().map { collectReferences(it) }.collect(Collectors.toList())
+                else
+                    level.map(collectReferences)
+
+            for ((index, node) in level.withIndex()) {
+                addReferences(node, levelReferences[index])
+                processedCount++
+            }
+        }
+    }
+
+    private companion object {
+        // Smaller levels are cheaper to process in the calling thread
+        const val MIN_PARALLEL_LEVEL_SIZE = 64
+    }
+}
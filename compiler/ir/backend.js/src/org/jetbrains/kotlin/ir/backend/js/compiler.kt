@@ -11,11 +11,14 @@ import org.jetbrains.kotlin.backend.common.lower
 import org.jetbrains.kotlin.backend.common.phaser.PhaseConfig
 import org.jetbrains.kotlin.backend.common.phaser.invokeToplevel
 import org.jetbrains.kotlin.config.CompilerConfiguration
+import org.jetbrains.kotlin.ir.backend.js.ic.LibraryLoweringFlags
 import org.jetbrains.kotlin.ir.backend.js.ic.SerializedIcData
 import org.jetbrains.kotlin.ir.backend.js.ic.icCompile
+import org.jetbrains.kotlin.ir.backend.js.ic.loadOrBuildLibraryCaches
 import org.jetbrains.kotlin.ir.backend.js.lower.generateTests
 import org.jetbrains.kotlin.ir.backend.js.lower.moveBodilessDeclarationsToSeparatePlace
 import org.jetbrains.kotlin.ir.backend.js.transformers.irToJs.IrModuleToJsTransformer
+import org.jetbrains.kotlin.ir.backend.js.transformers.irToJs.JsProgramPrinter
 import org.jetbrains.kotlin.ir.backend.js.utils.NameTables
 import org.jetbrains.kotlin.ir.declarations.IrFactory
 import org.jetbrains.kotlin.ir.declarations.IrModuleFragment
@@ -25,6 +28,7 @@ import org.jetbrains.kotlin.ir.util.ExternalDependenciesGenerator
 import org.jetbrains.kotlin.ir.util.noUnboundLeft
 import org.jetbrains.kotlin.js.config.RuntimeDiagnostic
 import org.jetbrains.kotlin.name.FqName
+import java.io.File
 
 class CompilerResult(
     val outputs: CompilationOutputs?,
@@ -32,11 +36,49 @@ class CompilerResult(
     val tsDefinitions: String? = null
 )
 
-class CompilationOutputs(
-    val jsCode: String,
-    val sourceMap: String? = null,
-    val dependencies: Iterable<Pair<String, CompilationOutputs>> = emptyList()
-)
+class CompilationOutputs private constructor(
+    private val printer: JsProgramPrinter?,
+    private val printed: Lazy<Pair<String, String?>>,
+    val dependencies: Iterable<Pair<String, CompilationOutputs>>
+) {
+    constructor(
+        jsCode: String,
+        sourceMap: String? = null,
+        dependencies: Iterable<Pair<String, CompilationOutputs>> = emptyList()
+    ) : this(null, lazyOf(jsCode to sourceMap), dependencies)
+
+    // The program is printed on demand: to strings on the first access to them, or straight to files by [writeTo]
+    constructor(
+        printer: JsProgramPrinter,
+        dependencies: Iterable<Pair<String, CompilationOutputs>> = emptyList()
+    ) : this(printer, lazy { printer.print() }, dependencies)
+
+    val jsCode: String
+        get() = printed.value.first
+
+    val sourceMap: String?
+        get() = printed.value.second
+
+    fun withDependencies(dependencies: Iterable<Pair<String, CompilationOutputs>>): CompilationOutputs =
+        CompilationOutputs(printer, printed, dependencies)
+
+    /**
+     * Writes JS code to [outputFile] and the source map, if any, to `<outputFile>.map`, without dependencies
+     */
+    fun writeTo(outputFile: File) {
+        val sourceMapFile = outputFile.resolveSibling("${outputFile.name}.map")
+        if (printer != null && !printed.isInitialized()) {
+            printer.printTo(outputFile, sourceMapFile)
+            return
+        }
+
+        outputFile.writeText(jsCode)
+        sourceMap?.let {
+            outputFile.appendText("\n//# sourceMappingURL=${sourceMapFile.name}")
+            sourceMapFile.writeText(it)
+        }
+    }
+}
 
 fun compile(
     project: Project,
@@ -65,8 +107,54 @@ fun compile(
     safeExternalBooleanDiagnostic: RuntimeDiagnostic? = null,
     useStdlibCache: Boolean = false,
     icCache: Map<String, SerializedIcData> = emptyMap(),
+    libraryCachesDir: File? = null,
 ): CompilerResult {
 
+    if (libraryCachesDir != null) {
+        // Lowered IR of libraries is loaded from caches, only the main module is lowered
+        val libraryCaches = loadOrBuildLibraryCaches(
+            libraryCachesDir,
+            project,
+            analyzer,
+            configuration,
+            dependencies,
+            mainLibrary = (mainModule as? MainModule.Klib)?.libPath,
+            loweringFlags = LibraryLoweringFlags(
+                es6mode,
+                propertyLazyInitialization,
+                legacyPropertyAccess,
+                baseClassIntoMetadata,
+                safeExternalBoolean,
+                safeExternalBooleanDiagnostic,
+                dceRuntimeDiagnostic
+            )
+        )
+
+        return icCompile(
+            project,
+            mainModule,
+            analyzer,
+            configuration,
+            dependencies,
+            friendDependencies,
+            mainArguments,
+            exportedDeclarations,
+            generateFullJs,
+            generateDceJs,
+            dceRuntimeDiagnostic,
+            es6mode,
+            multiModule,
+            relativeRequirePath,
+            propertyLazyInitialization,
+            baseClassIntoMetadata,
+            legacyPropertyAccess,
+            safeExternalBoolean,
+            safeExternalBooleanDiagnostic,
+            useStdlibCache = true,
+            icCache = libraryCaches.data,
+        )
+    }
+
     if (lowerPerModule) {
         return icCompile(
             project,
@@ -7,18 +7,90 @@ package org.jetbrains.kotlin.ir.backend.js.ic
 
 import com.intellij.openapi.project.Project
 import org.jetbrains.kotlin.analyzer.AbstractAnalyzerWithCompilerReport
+import org.jetbrains.kotlin.backend.common.CommonBackendContext
 import org.jetbrains.kotlin.config.CompilerConfiguration
-import org.jetbrains.kotlin.ir.backend.js.MainModule
-import org.jetbrains.kotlin.ir.backend.js.toByteArray
+import org.jetbrains.kotlin.config.KotlinCompilerVersion
+import org.jetbrains.kotlin.config.languageVersionSettings
+import org.jetbrains.kotlin.ir.backend.js.*
+import org.jetbrains.kotlin.ir.util.IrMessageLogger
+import org.jetbrains.kotlin.js.config.JSConfigurationKeys
+import org.jetbrains.kotlin.js.config.RuntimeDiagnostic
+import org.jetbrains.kotlin.library.resolver.TopologicalLibraryOrder
 import org.jetbrains.kotlin.name.FqName
 import java.io.File
 import java.io.PrintWriter
+import java.io.RandomAccessFile
 import java.security.MessageDigest
-import kotlin.random.Random
-import kotlin.random.nextULong
+import java.util.concurrent.ConcurrentHashMap
 
-// TODO: Proper version of the compiler (should take changes to lowerings into account)
-private val compilerVersion = Random.nextULong()
+/**
+ * Arguments of [org.jetbrains.kotlin.ir.backend.js.compile] which change lowered IR.
+ *
+ * Libraries have to be lowered with the same values as the main module, and caches built with other values are not reused.
+ */
+data class LibraryLoweringFlags(
+    val es6mode: Boolean = false,
+    val propertyLazyInitialization: Boolean = false,
+    val legacyPropertyAccess: Boolean = false,
+    val baseClassIntoMetadata: Boolean = false,
+    val safeExternalBoolean: Boolean = false,
+    val safeExternalBooleanDiagnostic: RuntimeDiagnostic? = null,
+    val dceRuntimeDiagnostic: RuntimeDiagnostic? = null,
+)
+
+// Lowerings can change without a change of the compiler version in development builds, so the compiler classes are taken into account too
+private val compilerVersion: ULong by lazy {
+    val compilerLocations = listOf(JsIrBackendContext::class.java, CommonBackendContext::class.java).mapNotNull {
+        try {
+            File(it.protectionDomain.codeSource.location.toURI())
+        } catch (e: Exception) {
+            null
+        }
+    }.distinct()
+
+    val md5 = MessageDigest.getInstance("MD5")
+    md5.update(KotlinCompilerVersion.VERSION.toByteArray())
+    // The compiler runs either from a jar or, in development, from directories with classes, whose every file has to be stamped
+    for (location in compilerLocations) {
+        location.walkTopDown().filter { it.isFile }.sortedBy { it.path }.forEach {
+            md5.update(it.toRelativeString(location).toByteArray())
+            md5.update(it.length().toByteArray())
+            md5.update(it.lastModified().toByteArray())
+        }
+    }
+    pirLowerings.forEach { md5.update(it.name.toByteArray()) }
+    md5.digest().toULong()
+}
+
+private fun CompilerConfiguration.loweringFlagsHash(loweringFlags: LibraryLoweringFlags): ULong {
+    val md5 = MessageDigest.getInstance("MD5")
+    md5.update(languageVersionSettings.toString().toByteArray())
+    md5.update(get(JSConfigurationKeys.MODULE_KIND).toString().toByteArray())
+    md5.update(getBoolean(JSConfigurationKeys.DEVELOPER_MODE).toString().toByteArray())
+    md5.update(loweringFlags.toString().toByteArray())
+    return md5.digest().toULong()
+}
+
+private val cacheDirectoryLocks = ConcurrentHashMap<String, Any>()
+
+/**
+ * Several compilations, in this process or in others, may build the same cache, so the directory is changed and read under
+ *   a lock of a sibling file. The monitor excludes other threads of this process, which can't acquire the same file lock.
+ */
+private inline fun <T> withCacheDirectoryLock(cachePath: String, action: () -> T): T {
+    val cacheDir = File(cachePath).canonicalFile
+    cacheDir.parentFile?.mkdirs()
+    synchronized(cacheDirectoryLocks.getOrPut(cacheDir.path) { Any() }) {
+        RandomAccessFile(File(cacheDir.path + ".lock"), "rw").use { lockFile ->
+            val lock = lockFile.channel.lock()
+            try {
+                return action()
+            } finally {
+                lock.release()
+            }
+        }
+    }
+}
 
 // TODO more parameters for lowerings
 // Returns true if caches were built. False if caches were up-to-date.
@@ -33,11 +105,31 @@ fun buildCache(
     exportedDeclarations: Set<FqName> = emptySet(),
     forceClean: Boolean = false,
     icCache: IcCacheInfo = IcCacheInfo.EMPTY,
+    loweringFlags: LibraryLoweringFlags = LibraryLoweringFlags(),
+): Boolean = withCacheDirectoryLock(cachePath) {
+    buildCacheUnderLock(
+        cachePath, project, mainModule, analyzer, configuration, dependencies, friendDependencies, exportedDeclarations, forceClean,
+        icCache, loweringFlags
+    )
+}
+
+private fun buildCacheUnderLock(
+    cachePath: String,
+    project: Project,
+    mainModule: MainModule.Klib,
+    analyzer: AbstractAnalyzerWithCompilerReport,
+    configuration: CompilerConfiguration,
+    dependencies: Collection<String>,
+    friendDependencies: Collection<String>,
+    exportedDeclarations: Set<FqName>,
+    forceClean: Boolean,
+    icCache: IcCacheInfo,
+    loweringFlags: LibraryLoweringFlags,
 ): Boolean {
     val dependencyHashes = dependencies.mapNotNull {
         val path = File(it).canonicalPath
         icCache.md5[path]
-    } + compilerVersion
+    } + compilerVersion + configuration.loweringFlagsHash(loweringFlags)
 
     val md5 = File(mainModule.libPath).md5(dependencyHashes)
 
@@ -50,7 +142,10 @@ fun buildCache(
     icDir.deleteRecursively()
     icDir.mkdirs()
 
-    val icData = prepareSingleLibraryIcCache(project, analyzer, configuration, mainModule.libPath, dependencies, friendDependencies, exportedDeclarations, icCache.data)
+    val icData = prepareSingleLibraryIcCache(
+        project, analyzer, configuration, mainModule.libPath, dependencies, friendDependencies, exportedDeclarations, icCache.data,
+        loweringFlags
+    )
 
     icData.writeTo(File(cachePath))
 
@@ -79,7 +174,11 @@ private fun File.md5(additional: Iterable<ULong> = emptyList()): ULong {
 
     this.process()
 
-    val d = md5.digest()
+    return md5.digest().toULong()
+}
+
+private fun ByteArray.toULong(): ULong {
+    val d = this
 
     return ((d[0].toULong() and 0xFFUL)
             or ((d[1].toULong() and 0xFFUL) shl 8)
@@ -120,6 +219,64 @@ fun checkCaches(
     return IcCacheInfo(result, md5)
 }
 
+/**
+ * Loads lowered IR caches of all [libraries] except [mainLibrary] from [cacheRoot], building missing and outdated caches first.
+ *
+ * Every library has its own cache directory, which is rebuilt only when the klib, its dependencies, the compiler or the flags
+ *   affecting lowerings change. So libraries like stdlib are deserialized and lowered once and then loaded by all following compilations.
+ */
+fun loadOrBuildLibraryCaches(
+    cacheRoot: File,
+    project: Project,
+    analyzer: AbstractAnalyzerWithCompilerReport,
+    configuration: CompilerConfiguration,
+    libraries: Collection<String>,
+    mainLibrary: String? = null,
+    loweringFlags: LibraryLoweringFlags = LibraryLoweringFlags(),
+): IcCacheInfo {
+    val mainLibraryPath = mainLibrary?.let { File(it).canonicalPath }
+    val resolvedLibraries = jsResolveLibraries(
+        libraries,
+        configuration[JSConfigurationKeys.REPOSITORIES] ?: emptyList(),
+        configuration[IrMessageLogger.IR_MESSAGE_LOGGER].toResolverLogger()
+    ).getFullResolvedList(TopologicalLibraryOrder)
+
+    val data = mutableMapOf<String, SerializedIcData>()
+    val md5 = mutableMapOf<String, ULong>()
+
+    // Libraries are sorted topologically, so caches of all dependencies are ready when a library is lowered
+    for (library in resolvedLibraries) {
+        val libraryFile = library.library.libraryFile
+        val libPath = libraryFile.canonicalPath
+        if (libPath == mainLibraryPath) continue
+
+        val cachePath = File(cacheRoot, "${libraryFile.nameWithoutExtension}-${libPath.hashCode().toUInt().toString(16)}").path
+        val dependencies = library.allDependencies().map { it.library.libraryFile.canonicalPath } + libPath
+
+        withCacheDirectoryLock(cachePath) {
+            buildCacheUnderLock(
+                cachePath,
+                project,
+                MainModule.Klib(libPath),
+                analyzer,
+                configuration,
+                dependencies,
+                friendDependencies = emptyList(),
+                exportedDeclarations = emptySet(),
+                forceClean = false,
+                icCache = IcCacheInfo(data, md5),
+                loweringFlags = loweringFlags
+            )
+
+            val cacheInfo = CacheInfo.load(cachePath) ?: error("Cannot load IC cache from $cachePath")
+            data[libPath] = File(cachePath).readIcData()
+            md5[libPath] = cacheInfo.md5
+        }
+    }
+
+    return IcCacheInfo(data, md5)
+}
+
 // TODO md5 hash
 data class CacheInfo(val path: String, val libPath: String, val md5: ULong) {
     fun save() {
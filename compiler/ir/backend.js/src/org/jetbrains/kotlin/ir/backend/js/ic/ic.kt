@@ -36,6 +36,7 @@ fun prepareSingleLibraryIcCache(
     friendDependencies: Collection<String> = emptyList(),
     exportedDeclarations: Set<FqName> = emptySet(),
     icCache: Map<String, SerializedIcData> = emptyMap(),
+    loweringFlags: LibraryLoweringFlags = LibraryLoweringFlags(),
 ): SerializedIcData {
     val irFactory = PersistentIrFactory()
     val controller = WholeWorldStageController()
@@ -49,10 +50,14 @@ fun prepareSingleLibraryIcCache(
         dependencies,
         friendDependencies,
         exportedDeclarations,
-        null,
-        false,
-        false,
+        loweringFlags.dceRuntimeDiagnostic,
+        loweringFlags.es6mode,
+        loweringFlags.propertyLazyInitialization,
         irFactory,
+        legacyPropertyAccess = loweringFlags.legacyPropertyAccess,
+        baseClassIntoMetadata = loweringFlags.baseClassIntoMetadata,
+        safeExternalBoolean = loweringFlags.safeExternalBoolean,
+        safeExternalBooleanDiagnostic = loweringFlags.safeExternalBooleanDiagnostic,
         useGlobalSignatures = true,
         useStdlibCache = true,
         icCache = icCache
@@ -75,7 +80,7 @@ fun prepareSingleLibraryIcCache(
     ).serializeDeclarations(irFactory.allDeclarations)
 }
 
-private fun KotlinResolvedLibrary.allDependencies(): List<KotlinResolvedLibrary> {
+internal fun KotlinResolvedLibrary.allDependencies(): List<KotlinResolvedLibrary> {
     val visited = mutableSetOf<KotlinResolvedLibrary>()
 
     val result = mutableListOf<KotlinResolvedLibrary>()
@@ -157,13 +162,13 @@ fun icCompile(
         es6mode,
         propertyLazyInitialization,
         irFactory,
-        baseClassIntoMetadata,
-        legacyPropertyAccess,
-        safeExternalBoolean,
-        safeExternalBooleanDiagnostic,
-        useStdlibCache,
-        useStdlibCache,
-        icCache,
+        legacyPropertyAccess = legacyPropertyAccess,
+        baseClassIntoMetadata = baseClassIntoMetadata,
+        safeExternalBoolean = safeExternalBoolean,
+        safeExternalBooleanDiagnostic = safeExternalBooleanDiagnostic,
+        useGlobalSignatures = useStdlibCache,
+        useStdlibCache = useStdlibCache,
+        icCache = icCache,
     )
 
     val modulesToLower = allModules.filter { it !in loweredIrLoaded }
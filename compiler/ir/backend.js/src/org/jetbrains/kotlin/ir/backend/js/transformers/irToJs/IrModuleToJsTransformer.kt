@@ -19,17 +19,9 @@ import org.jetbrains.kotlin.ir.declarations.*
 import org.jetbrains.kotlin.ir.symbols.IrClassSymbol
 import org.jetbrains.kotlin.ir.util.isEffectivelyExternal
 import org.jetbrains.kotlin.ir.util.isInterface
-import org.jetbrains.kotlin.js.backend.JsToStringGenerationVisitor
-import org.jetbrains.kotlin.js.backend.NoOpSourceLocationConsumer
 import org.jetbrains.kotlin.js.backend.ast.*
 import org.jetbrains.kotlin.js.config.JSConfigurationKeys
-import org.jetbrains.kotlin.js.config.SourceMapSourceEmbedding
-import org.jetbrains.kotlin.js.sourceMap.SourceFilePathResolver
-import org.jetbrains.kotlin.js.sourceMap.SourceMap3Builder
-import org.jetbrains.kotlin.js.sourceMap.SourceMapBuilderConsumer
-import org.jetbrains.kotlin.js.util.TextOutputImpl
 import org.jetbrains.kotlin.utils.DFS
-import java.io.File
 
 class IrModuleToJsTransformer(
     private val backendContext: JsIrBackendContext,
@@ -45,6 +37,10 @@ class IrModuleToJsTransformer(
 ) {
     private val generateRegionComments = backendContext.configuration.getBoolean(JSConfigurationKeys.GENERATE_REGION_COMMENTS)
 
+    // Fragments are not cached for split modules, since translation of files tracks cross-module references
+    private val cacheFileFragments =
+        backendContext.configuration.getBoolean(JSConfigurationKeys.CACHE_FILE_FRAGMENTS) && !multiModule && !generateScriptModule
+
     fun generateModule(modules: Iterable<IrModuleFragment>): CompilerResult {
         val additionalPackages = with(backendContext) {
             externalPackageFragment.values + listOf(
@@ -67,7 +63,7 @@ class IrModuleToJsTransformer(
             namer.merge(module.files, additionalPackages)
         }
 
-        val jsCode = if (fullJs) generateWrappedModuleBody(modules, exportedModule, namer) else null
+        val jsCode = if (fullJs) generateWrappedModuleBody(modules, exportedModule, namer, cacheFileFragments) else null
 
         val dceJsCode = if (dceJs) {
             eliminateDeadDeclarations(modules, backendContext, removeUnusedAssociatedObjects)
@@ -81,7 +77,12 @@ class IrModuleToJsTransformer(
         return CompilerResult(jsCode, dceJsCode, dts)
     }
 
-    private fun generateWrappedModuleBody(modules: Iterable<IrModuleFragment>, exportedModule: ExportedModule, namer: NameTables): CompilationOutputs {
+    private fun generateWrappedModuleBody(
+        modules: Iterable<IrModuleFragment>,
+        exportedModule: ExportedModule,
+        namer: NameTables,
+        cacheFileFragments: Boolean = false
+    ): CompilationOutputs {
         if (multiModule) {
 
             val refInfo = buildCrossModuleReferenceInfo(modules)
@@ -113,14 +114,15 @@ class IrModuleToJsTransformer(
                 )
             }.reversed()
 
-            return CompilationOutputs(mainModule.jsCode, mainModule.sourceMap, dependencies)
+            return mainModule.withDependencies(dependencies)
         } else {
             return generateWrappedModuleBody2(
                 modules,
                 emptyList(),
                 exportedModule,
                 namer,
-                EmptyCrossModuleReferenceInfo
+                EmptyCrossModuleReferenceInfo,
+                if (cacheFileFragments) JsFileFragmentCache.forModule(exportedModule.name) else null
             )
         }
     }
@@ -130,7 +132,8 @@ class IrModuleToJsTransformer(
         dependencies: Iterable<IrModuleFragment>,
         exportedModule: ExportedModule,
         namer: NameTables,
-        refInfo: CrossModuleReferenceInfo
+        refInfo: CrossModuleReferenceInfo,
+        fileFragmentCache: JsFileFragmentCache? = null
     ): CompilationOutputs {
 
         val nameGenerator = refInfo.withReferenceTracking(
@@ -155,7 +158,7 @@ class IrModuleToJsTransformer(
                 declareFreshGlobal = { JsName(sanitizeName(it)) } // TODO: Declare fresh name
             )
 
-        val moduleBody = generateModuleBody(modules, rootContext)
+        val moduleBody = generateModuleBody(modules, rootContext, namer, fileFragmentCache)
 
         val internalModuleName = JsName("_")
         val globalNames = NameTable<String>(namer.globalNames)
@@ -195,41 +198,7 @@ class IrModuleToJsTransformer(
             )
         }
 
-        val jsCode = TextOutputImpl()
-
-        val configuration = backendContext.configuration
-        val sourceMapPrefix = configuration.get(JSConfigurationKeys.SOURCE_MAP_PREFIX, "")
-        val sourceMapsEnabled = configuration.getBoolean(JSConfigurationKeys.SOURCE_MAP)
-
-        val sourceMapBuilder = SourceMap3Builder(null, jsCode, sourceMapPrefix)
-        val sourceMapBuilderConsumer =
-            if (sourceMapsEnabled) {
-                val sourceRoots = configuration.get(JSConfigurationKeys.SOURCE_MAP_SOURCE_ROOTS, emptyList<String>()).map(::File)
-                val generateRelativePathsInSourceMap = sourceMapPrefix.isEmpty() && sourceRoots.isEmpty()
-                val outputDir = if (generateRelativePathsInSourceMap) configuration.get(JSConfigurationKeys.OUTPUT_DIR) else null
-
-                val pathResolver = SourceFilePathResolver(sourceRoots, outputDir)
-
-                val sourceMapContentEmbedding =
-                    configuration.get(JSConfigurationKeys.SOURCE_MAP_EMBED_SOURCES, SourceMapSourceEmbedding.INLINING)
-
-                SourceMapBuilderConsumer(
-                    File("."),
-                    sourceMapBuilder,
-                    pathResolver,
-                    sourceMapContentEmbedding == SourceMapSourceEmbedding.ALWAYS,
-                    sourceMapContentEmbedding != SourceMapSourceEmbedding.NEVER
-                )
-            } else {
-                null
-            }
-
-        program.accept(JsToStringGenerationVisitor(jsCode, sourceMapBuilderConsumer ?: NoOpSourceLocationConsumer))
-
-        return CompilationOutputs(
-            jsCode.toString(),
-            if(sourceMapsEnabled) sourceMapBuilder.build() else null
-        )
+        return CompilationOutputs(JsProgramPrinter(program, backendContext.configuration))
     }
 
     private fun IrModuleFragment.externalModuleName(): String {
@@ -285,7 +254,12 @@ class IrModuleToJsTransformer(
         }
     }
 
-    private fun generateModuleBody(modules: Iterable<IrModuleFragment>, context: JsGenerationContext): List<JsStatement> {
+    private fun generateModuleBody(
+        modules: Iterable<IrModuleFragment>,
+        context: JsGenerationContext,
+        namer: NameTables,
+        fileFragmentCache: JsFileFragmentCache?
+    ): List<JsStatement> {
         val statements = mutableListOf<JsStatement>().also {
             if (!generateScriptModule) it += JsStringLiteral("use strict").makeStmt()
         }
@@ -300,7 +274,11 @@ class IrModuleToJsTransformer(
 
         modules.forEach { module ->
             module.files.forEach {
-                val fileStatements = it.accept(IrFileToJsTransformer(), context).statements
+                val fileStatements = if (fileFragmentCache != null) {
+                    fileFragmentCache.getOrTranslate(it, context, namer) { it.accept(IrFileToJsTransformer(), context).statements }
+                } else {
+                    it.accept(IrFileToJsTransformer(), context).statements
+                }
                 if (fileStatements.isNotEmpty()) {
                     var startComment = ""
 
@@ -328,6 +306,8 @@ class IrModuleToJsTransformer(
             }
         }
 
+        fileFragmentCache?.retainFiles(modules.flatMap { it.files })
+
         // sort member forwarding code
         processClassModels(context.staticContext.classModels, preDeclarationBlock, postDeclarationBlock)
 
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2010-2021 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.ir.backend.js.transformers.irToJs
+
+import org.jetbrains.kotlin.ir.IrElement
+import org.jetbrains.kotlin.ir.IrFileEntry
+import org.jetbrains.kotlin.ir.UNDEFINED_OFFSET
+import org.jetbrains.kotlin.ir.backend.js.JsIrBackendContext
+import org.jetbrains.kotlin.ir.backend.js.utils.*
+import org.jetbrains.kotlin.ir.declarations.*
+import org.jetbrains.kotlin.ir.expressions.IrDeclarationReference
+import org.jetbrains.kotlin.ir.expressions.IrTypeOperatorCall
+import org.jetbrains.kotlin.ir.types.classOrNull
+import org.jetbrains.kotlin.ir.util.render
+import org.jetbrains.kotlin.ir.visitors.IrElementVisitorVoid
+import org.jetbrains.kotlin.ir.visitors.acceptChildrenVoid
+import org.jetbrains.kotlin.ir.visitors.acceptVoid
+import org.jetbrains.kotlin.js.backend.ast.JsStatement
+import java.lang.ref.SoftReference
+import java.security.MessageDigest
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * Cache of JS code generated for IR files of a module, which allows to translate only the files changed since the previous
+ *   generation of the same module. Caches live as long as the process, so in the daemon they're reused between compilations.
+ *
+ * A fragment of a file is reused if the fingerprint of the file is the same. The fingerprint covers the lowered IR of the file,
+ *   so changes of functions inlined from other files are taken into account, and JS names of all declarations which the file
+ *   declares or references, since they can be changed by changes in other files.
+ * Besides statements of the file, a fragment keeps side outputs of its translation: class models and initializers of fields.
+ *
+ * Fragments keep JS AST of files rather than printed code, so reused files get source maps as usual. Locations of the JS AST
+ *   are computed from offsets of the IR, so with source maps the fingerprint also covers lines and columns of all elements
+ */
+class JsFileFragmentCache private constructor() {
+    private class ClassModelFragment(val classIndex: Int, val preDeclaration: List<JsStatement>, val postDeclaration: List<JsStatement>)
+
+    private class Fragment(
+        val fingerprint: ByteArray,
+        val statements: List<JsStatement>,
+        val classModels: List<ClassModelFragment>,
+        val initializers: List<JsStatement>
+    )
+
+    private val fragments = ConcurrentHashMap<String, Fragment>()
+
+    fun getOrTranslate(
+        file: IrFile,
+        context: JsGenerationContext,
+        nameTables: NameTables,
+        translate: () -> List<JsStatement>
+    ): List<JsStatement> {
+        val staticContext = context.staticContext
+        val fingerprint = FileFingerprintBuilder(nameTables, staticContext).build(file) ?: return translate()
+        val path = file.fileEntry.name
+
+        val cached = fragments[path]
+        if (cached != null && cached.fingerprint.contentEquals(fingerprint.hash)) {
+            for (classModel in cached.classModels) {
+                val irClass = fingerprint.classes[classModel.classIndex]
+                staticContext.classModels[irClass.symbol] = JsIrClassModel(irClass).apply {
+                    preDeclarationBlock.statements += classModel.preDeclaration
+                    postDeclarationBlock.statements += classModel.postDeclaration
+                }
+            }
+            staticContext.initializerBlock.statements += cached.initializers
+            return cached.statements
+        }
+
+        val initializers = staticContext.initializerBlock.statements
+        val initializersBefore = initializers.size
+
+        val statements = translate()
+
+        val classModels = fingerprint.classes.mapIndexedNotNull { index, irClass ->
+            staticContext.classModels[irClass.symbol]?.let {
+                ClassModelFragment(index, it.preDeclarationBlock.statements.toList(), it.postDeclarationBlock.statements.toList())
+            }
+        }
+        fragments[path] = Fragment(fingerprint.hash, statements.toList(), classModels, initializers.subList(initializersBefore, initializers.size).toList())
+        return statements
+    }
+
+    /**
+     * Drops fragments of files which are not in the module anymore
+     */
+    fun retainFiles(files: Collection<IrFile>) {
+        val paths = files.mapTo(HashSet()) { it.fileEntry.name }
+        fragments.keys.retainAll(paths)
+    }
+
+    private class FileFingerprint(val hash: ByteArray, val classes: List<IrClass>)
+
+    private class FileFingerprintBuilder(
+        private val nameTables: NameTables,
+        private val staticContext: JsStaticContext
+    ) : IrElementVisitorVoid {
+        private val backendContext: JsIrBackendContext = staticContext.backendContext
+        private val digest = MessageDigest.getInstance("MD5")
+        private val classes = mutableListOf<IrClass>()
+        private var isCacheable = true
+        private var fileEntry: IrFileEntry? = null
+
+        // Returns null if the file can't be cached
+        fun build(file: IrFile): FileFingerprint? {
+            with(backendContext) {
+                update("es6=$es6mode;legacyPropertyAccess=$legacyPropertyAccess;baseClassIntoMetadata=$baseClassIntoMetadata")
+                update("safeExternalBoolean=$safeExternalBoolean;sourceMaps=${staticContext.genSourcemaps}")
+            }
+            if (staticContext.genSourcemaps) {
+                fileEntry = file.fileEntry
+            }
+            file.acceptVoid(this)
+            return if (isCacheable) FileFingerprint(digest.digest(), classes) else null
+        }
+
+        override fun visitElement(element: IrElement) {
+            update(element.render())
+            // Same as the location computed for source maps in withSource, the file of inlined elements is not taken into account
+            fileEntry?.let {
+                if (element.startOffset != UNDEFINED_OFFSET && element.endOffset != UNDEFINED_OFFSET) {
+                    update("${it.getLineNumber(element.startOffset)}:${it.getColumnNumber(element.startOffset)}")
+                }
+            }
+            element.acceptChildrenVoid(this)
+        }
+
+        override fun visitDeclaration(declaration: IrDeclarationBase) {
+            updateName(declaration)
+            declaration.annotations.forEach { it.acceptVoid(this) }
+            visitElement(declaration)
+        }
+
+        override fun visitClass(declaration: IrClass) {
+            classes += declaration
+            for (superType in declaration.superTypes) {
+                superType.classOrNull?.owner?.let(::updateName)
+            }
+            visitDeclaration(declaration)
+        }
+
+        override fun visitSimpleFunction(declaration: IrSimpleFunction) {
+            for (overridden in declaration.overriddenSymbols) {
+                updateName(overridden.owner)
+            }
+            visitDeclaration(declaration)
+        }
+
+        override fun visitDeclarationReference(expression: IrDeclarationReference) {
+            val symbol = expression.symbol
+            if (symbol.isBound) {
+                (symbol.owner as? IrDeclaration)?.let(::updateName)
+            }
+            visitElement(expression)
+        }
+
+        override fun visitTypeOperator(expression: IrTypeOperatorCall) {
+            expression.typeOperand.classOrNull?.owner?.let(::updateName)
+            visitElement(expression)
+        }
+
+        private fun updateName(declaration: IrDeclaration) {
+            val parentClass = declaration.parent as? IrClass
+
+            // Keys of associated objects depend on the order in which they're requested during translation of the whole module
+            if ((declaration as? IrClass ?: parentClass)?.isAssociatedObjectAnnotatedAnnotation == true) {
+                isCacheable = false
+            }
+
+            update(nameTables.findName(declaration) ?: "")
+            if (declaration is IrDeclarationWithName) {
+                update(declaration.getJsNameOrKotlinName().asString())
+            }
+            if (declaration is IrSimpleFunction && declaration.dispatchReceiverParameter != null) {
+                update(jsFunctionSignature(declaration, backendContext))
+            }
+            parentClass?.let { update(nameTables.findName(it) ?: "") }
+        }
+
+        private fun update(value: String) {
+            digest.update(value.toByteArray())
+            digest.update(0.toByte())
+        }
+    }
+
+    companion object {
+        private val cachesByModule = ConcurrentHashMap<String, SoftReference<JsFileFragmentCache>>()
+
+        /**
+         * Returns the cache of the module with [moduleName], which is shared by all compilations of the module in this process
+         */
+        fun forModule(moduleName: String): JsFileFragmentCache {
+            cachesByModule[moduleName]?.get()?.let { return it }
+            val cache = JsFileFragmentCache()
+            cachesByModule[moduleName] = SoftReference(cache)
+            return cache
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2010-2021 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.ir.backend.js.transformers.irToJs
+
+import org.jetbrains.kotlin.config.CompilerConfiguration
+import org.jetbrains.kotlin.js.backend.JsToStringGenerationVisitor
+import org.jetbrains.kotlin.js.backend.NoOpSourceLocationConsumer
+import org.jetbrains.kotlin.js.backend.ast.JsProgram
+import org.jetbrains.kotlin.js.config.JSConfigurationKeys
+import org.jetbrains.kotlin.js.config.SourceMapSourceEmbedding
+import org.jetbrains.kotlin.js.sourceMap.SourceFilePathResolver
+import org.jetbrains.kotlin.js.sourceMap.SourceMap3Builder
+import org.jetbrains.kotlin.js.sourceMap.SourceMapBuilderConsumer
+import org.jetbrains.kotlin.js.util.TextOutputImpl
+import java.io.File
+
+/**
+ * Prints a generated program and its source map (if enabled in [configuration]) either to strings or straight to files.
+ */
+class JsProgramPrinter(private val program: JsProgram, private val configuration: CompilerConfiguration) {
+    private val sourceMapPrefix = configuration.get(JSConfigurationKeys.SOURCE_MAP_PREFIX, "")
+
+    val sourceMapsEnabled = configuration.getBoolean(JSConfigurationKeys.SOURCE_MAP)
+
+    /**
+     * Returns JS code and the source map, if it's enabled
+     */
+    fun print(): Pair<String, String?> {
+        val jsCode = TextOutputImpl()
+        val sourceMapBuilder = SourceMap3Builder(null, jsCode, sourceMapPrefix)
+        print(jsCode, sourceMapBuilder)
+        return jsCode.toString() to if (sourceMapsEnabled) sourceMapBuilder.build() else null
+    }
+
+    /**
+     * Writes JS code to [jsFile] and the source map, if it's enabled, to [sourceMapFile] with a link to it from the code.
+     * Both are written while the program is printed, so memory used for printing doesn't depend on the size of the program
+     */
+    fun printTo(jsFile: File, sourceMapFile: File) {
+        jsFile.bufferedWriter().use { jsWriter ->
+            val jsCode = TextOutputImpl(jsWriter, false)
+            if (sourceMapsEnabled) {
+                sourceMapFile.bufferedWriter().use { sourceMapWriter ->
+                    val sourceMapBuilder = SourceMap3Builder(null, jsCode, sourceMapPrefix, sourceMapWriter)
+                    print(jsCode, sourceMapBuilder)
+                    sourceMapBuilder.finish()
+                }
+            } else {
+                print(jsCode, null)
+            }
+            jsCode.flush()
+
+            if (sourceMapsEnabled) {
+                jsWriter.append("\n//# sourceMappingURL=${sourceMapFile.name}")
+            }
+        }
+    }
+
+    private fun print(jsCode: TextOutputImpl, sourceMapBuilder: SourceMap3Builder?) {
+        val sourceMapBuilderConsumer =
+            if (sourceMapsEnabled && sourceMapBuilder != null) {
+                val sourceRoots = configuration.get(JSConfigurationKeys.SOURCE_MAP_SOURCE_ROOTS, emptyList<String>()).map(::File)
+                val generateRelativePathsInSourceMap = sourceMapPrefix.isEmpty() && sourceRoots.isEmpty()
+                val outputDir = if (generateRelativePathsInSourceMap) configuration.get(JSConfigurationKeys.OUTPUT_DIR) else null
+
+                val pathResolver = SourceFilePathResolver(sourceRoots, outputDir)
+
+                val sourceMapContentEmbedding =
+                    configuration.get(JSConfigurationKeys.SOURCE_MAP_EMBED_SOURCES, SourceMapSourceEmbedding.INLINING)
+
+                SourceMapBuilderConsumer(
+                    File("."),
+                    sourceMapBuilder,
+                    pathResolver,
+                    sourceMapContentEmbedding == SourceMapSourceEmbedding.ALWAYS,
+                    sourceMapContentEmbedding != SourceMapSourceEmbedding.NEVER
+                )
+            } else {
+                null
+            }
+
+        program.accept(JsToStringGenerationVisitor(jsCode, sourceMapBuilderConsumer ?: NoOpSourceLocationConsumer))
+    }
+}
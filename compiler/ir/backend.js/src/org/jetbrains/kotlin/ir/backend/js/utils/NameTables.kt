@@ -278,6 +278,14 @@ class NameTables(
         return name
     }
 
+    /**
+     * Returns the global or member name generated for [declaration], or `null` if it doesn't have one
+     */
+    fun findName(declaration: IrDeclaration): String? {
+        val name = if (declaration is IrField) memberNames.names[declaration] ?: globalNames.names[declaration] else globalNames.names[declaration]
+        return name ?: mappedNames?.get(mapToKey(declaration))
+    }
+
     private fun processTopLevelLocalDecl(declaration: IrDeclaration) {
         when {
             declaration !is IrDeclarationWithName ->
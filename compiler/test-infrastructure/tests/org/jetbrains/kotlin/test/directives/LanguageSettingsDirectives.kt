@@ -56,6 +56,10 @@ object LanguageSettingsDirectives : SimpleDirectivesContainer() {
         description = "Allow compiling code in package 'kotlin' and allow not requiring kotlin.stdlib in module-info (AnalysisFlags.allowKotlinPackage)"
     )
 
+    val KEEP_MEMBER_PROTOS_OFF_HEAP by directive(
+        description = "Keep serialized members of library classes outside of the Java heap (AnalysisFlags.keepMemberProtosOffHeap)"
+    )
+
     // --------------------- Jvm Analysis Flags ---------------------
 
     val JVM_DEFAULT_MODE by enumDirective<JvmDefaultMode>(
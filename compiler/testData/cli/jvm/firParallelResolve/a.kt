@@ -0,0 +1,10 @@
+package a
+
+import b.B
+import c.*
+
+open class A(val b: B) {
+    fun c(): C<String> = C(b.name)
+}
+
+fun createA(): A = A(B("a"))
@@ -0,0 +1,10 @@
+package b
+
+import a.A
+import c.C
+
+data class B(val name: String)
+
+class SubA(b: B) : A(b) {
+    val cs: List<C<B>> = listOf(C(B("sub")))
+}
@@ -0,0 +1,12 @@
+package c
+
+import a.createA
+import b.SubA
+
+class C<T>(val value: T)
+
+fun main() {
+    val a = createA()
+    val sub: SubA = SubA(a.b)
+    println(a.c().value + sub.cs.first().value.name)
+}
@@ -0,0 +1,6 @@
+fun a(): Int = b().length + c()
+
+fun a2(): Int {
+    val s: String = a()
+    return s.length
+}
@@ -0,0 +1,3 @@
+fun b(): String = "b" + unresolved
+
+fun b2() = a().foo
@@ -0,0 +1,3 @@
+fun c(): Int = 1
+
+fun c2(): Int = "c"
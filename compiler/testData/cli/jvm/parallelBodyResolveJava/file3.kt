@@ -0,0 +1,13 @@
+import java.util.concurrent.ConcurrentHashMap
+import lib.Circle
+import lib.Shape
+import lib.Shapes
+
+fun circles3(count: Int): List<Shape> = (1..count).map { Circle.Builder().radius(it.toDouble()).build() }
+
+fun areas3(): Map<String, Double> {
+    val result = ConcurrentHashMap<String, Double>()
+    result["f3"] = Shapes.totalArea(circles3(3))
+    val text = StringBuilder().append(result.keys.joinToString()).append(java.io.File.separator).toString()
+    return result.filterKeys { text.startsWith(it) } + java.util.Collections.singletonMap("s3", java.lang.Math.max(3.0, 0.0))
+}
@@ -0,0 +1,27 @@
+package lib;
+
+public class Circle implements Shape {
+    private final double radius;
+
+    public Circle(double radius) {
+        this.radius = radius;
+    }
+
+    @Override
+    public double area() {
+        return 3.0 * radius * radius;
+    }
+
+    public static class Builder {
+        private double radius;
+
+        public Builder radius(double radius) {
+            this.radius = radius;
+            return this;
+        }
+
+        public Circle build() {
+            return new Circle(radius);
+        }
+    }
+}
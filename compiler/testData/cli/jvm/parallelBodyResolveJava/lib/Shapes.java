@@ -0,0 +1,15 @@
+package lib;
+
+import java.util.List;
+
+public final class Shapes {
+    private Shapes() {}
+
+    public static double totalArea(List<? extends Shape> shapes) {
+        double result = 0;
+        for (Shape shape : shapes) {
+            result += shape.area();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,4700 @@
+/*
+ * Copyright 2010-2021 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.test.runners;
+
+import com.intellij.testFramework.TestDataPath;
+import org.jetbrains.kotlin.test.util.KtTestUtil;
+import org.jetbrains.kotlin.test.TestMetadata;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.regex.Pattern;
+
+/** This class is generated by {@link GenerateNewCompilerTests.kt}. DO NOT MODIFY MANUALLY */
+@SuppressWarnings("all")
+@TestMetadata("compiler/testData/diagnostics/testsWithStdLib")
+@TestDataPath("$PROJECT_ROOT")
+public class DiagnosticWithOffHeapMemberProtosTestGenerated extends AbstractDiagnosticWithOffHeapMemberProtosTest {
+    @Test
+    @TestMetadata("addAllProjection.kt")
+    public void testAddAllProjection() throws Exception {
+        runTest("compiler/testData/diagnostics/testsWithStdLib/addAllProjection.kt");
+    }
+
+    @Test
+    public void testAllFilesPresentInTestsWithStdLib() throws Exception {
+        KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+    }
+
+    @Test
+    @TestMetadata("ArrayOfNothing.kt")
+    public void testArrayOfNothing() throws Exception {
+        runTest("compiler/testData/diagnostics/testsWithStdLib/ArrayOfNothing.kt");
+    }
+
+    @Test
+    @TestMetadata("assignedInSynchronized.kt")
+    public void testAssignedInSynchronized() throws Exception {
+        runTest("compiler/testData/diagnostics/testsWithStdLib/assignedInSynchronized.kt");
+    }
+
+    @Test
+    @TestMetadata("buildLazyValueForMap.kt")
+    public void testBuildLazyValueForMap() throws Exception {
+        runTest("compiler/testData/diagnostics/testsWithStdLib/buildLazyValueForMap.kt");
+    }
+
+    @Test
+    @TestMetadata("CallCompanionProtectedNonStatic.kt")
+    public void testCallCompanionProtectedNonStatic() throws Exception {
+        runTest("compiler/testData/diagnostics/testsWithStdLib/CallCompanionProtectedNonStatic.kt");
+    }
+
+    @Test
+    @TestMetadata("CallToMainRedeclaredInMultiFile.kt")
+    public void testCallToMainRedeclaredInMultiFile() throws Exception {
+        runTest("compiler/testData/diagnostics/testsWithStdLib/CallToMainRedeclaredInMultiFile.kt");
+    }
+
+    @Test
+    @TestMetadata("commonCollections.kt")
+    public void testCommonCollections() throws Exception {
+        runTest("compiler/testData/diagnostics/testsWithStdLib/commonCollections.kt");
+    }
+
+    @Test
+    @TestMetadata("elvisOnJavaList.kt")
+    public void testElvisOnJavaList() throws Exception {
+        runTest("compiler/testData/diagnostics/testsWithStdLib/elvisOnJavaList.kt");
+    }
+
+    @Test
+    @TestMetadata("elvisOnUnitInLet.kt")
+    public void testElvisOnUnitInLet() throws Exception {
+        runTest("compiler/testData/diagnostics/testsWithStdLib/elvisOnUnitInLet.kt");
+    }
+
+    @Test
+    @TestMetadata("enumEntryInitialization.kt")
+    public void testEnumEntryInitialization() throws Exception {
+        runTest("compiler/testData/diagnostics/testsWithStdLib/enumEntryInitialization.kt");
+    }
+
+    @Test
+    @TestMetadata("exitProcess.kt")
+    public void testExitProcess() throws Exception {
+        runTest("compiler/testData/diagnostics/testsWithStdLib/exitProcess.kt");
+    }
+
+    @Test
+    @TestMetadata("hugeUnresolvedKotlinxHtml.kt")
+    public void testHugeUnresolvedKotlinxHtml() throws Exception {
+        runTest("compiler/testData/diagnostics/testsWithStdLib/hugeUnresolvedKotlinxHtml.kt");
+    }
+
+    @Test
+    @TestMetadata("ifElseJavaList.kt")
+    public void testIfElseJavaList() throws Exception {
+        runTest("compiler/testData/diagnostics/testsWithStdLib/ifElseJavaList.kt");
+    }
+
+    @Test
+    @TestMetadata("implicitCastToAny.kt")
+    public void testImplicitCastToAny() throws Exception {
+        runTest("compiler/testData/diagnostics/testsWithStdLib/implicitCastToAny.kt");
+    }
+
+    @Test
+    @TestMetadata("implicitNothingInDelegate.kt")
+    public void testImplicitNothingInDelegate() throws Exception {
+        runTest("compiler/testData/diagnostics/testsWithStdLib/implicitNothingInDelegate.kt");
+    }
+
+    @Test
+    @TestMetadata("InaccessibleInternalClass.kt")
+    public void testInaccessibleInternalClass() throws Exception {
+        runTest("compiler/testData/diagnostics/testsWithStdLib/InaccessibleInternalClass.kt");
+    }
+
+    @Test
+    @TestMetadata("instar.kt")
+    public void testInstar() throws Exception {
+        runTest("compiler/testData/diagnostics/testsWithStdLib/instar.kt");
+    }
+
+    @Test
+    @TestMetadata("javaClassOnCompanion.kt")
+    public void testJavaClassOnCompanion() throws Exception {
+        runTest("compiler/testData/diagnostics/testsWithStdLib/javaClassOnCompanion.kt");
+    }
+
+    @Test
+    @TestMetadata("javaForKClass.kt")
+    public void testJavaForKClass() throws Exception {
+        runTest("compiler/testData/diagnostics/testsWithStdLib/javaForKClass.kt");
+    }
+
+    @Test
+    @TestMetadata("kt8050.kt")
+    public void testKt8050() throws Exception {
+        runTest("compiler/testData/diagnostics/testsWithStdLib/kt8050.kt");
+    }
+
+    @Test
+    @TestMetadata("kt9078.kt")
+    public void testKt9078() throws Exception {
+        runTest("compiler/testData/diagnostics/testsWithStdLib/kt9078.kt");
+    }
+
+    @Test
+    @TestMetadata("kt9985.kt")
+    public void testKt9985() throws Exception {
+        runTest("compiler/testData/diagnostics/testsWithStdLib/kt9985.kt");
+    }
+
+    @Test
+    @TestMetadata("outstar.kt")
+    public void testOutstar() throws Exception {
+        runTest("compiler/testData/diagnostics/testsWithStdLib/outstar.kt");
+    }
+
+    @Test
+    @TestMetadata("overrideWithFunctionalType.kt")
+    public void testOverrideWithFunctionalType() throws Exception {
+        runTest("compiler/testData/diagnostics/testsWithStdLib/overrideWithFunctionalType.kt");
+    }
+
+    @Test
+    @TestMetadata("PropertyDelegateWithPrivateSet.kt")
+    public void testPropertyDelegateWithPrivateSet() throws Exception {
+        runTest("compiler/testData/diagnostics/testsWithStdLib/PropertyDelegateWithPrivateSet.kt");
+    }
+
+    @Test
+    @TestMetadata("pureReifiable.kt")
+    public void testPureReifiable() throws Exception {
+        runTest("compiler/testData/diagnostics/testsWithStdLib/pureReifiable.kt");
+    }
+
+    @Test
+    @TestMetadata("pureReifiableArrayOperations.kt")
+    public void testPureReifiableArrayOperations() throws Exception {
+        runTest("compiler/testData/diagnostics/testsWithStdLib/pureReifiableArrayOperations.kt");
+    }
+
+    @Test
+    @TestMetadata("RedeclarationMainInMultiFileClass.kt")
+    public void testRedeclarationMainInMultiFileClass() throws Exception {
+        runTest("compiler/testData/diagnostics/testsWithStdLib/RedeclarationMainInMultiFileClass.kt");
+    }
+
+    @Test
+    @TestMetadata("RenameOnImportHidesDefaultImport.kt")
+    public void testRenameOnImportHidesDefaultImport() throws Exception {
+        runTest("compiler/testData/diagnostics/testsWithStdLib/RenameOnImportHidesDefaultImport.kt");
+    }
+
+    @Test
+    @TestMetadata("shadowingInDestructuring.kt")
+    public void testShadowingInDestructuring() throws Exception {
+        runTest("compiler/testData/diagnostics/testsWithStdLib/shadowingInDestructuring.kt");
+    }
+
+    @Test
+    @TestMetadata("streams.kt")
+    public void testStreams() throws Exception {
+        runTest("compiler/testData/diagnostics/testsWithStdLib/streams.kt");
+    }
+
+    @Nested
+    @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/annotations")
+    @TestDataPath("$PROJECT_ROOT")
+    public class Annotations {
+        @Test
+        public void testAllFilesPresentInAnnotations() throws Exception {
+            KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/annotations"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+        }
+
+        @Test
+        @TestMetadata("annotationsTargetingLateinitAccessors.kt")
+        public void testAnnotationsTargetingLateinitAccessors() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/annotationsTargetingLateinitAccessors.kt");
+        }
+
+        @Test
+        @TestMetadata("annotationsTargetingNonExistentAccessor.kt")
+        public void testAnnotationsTargetingNonExistentAccessor() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/annotationsTargetingNonExistentAccessor.kt");
+        }
+
+        @Test
+        @TestMetadata("ClassObjectAnnotatedWithItsKClass.kt")
+        public void testClassObjectAnnotatedWithItsKClass() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/ClassObjectAnnotatedWithItsKClass.kt");
+        }
+
+        @Test
+        @TestMetadata("defaultValueMustBeConstant.kt")
+        public void testDefaultValueMustBeConstant() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/defaultValueMustBeConstant.kt");
+        }
+
+        @Test
+        @TestMetadata("explicitMetadata.kt")
+        public void testExplicitMetadata() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/explicitMetadata.kt");
+        }
+
+        @Test
+        @TestMetadata("jvmRecordWithoutJdk15.kt")
+        public void testJvmRecordWithoutJdk15() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmRecordWithoutJdk15.kt");
+        }
+
+        @Test
+        @TestMetadata("JvmSyntheticOnDelegate.kt")
+        public void testJvmSyntheticOnDelegate() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/JvmSyntheticOnDelegate.kt");
+        }
+
+        @Test
+        @TestMetadata("qualifiedCallValue.kt")
+        public void testQualifiedCallValue() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/qualifiedCallValue.kt");
+        }
+
+        @Test
+        @TestMetadata("strictfpOnClass.kt")
+        public void testStrictfpOnClass() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/strictfpOnClass.kt");
+        }
+
+        @Test
+        @TestMetadata("Synchronized.kt")
+        public void testSynchronized() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/Synchronized.kt");
+        }
+
+        @Test
+        @TestMetadata("SynchronizedOnInterfaceCompanionMember.kt")
+        public void testSynchronizedOnInterfaceCompanionMember() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/SynchronizedOnInterfaceCompanionMember.kt");
+        }
+
+        @Test
+        @TestMetadata("targetuse.kt")
+        public void testTargetuse() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/targetuse.kt");
+        }
+
+        @Test
+        @TestMetadata("throws.kt")
+        public void testThrows() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/throws.kt");
+        }
+
+        @Test
+        @TestMetadata("TransientOnDelegate.kt")
+        public void testTransientOnDelegate() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/TransientOnDelegate.kt");
+        }
+
+        @Test
+        @TestMetadata("Volatile.kt")
+        public void testVolatile() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/Volatile.kt");
+        }
+
+        @Nested
+        @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/annotations/annotationApplicability")
+        @TestDataPath("$PROJECT_ROOT")
+        public class AnnotationApplicability {
+            @Test
+            public void testAllFilesPresentInAnnotationApplicability() throws Exception {
+                KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/annotations/annotationApplicability"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+            }
+
+            @Test
+            @TestMetadata("annotationsOnUseSiteTargets.kt")
+            public void testAnnotationsOnUseSiteTargets() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/annotationApplicability/annotationsOnUseSiteTargets.kt");
+            }
+
+            @Test
+            @TestMetadata("illegalPlatformName.kt")
+            public void testIllegalPlatformName() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/annotationApplicability/illegalPlatformName.kt");
+            }
+
+            @Test
+            @TestMetadata("jvmName.kt")
+            public void testJvmName() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/annotationApplicability/jvmName.kt");
+            }
+
+            @Test
+            @TestMetadata("jvmNameOnMangledNames.kt")
+            public void testJvmNameOnMangledNames() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/annotationApplicability/jvmNameOnMangledNames.kt");
+            }
+
+            @Test
+            @TestMetadata("multifileClassPart.kt")
+            public void testMultifileClassPart() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/annotationApplicability/multifileClassPart.kt");
+            }
+
+            @Test
+            @TestMetadata("multifileClassPartWithJavaAnnotation.kt")
+            public void testMultifileClassPartWithJavaAnnotation() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/annotationApplicability/multifileClassPartWithJavaAnnotation.kt");
+            }
+
+            @Test
+            @TestMetadata("suppressOnFunctionReference.kt")
+            public void testSuppressOnFunctionReference() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/annotationApplicability/suppressOnFunctionReference.kt");
+            }
+        }
+
+        @Nested
+        @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/annotations/annotationParameterMustBeConstant")
+        @TestDataPath("$PROJECT_ROOT")
+        public class AnnotationParameterMustBeConstant {
+            @Test
+            public void testAllFilesPresentInAnnotationParameterMustBeConstant() throws Exception {
+                KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/annotations/annotationParameterMustBeConstant"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+            }
+
+            @Test
+            @TestMetadata("array.kt")
+            public void testArray() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/annotationParameterMustBeConstant/array.kt");
+            }
+
+            @Test
+            @TestMetadata("simple.kt")
+            public void testSimple() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/annotationParameterMustBeConstant/simple.kt");
+            }
+
+            @Test
+            @TestMetadata("useOfNonConstVal.kt")
+            public void testUseOfNonConstVal() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/annotationParameterMustBeConstant/useOfNonConstVal.kt");
+            }
+
+            @Test
+            @TestMetadata("vararg.kt")
+            public void testVararg() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/annotationParameterMustBeConstant/vararg.kt");
+            }
+        }
+
+        @Nested
+        @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/annotations/annotationParameters")
+        @TestDataPath("$PROJECT_ROOT")
+        public class AnnotationParameters {
+            @Test
+            public void testAllFilesPresentInAnnotationParameters() throws Exception {
+                KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/annotations/annotationParameters"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+            }
+
+            @Test
+            @TestMetadata("kt10136.kt")
+            public void testKt10136() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/annotationParameters/kt10136.kt");
+            }
+
+            @Test
+            @TestMetadata("nonConstValAsArgument.kt")
+            public void testNonConstValAsArgument() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/annotationParameters/nonConstValAsArgument.kt");
+            }
+
+            @Test
+            @TestMetadata("orderWithValue.kt")
+            public void testOrderWithValue() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/annotationParameters/orderWithValue.kt");
+            }
+
+            @Test
+            @TestMetadata("orderWithoutValue.kt")
+            public void testOrderWithoutValue() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/annotationParameters/orderWithoutValue.kt");
+            }
+
+            @Test
+            @TestMetadata("valueArray.kt")
+            public void testValueArray() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/annotationParameters/valueArray.kt");
+            }
+
+            @Test
+            @TestMetadata("valueArrayAndOtherDefault.kt")
+            public void testValueArrayAndOtherDefault() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/annotationParameters/valueArrayAndOtherDefault.kt");
+            }
+
+            @Test
+            @TestMetadata("valueArrayOnly.kt")
+            public void testValueArrayOnly() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/annotationParameters/valueArrayOnly.kt");
+            }
+
+            @Test
+            @TestMetadata("valueArrayWithDefault.kt")
+            public void testValueArrayWithDefault() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/annotationParameters/valueArrayWithDefault.kt");
+            }
+        }
+
+        @Nested
+        @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/annotations/annotationWithVarargParameter")
+        @TestDataPath("$PROJECT_ROOT")
+        public class AnnotationWithVarargParameter {
+            @Test
+            public void testAllFilesPresentInAnnotationWithVarargParameter() throws Exception {
+                KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/annotations/annotationWithVarargParameter"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+            }
+
+            @Test
+            @TestMetadata("javaAnnotationWithVarargArgument.kt")
+            public void testJavaAnnotationWithVarargArgument() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/annotationWithVarargParameter/javaAnnotationWithVarargArgument.kt");
+            }
+
+            @Test
+            @TestMetadata("kotlinAnnotationWithVarargArgument.kt")
+            public void testKotlinAnnotationWithVarargArgument() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/annotationWithVarargParameter/kotlinAnnotationWithVarargArgument.kt");
+            }
+        }
+
+        @Nested
+        @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/annotations/javaAnnotationsWithKClassParameter")
+        @TestDataPath("$PROJECT_ROOT")
+        public class JavaAnnotationsWithKClassParameter {
+            @Test
+            public void testAllFilesPresentInJavaAnnotationsWithKClassParameter() throws Exception {
+                KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/annotations/javaAnnotationsWithKClassParameter"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+            }
+
+            @Test
+            @TestMetadata("annotationAsArgument.kt")
+            public void testAnnotationAsArgument() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/javaAnnotationsWithKClassParameter/annotationAsArgument.kt");
+            }
+
+            @Test
+            @TestMetadata("arg.kt")
+            public void testArg() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/javaAnnotationsWithKClassParameter/arg.kt");
+            }
+
+            @Test
+            @TestMetadata("argAndOtherDefault.kt")
+            public void testArgAndOtherDefault() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/javaAnnotationsWithKClassParameter/argAndOtherDefault.kt");
+            }
+
+            @Test
+            @TestMetadata("argArray.kt")
+            public void testArgArray() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/javaAnnotationsWithKClassParameter/argArray.kt");
+            }
+
+            @Test
+            @TestMetadata("argWithDefault.kt")
+            public void testArgWithDefault() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/javaAnnotationsWithKClassParameter/argWithDefault.kt");
+            }
+
+            @Test
+            @TestMetadata("argWithDefaultAndOther.kt")
+            public void testArgWithDefaultAndOther() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/javaAnnotationsWithKClassParameter/argWithDefaultAndOther.kt");
+            }
+
+            @Test
+            @TestMetadata("twoArgs.kt")
+            public void testTwoArgs() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/javaAnnotationsWithKClassParameter/twoArgs.kt");
+            }
+
+            @Test
+            @TestMetadata("value.kt")
+            public void testValue() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/javaAnnotationsWithKClassParameter/value.kt");
+            }
+
+            @Test
+            @TestMetadata("valueAndOtherDefault.kt")
+            public void testValueAndOtherDefault() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/javaAnnotationsWithKClassParameter/valueAndOtherDefault.kt");
+            }
+
+            @Test
+            @TestMetadata("valueArray.kt")
+            public void testValueArray() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/javaAnnotationsWithKClassParameter/valueArray.kt");
+            }
+
+            @Test
+            @TestMetadata("valueWithDefault.kt")
+            public void testValueWithDefault() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/javaAnnotationsWithKClassParameter/valueWithDefault.kt");
+            }
+
+            @Test
+            @TestMetadata("valueWithDefaultAndOther.kt")
+            public void testValueWithDefaultAndOther() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/javaAnnotationsWithKClassParameter/valueWithDefaultAndOther.kt");
+            }
+        }
+
+        @Nested
+        @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmDefault")
+        @TestDataPath("$PROJECT_ROOT")
+        public class JvmDefault {
+            @Test
+            public void testAllFilesPresentInJvmDefault() throws Exception {
+                KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmDefault"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+            }
+
+            @Test
+            @TestMetadata("generic.kt")
+            public void testGeneric() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmDefault/generic.kt");
+            }
+
+            @Test
+            @TestMetadata("javaOverride.kt")
+            public void testJavaOverride() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmDefault/javaOverride.kt");
+            }
+
+            @Test
+            @TestMetadata("javaOverrideAll.kt")
+            public void testJavaOverrideAll() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmDefault/javaOverrideAll.kt");
+            }
+
+            @Test
+            @TestMetadata("jvmDefaultInInheritance.kt")
+            public void testJvmDefaultInInheritance() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmDefault/jvmDefaultInInheritance.kt");
+            }
+
+            @Test
+            @TestMetadata("jvmDefaults.kt")
+            public void testJvmDefaults() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmDefault/jvmDefaults.kt");
+            }
+
+            @Test
+            @TestMetadata("jvmDefaultsWithJava.kt")
+            public void testJvmDefaultsWithJava() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmDefault/jvmDefaultsWithJava.kt");
+            }
+
+            @Test
+            @TestMetadata("noJvmDefaultFlag.kt")
+            public void testNoJvmDefaultFlag() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmDefault/noJvmDefaultFlag.kt");
+            }
+
+            @Test
+            @TestMetadata("notInterface.kt")
+            public void testNotInterface() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmDefault/notInterface.kt");
+            }
+
+            @Test
+            @TestMetadata("propertyAccessor.kt")
+            public void testPropertyAccessor() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmDefault/propertyAccessor.kt");
+            }
+
+            @Test
+            @TestMetadata("simpleOverride.kt")
+            public void testSimpleOverride() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmDefault/simpleOverride.kt");
+            }
+
+            @Test
+            @TestMetadata("simplePropertyOverride.kt")
+            public void testSimplePropertyOverride() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmDefault/simplePropertyOverride.kt");
+            }
+
+            @Test
+            @TestMetadata("superCall.kt")
+            public void testSuperCall() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmDefault/superCall.kt");
+            }
+
+            @Test
+            @TestMetadata("superCallAmbiguity.kt")
+            public void testSuperCallAmbiguity() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmDefault/superCallAmbiguity.kt");
+            }
+
+            @Test
+            @TestMetadata("superCallAmbiguity2.kt")
+            public void testSuperCallAmbiguity2() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmDefault/superCallAmbiguity2.kt");
+            }
+
+            @Test
+            @TestMetadata("superCallAmbiguity3.kt")
+            public void testSuperCallAmbiguity3() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmDefault/superCallAmbiguity3.kt");
+            }
+
+            @Test
+            @TestMetadata("target6.kt")
+            public void testTarget6() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmDefault/target6.kt");
+            }
+
+            @Test
+            @TestMetadata("target8.kt")
+            public void testTarget8() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmDefault/target8.kt");
+            }
+
+            @Nested
+            @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmDefault/allCompatibility")
+            @TestDataPath("$PROJECT_ROOT")
+            public class AllCompatibility {
+                @Test
+                public void testAllFilesPresentInAllCompatibility() throws Exception {
+                    KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmDefault/allCompatibility"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+                }
+
+                @Test
+                @TestMetadata("specialization.kt")
+                public void testSpecialization() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmDefault/allCompatibility/specialization.kt");
+                }
+            }
+
+            @Nested
+            @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmDefault/jvmDefaultWithoutCompatibility")
+            @TestDataPath("$PROJECT_ROOT")
+            public class JvmDefaultWithoutCompatibility {
+                @Test
+                public void testAllFilesPresentInJvmDefaultWithoutCompatibility() throws Exception {
+                    KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmDefault/jvmDefaultWithoutCompatibility"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+                }
+
+                @Test
+                @TestMetadata("target6.kt")
+                public void testTarget6() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmDefault/jvmDefaultWithoutCompatibility/target6.kt");
+                }
+
+                @Test
+                @TestMetadata("target8.kt")
+                public void testTarget8() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmDefault/jvmDefaultWithoutCompatibility/target8.kt");
+                }
+
+                @Test
+                @TestMetadata("target8Disabled.kt")
+                public void testTarget8Disabled() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmDefault/jvmDefaultWithoutCompatibility/target8Disabled.kt");
+                }
+            }
+        }
+
+        @Nested
+        @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmField")
+        @TestDataPath("$PROJECT_ROOT")
+        public class JvmField {
+            @Test
+            public void testAllFilesPresentInJvmField() throws Exception {
+                KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmField"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+            }
+
+            @Test
+            @TestMetadata("clashWithCompanionObjectField.kt")
+            public void testClashWithCompanionObjectField() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmField/clashWithCompanionObjectField.kt");
+            }
+
+            @Test
+            @TestMetadata("inMultiFileFacade.kt")
+            public void testInMultiFileFacade() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmField/inMultiFileFacade.kt");
+            }
+
+            @Test
+            @TestMetadata("inSingleFileFacade.kt")
+            public void testInSingleFileFacade() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmField/inSingleFileFacade.kt");
+            }
+
+            @Test
+            @TestMetadata("interface13.kt")
+            public void testInterface13() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmField/interface13.kt");
+            }
+
+            @Test
+            @TestMetadata("jvmFieldApplicability_1_5.kt")
+            public void testJvmFieldApplicability_1_5() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmField/jvmFieldApplicability_1_5.kt");
+            }
+
+            @Test
+            @TestMetadata("jvmFieldApplicability_1_6.kt")
+            public void testJvmFieldApplicability_1_6() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmField/jvmFieldApplicability_1_6.kt");
+            }
+        }
+
+        @Nested
+        @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmOverloads")
+        @TestDataPath("$PROJECT_ROOT")
+        public class JvmOverloads {
+            @Test
+            public void testAllFilesPresentInJvmOverloads() throws Exception {
+                KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmOverloads"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+            }
+
+            @Test
+            @TestMetadata("JvmOverloadWithNoDefaults.kt")
+            public void testJvmOverloadWithNoDefaults() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmOverloads/JvmOverloadWithNoDefaults.kt");
+            }
+
+            @Test
+            @TestMetadata("jvmOverloadsOnAbstractMethods.kt")
+            public void testJvmOverloadsOnAbstractMethods() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmOverloads/jvmOverloadsOnAbstractMethods.kt");
+            }
+
+            @Test
+            @TestMetadata("jvmOverloadsOnAnnotationClassConstructor_1_3.kt")
+            public void testJvmOverloadsOnAnnotationClassConstructor_1_3() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmOverloads/jvmOverloadsOnAnnotationClassConstructor_1_3.kt");
+            }
+
+            @Test
+            @TestMetadata("jvmOverloadsOnAnnotationClassConstructor_1_4.kt")
+            public void testJvmOverloadsOnAnnotationClassConstructor_1_4() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmOverloads/jvmOverloadsOnAnnotationClassConstructor_1_4.kt");
+            }
+
+            @Test
+            @TestMetadata("jvmOverloadsOnMangledFunctions.kt")
+            public void testJvmOverloadsOnMangledFunctions() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmOverloads/jvmOverloadsOnMangledFunctions.kt");
+            }
+
+            @Test
+            @TestMetadata("jvmOverloadsOnPrivate.kt")
+            public void testJvmOverloadsOnPrivate() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmOverloads/jvmOverloadsOnPrivate.kt");
+            }
+        }
+
+        @Nested
+        @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmPackageName")
+        @TestDataPath("$PROJECT_ROOT")
+        public class JvmPackageName {
+            @Test
+            public void testAllFilesPresentInJvmPackageName() throws Exception {
+                KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmPackageName"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+            }
+
+            @Test
+            @TestMetadata("incorrectJvmPackageName.kt")
+            public void testIncorrectJvmPackageName() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmPackageName/incorrectJvmPackageName.kt");
+            }
+        }
+
+        @Nested
+        @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmSpecialFunctions")
+        @TestDataPath("$PROJECT_ROOT")
+        public class JvmSpecialFunctions {
+            @Test
+            public void testAllFilesPresentInJvmSpecialFunctions() throws Exception {
+                KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmSpecialFunctions"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+            }
+
+            @Test
+            @TestMetadata("apiVersionIsAtLeastHasConstArguments.kt")
+            public void testApiVersionIsAtLeastHasConstArguments() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmSpecialFunctions/apiVersionIsAtLeastHasConstArguments.kt");
+            }
+        }
+
+        @Nested
+        @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmStatic")
+        @TestDataPath("$PROJECT_ROOT")
+        public class JvmStatic {
+            @Test
+            public void testAllFilesPresentInJvmStatic() throws Exception {
+                KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmStatic"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+            }
+
+            @Test
+            @TestMetadata("constOrJvmFieldProperty.kt")
+            public void testConstOrJvmFieldProperty() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmStatic/constOrJvmFieldProperty.kt");
+            }
+
+            @Test
+            @TestMetadata("constructorProperty.kt")
+            public void testConstructorProperty() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmStatic/constructorProperty.kt");
+            }
+
+            @Test
+            @TestMetadata("constructorProperty_LL13.kt")
+            public void testConstructorProperty_LL13() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmStatic/constructorProperty_LL13.kt");
+            }
+
+            @Test
+            @TestMetadata("constructors.kt")
+            public void testConstructors() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmStatic/constructors.kt");
+            }
+
+            @Test
+            @TestMetadata("finalAndAbstract.kt")
+            public void testFinalAndAbstract() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmStatic/finalAndAbstract.kt");
+            }
+
+            @Test
+            @TestMetadata("functions.kt")
+            public void testFunctions() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmStatic/functions.kt");
+            }
+
+            @Test
+            @TestMetadata("functions_LL13.kt")
+            public void testFunctions_LL13() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmStatic/functions_LL13.kt");
+            }
+
+            @Test
+            @TestMetadata("interfaceCompanion_LL12.kt")
+            public void testInterfaceCompanion_LL12() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmStatic/interfaceCompanion_LL12.kt");
+            }
+
+            @Test
+            @TestMetadata("interfaceCompanion_LL13_16.kt")
+            public void testInterfaceCompanion_LL13_16() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmStatic/interfaceCompanion_LL13_16.kt");
+            }
+
+            @Test
+            @TestMetadata("interfaceCompanion_LL13_18.kt")
+            public void testInterfaceCompanion_LL13_18() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmStatic/interfaceCompanion_LL13_18.kt");
+            }
+
+            @Test
+            @TestMetadata("localFun.kt")
+            public void testLocalFun() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmStatic/localFun.kt");
+            }
+
+            @Test
+            @TestMetadata("localFun_LL13.kt")
+            public void testLocalFun_LL13() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmStatic/localFun_LL13.kt");
+            }
+
+            @Test
+            @TestMetadata("mainInObject.kt")
+            public void testMainInObject() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmStatic/mainInObject.kt");
+            }
+
+            @Test
+            @TestMetadata("privateCompanionObject.kt")
+            public void testPrivateCompanionObject() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmStatic/privateCompanionObject.kt");
+            }
+
+            @Test
+            @TestMetadata("property.kt")
+            public void testProperty() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmStatic/property.kt");
+            }
+
+            @Test
+            @TestMetadata("property_LL13.kt")
+            public void testProperty_LL13() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/jvmStatic/property_LL13.kt");
+            }
+        }
+
+        @Nested
+        @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/annotations/kClass")
+        @TestDataPath("$PROJECT_ROOT")
+        public class KClass {
+            @Test
+            public void testAllFilesPresentInKClass() throws Exception {
+                KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/annotations/kClass"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+            }
+
+            @Test
+            @TestMetadata("kClassArrayInAnnotationsInVariance.kt")
+            public void testKClassArrayInAnnotationsInVariance() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/kClass/kClassArrayInAnnotationsInVariance.kt");
+            }
+
+            @Test
+            @TestMetadata("kClassArrayInAnnotationsOutVariance.kt")
+            public void testKClassArrayInAnnotationsOutVariance() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/kClass/kClassArrayInAnnotationsOutVariance.kt");
+            }
+
+            @Test
+            @TestMetadata("kClassInAnnotation.kt")
+            public void testKClassInAnnotation() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/kClass/kClassInAnnotation.kt");
+            }
+
+            @Test
+            @TestMetadata("kClassInAnnotationsInVariance.kt")
+            public void testKClassInAnnotationsInVariance() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/kClass/kClassInAnnotationsInVariance.kt");
+            }
+
+            @Test
+            @TestMetadata("kClassInAnnotationsOutVariance.kt")
+            public void testKClassInAnnotationsOutVariance() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/kClass/kClassInAnnotationsOutVariance.kt");
+            }
+
+            @Test
+            @TestMetadata("kClassInvariantTP.kt")
+            public void testKClassInvariantTP() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/kClass/kClassInvariantTP.kt");
+            }
+
+            @Test
+            @TestMetadata("kClassOutArrayInAnnotationsOutVariance.kt")
+            public void testKClassOutArrayInAnnotationsOutVariance() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/kClass/kClassOutArrayInAnnotationsOutVariance.kt");
+            }
+        }
+
+        @Nested
+        @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/annotations/prohibitPositionedArgument")
+        @TestDataPath("$PROJECT_ROOT")
+        public class ProhibitPositionedArgument {
+            @Test
+            public void testAllFilesPresentInProhibitPositionedArgument() throws Exception {
+                KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/annotations/prohibitPositionedArgument"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+            }
+
+            @Test
+            @TestMetadata("kotlinAnnotation.kt")
+            public void testKotlinAnnotation() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/prohibitPositionedArgument/kotlinAnnotation.kt");
+            }
+
+            @Test
+            @TestMetadata("tooManyArgs.kt")
+            public void testTooManyArgs() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/prohibitPositionedArgument/tooManyArgs.kt");
+            }
+
+            @Test
+            @TestMetadata("typeMismatch.kt")
+            public void testTypeMismatch() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/prohibitPositionedArgument/typeMismatch.kt");
+            }
+
+            @Test
+            @TestMetadata("withValue.kt")
+            public void testWithValue() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/prohibitPositionedArgument/withValue.kt");
+            }
+
+            @Test
+            @TestMetadata("withoutValue.kt")
+            public void testWithoutValue() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/annotations/prohibitPositionedArgument/withoutValue.kt");
+            }
+        }
+    }
+
+    @Nested
+    @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/assert")
+    @TestDataPath("$PROJECT_ROOT")
+    public class Assert {
+        @Test
+        public void testAllFilesPresentInAssert() throws Exception {
+            KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/assert"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+        }
+
+        @Test
+        @TestMetadata("cast.kt")
+        public void testCast() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/assert/cast.kt");
+        }
+
+        @Test
+        @TestMetadata("safeCall.kt")
+        public void testSafeCall() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/assert/safeCall.kt");
+        }
+    }
+
+    @Nested
+    @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/builderInference")
+    @TestDataPath("$PROJECT_ROOT")
+    public class BuilderInference {
+        @Test
+        public void testAllFilesPresentInBuilderInference() throws Exception {
+            KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/builderInference"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+        }
+
+        @Test
+        @TestMetadata("completeIrrelevantCalls.kt")
+        public void testCompleteIrrelevantCalls() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/builderInference/completeIrrelevantCalls.kt");
+        }
+
+        @Test
+        @TestMetadata("incorrectCalls.kt")
+        public void testIncorrectCalls() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/builderInference/incorrectCalls.kt");
+        }
+
+        @Test
+        @TestMetadata("incorrectCallsWithRestrictions.kt")
+        public void testIncorrectCallsWithRestrictions() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/builderInference/incorrectCallsWithRestrictions.kt");
+        }
+
+        @Test
+        @TestMetadata("inferCoroutineTypeInOldVersion.kt")
+        public void testInferCoroutineTypeInOldVersion() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/builderInference/inferCoroutineTypeInOldVersion.kt");
+        }
+
+        @Test
+        @TestMetadata("resolveUsualCallWithBuilderInference.kt")
+        public void testResolveUsualCallWithBuilderInference() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/builderInference/resolveUsualCallWithBuilderInference.kt");
+        }
+
+        @Test
+        @TestMetadata("resolveUsualCallWithBuilderInferenceWithRestrictions.kt")
+        public void testResolveUsualCallWithBuilderInferenceWithRestrictions() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/builderInference/resolveUsualCallWithBuilderInferenceWithRestrictions.kt");
+        }
+
+        @Test
+        @TestMetadata("useInferenceInformationFromExtension.kt")
+        public void testUseInferenceInformationFromExtension() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/builderInference/useInferenceInformationFromExtension.kt");
+        }
+
+        @Test
+        @TestMetadata("useInferenceInformationFromExtensionWithRestrictions.kt")
+        public void testUseInferenceInformationFromExtensionWithRestrictions() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/builderInference/useInferenceInformationFromExtensionWithRestrictions.kt");
+        }
+    }
+
+    @Nested
+    @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/builtins")
+    @TestDataPath("$PROJECT_ROOT")
+    public class Builtins {
+        @Test
+        public void testAllFilesPresentInBuiltins() throws Exception {
+            KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/builtins"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+        }
+
+        @Test
+        @TestMetadata("arraysAreCloneable.kt")
+        public void testArraysAreCloneable() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/builtins/arraysAreCloneable.kt");
+        }
+    }
+
+    @Nested
+    @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/cast")
+    @TestDataPath("$PROJECT_ROOT")
+    public class Cast {
+        @Test
+        public void testAllFilesPresentInCast() throws Exception {
+            KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/cast"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+        }
+
+        @Test
+        @TestMetadata("AsInsideIn.kt")
+        public void testAsInsideIn() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/cast/AsInsideIn.kt");
+        }
+
+        @Test
+        @TestMetadata("IsArray.kt")
+        public void testIsArray() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/cast/IsArray.kt");
+        }
+
+        @Test
+        @TestMetadata("IsReified.kt")
+        public void testIsReified() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/cast/IsReified.kt");
+        }
+    }
+
+    @Nested
+    @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/contracts")
+    @TestDataPath("$PROJECT_ROOT")
+    public class Contracts {
+        @Test
+        public void testAllFilesPresentInContracts() throws Exception {
+            KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/contracts"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+        }
+
+        @Nested
+        @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/contracts/controlflow")
+        @TestDataPath("$PROJECT_ROOT")
+        public class Controlflow {
+            @Test
+            public void testAllFilesPresentInControlflow() throws Exception {
+                KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/contracts/controlflow"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+            }
+
+            @Nested
+            @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/contracts/controlflow/flowInlining")
+            @TestDataPath("$PROJECT_ROOT")
+            public class FlowInlining {
+                @Test
+                public void testAllFilesPresentInFlowInlining() throws Exception {
+                    KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/contracts/controlflow/flowInlining"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+                }
+
+                @Test
+                @TestMetadata("breakContinuesInInlinedLambda.kt")
+                public void testBreakContinuesInInlinedLambda() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/controlflow/flowInlining/breakContinuesInInlinedLambda.kt");
+                }
+
+                @Test
+                @TestMetadata("expressionBody.kt")
+                public void testExpressionBody() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/controlflow/flowInlining/expressionBody.kt");
+                }
+
+                @Test
+                @TestMetadata("implicitCastToAnyInReturnType.kt")
+                public void testImplicitCastToAnyInReturnType() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/controlflow/flowInlining/implicitCastToAnyInReturnType.kt");
+                }
+
+                @Test
+                @TestMetadata("inlinedLambdaAlwaysThrows.kt")
+                public void testInlinedLambdaAlwaysThrows() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/controlflow/flowInlining/inlinedLambdaAlwaysThrows.kt");
+                }
+
+                @Test
+                @TestMetadata("irrelevantUnknownClosure.kt")
+                public void testIrrelevantUnknownClosure() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/controlflow/flowInlining/irrelevantUnknownClosure.kt");
+                }
+
+                @Test
+                @TestMetadata("labeledReturns.kt")
+                public void testLabeledReturns() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/controlflow/flowInlining/labeledReturns.kt");
+                }
+
+                @Test
+                @TestMetadata("nestedTryCatchFinally.kt")
+                public void testNestedTryCatchFinally() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/controlflow/flowInlining/nestedTryCatchFinally.kt");
+                }
+
+                @Test
+                @TestMetadata("nestedTryCatchs.kt")
+                public void testNestedTryCatchs() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/controlflow/flowInlining/nestedTryCatchs.kt");
+                }
+
+                @Test
+                @TestMetadata("nonLocalReturn.kt")
+                public void testNonLocalReturn() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/controlflow/flowInlining/nonLocalReturn.kt");
+                }
+
+                @Test
+                @TestMetadata("nonReturningInlinedLambda.kt")
+                public void testNonReturningInlinedLambda() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/controlflow/flowInlining/nonReturningInlinedLambda.kt");
+                }
+
+                @Test
+                @TestMetadata("safeCallAndInPlaceReturn.kt")
+                public void testSafeCallAndInPlaceReturn() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/controlflow/flowInlining/safeCallAndInPlaceReturn.kt");
+                }
+
+                @Test
+                @TestMetadata("severalJumpOutsFromInlinedLambda.kt")
+                public void testSeveralJumpOutsFromInlinedLambda() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/controlflow/flowInlining/severalJumpOutsFromInlinedLambda.kt");
+                }
+
+                @Test
+                @TestMetadata("throwIfNotCalled.kt")
+                public void testThrowIfNotCalled() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/controlflow/flowInlining/throwIfNotCalled.kt");
+                }
+
+                @Test
+                @TestMetadata("tryCatch.kt")
+                public void testTryCatch() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/controlflow/flowInlining/tryCatch.kt");
+                }
+
+                @Test
+                @TestMetadata("tryCatchFinally.kt")
+                public void testTryCatchFinally() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/controlflow/flowInlining/tryCatchFinally.kt");
+                }
+
+                @Test
+                @TestMetadata("typeMismatch.kt")
+                public void testTypeMismatch() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/controlflow/flowInlining/typeMismatch.kt");
+                }
+
+                @Test
+                @TestMetadata("unreachableCode.kt")
+                public void testUnreachableCode() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/controlflow/flowInlining/unreachableCode.kt");
+                }
+            }
+
+            @Nested
+            @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/contracts/controlflow/initialization")
+            @TestDataPath("$PROJECT_ROOT")
+            public class Initialization {
+                @Test
+                public void testAllFilesPresentInInitialization() throws Exception {
+                    KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/contracts/controlflow/initialization"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+                }
+
+                @Nested
+                @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/contracts/controlflow/initialization/atLeastOnce")
+                @TestDataPath("$PROJECT_ROOT")
+                public class AtLeastOnce {
+                    @Test
+                    public void testAllFilesPresentInAtLeastOnce() throws Exception {
+                        KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/contracts/controlflow/initialization/atLeastOnce"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+                    }
+
+                    @Test
+                    @TestMetadata("valDefiniteReassignment.kt")
+                    public void testValDefiniteReassignment() throws Exception {
+                        runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/controlflow/initialization/atLeastOnce/valDefiniteReassignment.kt");
+                    }
+
+                    @Test
+                    @TestMetadata("varDefiniteInitialization.kt")
+                    public void testVarDefiniteInitialization() throws Exception {
+                        runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/controlflow/initialization/atLeastOnce/varDefiniteInitialization.kt");
+                    }
+
+                    @Test
+                    @TestMetadata("varIndefiniteInitialization.kt")
+                    public void testVarIndefiniteInitialization() throws Exception {
+                        runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/controlflow/initialization/atLeastOnce/varIndefiniteInitialization.kt");
+                    }
+                }
+
+                @Nested
+                @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/contracts/controlflow/initialization/exactlyOnce")
+                @TestDataPath("$PROJECT_ROOT")
+                public class ExactlyOnce {
+                    @Test
+                    public void testAllFilesPresentInExactlyOnce() throws Exception {
+                        KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/contracts/controlflow/initialization/exactlyOnce"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+                    }
+
+                    @Test
+                    @TestMetadata("valDefiniteInitialization.kt")
+                    public void testValDefiniteInitialization() throws Exception {
+                        runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/controlflow/initialization/exactlyOnce/valDefiniteInitialization.kt");
+                    }
+
+                    @Test
+                    @TestMetadata("valDefiniteReassignment.kt")
+                    public void testValDefiniteReassignment() throws Exception {
+                        runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/controlflow/initialization/exactlyOnce/valDefiniteReassignment.kt");
+                    }
+
+                    @Test
+                    @TestMetadata("valIndefiniteInitialization.kt")
+                    public void testValIndefiniteInitialization() throws Exception {
+                        runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/controlflow/initialization/exactlyOnce/valIndefiniteInitialization.kt");
+                    }
+
+                    @Test
+                    @TestMetadata("varDefiniteInitalization.kt")
+                    public void testVarDefiniteInitalization() throws Exception {
+                        runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/controlflow/initialization/exactlyOnce/varDefiniteInitalization.kt");
+                    }
+
+                    @Test
+                    @TestMetadata("varIndefiniteInitialization.kt")
+                    public void testVarIndefiniteInitialization() throws Exception {
+                        runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/controlflow/initialization/exactlyOnce/varIndefiniteInitialization.kt");
+                    }
+
+                    @Test
+                    @TestMetadata("withReceiver.kt")
+                    public void testWithReceiver() throws Exception {
+                        runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/controlflow/initialization/exactlyOnce/withReceiver.kt");
+                    }
+                }
+
+                @Nested
+                @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/contracts/controlflow/initialization/unknown")
+                @TestDataPath("$PROJECT_ROOT")
+                public class Unknown {
+                    @Test
+                    public void testAllFilesPresentInUnknown() throws Exception {
+                        KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/contracts/controlflow/initialization/unknown"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+                    }
+
+                    @Test
+                    @TestMetadata("unknownInvocations.kt")
+                    public void testUnknownInvocations() throws Exception {
+                        runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/controlflow/initialization/unknown/unknownInvocations.kt");
+                    }
+                }
+            }
+        }
+
+        @Nested
+        @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/contracts/dsl")
+        @TestDataPath("$PROJECT_ROOT")
+        public class Dsl {
+            @Test
+            public void testAllFilesPresentInDsl() throws Exception {
+                KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/contracts/dsl"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+            }
+
+            @Test
+            @TestMetadata("callUsualContractFunction.kt")
+            public void testCallUsualContractFunction() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/dsl/callUsualContractFunction.kt");
+            }
+
+            @Test
+            @TestMetadata("fqnContractFunction.kt")
+            public void testFqnContractFunction() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/dsl/fqnContractFunction.kt");
+            }
+
+            @Test
+            @TestMetadata("rewriteAtSliceFunctor.kt")
+            public void testRewriteAtSliceFunctor() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/dsl/rewriteAtSliceFunctor.kt");
+            }
+
+            @Test
+            @TestMetadata("useBeforeDeclaration.kt")
+            public void testUseBeforeDeclaration() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/dsl/useBeforeDeclaration.kt");
+            }
+
+            @Nested
+            @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/contracts/dsl/errors")
+            @TestDataPath("$PROJECT_ROOT")
+            public class Errors {
+                @Test
+                @TestMetadata("accessToOuterThis.kt")
+                public void testAccessToOuterThis() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/dsl/errors/accessToOuterThis.kt");
+                }
+
+                @Test
+                public void testAllFilesPresentInErrors() throws Exception {
+                    KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/contracts/dsl/errors"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+                }
+
+                @Test
+                @TestMetadata("booleanComparisons.kt")
+                public void testBooleanComparisons() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/dsl/errors/booleanComparisons.kt");
+                }
+
+                @Test
+                @TestMetadata("callInContractDescription.kt")
+                public void testCallInContractDescription() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/dsl/errors/callInContractDescription.kt");
+                }
+
+                @Test
+                @TestMetadata("contractCallSites.1.3.kt")
+                public void testContractCallSites_1_3() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/dsl/errors/contractCallSites.1.3.kt");
+                }
+
+                @Test
+                @TestMetadata("contractCallSites.1.4.kt")
+                public void testContractCallSites_1_4() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/dsl/errors/contractCallSites.1.4.kt");
+                }
+
+                @Test
+                @TestMetadata("emptyContract.kt")
+                public void testEmptyContract() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/dsl/errors/emptyContract.kt");
+                }
+
+                @Test
+                @TestMetadata("illegalConstructionInContractBlock.kt")
+                public void testIllegalConstructionInContractBlock() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/dsl/errors/illegalConstructionInContractBlock.kt");
+                }
+
+                @Test
+                @TestMetadata("illegalEqualsCondition.kt")
+                public void testIllegalEqualsCondition() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/dsl/errors/illegalEqualsCondition.kt");
+                }
+
+                @Test
+                @TestMetadata("nestedConditionalEffects.kt")
+                public void testNestedConditionalEffects() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/dsl/errors/nestedConditionalEffects.kt");
+                }
+
+                @Test
+                @TestMetadata("nonLambdaLiteralAsArgument.kt")
+                public void testNonLambdaLiteralAsArgument() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/dsl/errors/nonLambdaLiteralAsArgument.kt");
+                }
+
+                @Test
+                @TestMetadata("notFirstStatement.kt")
+                public void testNotFirstStatement() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/dsl/errors/notFirstStatement.kt");
+                }
+
+                @Test
+                @TestMetadata("recursiveContract.kt")
+                public void testRecursiveContract() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/dsl/errors/recursiveContract.kt");
+                }
+
+                @Test
+                @TestMetadata("recursiveContractCustomContractFunction.kt")
+                public void testRecursiveContractCustomContractFunction() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/dsl/errors/recursiveContractCustomContractFunction.kt");
+                }
+
+                @Test
+                @TestMetadata("referenceToProperty.1.3.kt")
+                public void testReferenceToProperty_1_3() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/dsl/errors/referenceToProperty.1.3.kt");
+                }
+
+                @Test
+                @TestMetadata("referenceToProperty.1.4.kt")
+                public void testReferenceToProperty_1_4() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/dsl/errors/referenceToProperty.1.4.kt");
+                }
+
+                @Test
+                @TestMetadata("typeReferences.1.3.kt")
+                public void testTypeReferences_1_3() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/dsl/errors/typeReferences.1.3.kt");
+                }
+
+                @Test
+                @TestMetadata("typeReferences.1.4.kt")
+                public void testTypeReferences_1_4() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/dsl/errors/typeReferences.1.4.kt");
+                }
+
+                @Test
+                @TestMetadata("unlabeledReceiver.kt")
+                public void testUnlabeledReceiver() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/dsl/errors/unlabeledReceiver.kt");
+                }
+            }
+        }
+
+        @Nested
+        @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/contracts/fromStdlib")
+        @TestDataPath("$PROJECT_ROOT")
+        public class FromStdlib {
+            @Test
+            public void testAllFilesPresentInFromStdlib() throws Exception {
+                KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/contracts/fromStdlib"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+            }
+
+            @Test
+            @TestMetadata("check.kt")
+            public void testCheck() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/fromStdlib/check.kt");
+            }
+
+            @Test
+            @TestMetadata("fromStandardKt.kt")
+            public void testFromStandardKt() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/fromStdlib/fromStandardKt.kt");
+            }
+
+            @Test
+            @TestMetadata("isNullOrBlank.kt")
+            public void testIsNullOrBlank() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/fromStdlib/isNullOrBlank.kt");
+            }
+
+            @Test
+            @TestMetadata("isNullOrEmpty.kt")
+            public void testIsNullOrEmpty() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/fromStdlib/isNullOrEmpty.kt");
+            }
+
+            @Test
+            @TestMetadata("kt45243.kt")
+            public void testKt45243() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/fromStdlib/kt45243.kt");
+            }
+
+            @Test
+            @TestMetadata("require.kt")
+            public void testRequire() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/fromStdlib/require.kt");
+            }
+
+            @Test
+            @TestMetadata("synchronize.kt")
+            public void testSynchronize() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/fromStdlib/synchronize.kt");
+            }
+        }
+
+        @Nested
+        @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/contracts/newSyntax")
+        @TestDataPath("$PROJECT_ROOT")
+        public class NewSyntax {
+            @Test
+            public void testAllFilesPresentInNewSyntax() throws Exception {
+                KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/contracts/newSyntax"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+            }
+
+            @Test
+            @TestMetadata("complexContractDescription.kt")
+            public void testComplexContractDescription() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/newSyntax/complexContractDescription.kt");
+            }
+
+            @Test
+            @TestMetadata("onelineFunctionsContractDescription.kt")
+            public void testOnelineFunctionsContractDescription() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/newSyntax/onelineFunctionsContractDescription.kt");
+            }
+
+            @Test
+            @TestMetadata("propertyAccessorsContractDescription.kt")
+            public void testPropertyAccessorsContractDescription() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/newSyntax/propertyAccessorsContractDescription.kt");
+            }
+
+            @Test
+            @TestMetadata("simpleFunctionsContractDescription.kt")
+            public void testSimpleFunctionsContractDescription() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/newSyntax/simpleFunctionsContractDescription.kt");
+            }
+        }
+
+        @Nested
+        @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/contracts/smartcasts")
+        @TestDataPath("$PROJECT_ROOT")
+        public class Smartcasts {
+            @Test
+            public void testAllFilesPresentInSmartcasts() throws Exception {
+                KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/contracts/smartcasts"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+            }
+
+            @Test
+            @TestMetadata("callWithDefaultValue.kt")
+            public void testCallWithDefaultValue() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/smartcasts/callWithDefaultValue.kt");
+            }
+
+            @Test
+            @TestMetadata("catchExceptionSpilling.kt")
+            public void testCatchExceptionSpilling() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/smartcasts/catchExceptionSpilling.kt");
+            }
+
+            @Test
+            @TestMetadata("compositions.kt")
+            public void testCompositions() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/smartcasts/compositions.kt");
+            }
+
+            @Test
+            @TestMetadata("contractWithDeepGenerics.kt")
+            public void testContractWithDeepGenerics() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/smartcasts/contractWithDeepGenerics.kt");
+            }
+
+            @Test
+            @TestMetadata("contractsOnMembers.kt")
+            public void testContractsOnMembers() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/smartcasts/contractsOnMembers.kt");
+            }
+
+            @Test
+            @TestMetadata("deeplyNested.kt")
+            public void testDeeplyNested() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/smartcasts/deeplyNested.kt");
+            }
+
+            @Test
+            @TestMetadata("extensionReceiver.kt")
+            public void testExtensionReceiver() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/smartcasts/extensionReceiver.kt");
+            }
+
+            @Test
+            @TestMetadata("extensionReceiver_after.kt")
+            public void testExtensionReceiver_after() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/smartcasts/extensionReceiver_after.kt");
+            }
+
+            @Test
+            @TestMetadata("externalArguments.kt")
+            public void testExternalArguments() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/smartcasts/externalArguments.kt");
+            }
+
+            @Test
+            @TestMetadata("intersectingInfo.kt")
+            public void testIntersectingInfo() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/smartcasts/intersectingInfo.kt");
+            }
+
+            @Test
+            @TestMetadata("intersectionTypes.kt")
+            public void testIntersectionTypes() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/smartcasts/intersectionTypes.kt");
+            }
+
+            @Test
+            @TestMetadata("nullabilitySmartcastWhenNullability.kt")
+            public void testNullabilitySmartcastWhenNullability() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/smartcasts/nullabilitySmartcastWhenNullability.kt");
+            }
+
+            @Test
+            @TestMetadata("partiallyIncorrect.kt")
+            public void testPartiallyIncorrect() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/smartcasts/partiallyIncorrect.kt");
+            }
+
+            @Test
+            @TestMetadata("receiver.kt")
+            public void testReceiver() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/smartcasts/receiver.kt");
+            }
+
+            @Test
+            @TestMetadata("reifiedGeneric.kt")
+            public void testReifiedGeneric() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/smartcasts/reifiedGeneric.kt");
+            }
+
+            @Test
+            @TestMetadata("safecallAndReturnsNull.kt")
+            public void testSafecallAndReturnsNull() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/smartcasts/safecallAndReturnsNull.kt");
+            }
+
+            @Test
+            @TestMetadata("throwsEffect.kt")
+            public void testThrowsEffect() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/smartcasts/throwsEffect.kt");
+            }
+
+            @Test
+            @TestMetadata("typeSmartcastWhenNullability.kt")
+            public void testTypeSmartcastWhenNullability() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/smartcasts/typeSmartcastWhenNullability.kt");
+            }
+
+            @Test
+            @TestMetadata("unreachableBranches.kt")
+            public void testUnreachableBranches() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/smartcasts/unreachableBranches.kt");
+            }
+
+            @Test
+            @TestMetadata("valueOfContractedFunctionIngored.kt")
+            public void testValueOfContractedFunctionIngored() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/smartcasts/valueOfContractedFunctionIngored.kt");
+            }
+
+            @Nested
+            @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/contracts/smartcasts/multieffect")
+            @TestDataPath("$PROJECT_ROOT")
+            public class Multieffect {
+                @Test
+                public void testAllFilesPresentInMultieffect() throws Exception {
+                    KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/contracts/smartcasts/multieffect"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+                }
+
+                @Test
+                @TestMetadata("implicitIff.kt")
+                public void testImplicitIff() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/smartcasts/multieffect/implicitIff.kt");
+                }
+
+                @Test
+                @TestMetadata("returnsAndCalls.kt")
+                public void testReturnsAndCalls() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/smartcasts/multieffect/returnsAndCalls.kt");
+                }
+            }
+
+            @Nested
+            @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/contracts/smartcasts/operatorsTests")
+            @TestDataPath("$PROJECT_ROOT")
+            public class OperatorsTests {
+                @Test
+                public void testAllFilesPresentInOperatorsTests() throws Exception {
+                    KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/contracts/smartcasts/operatorsTests"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+                }
+
+                @Test
+                @TestMetadata("andOperator.kt")
+                public void testAndOperator() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/smartcasts/operatorsTests/andOperator.kt");
+                }
+
+                @Test
+                @TestMetadata("andOperatorWithConstant.kt")
+                public void testAndOperatorWithConstant() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/smartcasts/operatorsTests/andOperatorWithConstant.kt");
+                }
+
+                @Test
+                @TestMetadata("andOperatorWithUnknown.kt")
+                public void testAndOperatorWithUnknown() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/smartcasts/operatorsTests/andOperatorWithUnknown.kt");
+                }
+
+                @Test
+                @TestMetadata("equalsOperator.kt")
+                public void testEqualsOperator() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/smartcasts/operatorsTests/equalsOperator.kt");
+                }
+
+                @Test
+                @TestMetadata("equalsWithNullableBoolean.kt")
+                public void testEqualsWithNullableBoolean() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/smartcasts/operatorsTests/equalsWithNullableBoolean.kt");
+                }
+
+                @Test
+                @TestMetadata("isInstanceOperator.kt")
+                public void testIsInstanceOperator() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/smartcasts/operatorsTests/isInstanceOperator.kt");
+                }
+
+                @Test
+                @TestMetadata("orOperator.kt")
+                public void testOrOperator() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/smartcasts/operatorsTests/orOperator.kt");
+                }
+
+                @Test
+                @TestMetadata("orOperatorWithConstant.kt")
+                public void testOrOperatorWithConstant() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/smartcasts/operatorsTests/orOperatorWithConstant.kt");
+                }
+
+                @Test
+                @TestMetadata("orOperatorWithUnknown.kt")
+                public void testOrOperatorWithUnknown() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/smartcasts/operatorsTests/orOperatorWithUnknown.kt");
+                }
+            }
+
+            @Nested
+            @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/contracts/smartcasts/when")
+            @TestDataPath("$PROJECT_ROOT")
+            public class When {
+                @Test
+                public void testAllFilesPresentInWhen() throws Exception {
+                    KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/contracts/smartcasts/when"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+                }
+
+                @Test
+                @TestMetadata("kt36818.kt")
+                public void testKt36818() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/smartcasts/when/kt36818.kt");
+                }
+
+                @Test
+                @TestMetadata("withSubject.kt")
+                public void testWithSubject() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/smartcasts/when/withSubject.kt");
+                }
+
+                @Test
+                @TestMetadata("withSubjectNullableBoolean.kt")
+                public void testWithSubjectNullableBoolean() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/smartcasts/when/withSubjectNullableBoolean.kt");
+                }
+
+                @Test
+                @TestMetadata("withoutSubject.kt")
+                public void testWithoutSubject() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/contracts/smartcasts/when/withoutSubject.kt");
+                }
+            }
+        }
+    }
+
+    @Nested
+    @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/coroutines")
+    @TestDataPath("$PROJECT_ROOT")
+    public class Coroutines {
+        @Test
+        public void testAllFilesPresentInCoroutines() throws Exception {
+            KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/coroutines"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+        }
+
+        @Test
+        @TestMetadata("allowNullOperatorsForResult_1_3.kt")
+        public void testAllowNullOperatorsForResult_1_3() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/allowNullOperatorsForResult_1_3.kt");
+        }
+
+        @Test
+        @TestMetadata("allowNullOperatorsForResult_1_4.kt")
+        public void testAllowNullOperatorsForResult_1_4() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/allowNullOperatorsForResult_1_4.kt");
+        }
+
+        @Test
+        @TestMetadata("allowResultInReturnTypeWithFlag.kt")
+        public void testAllowResultInReturnTypeWithFlag() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/allowResultInReturnTypeWithFlag.kt");
+        }
+
+        @Test
+        @TestMetadata("allowResultInReturnType_1_3.kt")
+        public void testAllowResultInReturnType_1_3() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/allowResultInReturnType_1_3.kt");
+        }
+
+        @Test
+        @TestMetadata("allowResultInReturnType_1_4.kt")
+        public void testAllowResultInReturnType_1_4() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/allowResultInReturnType_1_4.kt");
+        }
+
+        @Test
+        @TestMetadata("basicBuildListBuildMap.kt")
+        public void testBasicBuildListBuildMap() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/basicBuildListBuildMap.kt");
+        }
+
+        @Test
+        @TestMetadata("callableReferences.kt")
+        public void testCallableReferences() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/callableReferences.kt");
+        }
+
+        @Test
+        @TestMetadata("coroutineContext.kt")
+        public void testCoroutineContext() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/coroutineContext.kt");
+        }
+
+        @Test
+        @TestMetadata("illegalSuspendCalls.kt")
+        public void testIllegalSuspendCalls() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/illegalSuspendCalls.kt");
+        }
+
+        @Test
+        @TestMetadata("illegalSuspendCallsForDelegated.kt")
+        public void testIllegalSuspendCallsForDelegated() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/illegalSuspendCallsForDelegated.kt");
+        }
+
+        @Test
+        @TestMetadata("irrelevantSuspendDeclarations.kt")
+        public void testIrrelevantSuspendDeclarations() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/irrelevantSuspendDeclarations.kt");
+        }
+
+        @Test
+        @TestMetadata("kSuspendFunctionAsSupertype.kt")
+        public void testKSuspendFunctionAsSupertype() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/kSuspendFunctionAsSupertype.kt");
+        }
+
+        @Test
+        @TestMetadata("kt18292.kt")
+        public void testKt18292() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/kt18292.kt");
+        }
+
+        @Test
+        @TestMetadata("kt28658.kt")
+        public void testKt28658() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/kt28658.kt");
+        }
+
+        @Test
+        @TestMetadata("kt36947.kt")
+        public void testKt36947() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/kt36947.kt");
+        }
+
+        @Test
+        @TestMetadata("kt37309.kt")
+        public void testKt37309() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/kt37309.kt");
+        }
+
+        @Test
+        @TestMetadata("kt38179.kt")
+        public void testKt38179() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/kt38179.kt");
+        }
+
+        @Test
+        @TestMetadata("kt41430.kt")
+        public void testKt41430() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/kt41430.kt");
+        }
+
+        @Test
+        @TestMetadata("lambdaExpectedType.kt")
+        public void testLambdaExpectedType() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/lambdaExpectedType.kt");
+        }
+
+        @Test
+        @TestMetadata("mixingSuspendability.kt")
+        public void testMixingSuspendability() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/mixingSuspendability.kt");
+        }
+
+        @Test
+        @TestMetadata("modifierFormForNonBuiltInSuspend.kt")
+        public void testModifierFormForNonBuiltInSuspend() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/modifierFormForNonBuiltInSuspend.kt");
+        }
+
+        @Test
+        @TestMetadata("modifierFormForNonBuiltInSuspendWithAnyParameter.kt")
+        public void testModifierFormForNonBuiltInSuspendWithAnyParameter() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/modifierFormForNonBuiltInSuspendWithAnyParameter.kt");
+        }
+
+        @Test
+        @TestMetadata("noDefaultCoroutineImports.kt")
+        public void testNoDefaultCoroutineImports() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/noDefaultCoroutineImports.kt");
+        }
+
+        @Test
+        @TestMetadata("nonLocalSuspension.kt")
+        public void testNonLocalSuspension() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/nonLocalSuspension.kt");
+        }
+
+        @Test
+        @TestMetadata("nonModifierFormForBuiltIn.kt")
+        public void testNonModifierFormForBuiltIn() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/nonModifierFormForBuiltIn.kt");
+        }
+
+        @Test
+        @TestMetadata("nonModifierFormForBuiltInRenameOnImport.kt")
+        public void testNonModifierFormForBuiltInRenameOnImport() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/nonModifierFormForBuiltInRenameOnImport.kt");
+        }
+
+        @Test
+        @TestMetadata("operators.kt")
+        public void testOperators() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/operators.kt");
+        }
+
+        @Test
+        @TestMetadata("returnLabelForBuiltInSuspend.kt")
+        public void testReturnLabelForBuiltInSuspend() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/returnLabelForBuiltInSuspend.kt");
+        }
+
+        @Test
+        @TestMetadata("suspendApplicability.kt")
+        public void testSuspendApplicability() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/suspendApplicability.kt");
+        }
+
+        @Test
+        @TestMetadata("suspendConflictsWithNoSuspend.kt")
+        public void testSuspendConflictsWithNoSuspend() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/suspendConflictsWithNoSuspend.kt");
+        }
+
+        @Test
+        @TestMetadata("suspendCoroutineOrReturn.kt")
+        public void testSuspendCoroutineOrReturn() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/suspendCoroutineOrReturn.kt");
+        }
+
+        @Test
+        @TestMetadata("suspendCovarianJavaOverride.kt")
+        public void testSuspendCovarianJavaOverride() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/suspendCovarianJavaOverride.kt");
+        }
+
+        @Test
+        @TestMetadata("suspendDestructuring.kt")
+        public void testSuspendDestructuring() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/suspendDestructuring.kt");
+        }
+
+        @Test
+        @TestMetadata("suspendExternalFunctions.kt")
+        public void testSuspendExternalFunctions() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/suspendExternalFunctions.kt");
+        }
+
+        @Test
+        @TestMetadata("suspendFunctionN.kt")
+        public void testSuspendFunctionN() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/suspendFunctionN.kt");
+        }
+
+        @Test
+        @TestMetadata("suspendFunctions.kt")
+        public void testSuspendFunctions() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/suspendFunctions.kt");
+        }
+
+        @Test
+        @TestMetadata("suspendJavaImplementationFromDifferentClass.kt")
+        public void testSuspendJavaImplementationFromDifferentClass() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/suspendJavaImplementationFromDifferentClass.kt");
+        }
+
+        @Test
+        @TestMetadata("suspendJavaOverrides.kt")
+        public void testSuspendJavaOverrides() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/suspendJavaOverrides.kt");
+        }
+
+        @Test
+        @TestMetadata("suspendLambda.kt")
+        public void testSuspendLambda() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/suspendLambda.kt");
+        }
+
+        @Test
+        @TestMetadata("suspendOverridability.kt")
+        public void testSuspendOverridability() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/suspendOverridability.kt");
+        }
+
+        @Test
+        @TestMetadata("suspendTest.kt")
+        public void testSuspendTest() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/suspendTest.kt");
+        }
+
+        @Test
+        @TestMetadata("suspensionPointInMonitor.kt")
+        public void testSuspensionPointInMonitor() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/suspensionPointInMonitor.kt");
+        }
+
+        @Test
+        @TestMetadata("suspensionPointInMonitorNewInf.kt")
+        public void testSuspensionPointInMonitorNewInf() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/suspensionPointInMonitorNewInf.kt");
+        }
+
+        @Test
+        @TestMetadata("suspesionInDefaultValue.kt")
+        public void testSuspesionInDefaultValue() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/suspesionInDefaultValue.kt");
+        }
+
+        @Test
+        @TestMetadata("tryCatchLambda.kt")
+        public void testTryCatchLambda() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/tryCatchLambda.kt");
+        }
+
+        @Test
+        @TestMetadata("usageOfResultTypeInReturnType.kt")
+        public void testUsageOfResultTypeInReturnType() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/usageOfResultTypeInReturnType.kt");
+        }
+
+        @Test
+        @TestMetadata("usageOfResultTypeInReturnType_1_4.kt")
+        public void testUsageOfResultTypeInReturnType_1_4() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/usageOfResultTypeInReturnType_1_4.kt");
+        }
+
+        @Test
+        @TestMetadata("usageOfResultTypeWithNullableOperators.kt")
+        public void testUsageOfResultTypeWithNullableOperators() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/usageOfResultTypeWithNullableOperators.kt");
+        }
+
+        @Nested
+        @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/coroutines/callableReference")
+        @TestDataPath("$PROJECT_ROOT")
+        public class CallableReference {
+            @Test
+            public void testAllFilesPresentInCallableReference() throws Exception {
+                KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/coroutines/callableReference"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+            }
+
+            @Test
+            @TestMetadata("bigArity.kt")
+            public void testBigArity() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/callableReference/bigArity.kt");
+            }
+
+            @Test
+            @TestMetadata("callableReferenceOnUnresolvedLHS.kt")
+            public void testCallableReferenceOnUnresolvedLHS() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/callableReference/callableReferenceOnUnresolvedLHS.kt");
+            }
+
+            @Test
+            @TestMetadata("property.kt")
+            public void testProperty() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/callableReference/property.kt");
+            }
+
+            @Test
+            @TestMetadata("suspendConversionForCallableReferences.kt")
+            public void testSuspendConversionForCallableReferences() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/callableReference/suspendConversionForCallableReferences.kt");
+            }
+        }
+
+        @Nested
+        @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/coroutines/inference")
+        @TestDataPath("$PROJECT_ROOT")
+        public class Inference {
+            @Test
+            public void testAllFilesPresentInInference() throws Exception {
+                KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/coroutines/inference"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+            }
+
+            @Test
+            @TestMetadata("applyInsideCoroutine.kt")
+            public void testApplyInsideCoroutine() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/inference/applyInsideCoroutine.kt");
+            }
+
+            @Test
+            @TestMetadata("builderInferenceForMaterializeWithExpectedType.kt")
+            public void testBuilderInferenceForMaterializeWithExpectedType() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/inference/builderInferenceForMaterializeWithExpectedType.kt");
+            }
+
+            @Test
+            @TestMetadata("callableReferenceAndCoercionToUnit.kt")
+            public void testCallableReferenceAndCoercionToUnit() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/inference/callableReferenceAndCoercionToUnit.kt");
+            }
+
+            @Test
+            @TestMetadata("callableReferenceToASuspendFunction.kt")
+            public void testCallableReferenceToASuspendFunction() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/inference/callableReferenceToASuspendFunction.kt");
+            }
+
+            @Test
+            @TestMetadata("chainCallWithExtensionExplicitTypes.kt")
+            public void testChainCallWithExtensionExplicitTypes() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/inference/chainCallWithExtensionExplicitTypes.kt");
+            }
+
+            @Test
+            @TestMetadata("coroutineInferenceWithCapturedTypeVariable.kt")
+            public void testCoroutineInferenceWithCapturedTypeVariable() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/inference/coroutineInferenceWithCapturedTypeVariable.kt");
+            }
+
+            @Test
+            @TestMetadata("correctMember.kt")
+            public void testCorrectMember() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/inference/correctMember.kt");
+            }
+
+            @Test
+            @TestMetadata("doubleColonExpressionToClassWithParameters.kt")
+            public void testDoubleColonExpressionToClassWithParameters() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/inference/doubleColonExpressionToClassWithParameters.kt");
+            }
+
+            @Test
+            @TestMetadata("elvisOperatorAgainstFlexibleType.kt")
+            public void testElvisOperatorAgainstFlexibleType() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/inference/elvisOperatorAgainstFlexibleType.kt");
+            }
+
+            @Test
+            @TestMetadata("extensionPriority.kt")
+            public void testExtensionPriority() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/inference/extensionPriority.kt");
+            }
+
+            @Test
+            @TestMetadata("extensionSuspend.kt")
+            public void testExtensionSuspend() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/inference/extensionSuspend.kt");
+            }
+
+            @Test
+            @TestMetadata("extensionWithNonValuableConstraints.kt")
+            public void testExtensionWithNonValuableConstraints() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/inference/extensionWithNonValuableConstraints.kt");
+            }
+
+            @Test
+            @TestMetadata("extensionsWithNonValuableConstraintsGenericBase.kt")
+            public void testExtensionsWithNonValuableConstraintsGenericBase() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/inference/extensionsWithNonValuableConstraintsGenericBase.kt");
+            }
+
+            @Test
+            @TestMetadata("extensionsWithNonValuableConstraints_1_2.kt")
+            public void testExtensionsWithNonValuableConstraints_1_2() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/inference/extensionsWithNonValuableConstraints_1_2.kt");
+            }
+
+            @Test
+            @TestMetadata("inferenceFromMethodInsideLocalVariable.kt")
+            public void testInferenceFromMethodInsideLocalVariable() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/inference/inferenceFromMethodInsideLocalVariable.kt");
+            }
+
+            @Test
+            @TestMetadata("kt15516.kt")
+            public void testKt15516() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/inference/kt15516.kt");
+            }
+
+            @Test
+            @TestMetadata("kt32097.kt")
+            public void testKt32097() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/inference/kt32097.kt");
+            }
+
+            @Test
+            @TestMetadata("kt32203.kt")
+            public void testKt32203() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/inference/kt32203.kt");
+            }
+
+            @Test
+            @TestMetadata("kt32271.kt")
+            public void testKt32271() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/inference/kt32271.kt");
+            }
+
+            @Test
+            @TestMetadata("kt33542.kt")
+            public void testKt33542() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/inference/kt33542.kt");
+            }
+
+            @Test
+            @TestMetadata("kt35306.kt")
+            public void testKt35306() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/inference/kt35306.kt");
+            }
+
+            @Test
+            @TestMetadata("kt35684.kt")
+            public void testKt35684() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/inference/kt35684.kt");
+            }
+
+            @Test
+            @TestMetadata("kt36202.kt")
+            public void testKt36202() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/inference/kt36202.kt");
+            }
+
+            @Test
+            @TestMetadata("kt36220.kt")
+            public void testKt36220() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/inference/kt36220.kt");
+            }
+
+            @Test
+            @TestMetadata("kt38420.kt")
+            public void testKt38420() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/inference/kt38420.kt");
+            }
+
+            @Test
+            @TestMetadata("kt38667.kt")
+            public void testKt38667() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/inference/kt38667.kt");
+            }
+
+            @Test
+            @TestMetadata("kt38766.kt")
+            public void testKt38766() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/inference/kt38766.kt");
+            }
+
+            @Test
+            @TestMetadata("kt41164.kt")
+            public void testKt41164() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/inference/kt41164.kt");
+            }
+
+            @Test
+            @TestMetadata("kt41308.kt")
+            public void testKt41308() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/inference/kt41308.kt");
+            }
+
+            @Test
+            @TestMetadata("kt41396.kt")
+            public void testKt41396() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/inference/kt41396.kt");
+            }
+
+            @Test
+            @TestMetadata("nestedLambdaInferenceWithListMap.kt")
+            public void testNestedLambdaInferenceWithListMap() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/inference/nestedLambdaInferenceWithListMap.kt");
+            }
+
+            @Test
+            @TestMetadata("nestedSuspendCallInsideLambda.kt")
+            public void testNestedSuspendCallInsideLambda() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/inference/nestedSuspendCallInsideLambda.kt");
+            }
+
+            @Test
+            @TestMetadata("plusAssignInCoroutineContext.kt")
+            public void testPlusAssignInCoroutineContext() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/inference/plusAssignInCoroutineContext.kt");
+            }
+
+            @Test
+            @TestMetadata("plusAssignWithLambda.kt")
+            public void testPlusAssignWithLambda() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/inference/plusAssignWithLambda.kt");
+            }
+
+            @Test
+            @TestMetadata("plusAssignWithLambda2.kt")
+            public void testPlusAssignWithLambda2() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/inference/plusAssignWithLambda2.kt");
+            }
+
+            @Test
+            @TestMetadata("qualifiedResolvedExpressionInsideBuilderInference.kt")
+            public void testQualifiedResolvedExpressionInsideBuilderInference() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/inference/qualifiedResolvedExpressionInsideBuilderInference.kt");
+            }
+
+            @Test
+            @TestMetadata("recursiveGenerators.kt")
+            public void testRecursiveGenerators() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/inference/recursiveGenerators.kt");
+            }
+
+            @Test
+            @TestMetadata("recursiveGenerators2.kt")
+            public void testRecursiveGenerators2() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/inference/recursiveGenerators2.kt");
+            }
+
+            @Test
+            @TestMetadata("returnTypeInference.kt")
+            public void testReturnTypeInference() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/inference/returnTypeInference.kt");
+            }
+
+            @Test
+            @TestMetadata("returnTypeInference2.kt")
+            public void testReturnTypeInference2() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/inference/returnTypeInference2.kt");
+            }
+
+            @Test
+            @TestMetadata("severalCandidatesWithDifferentVisibility.kt")
+            public void testSeveralCandidatesWithDifferentVisibility() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/inference/severalCandidatesWithDifferentVisibility.kt");
+            }
+
+            @Test
+            @TestMetadata("simpleGenerator.kt")
+            public void testSimpleGenerator() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/inference/simpleGenerator.kt");
+            }
+
+            @Test
+            @TestMetadata("suspendCallsWithErrors.kt")
+            public void testSuspendCallsWithErrors() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/inference/suspendCallsWithErrors.kt");
+            }
+
+            @Test
+            @TestMetadata("suspendCallsWrongUpperBound.kt")
+            public void testSuspendCallsWrongUpperBound() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/inference/suspendCallsWrongUpperBound.kt");
+            }
+
+            @Test
+            @TestMetadata("twoReceiversInScope.kt")
+            public void testTwoReceiversInScope() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/inference/twoReceiversInScope.kt");
+            }
+
+            @Test
+            @TestMetadata("typeFromReceiver.kt")
+            public void testTypeFromReceiver() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/inference/typeFromReceiver.kt");
+            }
+
+            @Test
+            @TestMetadata("variableCallInsideBuilderFunction.kt")
+            public void testVariableCallInsideBuilderFunction() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/inference/variableCallInsideBuilderFunction.kt");
+            }
+
+            @Test
+            @TestMetadata("variableOfAFunctionTypeCall.kt")
+            public void testVariableOfAFunctionTypeCall() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/inference/variableOfAFunctionTypeCall.kt");
+            }
+
+            @Test
+            @TestMetadata("withParameter.kt")
+            public void testWithParameter() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/inference/withParameter.kt");
+            }
+
+            @Test
+            @TestMetadata("withUninferredParameter.kt")
+            public void testWithUninferredParameter() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/inference/withUninferredParameter.kt");
+            }
+        }
+
+        @Nested
+        @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/coroutines/inlineCrossinline")
+        @TestDataPath("$PROJECT_ROOT")
+        public class InlineCrossinline {
+            @Test
+            public void testAllFilesPresentInInlineCrossinline() throws Exception {
+                KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/coroutines/inlineCrossinline"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+            }
+
+            @Test
+            @TestMetadata("inlineOrdinaryOfCrossinlineOrdinary.kt")
+            public void testInlineOrdinaryOfCrossinlineOrdinary() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/inlineCrossinline/inlineOrdinaryOfCrossinlineOrdinary.kt");
+            }
+
+            @Test
+            @TestMetadata("inlineOrdinaryOfCrossinlineSuspend.kt")
+            public void testInlineOrdinaryOfCrossinlineSuspend() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/inlineCrossinline/inlineOrdinaryOfCrossinlineSuspend.kt");
+            }
+
+            @Test
+            @TestMetadata("inlineOrdinaryOfNoinlineOrdinary.kt")
+            public void testInlineOrdinaryOfNoinlineOrdinary() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/inlineCrossinline/inlineOrdinaryOfNoinlineOrdinary.kt");
+            }
+
+            @Test
+            @TestMetadata("inlineOrdinaryOfNoinlineSuspend.kt")
+            public void testInlineOrdinaryOfNoinlineSuspend() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/inlineCrossinline/inlineOrdinaryOfNoinlineSuspend.kt");
+            }
+
+            @Test
+            @TestMetadata("inlineOrdinaryOfOrdinary.kt")
+            public void testInlineOrdinaryOfOrdinary() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/inlineCrossinline/inlineOrdinaryOfOrdinary.kt");
+            }
+
+            @Test
+            @TestMetadata("inlineOrdinaryOfSuspend.kt")
+            public void testInlineOrdinaryOfSuspend() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/inlineCrossinline/inlineOrdinaryOfSuspend.kt");
+            }
+
+            @Test
+            @TestMetadata("inlineSuspendOfCrossinlineOrdinary.kt")
+            public void testInlineSuspendOfCrossinlineOrdinary() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/inlineCrossinline/inlineSuspendOfCrossinlineOrdinary.kt");
+            }
+
+            @Test
+            @TestMetadata("inlineSuspendOfCrossinlineSuspend.kt")
+            public void testInlineSuspendOfCrossinlineSuspend() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/inlineCrossinline/inlineSuspendOfCrossinlineSuspend.kt");
+            }
+
+            @Test
+            @TestMetadata("inlineSuspendOfNoinlineOrdinary.kt")
+            public void testInlineSuspendOfNoinlineOrdinary() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/inlineCrossinline/inlineSuspendOfNoinlineOrdinary.kt");
+            }
+
+            @Test
+            @TestMetadata("inlineSuspendOfNoinlineSuspend.kt")
+            public void testInlineSuspendOfNoinlineSuspend() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/inlineCrossinline/inlineSuspendOfNoinlineSuspend.kt");
+            }
+
+            @Test
+            @TestMetadata("inlineSuspendOfOrdinary.kt")
+            public void testInlineSuspendOfOrdinary() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/inlineCrossinline/inlineSuspendOfOrdinary.kt");
+            }
+
+            @Test
+            @TestMetadata("inlineSuspendOfSuspend.kt")
+            public void testInlineSuspendOfSuspend() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/inlineCrossinline/inlineSuspendOfSuspend.kt");
+            }
+        }
+
+        @Nested
+        @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/coroutines/release")
+        @TestDataPath("$PROJECT_ROOT")
+        public class Release {
+            @Test
+            public void testAllFilesPresentInRelease() throws Exception {
+                KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/coroutines/release"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+            }
+
+            @Test
+            @TestMetadata("suspend.kt")
+            public void testSuspend() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/release/suspend.kt");
+            }
+        }
+
+        @Nested
+        @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/coroutines/restrictSuspension")
+        @TestDataPath("$PROJECT_ROOT")
+        public class RestrictSuspension {
+            @Test
+            public void testAllFilesPresentInRestrictSuspension() throws Exception {
+                KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/coroutines/restrictSuspension"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+            }
+
+            @Test
+            @TestMetadata("allMembersAllowed.kt")
+            public void testAllMembersAllowed() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/restrictSuspension/allMembersAllowed.kt");
+            }
+
+            @Test
+            @TestMetadata("extensions.kt")
+            public void testExtensions() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/restrictSuspension/extensions.kt");
+            }
+
+            @Test
+            @TestMetadata("memberExtension.kt")
+            public void testMemberExtension() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/restrictSuspension/memberExtension.kt");
+            }
+
+            @Test
+            @TestMetadata("notRelatedFun.kt")
+            public void testNotRelatedFun() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/restrictSuspension/notRelatedFun.kt");
+            }
+
+            @Test
+            @TestMetadata("outerYield_1_3.kt")
+            public void testOuterYield_1_3() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/restrictSuspension/outerYield_1_3.kt");
+            }
+
+            @Test
+            @TestMetadata("sameInstance.kt")
+            public void testSameInstance() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/restrictSuspension/sameInstance.kt");
+            }
+
+            @Test
+            @TestMetadata("simpleForbidden.kt")
+            public void testSimpleForbidden() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/restrictSuspension/simpleForbidden.kt");
+            }
+
+            @Test
+            @TestMetadata("wrongEnclosingFunction.kt")
+            public void testWrongEnclosingFunction() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/restrictSuspension/wrongEnclosingFunction.kt");
+            }
+        }
+
+        @Nested
+        @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/coroutines/suspendFunctionType")
+        @TestDataPath("$PROJECT_ROOT")
+        public class SuspendFunctionType {
+            @Test
+            public void testAllFilesPresentInSuspendFunctionType() throws Exception {
+                KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/coroutines/suspendFunctionType"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+            }
+
+            @Test
+            @TestMetadata("functionVsSuspendFunction.kt")
+            public void testFunctionVsSuspendFunction() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/suspendFunctionType/functionVsSuspendFunction.kt");
+            }
+
+            @Test
+            @TestMetadata("inference1.kt")
+            public void testInference1() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/suspendFunctionType/inference1.kt");
+            }
+
+            @Test
+            @TestMetadata("inference2.kt")
+            public void testInference2() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/suspendFunctionType/inference2.kt");
+            }
+
+            @Test
+            @TestMetadata("inference3.kt")
+            public void testInference3() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/suspendFunctionType/inference3.kt");
+            }
+
+            @Test
+            @TestMetadata("inference4.kt")
+            public void testInference4() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/suspendFunctionType/inference4.kt");
+            }
+
+            @Test
+            @TestMetadata("inline.kt")
+            public void testInline() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/suspendFunctionType/inline.kt");
+            }
+
+            @Test
+            @TestMetadata("invoke.kt")
+            public void testInvoke() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/suspendFunctionType/invoke.kt");
+            }
+
+            @Test
+            @TestMetadata("lambdaInOverriddenValInitializer.kt")
+            public void testLambdaInOverriddenValInitializer() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/suspendFunctionType/lambdaInOverriddenValInitializer.kt");
+            }
+
+            @Test
+            @TestMetadata("lambdaInValInitializer.kt")
+            public void testLambdaInValInitializer() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/suspendFunctionType/lambdaInValInitializer.kt");
+            }
+
+            @Test
+            @TestMetadata("modifierApplicability.kt")
+            public void testModifierApplicability() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/suspendFunctionType/modifierApplicability.kt");
+            }
+
+            @Test
+            @TestMetadata("noInvokeForSuspendFunction.kt")
+            public void testNoInvokeForSuspendFunction() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/suspendFunctionType/noInvokeForSuspendFunction.kt");
+            }
+
+            @Test
+            @TestMetadata("noValueParameters.kt")
+            public void testNoValueParameters() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/suspendFunctionType/noValueParameters.kt");
+            }
+
+            @Test
+            @TestMetadata("nullableSuspendFunction.kt")
+            public void testNullableSuspendFunction() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/suspendFunctionType/nullableSuspendFunction.kt");
+            }
+
+            @Test
+            @TestMetadata("suspendFunctionN.kt")
+            public void testSuspendFunctionN() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/suspendFunctionType/suspendFunctionN.kt");
+            }
+        }
+
+        @Nested
+        @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/coroutines/tailCalls")
+        @TestDataPath("$PROJECT_ROOT")
+        public class TailCalls {
+            @Test
+            public void testAllFilesPresentInTailCalls() throws Exception {
+                KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/coroutines/tailCalls"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+            }
+
+            @Test
+            @TestMetadata("forbidden.kt")
+            public void testForbidden() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/tailCalls/forbidden.kt");
+            }
+
+            @Test
+            @TestMetadata("localFunctions.kt")
+            public void testLocalFunctions() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/tailCalls/localFunctions.kt");
+            }
+
+            @Test
+            @TestMetadata("nothingTypedSuspendFunction_1_3.kt")
+            public void testNothingTypedSuspendFunction_1_3() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/tailCalls/nothingTypedSuspendFunction_1_3.kt");
+            }
+
+            @Test
+            @TestMetadata("recursive.kt")
+            public void testRecursive() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/tailCalls/recursive.kt");
+            }
+
+            @Test
+            @TestMetadata("tryCatch.kt")
+            public void testTryCatch() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/tailCalls/tryCatch.kt");
+            }
+
+            @Test
+            @TestMetadata("valid.kt")
+            public void testValid() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/coroutines/tailCalls/valid.kt");
+            }
+        }
+    }
+
+    @Nested
+    @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/deprecated")
+    @TestDataPath("$PROJECT_ROOT")
+    public class Deprecated {
+        @Test
+        public void testAllFilesPresentInDeprecated() throws Exception {
+            KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/deprecated"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+        }
+
+        @Test
+        @TestMetadata("deprecationOnReadBytes.kt")
+        public void testDeprecationOnReadBytes() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/deprecated/deprecationOnReadBytes.kt");
+        }
+
+        @Test
+        @TestMetadata("noDeprecationOnReadBytes.kt")
+        public void testNoDeprecationOnReadBytes() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/deprecated/noDeprecationOnReadBytes.kt");
+        }
+    }
+
+    @Nested
+    @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/duplicateJvmSignature")
+    @TestDataPath("$PROJECT_ROOT")
+    public class DuplicateJvmSignature {
+        @Test
+        public void testAllFilesPresentInDuplicateJvmSignature() throws Exception {
+            KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/duplicateJvmSignature"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+        }
+
+        @Test
+        @TestMetadata("delegatedProperty.kt")
+        public void testDelegatedProperty() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/duplicateJvmSignature/delegatedProperty.kt");
+        }
+
+        @Test
+        @TestMetadata("jvmNames.kt")
+        public void testJvmNames() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/duplicateJvmSignature/jvmNames.kt");
+        }
+
+        @Test
+        @TestMetadata("jvmNamesDuplicate.kt")
+        public void testJvmNamesDuplicate() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/duplicateJvmSignature/jvmNamesDuplicate.kt");
+        }
+
+        @Test
+        @TestMetadata("jvmOverloads.kt")
+        public void testJvmOverloads() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/duplicateJvmSignature/jvmOverloads.kt");
+        }
+
+        @Test
+        @TestMetadata("jvmStaticInClassObject.kt")
+        public void testJvmStaticInClassObject() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/duplicateJvmSignature/jvmStaticInClassObject.kt");
+        }
+
+        @Test
+        @TestMetadata("jvmStaticInObject.kt")
+        public void testJvmStaticInObject() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/duplicateJvmSignature/jvmStaticInObject.kt");
+        }
+
+        @Nested
+        @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/duplicateJvmSignature/statics")
+        @TestDataPath("$PROJECT_ROOT")
+        public class Statics {
+            @Test
+            public void testAllFilesPresentInStatics() throws Exception {
+                KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/duplicateJvmSignature/statics"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+            }
+
+            @Test
+            @TestMetadata("jjk.kt")
+            public void testJjk() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/duplicateJvmSignature/statics/jjk.kt");
+            }
+
+            @Test
+            @TestMetadata("jk.kt")
+            public void testJk() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/duplicateJvmSignature/statics/jk.kt");
+            }
+
+            @Test
+            @TestMetadata("jkjk.kt")
+            public void testJkjk() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/duplicateJvmSignature/statics/jkjk.kt");
+            }
+
+            @Test
+            @TestMetadata("kotlinMembersVsJavaNonVisibleStatics.kt")
+            public void testKotlinMembersVsJavaNonVisibleStatics() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/duplicateJvmSignature/statics/kotlinMembersVsJavaNonVisibleStatics.kt");
+            }
+        }
+    }
+
+    @Nested
+    @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/evaluate")
+    @TestDataPath("$PROJECT_ROOT")
+    public class Evaluate {
+        @Test
+        public void testAllFilesPresentInEvaluate() throws Exception {
+            KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/evaluate"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+        }
+
+        @Test
+        @TestMetadata("charCodeExpType.kt")
+        public void testCharCodeExpType() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/evaluate/charCodeExpType.kt");
+        }
+    }
+
+    @Nested
+    @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/experimental")
+    @TestDataPath("$PROJECT_ROOT")
+    public class Experimental {
+        @Test
+        public void testAllFilesPresentInExperimental() throws Exception {
+            KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/experimental"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+        }
+
+        @Test
+        @TestMetadata("annotation.kt")
+        public void testAnnotation() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/experimental/annotation.kt");
+        }
+
+        @Test
+        @TestMetadata("bodyUsages.kt")
+        public void testBodyUsages() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/experimental/bodyUsages.kt");
+        }
+
+        @Test
+        @TestMetadata("bodyUsagesAndInline.kt")
+        public void testBodyUsagesAndInline() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/experimental/bodyUsagesAndInline.kt");
+        }
+
+        @Test
+        @TestMetadata("classMembers.kt")
+        public void testClassMembers() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/experimental/classMembers.kt");
+        }
+
+        @Test
+        @TestMetadata("classMembersOverlyExperimental.kt")
+        public void testClassMembersOverlyExperimental() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/experimental/classMembersOverlyExperimental.kt");
+        }
+
+        @Test
+        @TestMetadata("constVal.kt")
+        public void testConstVal() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/experimental/constVal.kt");
+        }
+
+        @Test
+        @TestMetadata("deeplyNestedClass.kt")
+        public void testDeeplyNestedClass() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/experimental/deeplyNestedClass.kt");
+        }
+
+        @Test
+        @TestMetadata("errors.kt")
+        public void testErrors() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/experimental/errors.kt");
+        }
+
+        @Test
+        @TestMetadata("experimentalAfterRelease.kt")
+        public void testExperimentalAfterRelease() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/experimental/experimentalAfterRelease.kt");
+        }
+
+        @Test
+        @TestMetadata("experimentalAnnotationOnConstructorProperty.kt")
+        public void testExperimentalAnnotationOnConstructorProperty() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/experimental/experimentalAnnotationOnConstructorProperty.kt");
+        }
+
+        @Test
+        @TestMetadata("experimentalIsNotEnabled.kt")
+        public void testExperimentalIsNotEnabled() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/experimental/experimentalIsNotEnabled.kt");
+        }
+
+        @Test
+        @TestMetadata("experimentalOnOverrideWarning.kt")
+        public void testExperimentalOnOverrideWarning() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/experimental/experimentalOnOverrideWarning.kt");
+        }
+
+        @Test
+        @TestMetadata("experimentalSetter.kt")
+        public void testExperimentalSetter() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/experimental/experimentalSetter.kt");
+        }
+
+        @Test
+        @TestMetadata("fullFqNameUsage.kt")
+        public void testFullFqNameUsage() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/experimental/fullFqNameUsage.kt");
+        }
+
+        @Test
+        @TestMetadata("implicitUsages.kt")
+        public void testImplicitUsages() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/experimental/implicitUsages.kt");
+        }
+
+        @Test
+        @TestMetadata("implicitUsagesFuture.kt")
+        public void testImplicitUsagesFuture() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/experimental/implicitUsagesFuture.kt");
+        }
+
+        @Test
+        @TestMetadata("importStatement.kt")
+        public void testImportStatement() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/experimental/importStatement.kt");
+        }
+
+        @Test
+        @TestMetadata("incorrectTargetsForExperimentalAnnotation.kt")
+        public void testIncorrectTargetsForExperimentalAnnotation() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/experimental/incorrectTargetsForExperimentalAnnotation.kt");
+        }
+
+        @Test
+        @TestMetadata("incorrectUseExperimental.kt")
+        public void testIncorrectUseExperimental() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/experimental/incorrectUseExperimental.kt");
+        }
+
+        @Test
+        @TestMetadata("noRetentionAfter.kt")
+        public void testNoRetentionAfter() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/experimental/noRetentionAfter.kt");
+        }
+
+        @Test
+        @TestMetadata("override.kt")
+        public void testOverride() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/experimental/override.kt");
+        }
+
+        @Test
+        @TestMetadata("overrideDifferentExperimentalities.kt")
+        public void testOverrideDifferentExperimentalities() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/experimental/overrideDifferentExperimentalities.kt");
+        }
+
+        @Test
+        @TestMetadata("overrideInAnonymousObject.kt")
+        public void testOverrideInAnonymousObject() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/experimental/overrideInAnonymousObject.kt");
+        }
+
+        @Test
+        @TestMetadata("topLevel.kt")
+        public void testTopLevel() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/experimental/topLevel.kt");
+        }
+
+        @Test
+        @TestMetadata("typealias.kt")
+        public void testTypealias() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/experimental/typealias.kt");
+        }
+
+        @Test
+        @TestMetadata("usageNotAsAnnotation.kt")
+        public void testUsageNotAsAnnotation() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/experimental/usageNotAsAnnotation.kt");
+        }
+
+        @Test
+        @TestMetadata("useExperimentalOnFile.kt")
+        public void testUseExperimentalOnFile() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/experimental/useExperimentalOnFile.kt");
+        }
+
+        @Test
+        @TestMetadata("useExperimentalOnFileWithVeryExperimentalMarker.kt")
+        public void testUseExperimentalOnFileWithVeryExperimentalMarker() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/experimental/useExperimentalOnFileWithVeryExperimentalMarker.kt");
+        }
+
+        @Test
+        @TestMetadata("useExperimentalOnStatement.kt")
+        public void testUseExperimentalOnStatement() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/experimental/useExperimentalOnStatement.kt");
+        }
+
+        @Test
+        @TestMetadata("useExperimentalOnWholeModule.kt")
+        public void testUseExperimentalOnWholeModule() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/experimental/useExperimentalOnWholeModule.kt");
+        }
+
+        @Test
+        @TestMetadata("useExperimentalTargets.kt")
+        public void testUseExperimentalTargets() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/experimental/useExperimentalTargets.kt");
+        }
+
+        @Test
+        @TestMetadata("useExperimentalWithSeveralAnnotations.kt")
+        public void testUseExperimentalWithSeveralAnnotations() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/experimental/useExperimentalWithSeveralAnnotations.kt");
+        }
+
+        @Test
+        @TestMetadata("wasExperimental.kt")
+        public void testWasExperimental() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/experimental/wasExperimental.kt");
+        }
+    }
+
+    @Nested
+    @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/factoryPattern")
+    @TestDataPath("$PROJECT_ROOT")
+    public class FactoryPattern {
+        @Test
+        public void testAllFilesPresentInFactoryPattern() throws Exception {
+            KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/factoryPattern"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+        }
+
+        @Test
+        @TestMetadata("independentResolutionInLambda.kt")
+        public void testIndependentResolutionInLambda() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/factoryPattern/independentResolutionInLambda.kt");
+        }
+
+        @Test
+        @TestMetadata("multipleOverloads_1.kt")
+        public void testMultipleOverloads_1() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/factoryPattern/multipleOverloads_1.kt");
+        }
+
+        @Test
+        @TestMetadata("multipleOverloads_2.kt")
+        public void testMultipleOverloads_2() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/factoryPattern/multipleOverloads_2.kt");
+        }
+
+        @Test
+        @TestMetadata("multipleOverloads_3.kt")
+        public void testMultipleOverloads_3() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/factoryPattern/multipleOverloads_3.kt");
+        }
+
+        @Test
+        @TestMetadata("overloadByLambdaReturnType_disabled.kt")
+        public void testOverloadByLambdaReturnType_disabled() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/factoryPattern/overloadByLambdaReturnType_disabled.kt");
+        }
+
+        @Test
+        @TestMetadata("overloadByLambdaReturnType_enabled.kt")
+        public void testOverloadByLambdaReturnType_enabled() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/factoryPattern/overloadByLambdaReturnType_enabled.kt");
+        }
+
+        @Test
+        @TestMetadata("overloadByLambdaReturnType_enabled_no_annotation.kt")
+        public void testOverloadByLambdaReturnType_enabled_no_annotation() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/factoryPattern/overloadByLambdaReturnType_enabled_no_annotation.kt");
+        }
+
+        @Test
+        @TestMetadata("referenceWithTheSameNameAsContainingProperty.kt")
+        public void testReferenceWithTheSameNameAsContainingProperty() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/factoryPattern/referenceWithTheSameNameAsContainingProperty.kt");
+        }
+
+        @Test
+        @TestMetadata("resolutionInOldInference.kt")
+        public void testResolutionInOldInference() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/factoryPattern/resolutionInOldInference.kt");
+        }
+
+        @Test
+        @TestMetadata("returnFromInlineLambda.kt")
+        public void testReturnFromInlineLambda() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/factoryPattern/returnFromInlineLambda.kt");
+        }
+    }
+
+    @Nested
+    @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/forInArrayLoop")
+    @TestDataPath("$PROJECT_ROOT")
+    public class ForInArrayLoop {
+        @Test
+        public void testAllFilesPresentInForInArrayLoop() throws Exception {
+            KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/forInArrayLoop"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+        }
+
+        @Test
+        @TestMetadata("capturedRangeVariableAssignmentBefore13.kt")
+        public void testCapturedRangeVariableAssignmentBefore13() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/forInArrayLoop/capturedRangeVariableAssignmentBefore13.kt");
+        }
+
+        @Test
+        @TestMetadata("forInFieldUpdatedInLoopBodyBefore13.kt")
+        public void testForInFieldUpdatedInLoopBodyBefore13() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/forInArrayLoop/forInFieldUpdatedInLoopBodyBefore13.kt");
+        }
+
+        @Test
+        @TestMetadata("rangeLocalDelegatedPropertyAssignmentBefore13.kt")
+        public void testRangeLocalDelegatedPropertyAssignmentBefore13() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/forInArrayLoop/rangeLocalDelegatedPropertyAssignmentBefore13.kt");
+        }
+
+        @Test
+        @TestMetadata("rangeVariableAssignment13.kt")
+        public void testRangeVariableAssignment13() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/forInArrayLoop/rangeVariableAssignment13.kt");
+        }
+
+        @Test
+        @TestMetadata("rangeVariableAssignmentBefore13.kt")
+        public void testRangeVariableAssignmentBefore13() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/forInArrayLoop/rangeVariableAssignmentBefore13.kt");
+        }
+    }
+
+    @Nested
+    @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/functionLiterals")
+    @TestDataPath("$PROJECT_ROOT")
+    public class FunctionLiterals {
+        @Test
+        public void testAllFilesPresentInFunctionLiterals() throws Exception {
+            KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/functionLiterals"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+        }
+
+        @Test
+        @TestMetadata("pseudocodeMemoryOverhead.kt")
+        public void testPseudocodeMemoryOverhead() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/functionLiterals/pseudocodeMemoryOverhead.kt");
+        }
+    }
+
+    @Nested
+    @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/inference")
+    @TestDataPath("$PROJECT_ROOT")
+    public class Inference {
+        @Test
+        public void testAllFilesPresentInInference() throws Exception {
+            KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/inference"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+        }
+
+        @Test
+        @TestMetadata("arrayConstructor.kt")
+        public void testArrayConstructor() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/inference/arrayConstructor.kt");
+        }
+
+        @Test
+        @TestMetadata("callableReferenceOnParameter.kt")
+        public void testCallableReferenceOnParameter() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/inference/callableReferenceOnParameter.kt");
+        }
+
+        @Test
+        @TestMetadata("integerLiterals.kt")
+        public void testIntegerLiterals() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/inference/integerLiterals.kt");
+        }
+
+        @Test
+        @TestMetadata("intersectDfiTypesBeforeCapturing.kt")
+        public void testIntersectDfiTypesBeforeCapturing() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/inference/intersectDfiTypesBeforeCapturing.kt");
+        }
+
+        @Test
+        @TestMetadata("intersectionInputType.kt")
+        public void testIntersectionInputType() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/inference/intersectionInputType.kt");
+        }
+
+        @Test
+        @TestMetadata("kt11266.kt")
+        public void testKt11266() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/inference/kt11266.kt");
+        }
+
+        @Test
+        @TestMetadata("kt12008.kt")
+        public void testKt12008() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/inference/kt12008.kt");
+        }
+
+        @Test
+        @TestMetadata("kt1558.kt")
+        public void testKt1558() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/inference/kt1558.kt");
+        }
+
+        @Test
+        @TestMetadata("kt27772.kt")
+        public void testKt27772() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/inference/kt27772.kt");
+        }
+
+        @Test
+        @TestMetadata("kt30292.kt")
+        public void testKt30292() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/inference/kt30292.kt");
+        }
+
+        @Test
+        @TestMetadata("kt32345.kt")
+        public void testKt32345() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/inference/kt32345.kt");
+        }
+
+        @Test
+        @TestMetadata("kt3458.kt")
+        public void testKt3458() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/inference/kt3458.kt");
+        }
+
+        @Test
+        @TestMetadata("kt35847.kt")
+        public void testKt35847() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/inference/kt35847.kt");
+        }
+
+        @Test
+        @TestMetadata("kt36249.kt")
+        public void testKt36249() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/inference/kt36249.kt");
+        }
+
+        @Test
+        @TestMetadata("kt36951.kt")
+        public void testKt36951() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/inference/kt36951.kt");
+        }
+
+        @Test
+        @TestMetadata("kt37627.kt")
+        public void testKt37627() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/inference/kt37627.kt");
+        }
+
+        @Test
+        @TestMetadata("kt38143.kt")
+        public void testKt38143() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/inference/kt38143.kt");
+        }
+
+        @Test
+        @TestMetadata("kt38737.kt")
+        public void testKt38737() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/inference/kt38737.kt");
+        }
+
+        @Test
+        @TestMetadata("kt38801.kt")
+        public void testKt38801() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/inference/kt38801.kt");
+        }
+
+        @Test
+        @TestMetadata("kt42620.kt")
+        public void testKt42620() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/inference/kt42620.kt");
+        }
+
+        @Test
+        @TestMetadata("kt4975.kt")
+        public void testKt4975() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/inference/kt4975.kt");
+        }
+
+        @Test
+        @TestMetadata("recursiveFlexibleAssertions.kt")
+        public void testRecursiveFlexibleAssertions() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/inference/recursiveFlexibleAssertions.kt");
+        }
+
+        @Nested
+        @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/inference/annotationsForResolve")
+        @TestDataPath("$PROJECT_ROOT")
+        public class AnnotationsForResolve {
+            @Test
+            public void testAllFilesPresentInAnnotationsForResolve() throws Exception {
+                KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/inference/annotationsForResolve"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+            }
+
+            @Test
+            @TestMetadata("checkLowPriorityIsResolvedSuccessfully.kt")
+            public void testCheckLowPriorityIsResolvedSuccessfully() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/inference/annotationsForResolve/checkLowPriorityIsResolvedSuccessfully.kt");
+            }
+
+            @Test
+            @TestMetadata("exactAnnotation.kt")
+            public void testExactAnnotation() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/inference/annotationsForResolve/exactAnnotation.kt");
+            }
+
+            @Test
+            @TestMetadata("exactAnnotationWithUpperBoundConstraint.kt")
+            public void testExactAnnotationWithUpperBoundConstraint() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/inference/annotationsForResolve/exactAnnotationWithUpperBoundConstraint.kt");
+            }
+
+            @Test
+            @TestMetadata("explicitTypeArgumentAsValidInputType.kt")
+            public void testExplicitTypeArgumentAsValidInputType() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/inference/annotationsForResolve/explicitTypeArgumentAsValidInputType.kt");
+            }
+
+            @Test
+            @TestMetadata("internalAnnotationsOnTypes.kt")
+            public void testInternalAnnotationsOnTypes() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/inference/annotationsForResolve/internalAnnotationsOnTypes.kt");
+            }
+
+            @Test
+            @TestMetadata("kt26698.kt")
+            public void testKt26698() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/inference/annotationsForResolve/kt26698.kt");
+            }
+
+            @Test
+            @TestMetadata("kt29307.kt")
+            public void testKt29307() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/inference/annotationsForResolve/kt29307.kt");
+            }
+
+            @Test
+            @TestMetadata("kt35210.kt")
+            public void testKt35210() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/inference/annotationsForResolve/kt35210.kt");
+            }
+
+            @Test
+            @TestMetadata("noInferAndLowPriority.kt")
+            public void testNoInferAndLowPriority() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/inference/annotationsForResolve/noInferAndLowPriority.kt");
+            }
+
+            @Test
+            @TestMetadata("noInferAnnotation.kt")
+            public void testNoInferAnnotation() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/inference/annotationsForResolve/noInferAnnotation.kt");
+            }
+
+            @Test
+            @TestMetadata("notNullAnnotation.kt")
+            public void testNotNullAnnotation() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/inference/annotationsForResolve/notNullAnnotation.kt");
+            }
+
+            @Test
+            @TestMetadata("onlyInputTypeAndJava.kt")
+            public void testOnlyInputTypeAndJava() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/inference/annotationsForResolve/onlyInputTypeAndJava.kt");
+            }
+
+            @Test
+            @TestMetadata("onlyInputTypeRecursiveBoundAndProjections.kt")
+            public void testOnlyInputTypeRecursiveBoundAndProjections() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/inference/annotationsForResolve/onlyInputTypeRecursiveBoundAndProjections.kt");
+            }
+
+            @Test
+            @TestMetadata("onlyInputTypes.kt")
+            public void testOnlyInputTypes() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/inference/annotationsForResolve/onlyInputTypes.kt");
+            }
+
+            @Test
+            @TestMetadata("onlyInputTypesAndLowPriority.kt")
+            public void testOnlyInputTypesAndLowPriority() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/inference/annotationsForResolve/onlyInputTypesAndLowPriority.kt");
+            }
+
+            @Test
+            @TestMetadata("onlyInputTypesAndTopLevelCapturedTypes.kt")
+            public void testOnlyInputTypesAndTopLevelCapturedTypes() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/inference/annotationsForResolve/onlyInputTypesAndTopLevelCapturedTypes.kt");
+            }
+
+            @Test
+            @TestMetadata("onlyInputTypesAnnotationWithPlatformTypes.kt")
+            public void testOnlyInputTypesAnnotationWithPlatformTypes() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/inference/annotationsForResolve/onlyInputTypesAnnotationWithPlatformTypes.kt");
+            }
+
+            @Test
+            @TestMetadata("onlyInputTypesCaptured.kt")
+            public void testOnlyInputTypesCaptured() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/inference/annotationsForResolve/onlyInputTypesCaptured.kt");
+            }
+
+            @Test
+            @TestMetadata("onlyInputTypesCommonConstraintSystem.kt")
+            public void testOnlyInputTypesCommonConstraintSystem() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/inference/annotationsForResolve/onlyInputTypesCommonConstraintSystem.kt");
+            }
+
+            @Test
+            @TestMetadata("onlyInputTypesUpperBound.kt")
+            public void testOnlyInputTypesUpperBound() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/inference/annotationsForResolve/onlyInputTypesUpperBound.kt");
+            }
+
+            @Test
+            @TestMetadata("onlyInputTypesWarning.kt")
+            public void testOnlyInputTypesWarning() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/inference/annotationsForResolve/onlyInputTypesWarning.kt");
+            }
+
+            @Test
+            @TestMetadata("onlyInputTypesWithVarargs.kt")
+            public void testOnlyInputTypesWithVarargs() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/inference/annotationsForResolve/onlyInputTypesWithVarargs.kt");
+            }
+
+            @Test
+            @TestMetadata("propagationOfNoInferAnnotation.kt")
+            public void testPropagationOfNoInferAnnotation() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/inference/annotationsForResolve/propagationOfNoInferAnnotation.kt");
+            }
+
+            @Test
+            @TestMetadata("resolveWithOnlyInputTypesAnnotation.kt")
+            public void testResolveWithOnlyInputTypesAnnotation() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/inference/annotationsForResolve/resolveWithOnlyInputTypesAnnotation.kt");
+            }
+        }
+
+        @Nested
+        @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/inference/completion")
+        @TestDataPath("$PROJECT_ROOT")
+        public class Completion {
+            @Test
+            public void testAllFilesPresentInCompletion() throws Exception {
+                KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/inference/completion"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+            }
+
+            @Nested
+            @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/inference/completion/postponedArgumentsAnalysis")
+            @TestDataPath("$PROJECT_ROOT")
+            public class PostponedArgumentsAnalysis {
+                @Test
+                public void testAllFilesPresentInPostponedArgumentsAnalysis() throws Exception {
+                    KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/inference/completion/postponedArgumentsAnalysis"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+                }
+
+                @Test
+                @TestMetadata("callableReferences.kt")
+                public void testCallableReferences() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/inference/completion/postponedArgumentsAnalysis/callableReferences.kt");
+                }
+
+                @Test
+                @TestMetadata("complexInterdependentInputOutputTypes.kt")
+                public void testComplexInterdependentInputOutputTypes() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/inference/completion/postponedArgumentsAnalysis/complexInterdependentInputOutputTypes.kt");
+                }
+
+                @Test
+                @TestMetadata("deepLambdas.kt")
+                public void testDeepLambdas() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/inference/completion/postponedArgumentsAnalysis/deepLambdas.kt");
+                }
+
+                @Test
+                @TestMetadata("fixIndependentVariables.kt")
+                public void testFixIndependentVariables() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/inference/completion/postponedArgumentsAnalysis/fixIndependentVariables.kt");
+                }
+
+                @Test
+                @TestMetadata("fixInputTypeToMoreSpecificType.kt")
+                public void testFixInputTypeToMoreSpecificType() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/inference/completion/postponedArgumentsAnalysis/fixInputTypeToMoreSpecificType.kt");
+                }
+
+                @Test
+                @TestMetadata("fixReceiverToMoreSpecificType.kt")
+                public void testFixReceiverToMoreSpecificType() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/inference/completion/postponedArgumentsAnalysis/fixReceiverToMoreSpecificType.kt");
+                }
+
+                @Test
+                @TestMetadata("kt38799.kt")
+                public void testKt38799() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/inference/completion/postponedArgumentsAnalysis/kt38799.kt");
+                }
+
+                @Test
+                @TestMetadata("manyArguments.kt")
+                public void testManyArguments() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/inference/completion/postponedArgumentsAnalysis/manyArguments.kt");
+                }
+
+                @Test
+                @TestMetadata("moreSpecificOutputType.kt")
+                public void testMoreSpecificOutputType() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/inference/completion/postponedArgumentsAnalysis/moreSpecificOutputType.kt");
+                }
+
+                @Test
+                @TestMetadata("rerunStagesAfterFixationInFullMode.kt")
+                public void testRerunStagesAfterFixationInFullMode() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/inference/completion/postponedArgumentsAnalysis/rerunStagesAfterFixationInFullMode.kt");
+                }
+
+                @Test
+                @TestMetadata("rerunStagesAfterFixationInPartialMode.kt")
+                public void testRerunStagesAfterFixationInPartialMode() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/inference/completion/postponedArgumentsAnalysis/rerunStagesAfterFixationInPartialMode.kt");
+                }
+
+                @Test
+                @TestMetadata("suspendFunctions.kt")
+                public void testSuspendFunctions() throws Exception {
+                    runTest("compiler/testData/diagnostics/testsWithStdLib/inference/completion/postponedArgumentsAnalysis/suspendFunctions.kt");
+                }
+
+                @Nested
+                @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/inference/completion/postponedArgumentsAnalysis/performance")
+                @TestDataPath("$PROJECT_ROOT")
+                public class Performance {
+                    @Test
+                    public void testAllFilesPresentInPerformance() throws Exception {
+                        KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/inference/completion/postponedArgumentsAnalysis/performance"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+                    }
+
+                    @Test
+                    @TestMetadata("reuseBuiltFunctionalTypesForIdLambdas.kt")
+                    public void testReuseBuiltFunctionalTypesForIdLambdas() throws Exception {
+                        runTest("compiler/testData/diagnostics/testsWithStdLib/inference/completion/postponedArgumentsAnalysis/performance/reuseBuiltFunctionalTypesForIdLambdas.kt");
+                    }
+
+                    @Test
+                    @TestMetadata("reuseBuiltFunctionalTypesForLambdas.kt")
+                    public void testReuseBuiltFunctionalTypesForLambdas() throws Exception {
+                        runTest("compiler/testData/diagnostics/testsWithStdLib/inference/completion/postponedArgumentsAnalysis/performance/reuseBuiltFunctionalTypesForLambdas.kt");
+                    }
+
+                    @Test
+                    @TestMetadata("reuseBuiltFunctionalTypesForPairOfLambdas.kt")
+                    public void testReuseBuiltFunctionalTypesForPairOfLambdas() throws Exception {
+                        runTest("compiler/testData/diagnostics/testsWithStdLib/inference/completion/postponedArgumentsAnalysis/performance/reuseBuiltFunctionalTypesForPairOfLambdas.kt");
+                    }
+
+                    @Test
+                    @TestMetadata("reuseBuiltFunctionalTypesForPairsOfDeepLambdas.kt")
+                    public void testReuseBuiltFunctionalTypesForPairsOfDeepLambdas() throws Exception {
+                        runTest("compiler/testData/diagnostics/testsWithStdLib/inference/completion/postponedArgumentsAnalysis/performance/reuseBuiltFunctionalTypesForPairsOfDeepLambdas.kt");
+                    }
+
+                    @Test
+                    @TestMetadata("reuseBuiltFunctionalTypesForPairsOfDeepMixedLambdas.kt")
+                    public void testReuseBuiltFunctionalTypesForPairsOfDeepMixedLambdas() throws Exception {
+                        runTest("compiler/testData/diagnostics/testsWithStdLib/inference/completion/postponedArgumentsAnalysis/performance/reuseBuiltFunctionalTypesForPairsOfDeepMixedLambdas.kt");
+                    }
+
+                    @Test
+                    @TestMetadata("reuseBuiltFunctionalTypesForPairsOfIdLambdas.kt")
+                    public void testReuseBuiltFunctionalTypesForPairsOfIdLambdas() throws Exception {
+                        runTest("compiler/testData/diagnostics/testsWithStdLib/inference/completion/postponedArgumentsAnalysis/performance/reuseBuiltFunctionalTypesForPairsOfIdLambdas.kt");
+                    }
+                }
+            }
+        }
+
+        @Nested
+        @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/inference/delegates")
+        @TestDataPath("$PROJECT_ROOT")
+        public class Delegates {
+            @Test
+            public void testAllFilesPresentInDelegates() throws Exception {
+                KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/inference/delegates"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+            }
+
+            @Test
+            @TestMetadata("kt31219.kt")
+            public void testKt31219() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/inference/delegates/kt31219.kt");
+            }
+
+            @Test
+            @TestMetadata("kt31679.kt")
+            public void testKt31679() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/inference/delegates/kt31679.kt");
+            }
+
+            @Test
+            @TestMetadata("kt32249.kt")
+            public void testKt32249() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/inference/delegates/kt32249.kt");
+            }
+        }
+
+        @Nested
+        @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/inference/nothingType")
+        @TestDataPath("$PROJECT_ROOT")
+        public class NothingType {
+            @Test
+            public void testAllFilesPresentInNothingType() throws Exception {
+                KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/inference/nothingType"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+            }
+
+            @Test
+            @TestMetadata("dontInferToNullableNothingInDelegates.kt")
+            public void testDontInferToNullableNothingInDelegates() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/inference/nothingType/dontInferToNullableNothingInDelegates.kt");
+            }
+
+            @Test
+            @TestMetadata("dontSpreadWarningToNotReturningNothingSubResolvedAtoms.kt")
+            public void testDontSpreadWarningToNotReturningNothingSubResolvedAtoms() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/inference/nothingType/dontSpreadWarningToNotReturningNothingSubResolvedAtoms.kt");
+            }
+        }
+
+        @Nested
+        @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/inference/performance")
+        @TestDataPath("$PROJECT_ROOT")
+        public class Performance {
+            @Test
+            public void testAllFilesPresentInPerformance() throws Exception {
+                KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/inference/performance"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+            }
+
+            @Test
+            @TestMetadata("kt41644.kt")
+            public void testKt41644() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/inference/performance/kt41644.kt");
+            }
+
+            @Test
+            @TestMetadata("kt41741.kt")
+            public void testKt41741() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/inference/performance/kt41741.kt");
+            }
+
+            @Test
+            @TestMetadata("kt42195.kt")
+            public void testKt42195() throws Exception {
+                runTest("compiler/testData/diagnostics/testsWithStdLib/inference/performance/kt42195.kt");
+            }
+        }
+    }
+
+    @Nested
+    @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/inline")
+    @TestDataPath("$PROJECT_ROOT")
+    public class Inline {
+        @Test
+        public void testAllFilesPresentInInline() throws Exception {
+            KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/inline"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+        }
+
+        @Test
+        @TestMetadata("inlineConstructorOfArray.kt")
+        public void testInlineConstructorOfArray() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/inline/inlineConstructorOfArray.kt");
+        }
+
+        @Test
+        @TestMetadata("inlineOnlySuppressesNothingToInline.kt")
+        public void testInlineOnlySuppressesNothingToInline() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/inline/inlineOnlySuppressesNothingToInline.kt");
+        }
+
+        @Test
+        @TestMetadata("synchronizedOnInline.kt")
+        public void testSynchronizedOnInline() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/inline/synchronizedOnInline.kt");
+        }
+    }
+
+    @Nested
+    @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/java")
+    @TestDataPath("$PROJECT_ROOT")
+    public class Java {
+        @Test
+        public void testAllFilesPresentInJava() throws Exception {
+            KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/java"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+        }
+
+        @Test
+        @TestMetadata("checkEnhancedUpperBounds.kt")
+        public void testCheckEnhancedUpperBounds() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/java/checkEnhancedUpperBounds.kt");
+        }
+
+        @Test
+        @TestMetadata("checkEnhancedUpperBoundsWithEnabledImprovements.kt")
+        public void testCheckEnhancedUpperBoundsWithEnabledImprovements() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/java/checkEnhancedUpperBoundsWithEnabledImprovements.kt");
+        }
+
+        @Test
+        @TestMetadata("concurrentHashMapContains.kt")
+        public void testConcurrentHashMapContains() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/java/concurrentHashMapContains.kt");
+        }
+
+        @Test
+        @TestMetadata("concurrentHashMapContainsError.kt")
+        public void testConcurrentHashMapContainsError() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/java/concurrentHashMapContainsError.kt");
+        }
+
+        @Test
+        @TestMetadata("functionN.kt")
+        public void testFunctionN() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/java/functionN.kt");
+        }
+
+        @Test
+        @TestMetadata("inheritedFunctionN.kt")
+        public void testInheritedFunctionN() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/java/inheritedFunctionN.kt");
+        }
+
+        @Test
+        @TestMetadata("patternCompileCallableReference.kt")
+        public void testPatternCompileCallableReference() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/java/patternCompileCallableReference.kt");
+        }
+    }
+
+    @Nested
+    @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/kt7585")
+    @TestDataPath("$PROJECT_ROOT")
+    public class Kt7585 {
+        @Test
+        public void testAllFilesPresentInKt7585() throws Exception {
+            KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/kt7585"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+        }
+
+        @Test
+        @TestMetadata("delegate.kt")
+        public void testDelegate() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/kt7585/delegate.kt");
+        }
+    }
+
+    @Nested
+    @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/lateinit")
+    @TestDataPath("$PROJECT_ROOT")
+    public class Lateinit {
+        @Test
+        public void testAllFilesPresentInLateinit() throws Exception {
+            KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/lateinit"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+        }
+
+        @Test
+        @TestMetadata("isInitialized.kt")
+        public void testIsInitialized() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/lateinit/isInitialized.kt");
+        }
+    }
+
+    @Nested
+    @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/multiplatform")
+    @TestDataPath("$PROJECT_ROOT")
+    public class Multiplatform {
+        @Test
+        public void testAllFilesPresentInMultiplatform() throws Exception {
+            KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/multiplatform"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+        }
+
+        @Test
+        @TestMetadata("jvmOverloads.kt")
+        public void testJvmOverloads() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/multiplatform/jvmOverloads.kt");
+        }
+    }
+
+    @Nested
+    @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/native")
+    @TestDataPath("$PROJECT_ROOT")
+    public class Native {
+        @Test
+        @TestMetadata("abstract.kt")
+        public void testAbstract() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/native/abstract.kt");
+        }
+
+        @Test
+        public void testAllFilesPresentInNative() throws Exception {
+            KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/native"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+        }
+
+        @Test
+        @TestMetadata("body.kt")
+        public void testBody() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/native/body.kt");
+        }
+
+        @Test
+        @TestMetadata("constructor.kt")
+        public void testConstructor() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/native/constructor.kt");
+        }
+
+        @Test
+        @TestMetadata("inline.kt")
+        public void testInline() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/native/inline.kt");
+        }
+
+        @Test
+        @TestMetadata("noBody.kt")
+        public void testNoBody() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/native/noBody.kt");
+        }
+
+        @Test
+        @TestMetadata("nonFunction.kt")
+        public void testNonFunction() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/native/nonFunction.kt");
+        }
+
+        @Test
+        @TestMetadata("override.kt")
+        public void testOverride() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/native/override.kt");
+        }
+
+        @Test
+        @TestMetadata("reified.kt")
+        public void testReified() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/native/reified.kt");
+        }
+
+        @Test
+        @TestMetadata("trait.kt")
+        public void testTrait() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/native/trait.kt");
+        }
+    }
+
+    @Nested
+    @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/purelyImplementedCollection")
+    @TestDataPath("$PROJECT_ROOT")
+    public class PurelyImplementedCollection {
+        @Test
+        public void testAllFilesPresentInPurelyImplementedCollection() throws Exception {
+            KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/purelyImplementedCollection"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+        }
+
+        @Test
+        @TestMetadata("arrayList.kt")
+        public void testArrayList() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/purelyImplementedCollection/arrayList.kt");
+        }
+
+        @Test
+        @TestMetadata("arrayListNullable.kt")
+        public void testArrayListNullable() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/purelyImplementedCollection/arrayListNullable.kt");
+        }
+
+        @Test
+        @TestMetadata("customClassMutableCollection.kt")
+        public void testCustomClassMutableCollection() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/purelyImplementedCollection/customClassMutableCollection.kt");
+        }
+
+        @Test
+        @TestMetadata("customClassMutableList.kt")
+        public void testCustomClassMutableList() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/purelyImplementedCollection/customClassMutableList.kt");
+        }
+
+        @Test
+        @TestMetadata("invalidFqName.kt")
+        public void testInvalidFqName() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/purelyImplementedCollection/invalidFqName.kt");
+        }
+
+        @Test
+        @TestMetadata("maps.kt")
+        public void testMaps() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/purelyImplementedCollection/maps.kt");
+        }
+
+        @Test
+        @TestMetadata("mapsWithNullableKey.kt")
+        public void testMapsWithNullableKey() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/purelyImplementedCollection/mapsWithNullableKey.kt");
+        }
+
+        @Test
+        @TestMetadata("mapsWithNullableValues.kt")
+        public void testMapsWithNullableValues() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/purelyImplementedCollection/mapsWithNullableValues.kt");
+        }
+
+        @Test
+        @TestMetadata("sets.kt")
+        public void testSets() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/purelyImplementedCollection/sets.kt");
+        }
+
+        @Test
+        @TestMetadata("wrongTypeParametersCount.kt")
+        public void testWrongTypeParametersCount() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/purelyImplementedCollection/wrongTypeParametersCount.kt");
+        }
+    }
+
+    @Nested
+    @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/reflection")
+    @TestDataPath("$PROJECT_ROOT")
+    public class Reflection {
+        @Test
+        public void testAllFilesPresentInReflection() throws Exception {
+            KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/reflection"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+        }
+
+        @Test
+        @TestMetadata("classArrayInAnnotation.kt")
+        public void testClassArrayInAnnotation() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/reflection/classArrayInAnnotation.kt");
+        }
+
+        @Test
+        @TestMetadata("noReflectionInClassPath.kt")
+        public void testNoReflectionInClassPath() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/reflection/noReflectionInClassPath.kt");
+        }
+    }
+
+    @Nested
+    @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/regression")
+    @TestDataPath("$PROJECT_ROOT")
+    public class Regression {
+        @Test
+        public void testAllFilesPresentInRegression() throws Exception {
+            KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/regression"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+        }
+
+        @Test
+        @TestMetadata("ea63992.kt")
+        public void testEa63992() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/regression/ea63992.kt");
+        }
+
+        @Test
+        @TestMetadata("ea65206.kt")
+        public void testEa65206() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/regression/ea65206.kt");
+        }
+
+        @Test
+        @TestMetadata("ea66827_dataClassWrongToString.kt")
+        public void testEa66827_dataClassWrongToString() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/regression/ea66827_dataClassWrongToString.kt");
+        }
+
+        @Test
+        @TestMetadata("ea70485_functionTypeInheritor.kt")
+        public void testEa70485_functionTypeInheritor() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/regression/ea70485_functionTypeInheritor.kt");
+        }
+
+        @Test
+        @TestMetadata("ea70880_illegalJvmName.kt")
+        public void testEa70880_illegalJvmName() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/regression/ea70880_illegalJvmName.kt");
+        }
+
+        @Test
+        @TestMetadata("kt10001.kt")
+        public void testKt10001() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/regression/kt10001.kt");
+        }
+
+        @Test
+        @TestMetadata("kt2082.kt")
+        public void testKt2082() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/regression/kt2082.kt");
+        }
+
+        @Test
+        @TestMetadata("kt26806.kt")
+        public void testKt26806() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/regression/kt26806.kt");
+        }
+
+        @Test
+        @TestMetadata("kt34391.kt")
+        public void testKt34391() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/regression/kt34391.kt");
+        }
+
+        @Test
+        @TestMetadata("kt37554.kt")
+        public void testKt37554() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/regression/kt37554.kt");
+        }
+
+        @Test
+        @TestMetadata("kt37706.kt")
+        public void testKt37706() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/regression/kt37706.kt");
+        }
+
+        @Test
+        @TestMetadata("kt37727.kt")
+        public void testKt37727() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/regression/kt37727.kt");
+        }
+
+        @Test
+        @TestMetadata("kt37735.kt")
+        public void testKt37735() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/regression/kt37735.kt");
+        }
+
+        @Test
+        @TestMetadata("kt9820_javaFunctionTypeInheritor.kt")
+        public void testKt9820_javaFunctionTypeInheritor() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/regression/kt9820_javaFunctionTypeInheritor.kt");
+        }
+
+        @Test
+        @TestMetadata("kt-37497.kt")
+        public void testKt_37497() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/regression/kt-37497.kt");
+        }
+    }
+
+    @Nested
+    @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/reified")
+    @TestDataPath("$PROJECT_ROOT")
+    public class Reified {
+        @Test
+        public void testAllFilesPresentInReified() throws Exception {
+            KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/reified"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+        }
+
+        @Test
+        @TestMetadata("arrayConstruction.kt")
+        public void testArrayConstruction() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/reified/arrayConstruction.kt");
+        }
+
+        @Test
+        @TestMetadata("arrayOfNullsReified.kt")
+        public void testArrayOfNullsReified() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/reified/arrayOfNullsReified.kt");
+        }
+
+        @Test
+        @TestMetadata("kt11881.kt")
+        public void testKt11881() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/reified/kt11881.kt");
+        }
+
+        @Test
+        @TestMetadata("nonCallableReiefied.kt")
+        public void testNonCallableReiefied() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/reified/nonCallableReiefied.kt");
+        }
+
+        @Test
+        @TestMetadata("reifiedNothingSubstitution.kt")
+        public void testReifiedNothingSubstitution() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/reified/reifiedNothingSubstitution.kt");
+        }
+    }
+
+    @Nested
+    @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/resolve")
+    @TestDataPath("$PROJECT_ROOT")
+    public class Resolve {
+        @Test
+        public void testAllFilesPresentInResolve() throws Exception {
+            KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/resolve"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+        }
+
+        @Test
+        @TestMetadata("hidesMembers.kt")
+        public void testHidesMembers() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/resolve/hidesMembers.kt");
+        }
+
+        @Test
+        @TestMetadata("hidesMembers2.kt")
+        public void testHidesMembers2() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/resolve/hidesMembers2.kt");
+        }
+
+        @Test
+        @TestMetadata("javaPackageMembers.kt")
+        public void testJavaPackageMembers() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/resolve/javaPackageMembers.kt");
+        }
+
+        @Test
+        @TestMetadata("javaStaticMembers.kt")
+        public void testJavaStaticMembers() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/resolve/javaStaticMembers.kt");
+        }
+
+        @Test
+        @TestMetadata("kt10103.kt")
+        public void testKt10103() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/resolve/kt10103.kt");
+        }
+
+        @Test
+        @TestMetadata("kt10732a.kt")
+        public void testKt10732a() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/resolve/kt10732a.kt");
+        }
+
+        @Test
+        @TestMetadata("kt4711.kt")
+        public void testKt4711() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/resolve/kt4711.kt");
+        }
+
+        @Test
+        @TestMetadata("lambdaArgumentOfInapplicableCall.kt")
+        public void testLambdaArgumentOfInapplicableCall() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/resolve/lambdaArgumentOfInapplicableCall.kt");
+        }
+
+        @Test
+        @TestMetadata("samAgainstFunctionalType.kt")
+        public void testSamAgainstFunctionalType() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/resolve/samAgainstFunctionalType.kt");
+        }
+
+        @Test
+        @TestMetadata("samConstructorVsFun.kt")
+        public void testSamConstructorVsFun() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/resolve/samConstructorVsFun.kt");
+        }
+
+        @Test
+        @TestMetadata("samOverloadsWithGenerics.kt")
+        public void testSamOverloadsWithGenerics() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/resolve/samOverloadsWithGenerics.kt");
+        }
+
+        @Test
+        @TestMetadata("samOverloadsWithGenericsWithoutRefinedSams.kt")
+        public void testSamOverloadsWithGenericsWithoutRefinedSams() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/resolve/samOverloadsWithGenericsWithoutRefinedSams.kt");
+        }
+
+        @Test
+        @TestMetadata("samOverloadsWithKtFunction.kt")
+        public void testSamOverloadsWithKtFunction() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/resolve/samOverloadsWithKtFunction.kt");
+        }
+
+        @Test
+        @TestMetadata("samOverloadsWithKtFunctionWithoutRefinedSams.kt")
+        public void testSamOverloadsWithKtFunctionWithoutRefinedSams() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/resolve/samOverloadsWithKtFunctionWithoutRefinedSams.kt");
+        }
+
+        @Test
+        @TestMetadata("sameNameClassesFromSupertypes.kt")
+        public void testSameNameClassesFromSupertypes() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/resolve/sameNameClassesFromSupertypes.kt");
+        }
+    }
+
+    @Nested
+    @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/smartcasts")
+    @TestDataPath("$PROJECT_ROOT")
+    public class Smartcasts {
+        @Test
+        public void testAllFilesPresentInSmartcasts() throws Exception {
+            KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/smartcasts"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+        }
+
+        @Test
+        @TestMetadata("forEachSafe.kt")
+        public void testForEachSafe() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/smartcasts/forEachSafe.kt");
+        }
+
+        @Test
+        @TestMetadata("forEachUnsafe.kt")
+        public void testForEachUnsafe() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/smartcasts/forEachUnsafe.kt");
+        }
+
+        @Test
+        @TestMetadata("kt10463.kt")
+        public void testKt10463() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/smartcasts/kt10463.kt");
+        }
+
+        @Test
+        @TestMetadata("lambdaInCallArgs.kt")
+        public void testLambdaInCallArgs() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/smartcasts/lambdaInCallArgs.kt");
+        }
+
+        @Test
+        @TestMetadata("lazyDeclaresAndModifies.kt")
+        public void testLazyDeclaresAndModifies() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/smartcasts/lazyDeclaresAndModifies.kt");
+        }
+
+        @Test
+        @TestMetadata("letAlwaysChangesToNotNull.kt")
+        public void testLetAlwaysChangesToNotNull() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/smartcasts/letAlwaysChangesToNotNull.kt");
+        }
+
+        @Test
+        @TestMetadata("letChangesToNotNull.kt")
+        public void testLetChangesToNotNull() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/smartcasts/letChangesToNotNull.kt");
+        }
+
+        @Test
+        @TestMetadata("letChangesToNull.kt")
+        public void testLetChangesToNull() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/smartcasts/letChangesToNull.kt");
+        }
+
+        @Test
+        @TestMetadata("letChangesToNullComplex.kt")
+        public void testLetChangesToNullComplex() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/smartcasts/letChangesToNullComplex.kt");
+        }
+
+        @Test
+        @TestMetadata("letMergeNotNull.kt")
+        public void testLetMergeNotNull() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/smartcasts/letMergeNotNull.kt");
+        }
+
+        @Test
+        @TestMetadata("letStable.kt")
+        public void testLetStable() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/smartcasts/letStable.kt");
+        }
+
+        @Test
+        @TestMetadata("letUsesOwnReceiver.kt")
+        public void testLetUsesOwnReceiver() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/smartcasts/letUsesOwnReceiver.kt");
+        }
+
+        @Test
+        @TestMetadata("listOfGeneric.kt")
+        public void testListOfGeneric() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/smartcasts/listOfGeneric.kt");
+        }
+
+        @Test
+        @TestMetadata("withChangesToNull.kt")
+        public void testWithChangesToNull() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/smartcasts/withChangesToNull.kt");
+        }
+    }
+
+    @Nested
+    @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/sourceCompatibility")
+    @TestDataPath("$PROJECT_ROOT")
+    public class SourceCompatibility {
+        @Test
+        public void testAllFilesPresentInSourceCompatibility() throws Exception {
+            KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/sourceCompatibility"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+        }
+
+        @Test
+        @TestMetadata("noDefaultImportOfKotlinComparisons.kt")
+        public void testNoDefaultImportOfKotlinComparisons() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/sourceCompatibility/noDefaultImportOfKotlinComparisons.kt");
+        }
+    }
+
+    @Nested
+    @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/targetedBuiltIns")
+    @TestDataPath("$PROJECT_ROOT")
+    public class TargetedBuiltIns {
+        @Test
+        public void testAllFilesPresentInTargetedBuiltIns() throws Exception {
+            KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/targetedBuiltIns"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+        }
+
+        @Test
+        @TestMetadata("blackListed.kt")
+        public void testBlackListed() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/targetedBuiltIns/blackListed.kt");
+        }
+
+        @Test
+        @TestMetadata("unsupportedFeature.kt")
+        public void testUnsupportedFeature() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/targetedBuiltIns/unsupportedFeature.kt");
+        }
+    }
+
+    @Nested
+    @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/trailingComma")
+    @TestDataPath("$PROJECT_ROOT")
+    public class TrailingComma {
+        @Test
+        public void testAllFilesPresentInTrailingComma() throws Exception {
+            KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/trailingComma"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+        }
+
+        @Test
+        @TestMetadata("multiVariableDeclarationWithDisabledFeature.kt")
+        public void testMultiVariableDeclarationWithDisabledFeature() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/trailingComma/multiVariableDeclarationWithDisabledFeature.kt");
+        }
+
+        @Test
+        @TestMetadata("multiVariableDeclarationWithEnabledFeature.kt")
+        public void testMultiVariableDeclarationWithEnabledFeature() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/trailingComma/multiVariableDeclarationWithEnabledFeature.kt");
+        }
+
+        @Test
+        @TestMetadata("noDisambiguation.kt")
+        public void testNoDisambiguation() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/trailingComma/noDisambiguation.kt");
+        }
+
+        @Test
+        @TestMetadata("typeArgumentsWithDisabledFeature.kt")
+        public void testTypeArgumentsWithDisabledFeature() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/trailingComma/typeArgumentsWithDisabledFeature.kt");
+        }
+
+        @Test
+        @TestMetadata("typeArgumentsWithEnabledFeature.kt")
+        public void testTypeArgumentsWithEnabledFeature() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/trailingComma/typeArgumentsWithEnabledFeature.kt");
+        }
+
+        @Test
+        @TestMetadata("typeParametersWithDisabledFeature.kt")
+        public void testTypeParametersWithDisabledFeature() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/trailingComma/typeParametersWithDisabledFeature.kt");
+        }
+
+        @Test
+        @TestMetadata("typeParametersWithEnabledFeature.kt")
+        public void testTypeParametersWithEnabledFeature() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/trailingComma/typeParametersWithEnabledFeature.kt");
+        }
+
+        @Test
+        @TestMetadata("valueArgumentsWithDisabledFeature.kt")
+        public void testValueArgumentsWithDisabledFeature() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/trailingComma/valueArgumentsWithDisabledFeature.kt");
+        }
+
+        @Test
+        @TestMetadata("valueArgumentsWithEnabledFeature.kt")
+        public void testValueArgumentsWithEnabledFeature() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/trailingComma/valueArgumentsWithEnabledFeature.kt");
+        }
+
+        @Test
+        @TestMetadata("valueParametersWithDisabledFeature.kt")
+        public void testValueParametersWithDisabledFeature() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/trailingComma/valueParametersWithDisabledFeature.kt");
+        }
+
+        @Test
+        @TestMetadata("valueParametersWithEnabledFeature.kt")
+        public void testValueParametersWithEnabledFeature() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/trailingComma/valueParametersWithEnabledFeature.kt");
+        }
+
+        @Test
+        @TestMetadata("whenEntryWithDisabledFeature.kt")
+        public void testWhenEntryWithDisabledFeature() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/trailingComma/whenEntryWithDisabledFeature.kt");
+        }
+
+        @Test
+        @TestMetadata("whenEntryWithEnabledFeature.kt")
+        public void testWhenEntryWithEnabledFeature() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/trailingComma/whenEntryWithEnabledFeature.kt");
+        }
+    }
+
+    @Nested
+    @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/tryCatch")
+    @TestDataPath("$PROJECT_ROOT")
+    public class TryCatch {
+        @Test
+        public void testAllFilesPresentInTryCatch() throws Exception {
+            KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/tryCatch"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+        }
+
+        @Test
+        @TestMetadata("assignTry.kt")
+        public void testAssignTry() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/tryCatch/assignTry.kt");
+        }
+
+        @Test
+        @TestMetadata("boundedSmartcasts.kt")
+        public void testBoundedSmartcasts() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/tryCatch/boundedSmartcasts.kt");
+        }
+
+        @Test
+        @TestMetadata("catchRedeclaration.kt")
+        public void testCatchRedeclaration() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/tryCatch/catchRedeclaration.kt");
+        }
+
+        @Test
+        @TestMetadata("correctSmartcasts.kt")
+        public void testCorrectSmartcasts() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/tryCatch/correctSmartcasts.kt");
+        }
+
+        @Test
+        @TestMetadata("correctSmartcasts_after.kt")
+        public void testCorrectSmartcasts_after() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/tryCatch/correctSmartcasts_after.kt");
+        }
+
+        @Test
+        @TestMetadata("falseNegativeSmartcasts.kt")
+        public void testFalseNegativeSmartcasts() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/tryCatch/falseNegativeSmartcasts.kt");
+        }
+
+        @Test
+        @TestMetadata("falseNegativeSmartcasts_after.kt")
+        public void testFalseNegativeSmartcasts_after() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/tryCatch/falseNegativeSmartcasts_after.kt");
+        }
+
+        @Test
+        @TestMetadata("falsePositiveSmartcasts.kt")
+        public void testFalsePositiveSmartcasts() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/tryCatch/falsePositiveSmartcasts.kt");
+        }
+
+        @Test
+        @TestMetadata("falsePositiveSmartcasts_after.kt")
+        public void testFalsePositiveSmartcasts_after() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/tryCatch/falsePositiveSmartcasts_after.kt");
+        }
+
+        @Test
+        @TestMetadata("tryExpression.kt")
+        public void testTryExpression() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/tryCatch/tryExpression.kt");
+        }
+    }
+
+    @Nested
+    @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/typealias")
+    @TestDataPath("$PROJECT_ROOT")
+    public class Typealias {
+        @Test
+        public void testAllFilesPresentInTypealias() throws Exception {
+            KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/typealias"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+        }
+
+        @Test
+        @TestMetadata("exceptionTypeAliases.kt")
+        public void testExceptionTypeAliases() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/typealias/exceptionTypeAliases.kt");
+        }
+
+        @Test
+        @TestMetadata("exceptionTypeAliasesInvisibleWithApiVersion1_0.kt")
+        public void testExceptionTypeAliasesInvisibleWithApiVersion1_0() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/typealias/exceptionTypeAliasesInvisibleWithApiVersion1_0.kt");
+        }
+
+        @Test
+        @TestMetadata("exceptionTypeAliasesInvisibleWithoutFeature.kt")
+        public void testExceptionTypeAliasesInvisibleWithoutFeature() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/typealias/exceptionTypeAliasesInvisibleWithoutFeature.kt");
+        }
+
+        @Test
+        @TestMetadata("hashMapTypeAlias.kt")
+        public void testHashMapTypeAlias() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/typealias/hashMapTypeAlias.kt");
+        }
+
+        @Test
+        @TestMetadata("typeAliasSamAdapterConstructors.kt")
+        public void testTypeAliasSamAdapterConstructors() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/typealias/typeAliasSamAdapterConstructors.kt");
+        }
+
+        @Test
+        @TestMetadata("typeAliasSamAdapterConstructors2.kt")
+        public void testTypeAliasSamAdapterConstructors2() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/typealias/typeAliasSamAdapterConstructors2.kt");
+        }
+    }
+
+    @Nested
+    @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/varargs")
+    @TestDataPath("$PROJECT_ROOT")
+    public class Varargs {
+        @Test
+        public void testAllFilesPresentInVarargs() throws Exception {
+            KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/varargs"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+        }
+
+        @Test
+        @TestMetadata("kt3213.kt")
+        public void testKt3213() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/varargs/kt3213.kt");
+        }
+
+        @Test
+        @TestMetadata("kt4172j.kt")
+        public void testKt4172j() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/varargs/kt4172j.kt");
+        }
+
+        @Test
+        @TestMetadata("kt5534.kt")
+        public void testKt5534() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/varargs/kt5534.kt");
+        }
+    }
+
+    @Nested
+    @TestMetadata("compiler/testData/diagnostics/testsWithStdLib/when")
+    @TestDataPath("$PROJECT_ROOT")
+    public class When {
+        @Test
+        public void testAllFilesPresentInWhen() throws Exception {
+            KtTestUtil.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/diagnostics/testsWithStdLib/when"), Pattern.compile("^(.+)\\.kt$"), Pattern.compile("^(.+)\\.fir\\.kts?$"), true);
+        }
+
+        @Test
+        @TestMetadata("kt10192.kt")
+        public void testKt10192() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/when/kt10192.kt");
+        }
+
+        @Test
+        @TestMetadata("kt10807.kt")
+        public void testKt10807() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/when/kt10807.kt");
+        }
+
+        @Test
+        @TestMetadata("noTypeArgumentsInConstructor.kt")
+        public void testNoTypeArgumentsInConstructor() throws Exception {
+            runTest("compiler/testData/diagnostics/testsWithStdLib/when/noTypeArgumentsInConstructor.kt");
+        }
+    }
+}
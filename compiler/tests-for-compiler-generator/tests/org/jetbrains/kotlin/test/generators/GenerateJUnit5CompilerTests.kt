@@ -33,6 +33,10 @@ fun generateJUnit5CompilerTests(args: Array<String>) {
                 model("diagnostics/tests/javac", pattern = "^(.*)\\.kts?$", excludedPattern = excludedFirTestdataPattern)
             }
 
+            testClass<AbstractDiagnosticWithOffHeapMemberProtosTest> {
+                model("diagnostics/testsWithStdLib", excludedPattern = excludedFirTestdataPattern)
+            }
+
             testClass<AbstractDiagnosticsTestWithJsStdLib> {
                 model("diagnostics/testsWithJsStdLib")
             }
@@ -75,6 +79,10 @@ fun generateJUnit5CompilerTests(args: Array<String>) {
                 model("codegen/box")
             }
 
+            testClass<AbstractIrBlackBoxCodegenWithOffHeapMemberProtosTest> {
+                model("codegen/box/compileKotlinAgainstKotlin")
+            }
+
             testClass<AbstractBlackBoxCodegenTest>("BlackBoxModernJdkCodegenTestGenerated") {
                 model("codegen/boxModernJdk")
             }
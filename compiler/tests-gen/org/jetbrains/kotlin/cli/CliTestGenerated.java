@@ -301,6 +301,11 @@ public class CliTestGenerated extends AbstractCliTest {
             runTest("compiler/testData/cli/jvm/fileClassClashMultipleFiles.args");
         }
 
+        @TestMetadata("firDumpProfile.args")
+        public void testFirDumpProfile() throws Exception {
+            runTest("compiler/testData/cli/jvm/firDumpProfile.args");
+        }
+
         @TestMetadata("firError.args")
         public void testFirError() throws Exception {
             runTest("compiler/testData/cli/jvm/firError.args");
@@ -311,6 +316,16 @@ public class CliTestGenerated extends AbstractCliTest {
             runTest("compiler/testData/cli/jvm/firHello.args");
         }
 
+        @TestMetadata("firLightTreeError.args")
+        public void testFirLightTreeError() throws Exception {
+            runTest("compiler/testData/cli/jvm/firLightTreeError.args");
+        }
+
+        @TestMetadata("firLightTreeHello.args")
+        public void testFirLightTreeHello() throws Exception {
+            runTest("compiler/testData/cli/jvm/firLightTreeHello.args");
+        }
+
         @TestMetadata("firMultiplatformCompilationWithError.args")
         public void testFirMultiplatformCompilationWithError() throws Exception {
             runTest("compiler/testData/cli/jvm/firMultiplatformCompilationWithError.args");
@@ -321,6 +336,11 @@ public class CliTestGenerated extends AbstractCliTest {
             runTest("compiler/testData/cli/jvm/firMultiplatformCompilationWithoutErrors.args");
         }
 
+        @TestMetadata("firParallelResolve.args")
+        public void testFirParallelResolve() throws Exception {
+            runTest("compiler/testData/cli/jvm/firParallelResolve.args");
+        }
+
         @TestMetadata("firStdlibDependency.args")
         public void testFirStdlibDependency() throws Exception {
             runTest("compiler/testData/cli/jvm/firStdlibDependency.args");
@@ -706,6 +726,16 @@ public class CliTestGenerated extends AbstractCliTest {
             runTest("compiler/testData/cli/jvm/nullabilityAnnotations.args");
         }
 
+        @TestMetadata("parallelBodyResolve.args")
+        public void testParallelBodyResolve() throws Exception {
+            runTest("compiler/testData/cli/jvm/parallelBodyResolve.args");
+        }
+
+        @TestMetadata("parallelBodyResolveJava.args")
+        public void testParallelBodyResolveJava() throws Exception {
+            runTest("compiler/testData/cli/jvm/parallelBodyResolveJava.args");
+        }
+
         @TestMetadata("pluginSimple.args")
         public void testPluginSimple() throws Exception {
             runTest("compiler/testData/cli/jvm/pluginSimple.args");
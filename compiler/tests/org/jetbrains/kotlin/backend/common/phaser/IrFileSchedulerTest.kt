@@ -0,0 +1,78 @@
+/*
+ * Copyright 2010-2021 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.backend.common.phaser
+
+import org.jetbrains.kotlin.backend.common.BackendException
+import org.jetbrains.kotlin.ir.declarations.IrFile
+import org.jetbrains.kotlin.ir.declarations.impl.IrFileImpl
+import org.jetbrains.kotlin.ir.symbols.impl.IrFileSymbolImpl
+import org.jetbrains.kotlin.ir.util.NaiveSourceBasedFileEntryImpl
+import org.jetbrains.kotlin.name.FqName
+import org.jetbrains.kotlin.util.PerformanceCounter
+import org.junit.Assert
+import org.junit.Test
+import java.util.concurrent.ConcurrentHashMap
+
+class IrFileSchedulerTest {
+    private val files: List<IrFile> = List(20) { IrFileImpl(NaiveSourceBasedFileEntryImpl("file$it.kt"), IrFileSymbolImpl(), FqName.ROOT) }
+
+    @Test
+    fun allFilesAreProcessed() {
+        val processedFiles = ConcurrentHashMap.newKeySet<IrFile>()
+        IrFileScheduler.runInParallel(THREADS, files) { processedFiles += it }
+        Assert.assertEquals(files.toSet(), processedFiles)
+    }
+
+    @Test
+    fun exceptionsOfOtherFilesAreSuppressed() {
+        val failingFiles = listOf(files[3], files[7], files[15])
+        val exceptions = failingFiles.associateWith { IllegalStateException("Failure in ${it.fileEntry.name}") }
+        val processedFiles = ConcurrentHashMap.newKeySet<IrFile>()
+
+        val reported = try {
+            IrFileScheduler.runInParallel(THREADS, files) { file ->
+                processedFiles += file
+                exceptions[file]?.let { throw it }
+            }
+            null
+        } catch (e: BackendException) {
+            e
+        }
+
+        Assert.assertNotNull("Failures are not reported", reported)
+        Assert.assertEquals("Files after failed ones should be processed too", files.toSet(), processedFiles)
+
+        // The exception of the first failed file in the order of files is the cause regardless of the order of processing
+        val cause = reported!!.cause
+        Assert.assertSame(exceptions.getValue(files[3]), cause)
+        Assert.assertEquals(listOf(exceptions.getValue(files[7]), exceptions.getValue(files[15])), cause!!.suppressed.toList())
+        Assert.assertTrue(reported.message, "file3.kt" in reported.message!!)
+        Assert.assertTrue(reported.message, "file7.kt: ${exceptions.getValue(files[7])}" in reported.message!!)
+        Assert.assertTrue(reported.message, "file15.kt: ${exceptions.getValue(files[15])}" in reported.message!!)
+    }
+
+    @Test
+    fun busyTimeIsCountedByWorkerIndex() {
+        repeat(3) {
+            IrFileScheduler.runInParallel(THREADS, files) {}
+        }
+
+        val busyTimeCounters = mutableListOf<String>()
+        PerformanceCounter.report { name, _, _ ->
+            if (name.startsWith(BUSY_TIME_PREFIX)) busyTimeCounters += name
+        }
+        Assert.assertTrue(busyTimeCounters.toString(), busyTimeCounters.isNotEmpty())
+        Assert.assertEquals("Counters should be unique: $busyTimeCounters", busyTimeCounters.size, busyTimeCounters.toSet().size)
+        for (name in busyTimeCounters) {
+            Assert.assertTrue(name, name.removePrefix(BUSY_TIME_PREFIX).matches(Regex("worker \\d+|other threads")))
+        }
+    }
+
+    private companion object {
+        const val THREADS = 4
+        const val BUSY_TIME_PREFIX = "Parallel IR backend: busy time of "
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2010-2021 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.cli
+
+import com.google.gson.JsonObject
+import com.google.gson.JsonParser
+import org.jetbrains.kotlin.cli.common.ExitCode
+import org.jetbrains.kotlin.cli.jvm.K2JVMCompiler
+import org.jetbrains.kotlin.fir.FirPerformanceProfiler
+import org.jetbrains.kotlin.fir.declarations.FirResolvePhase
+import org.jetbrains.kotlin.test.CompilerTestUtil
+import org.jetbrains.kotlin.test.TestCaseWithTmpdir
+import java.io.File
+
+class FirProfileDumpTest : TestCaseWithTmpdir() {
+    fun testEscaping() {
+        val names = listOf("quote\"d", "back\\slash", "new\nline", "tab\tand\rreturn", "control\u0001char", "юникод")
+        val profiler = FirPerformanceProfiler()
+        for (name in names) {
+            profiler.measure(FirPerformanceProfiler.CHECKERS, name) {}
+        }
+
+        val json = FirPerformanceProfiler.renderJson(mapOf("<module \"name\">" to profiler))
+        assertFalse(json, json.any { it < ' ' })
+
+        val profile = JsonParser.parseString(json).asJsonObject
+        assertEquals(setOf("<module \"name\">"), profile.keySet())
+        val checkers = profile.getAsJsonObject("<module \"name\">").getAsJsonArray(FirPerformanceProfiler.CHECKERS)
+        assertEquals(names.toSet(), checkers.map { it.asJsonObject.get("name").asString }.toSet())
+    }
+
+    fun testDumpedProfile() {
+        val profileFile = File(tmpdir, "profile.json")
+        CompilerTestUtil.executeCompilerAssertSuccessful(
+            K2JVMCompiler(),
+            listOf(HELLO_SOURCE, "-Xuse-fir", "-Xdump-fir-profile=${profileFile.path}", "-module-name", "hello", "-d", tmpdir.path)
+        )
+
+        val profile = JsonParser.parseString(profileFile.readText()).asJsonObject
+        assertEquals(setOf("hello"), profile.keySet())
+        val moduleProfile = profile.getAsJsonObject("hello")
+
+        val phases = moduleProfile.measurements(FirPerformanceProfiler.RESOLVE_PHASES)
+        for (phase in listOf(FirResolvePhase.SUPER_TYPES, FirResolvePhase.STATUS, FirResolvePhase.BODY_RESOLVE)) {
+            assertTrue("$phase is not in $phases", phase.name in phases)
+        }
+        for ((name, measurement) in phases) {
+            assertEquals(name, 1L, measurement.get("count").asLong)
+            assertTimingsAreValid(name, measurement)
+        }
+
+        val checkers = moduleProfile.measurements(FirPerformanceProfiler.CHECKERS)
+        assertTrue(checkers.isNotEmpty())
+        for ((name, measurement) in checkers) {
+            assertTrue(name, name.startsWith("org.jetbrains.kotlin.fir."))
+            assertTrue(name, measurement.get("count").asLong > 0)
+            assertTimingsAreValid(name, measurement)
+        }
+    }
+
+    fun testResolvePhasesInPerformanceReport() {
+        val (output, exitCode) = CompilerTestUtil.executeCompiler(
+            K2JVMCompiler(),
+            listOf(HELLO_SOURCE, "-Xuse-fir", "-Xreport-perf", "-d", tmpdir.path)
+        )
+        assertEquals(output, ExitCode.OK, exitCode)
+
+        val phaseLines = output.lines().filter { "FIR BODY_RESOLVE" in it || "FIR SUPER_TYPES" in it }
+        assertEquals(output, 2, phaseLines.size)
+        assertTrue(output, phaseLines.all { Regex("""PERF: +FIR \w+ +\d+ ms""").containsMatchIn(it) })
+        // Phases are reported in the order in which they are run
+        assertTrue(output, output.indexOf("FIR SUPER_TYPES") < output.indexOf("FIR BODY_RESOLVE"))
+    }
+
+    private fun JsonObject.measurements(category: String): Map<String, JsonObject> =
+        getAsJsonArray(category).associate { it.asJsonObject.get("name").asString to it.asJsonObject }
+
+    private fun assertTimingsAreValid(name: String, measurement: JsonObject) {
+        for (key in listOf("wallTimeNanos", "cpuTimeNanos", "allocatedBytes")) {
+            assertTrue("$key of $name", measurement.get(key).asLong >= 0)
+        }
+        assertTrue("wallTimeNanos of $name", measurement.get("wallTimeNanos").asLong > 0)
+    }
+
+    private companion object {
+        const val HELLO_SOURCE = "compiler/testData/cli/jvm/firHello.kt"
+    }
+}
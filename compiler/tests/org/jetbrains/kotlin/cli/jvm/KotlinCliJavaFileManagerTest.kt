@@ -19,6 +19,8 @@ package org.jetbrains.kotlin.cli.jvm
 import com.intellij.core.CoreJavaFileManager
 import com.intellij.openapi.components.ServiceManager
 import com.intellij.openapi.vfs.StandardFileSystems
+import com.intellij.openapi.vfs.VirtualFile
+import com.intellij.openapi.vfs.VirtualFileManager
 import com.intellij.psi.search.GlobalSearchScope
 import junit.framework.TestCase
 import org.intellij.lang.annotations.Language
@@ -39,7 +41,11 @@ import org.jetbrains.kotlin.test.KotlinTestUtils
 import org.jetbrains.kotlin.test.KotlinTestWithEnvironment
 import org.jetbrains.kotlin.test.TestJdkKind
 import org.jetbrains.kotlin.test.util.KtTestUtil
+import org.jetbrains.org.objectweb.asm.ClassWriter
+import org.jetbrains.org.objectweb.asm.Opcodes
 import java.io.File
+import java.util.zip.ZipEntry
+import java.util.zip.ZipOutputStream
 
 class KotlinCliJavaFileManagerTest : KotlinTestWithEnvironment() {
     private lateinit var javaFilesDir: File
@@ -184,6 +190,35 @@ class KotlinCliJavaFileManagerTest : KotlinTestWithEnvironment() {
         TestCase.assertNull("Should not find class in empty scope", manager.findClass("foo.Test", GlobalSearchScope.EMPTY_SCOPE))
     }
 
+    fun testFirstRootWinsAmongJarAndDirectoryRoots() {
+        // Binary roots in classpath order: directory, jar, directory, jar
+        val dir0 = createClassesDirectory("dir0", "foo/OnlyInLaterRoots" to "dir0")
+        val jar1 = createClassesJar("jar1.jar", "foo/Shared" to "jar1", "foo/OnlyInLaterRoots" to "jar1", "bar/InJar" to "jar1")
+        val dir2 = createClassesDirectory("dir2", "foo/Shared" to "dir2", "bar/InDirectory" to "dir2", "bar/InJar" to "dir2")
+        val jar3 = createClassesJar("jar3.jar", "foo/Shared" to "jar3", "bar/InDirectory" to "jar3", "baz/OnlyInLastRoot" to "jar3")
+
+        val manager = configureManager(listOf(dir0, jar1, dir2, jar3).map { JavaRoot(it, JavaRoot.RootType.BINARY) })
+
+        assertFoundInRoot(manager, "foo.Shared", "jar1")
+        assertFoundInRoot(manager, "foo.OnlyInLaterRoots", "dir0")
+        assertFoundInRoot(manager, "bar.InJar", "jar1")
+        assertFoundInRoot(manager, "bar.InDirectory", "dir2")
+        assertFoundInRoot(manager, "baz.OnlyInLastRoot", "jar3")
+        assertCannotFind(manager, "baz", "Shared")
+
+        val allScope = GlobalSearchScope.allScope(project)
+        TestCase.assertEquals("jar1", manager.findClass("foo.Shared", allScope)!!.fields.single().name)
+        TestCase.assertEquals("dir2", manager.findClass("bar.InDirectory", allScope)!!.fields.single().name)
+        TestCase.assertEquals(
+            listOf("jar1", "dir2", "jar3"),
+            manager.findClasses("foo.Shared", allScope).map { it.fields.single().name }
+        )
+        TestCase.assertEquals(setOf("InJar", "InDirectory"), manager.knownClassNamesInPackage(FqName("bar")))
+        for (packageName in listOf("foo", "bar", "baz")) {
+            TestCase.assertNotNull("Could not find package: $packageName", manager.findPackage(packageName))
+        }
+    }
+
     override fun createEnvironment(): KotlinCoreEnvironment {
         javaFilesDir = KtTestUtil.tmpDir("java-file-manager-test")
 
@@ -200,13 +235,17 @@ class KotlinCliJavaFileManagerTest : KotlinTestWithEnvironment() {
 
         File(fooPackageDir, "$className.java").writeText(text)
 
+        val root = StandardFileSystems.local().findFileByPath(javaFilesDir.path)!!
+        return configureManager(listOf(JavaRoot(root, JavaRoot.RootType.SOURCE)))
+    }
+
+    private fun configureManager(roots: List<JavaRoot>): KotlinCliJavaFileManagerImpl {
         @Suppress("UNUSED_VARIABLE") // used to implicitly initialize classpath/index in the manager
         val coreJavaFileFinder = VirtualFileFinder.SERVICE.getInstance(project)
         val coreJavaFileManager = ServiceManager.getService(project, CoreJavaFileManager::class.java) as KotlinCliJavaFileManagerImpl
 
-        val root = StandardFileSystems.local().findFileByPath(javaFilesDir.path)!!
         coreJavaFileManager.initialize(
-            JvmDependenciesIndexImpl(listOf(JavaRoot(root, JavaRoot.RootType.SOURCE))),
+            JvmDependenciesIndexImpl(roots),
             emptyList(),
             SingleJavaFileRootsIndex(emptyList()),
             usePsiClassFilesReading = false
@@ -215,6 +254,41 @@ class KotlinCliJavaFileManagerTest : KotlinTestWithEnvironment() {
         return coreJavaFileManager
     }
 
+    // Each class has a single field named after the root it's located in
+    private fun createClassesDirectory(name: String, vararg classes: Pair<String, String>): VirtualFile {
+        val directory = File(javaFilesDir, name)
+        for ((internalName, fieldName) in classes) {
+            File(directory, "$internalName.class").apply { parentFile.mkdirs() }.writeBytes(classBytes(internalName, fieldName))
+        }
+        return StandardFileSystems.local().findFileByPath(directory.path)!!
+    }
+
+    private fun createClassesJar(name: String, vararg classes: Pair<String, String>): VirtualFile {
+        val jar = File(javaFilesDir, name)
+        ZipOutputStream(jar.outputStream()).use { output ->
+            for ((internalName, fieldName) in classes) {
+                output.putNextEntry(ZipEntry("$internalName.class"))
+                output.write(classBytes(internalName, fieldName))
+                output.closeEntry()
+            }
+        }
+        return VirtualFileManager.getInstance().getFileSystem(StandardFileSystems.JAR_PROTOCOL).findFileByPath("${jar.path}!/")!!
+    }
+
+    private fun classBytes(internalName: String, fieldName: String): ByteArray =
+        ClassWriter(0).apply {
+            visit(Opcodes.V1_8, Opcodes.ACC_PUBLIC, internalName, null, "java/lang/Object", null)
+            visitField(Opcodes.ACC_PUBLIC, fieldName, "I", null, null).visitEnd()
+            visitEnd()
+        }.toByteArray()
+
+    private fun assertFoundInRoot(manager: KotlinCliJavaFileManagerImpl, classFqName: String, rootName: String) {
+        val classId = ClassId.topLevel(FqName(classFqName))
+        val javaClass = manager.findClass(classId, GlobalSearchScope.allScope(project))
+        TestCase.assertNotNull("Could not find: $classId", javaClass)
+        TestCase.assertEquals("$classId is found in a wrong root", listOf(rootName), javaClass!!.fields.map { it.name.asString() })
+    }
+
     private fun assertCanFind(manager: KotlinCliJavaFileManagerImpl, packageFQName: String, classFqName: String) {
         val allScope = GlobalSearchScope.allScope(project)
 
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2010-2021 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.cli.jvm.compiler
+
+import org.jetbrains.kotlin.load.kotlin.KotlinClassHeader
+import org.jetbrains.kotlin.load.kotlin.KotlinJvmBinaryClass
+import org.jetbrains.kotlin.load.kotlin.KotlinMetadataProtoCache
+import org.jetbrains.kotlin.name.ClassId
+import org.jetbrains.kotlin.name.FqName
+import org.jetbrains.kotlin.test.TestCaseWithTmpdir
+import java.io.File
+
+class SharedLibraryMetadataProtoCacheTest : TestCaseWithTmpdir() {
+    fun testProtosAreSharedBetweenCompilations() {
+        val jar = writeJar("lib.jar", "v1", lastModified = OLD_TIMESTAMP)
+
+        assertEquals("v1", getOrParse(SharedLibraryMetadataProtoCache.forCompilation(), jar, "v1"))
+        assertEquals("v1", getOrParse(SharedLibraryMetadataProtoCache.forCompilation(), jar, "parsed again"))
+    }
+
+    fun testJarIsCheckedOncePerCompilation() {
+        val jar = writeJar("lib.jar", "v1", lastModified = OLD_TIMESTAMP)
+        val compilation = SharedLibraryMetadataProtoCache.forCompilation()
+
+        assertEquals("v1", getOrParse(compilation, jar, "v1"))
+        writeJar("lib.jar", "v2 with another length", lastModified = OLD_TIMESTAMP)
+        assertEquals("v1", getOrParse(compilation, jar, "v2"))
+
+        assertEquals("v2", getOrParse(SharedLibraryMetadataProtoCache.forCompilation(), jar, "v2"))
+    }
+
+    fun testRecentlyModifiedJarIsRehashed() {
+        val jar = writeJar("lib.jar", "v1", lastModified = System.currentTimeMillis())
+        val lastModified = jar.lastModified()
+        assertEquals("v1", getOrParse(SharedLibraryMetadataProtoCache.forCompilation(), jar, "v1"))
+
+        // Same length and timestamp, as if the jar was rewritten within the resolution of the file system timestamps
+        writeJar("lib.jar", "v2", lastModified = lastModified)
+        assertEquals("v2", getOrParse(SharedLibraryMetadataProtoCache.forCompilation(), jar, "v2"))
+    }
+
+    fun testClassesOutsideOfJarsAreNotCached() {
+        val location = File(tmpdir, "out/a/A.class").path
+        assertEquals("v1", SharedLibraryMetadataProtoCache.forCompilation().getOrParse(FakeKotlinClass(location)) { "v1" })
+        assertEquals("v2", SharedLibraryMetadataProtoCache.forCompilation().getOrParse(FakeKotlinClass(location)) { "v2" })
+    }
+
+    private fun writeJar(name: String, content: String, lastModified: Long): File =
+        File(tmpdir, name).apply {
+            writeText(content)
+            setLastModified(lastModified)
+        }
+
+    private fun getOrParse(compilation: KotlinMetadataProtoCache, jar: File, protos: String): String =
+        compilation.getOrParse(FakeKotlinClass(jar.path + "!/a/A.class")) { protos }
+
+    private class FakeKotlinClass(override val location: String) : KotlinJvmBinaryClass {
+        override val classId: ClassId = ClassId.topLevel(FqName("a.A"))
+
+        override fun loadClassAnnotations(visitor: KotlinJvmBinaryClass.AnnotationVisitor, cachedContents: ByteArray?) =
+            throw UnsupportedOperationException()
+
+        override fun visitMembers(visitor: KotlinJvmBinaryClass.MemberVisitor, cachedContents: ByteArray?) =
+            throw UnsupportedOperationException()
+
+        override val classHeader: KotlinClassHeader
+            get() = throw UnsupportedOperationException()
+    }
+
+    companion object {
+        private const val OLD_TIMESTAMP = 1_000_000_000_000L
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2010-2021 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.cli.jvm.compiler.jarfs
+
+import com.intellij.openapi.vfs.VirtualFile
+import org.jetbrains.kotlin.test.TestCaseWithTmpdir
+import java.io.File
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+import java.util.zip.ZipEntry
+import java.util.zip.ZipOutputStream
+import kotlin.concurrent.thread
+
+class FastJarHandlerTest : TestCaseWithTmpdir() {
+    private lateinit var jar: File
+    private lateinit var contents: Map<String, String>
+
+    override fun setUp() {
+        super.setUp()
+        jar = File(tmpdir, "lib.jar")
+        contents = (0 until ENTRIES).associate { "p/Entry$it.txt" to "Content of entry $it ".repeat(it + 1) }
+        ZipOutputStream(jar.outputStream()).use { output ->
+            for ((name, content) in contents) {
+                output.putNextEntry(ZipEntry(name))
+                output.write(content.toByteArray())
+                output.closeEntry()
+            }
+        }
+    }
+
+    fun testKeepJarsMapped() {
+        for (keepJarsMapped in listOf(false, true)) {
+            val fileSystem = createFileSystem(keepJarsMapped)
+            try {
+                for ((name, content) in contents) {
+                    assertEquals(content, String(fileSystem.findFileByPath("${jar.path}!/$name")!!.contentsToByteArray()))
+                }
+            } finally {
+                fileSystem.clearHandlersCache()
+            }
+        }
+    }
+
+    fun testJarIsNotUnmappedWhileRead() {
+        val fileSystem = createFileSystem(keepJarsMapped = true)
+        val files = contents.keys.associateWith { fileSystem.findFileByPath("${jar.path}!/$it")!! }
+        val failures = ConcurrentLinkedQueue<Throwable>()
+        val readersStarted = CountDownLatch(THREADS)
+
+        val readers = List(THREADS) {
+            thread(isDaemon = true) {
+                try {
+                    readersStarted.countDown()
+                    repeat(ITERATIONS) { readAll(files) }
+                } catch (e: Throwable) {
+                    failures += e
+                }
+            }
+        }
+        assertTrue(readersStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS))
+        // Files found before clearing keep reading the jar through their handler, which is not mapped anymore
+        fileSystem.clearHandlersCache()
+
+        for (reader in readers) {
+            reader.join(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS))
+            assertFalse(reader.isAlive)
+        }
+        failures.firstOrNull()?.let { throw it }
+
+        readAll(files)
+        fileSystem.clearHandlersCache()
+    }
+
+    private fun readAll(files: Map<String, VirtualFile>) {
+        for ((name, file) in files) {
+            assertEquals(name, contents[name], String(file.contentsToByteArray()))
+        }
+    }
+
+    private fun createFileSystem(keepJarsMapped: Boolean): FastJarFileSystem =
+        FastJarFileSystem.createIfUnmappingPossible(keepJarsMapped = keepJarsMapped) ?: error("Unmapping is not possible in this JVM")
+
+    private companion object {
+        const val ENTRIES = 100
+        const val THREADS = 4
+        const val ITERATIONS = 200
+        const val TIMEOUT_SECONDS = 60L
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2010-2021 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.cli.jvm.compiler.jarfs
+
+import com.intellij.openapi.vfs.VirtualFile
+import org.jetbrains.kotlin.test.TestCaseWithTmpdir
+import java.io.ByteArrayOutputStream
+import java.io.File
+import java.nio.ByteBuffer
+import java.nio.ByteOrder
+import java.util.jar.Attributes
+import java.util.jar.JarOutputStream
+import java.util.jar.Manifest
+import java.util.zip.CRC32
+import java.util.zip.ZipEntry
+
+class FastJarIndexCacheTest : TestCaseWithTmpdir() {
+    private lateinit var jar: File
+    private lateinit var cacheDir: File
+
+    override fun setUp() {
+        super.setUp()
+        jar = File(tmpdir, "lib.jar")
+        cacheDir = File(tmpdir, "index-cache")
+    }
+
+    fun testRoundTrip() {
+        val expected = writeJar(version = 1)
+
+        assertEquals(expected, readJar())
+        val indexFile = cacheDir.listFiles()!!.single()
+
+        // The index is valid, so it's read and not rewritten
+        indexFile.setLastModified(0)
+        assertEquals(expected, readJar())
+        assertEquals(0L, indexFile.lastModified())
+    }
+
+    fun testStaleIndex() {
+        writeJar(version = 1)
+        readJar()
+        val indexFile = cacheDir.listFiles()!!.single()
+        indexFile.setLastModified(0)
+
+        val expected = writeJar(version = 2)
+        assertEquals(expected, readJar())
+        assertTrue("Stale index should be rewritten", indexFile.lastModified() != 0L)
+        assertEquals(expected, readJar())
+    }
+
+    fun testCorruptedIndex() {
+        val expected = writeJar(version = 1)
+        readJar()
+        val indexFile = cacheDir.listFiles()!!.single()
+        val bytes = indexFile.readBytes()
+
+        val corruptions = mapOf(
+            "truncated" to bytes.copyOf(bytes.size / 2),
+            "empty" to ByteArray(0),
+            "huge number of entries" to bytes.withIntAt(ENTRIES_NUMBER_OFFSET, Int.MAX_VALUE),
+            "huge manifest" to bytes.withIntAt(ENTRIES_NUMBER_OFFSET + 4, Int.MAX_VALUE),
+            "huge names" to bytes.withIntAt(ENTRIES_NUMBER_OFFSET + 8, Int.MAX_VALUE),
+            "negative path size" to bytes.withIntAt(ENTRIES_NUMBER_OFFSET + 12, -1),
+            "name out of names" to bytes.withIntAt(bytes.size - firstRecordOffsetFromEnd(bytes) + 4, Int.MAX_VALUE)
+        )
+        for ((corruption, corruptedBytes) in corruptions) {
+            indexFile.writeBytes(corruptedBytes)
+            assertEquals(corruption, expected, readJar())
+            assertEquals("Corrupted index ($corruption) should be rewritten", bytes.toList(), indexFile.readBytes().toList())
+        }
+    }
+
+    private fun readJar(): Map<String, String> {
+        val fileSystem = FastJarFileSystem.createIfUnmappingPossible(cacheDir) ?: error("Unmapping is not possible in this JVM")
+        try {
+            val root = fileSystem.findFileByPath("${jar.path}!/")!!
+            return collectFiles(root, "").toSortedMap()
+        } finally {
+            fileSystem.clearHandlersCache()
+        }
+    }
+
+    private fun collectFiles(file: VirtualFile, path: String): Map<String, String> =
+        if (file.isDirectory) file.children.fold(emptyMap()) { files, child -> files + collectFiles(child, path + "/" + child.name) }
+        else mapOf(path to String(file.contentsToByteArray(), Charsets.UTF_8))
+
+    /**
+     * Writes a jar with a manifest, deflated and stored entries with ASCII and non-ASCII names, and returns its expected content
+     */
+    private fun writeJar(version: Int): Map<String, String> {
+        val manifest = Manifest().apply {
+            mainAttributes[Attributes.Name.MANIFEST_VERSION] = "1.0"
+            mainAttributes[Attributes.Name.IMPLEMENTATION_VERSION] = "$version"
+        }
+        val suffix = "$version".repeat(version)
+        val entries = mapOf(
+            "a/A.class" to "deflated ascii $suffix",
+            "a/Ünïcödé.txt" to "deflated utf-8 $suffix",
+            "b/stored.txt" to "stored ascii $suffix",
+            "b/сохранённый.txt" to "stored utf-8 $suffix"
+        )
+        JarOutputStream(jar.outputStream(), manifest).use { output ->
+            for ((name, content) in entries) {
+                val bytes = content.toByteArray()
+                val entry = ZipEntry(name)
+                if (name.startsWith("b/")) {
+                    entry.method = ZipEntry.STORED
+                    entry.size = bytes.size.toLong()
+                    entry.crc = CRC32().apply { update(bytes) }.value
+                }
+                output.putNextEntry(entry)
+                output.write(bytes)
+                output.closeEntry()
+            }
+        }
+        // Timestamps of the jar may be coarse, so the size of the jar changes between versions too
+        jar.setLastModified(System.currentTimeMillis() - 1000L * (10 - version))
+
+        val manifestBytes = ByteArrayOutputStream().also { manifest.write(it) }.toByteArray()
+        return (entries + ("META-INF/MANIFEST.MF" to String(manifestBytes, Charsets.UTF_8)))
+            .mapKeys { "/" + it.key }.toSortedMap()
+    }
+
+    private fun ByteArray.withIntAt(offset: Int, value: Int): ByteArray =
+        copyOf().also { ByteBuffer.wrap(it).order(ByteOrder.LITTLE_ENDIAN).putInt(offset, value) }
+
+    // Records are followed by the manifest and names, whose sizes are stored in the header
+    private fun firstRecordOffsetFromEnd(bytes: ByteArray): Int {
+        val header = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN)
+        val entriesNumber = header.getInt(ENTRIES_NUMBER_OFFSET)
+        val manifestSize = header.getInt(ENTRIES_NUMBER_OFFSET + 4)
+        val namesSize = header.getInt(ENTRIES_NUMBER_OFFSET + 8)
+        return entriesNumber * ENTRY_RECORD_SIZE + manifestSize.coerceAtLeast(0) + namesSize
+    }
+
+    private companion object {
+        // After magic, version, jar size and jar modification time
+        const val ENTRIES_NUMBER_OFFSET = 4 + 4 + 8 + 8
+        const val ENTRY_RECORD_SIZE = 7 * 4
+    }
+}
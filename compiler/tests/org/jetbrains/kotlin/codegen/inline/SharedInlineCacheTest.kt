@@ -0,0 +1,106 @@
+/*
+ * Copyright 2010-2021 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.codegen.inline
+
+import org.jetbrains.kotlin.test.TestCaseWithTmpdir
+import org.jetbrains.org.objectweb.asm.Opcodes
+import org.jetbrains.org.objectweb.asm.commons.Method
+import org.jetbrains.org.objectweb.asm.tree.MethodNode
+import java.io.File
+
+class SharedInlineCacheTest : TestCaseWithTmpdir() {
+    private lateinit var jar: File
+    private var computations = 0
+
+    override fun setUp() {
+        super.setUp()
+        jar = File(tmpdir, "lib.jar").apply { writeText("jar") }
+    }
+
+    fun testWeightIsBounded() {
+        val cache = SharedInlineCache(maxWeight = 10 * EMPTY_NODE_WEIGHT)
+        val compilation = cache.forCompilation()
+        for (i in 0 until 100) {
+            compilation.get("m$i")
+            assertTrue(cache.statistics.toString(), cache.statistics.weight <= 10 * EMPTY_NODE_WEIGHT)
+        }
+        assertEquals(100, computations)
+        assertTrue(cache.statistics.evictions > 0)
+        assertEquals(cache.statistics.entries * EMPTY_NODE_WEIGHT, cache.statistics.weight)
+    }
+
+    fun testLeastRecentlyUsedEntriesAreEvicted() {
+        val cache = SharedInlineCache(maxWeight = 4 * EMPTY_NODE_WEIGHT)
+        val compilation = cache.forCompilation()
+        for (name in listOf("a", "b", "c", "d")) {
+            compilation.get(name)
+        }
+        compilation.get("a")
+        assertEquals(0L, cache.statistics.evictions)
+
+        // Exceeds the max weight, so entries are evicted down to 3/4 of it: "b" and "c" are the least recently used
+        compilation.get("e")
+        assertEquals(2L, cache.statistics.evictions)
+        assertEquals(3, cache.statistics.entries)
+
+        computations = 0
+        for (name in listOf("a", "d", "e")) {
+            compilation.get(name)
+        }
+        assertEquals(0, computations)
+        compilation.get("b")
+        assertEquals(1, computations)
+    }
+
+    fun testChangedJarIsNotHitByNextCompilations() {
+        val cache = SharedInlineCache(maxWeight = 10 * EMPTY_NODE_WEIGHT)
+        val first = cache.forCompilation()
+        val firstNode = first.get("m")
+        assertSame(firstNode, first.get("m"))
+        assertSame(firstNode, cache.forCompilation().get("m"))
+        assertEquals(1, computations)
+
+        jar.writeText("changed jar")
+        jar.setLastModified(jar.lastModified() + 10_000)
+
+        // The jar is checked once per compilation, so the running compilation still gets the cached node
+        assertSame(firstNode, first.get("m"))
+        assertEquals(1, computations)
+
+        val second = cache.forCompilation()
+        val secondNode = second.get("m")
+        assertNotSame(firstNode, secondNode)
+        assertSame(secondNode, second.get("m"))
+        assertEquals(2, computations)
+    }
+
+    fun testClassesOutsideOfJarsAreNotCached() {
+        val cache = SharedInlineCache(maxWeight = 10 * EMPTY_NODE_WEIGHT)
+        val compilation = cache.forCompilation()
+        val path = File(tmpdir, "A.class").path
+        repeat(2) {
+            compilation.getOrPut(path, methodId("m"), ::computeNode)
+        }
+        assertEquals(2, computations)
+        assertEquals(0, cache.statistics.entries)
+    }
+
+    private fun SharedInlineCache.CompilationInlineCache.get(methodName: String): SMAPAndMethodNode =
+        getOrPut("${jar.path}!/a/A.class", methodId(methodName), ::computeNode)
+
+    private fun methodId(name: String): MethodId =
+        MethodId("a/A", Method(name, "()V"))
+
+    private fun computeNode(): SMAPAndMethodNode {
+        computations++
+        return SMAPAndMethodNode(MethodNode(Opcodes.API_VERSION, Opcodes.ACC_PUBLIC, "m", "()V", null, null), SMAP(emptyList()))
+    }
+
+    private companion object {
+        // Estimated weight of a method node without instructions and local variables
+        const val EMPTY_NODE_WEIGHT = 256L
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2010-2021 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.fir.caches
+
+import org.junit.Assert
+import org.junit.Test
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.CyclicBarrier
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+class FirConcurrentCachesFactoryTest {
+    private class Value(val key: Int) {
+        @Volatile
+        var isPostComputed = false
+    }
+
+    @Test
+    fun valueIsComputedOncePerKey() {
+        val computations = ConcurrentHashMap<Int, AtomicInteger>()
+        val postComputations = ConcurrentHashMap<Int, AtomicInteger>()
+        val cache = FirConcurrentCachesFactory.createCacheWithPostCompute(
+            createValue = { key: Int ->
+                computations.computeIfAbsent(key) { AtomicInteger() }.incrementAndGet()
+                Value(key)
+            },
+            postCompute = { key, value ->
+                postComputations.computeIfAbsent(key) { AtomicInteger() }.incrementAndGet()
+                value.isPostComputed = true
+            }
+        )
+
+        val start = CyclicBarrier(THREADS)
+        val results = runInThreads(List(THREADS) { thread ->
+            {
+                start.await()
+                // Threads go over all keys in different orders to meet each other at different keys, since KEYS is prime
+                (0 until KEYS).map { (it * (thread + 1)) % KEYS }.map { cache.getValue(it) }
+            }
+        })
+
+        for (key in 0 until KEYS) {
+            Assert.assertEquals("createValue of $key", 1, computations.getValue(key).get())
+            Assert.assertEquals("postCompute of $key", 1, postComputations.getValue(key).get())
+        }
+        val valuesByKey = results.flatMap { it.getOrThrow() }.groupBy { it.key }
+        for ((key, values) in valuesByKey) {
+            val value = values.first()
+            Assert.assertTrue("All threads get the same value of $key", values.all { it === value })
+            Assert.assertTrue(value.isPostComputed)
+        }
+    }
+
+    @Test
+    fun otherThreadsGetPostComputedValue() {
+        val inPostCompute = CountDownLatch(1)
+        val finishPostCompute = CountDownLatch(1)
+        val cache = FirConcurrentCachesFactory.createCacheWithPostCompute(
+            createValue = { key: Int -> Value(key) },
+            postCompute = { _, value ->
+                inPostCompute.countDown()
+                finishPostCompute.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                value.isPostComputed = true
+            }
+        )
+
+        val owner = startThread { cache.getValue(0) }
+        Assert.assertTrue(inPostCompute.await(TIMEOUT_SECONDS, TimeUnit.SECONDS))
+        Assert.assertNull("Value is not visible to other threads during post-compute", cache.getValueIfComputed(0))
+
+        val reader = startThread { cache.getValue(0) }
+        // The reader should block until post-compute is finished
+        reader.join(100)
+        Assert.assertTrue(reader.isAlive)
+        finishPostCompute.countDown()
+
+        val readValue = reader.awaitResult().getOrThrow()
+        Assert.assertTrue(readValue.isPostComputed)
+        Assert.assertSame(owner.awaitResult().getOrThrow(), readValue)
+        Assert.assertSame(readValue, cache.getValueIfComputed(0))
+    }
+
+    @Test
+    fun cycleInPostComputeBetweenTwoThreadsIsResolved() {
+        val bothInPostCompute = CyclicBarrier(2)
+        lateinit var cache: FirCache<Int, Value, Nothing?>
+        cache = FirConcurrentCachesFactory.createCacheWithPostCompute(
+            createValue = { key: Int -> Value(key) },
+            postCompute = { key, value ->
+                bothInPostCompute.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                // Each thread waits for the value computed by the other one
+                Assert.assertEquals(1 - key, cache.getValue(1 - key).key)
+                value.isPostComputed = true
+            }
+        )
+
+        val results = runInThreads(listOf({ cache.getValue(0) }, { cache.getValue(1) }))
+        Assert.assertEquals(listOf(0, 1), results.map { it.getOrThrow().key })
+        Assert.assertTrue(results.all { it.getOrThrow().isPostComputed })
+    }
+
+    @Test
+    fun cycleInCreateValueBetweenTwoThreadsIsDetected() {
+        val bothInCreateValue = CyclicBarrier(2)
+        val computations = ConcurrentHashMap<Int, AtomicInteger>()
+        lateinit var cache: FirCache<Int, Value, Nothing?>
+        cache = FirConcurrentCachesFactory.createCacheWithPostCompute(
+            createValue = { key: Int ->
+                // Only the first computations of the keys depend on each other, so the value can be computed after a failure
+                if (computations.computeIfAbsent(key) { AtomicInteger() }.incrementAndGet() == 1) {
+                    bothInCreateValue.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                    cache.getValue(1 - key)
+                }
+                Value(key)
+            },
+            postCompute = { _, value -> value.isPostComputed = true }
+        )
+
+        val results = runInThreads(listOf({ cache.getValue(0) }, { cache.getValue(1) }))
+        val failures = results.mapNotNull { it.exceptionOrNull() }
+        Assert.assertEquals(results.toString(), 1, failures.size)
+        Assert.assertTrue(failures.single().toString(), failures.single() is IllegalStateException)
+        Assert.assertTrue(failures.single().message!!.startsWith("Recursive FirCache computation"))
+
+        // The thread which didn't fail computes both values
+        Assert.assertEquals(1, results.count { it.isSuccess })
+        for (key in 0..1) {
+            Assert.assertTrue(cache.getValue(key).isPostComputed)
+        }
+    }
+
+    private class ResultThread<T>(private val block: () -> T) : Thread() {
+        @Volatile
+        private var result: Result<T>? = null
+
+        init {
+            isDaemon = true
+        }
+
+        override fun run() {
+            result = runCatching(block)
+        }
+
+        fun awaitResult(): Result<T> {
+            join(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS))
+            Assert.assertFalse("Thread is blocked, probably by a deadlock", isAlive)
+            return result!!
+        }
+    }
+
+    private fun <T> startThread(block: () -> T): ResultThread<T> =
+        ResultThread(block).also { it.start() }
+
+    private fun <T> runInThreads(blocks: List<() -> T>): List<Result<T>> =
+        blocks.map { startThread(it) }.map { it.awaitResult() }
+
+    private companion object {
+        const val THREADS = 8
+        const val KEYS = 997
+        const val TIMEOUT_SECONDS = 30L
+    }
+}
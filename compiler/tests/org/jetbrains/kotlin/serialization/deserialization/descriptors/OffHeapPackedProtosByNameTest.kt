@@ -0,0 +1,132 @@
+/*
+ * Copyright 2010-2021 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.serialization.deserialization.descriptors
+
+import junit.framework.TestCase
+import org.jetbrains.kotlin.name.Name
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.TimeUnit
+import kotlin.concurrent.thread
+
+class OffHeapPackedProtosByNameTest : TestCase() {
+    fun testCollidingNamesWrapAroundTheTable() {
+        // 4 names take a table of 8 slots, all of these names fall into the last slot, so probing wraps around to the start of the table
+        val (colliding, missing) = generateSequence(0) { it + 1 }
+            .map { Name.identifier("name$it") }
+            .filter { it.slotIn(8) == 7 }
+            .take(5)
+            .toList()
+            .let { it.take(4) to it.last() }
+        val bytesByName = colliding.withIndex().associate { (index, name) -> name to bytesOf("value $index") }
+
+        val map = OffHeapPackedProtosByName.create(OffHeapProtoArena(), bytesByName)
+
+        assertContentEquals(bytesByName, map)
+        assertEquals(colliding, map.keys.toList())
+        assertNull(map[missing])
+        assertFalse(map.containsKey(missing))
+        assertFalse(missing in map.keys)
+    }
+
+    fun testManyNames() {
+        val bytesByName = (0 until 1000).associate { Name.identifier("name$it") to bytesOf("value $it") }
+        val map = OffHeapPackedProtosByName.create(OffHeapProtoArena(chunkSize = 256), bytesByName)
+
+        assertContentEquals(bytesByName, map)
+        assertEquals(bytesByName.keys.toList(), map.keys.toList())
+        assertNull(map[Name.identifier("name1000")])
+        assertEquals(bytesByName.keys, map.entries.map { it.key }.toSet())
+    }
+
+    fun testValuesLargerThanChunk() {
+        val arena = OffHeapProtoArena(chunkSize = 16)
+        val bytesByName = linkedMapOf(
+            Name.identifier("small") to bytesOf("small"),
+            Name.identifier("large") to bytesOf("large ".repeat(10)),
+            Name.identifier("afterLarge") to bytesOf("after large"),
+            Name.identifier("chunk") to ByteArray(16) { it.toByte() },
+            Name.identifier("empty") to ByteArray(0),
+            Name.identifier("last") to bytesOf("last")
+        )
+
+        val map = OffHeapPackedProtosByName.create(arena, bytesByName)
+
+        assertContentEquals(bytesByName, map)
+        // Lookups copy the bytes, so modifications of a result don't affect the stored value
+        map.getValue(Name.identifier("large")).fill(0)
+        assertContentEquals(bytesByName, map)
+    }
+
+    fun testReadsRacingWithAppends() {
+        // Small chunks make writers allocate new chunks while readers look up values in the previous ones
+        val arena = OffHeapProtoArena(chunkSize = 64)
+        val maps = CopyOnWriteArrayList<Pair<Map<Name, ByteArray>, Map<Name, ByteArray>>>()
+        val failures = ConcurrentLinkedQueue<Throwable>()
+
+        val writers = List(WRITERS) { writer ->
+            thread(isDaemon = true) {
+                try {
+                    for (index in 0 until MAPS_PER_WRITER) {
+                        val bytesByName = (0 until index % 10 + 1).associate { name ->
+                            Name.identifier("name$name") to bytesOf("$writer:$index:$name ".repeat(name + 1))
+                        }
+                        maps += bytesByName to OffHeapPackedProtosByName.create(arena, bytesByName)
+                    }
+                } catch (e: Throwable) {
+                    failures += e
+                }
+            }
+        }
+        val readers = List(READERS) {
+            thread(isDaemon = true) {
+                try {
+                    while (writers.any { it.isAlive }) {
+                        for ((expected, actual) in maps.takeLast(20)) {
+                            assertContentEquals(expected, actual)
+                        }
+                    }
+                } catch (e: Throwable) {
+                    failures += e
+                }
+            }
+        }
+
+        for (worker in writers + readers) {
+            worker.join(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS))
+            assertFalse(worker.isAlive)
+        }
+        failures.firstOrNull()?.let { throw it }
+
+        assertEquals(WRITERS * MAPS_PER_WRITER, maps.size)
+        for ((expected, actual) in maps) {
+            assertContentEquals(expected, actual)
+        }
+    }
+
+    private fun assertContentEquals(expected: Map<Name, ByteArray>, actual: Map<Name, ByteArray>) {
+        assertEquals(expected.size, actual.size)
+        for ((name, bytes) in expected) {
+            assertTrue(actual.containsKey(name))
+            assertEquals(name.asString(), bytes.toList(), actual[name]?.toList())
+        }
+    }
+
+    private fun bytesOf(string: String): ByteArray = string.toByteArray()
+
+    // The slot used by OffHeapPackedProtosByName for a table of the given size
+    private fun Name.slotIn(tableSize: Int): Int {
+        val hash = hashCode()
+        return (hash xor (hash ushr 16)) and (tableSize - 1)
+    }
+
+    private companion object {
+        const val WRITERS = 2
+        const val READERS = 4
+        const val MAPS_PER_WRITER = 2000
+        const val TIMEOUT_SECONDS = 60L
+    }
+}
@@ -26,6 +26,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class StorageManagerTest extends TestCase {
 
@@ -446,6 +448,205 @@ public class StorageManagerTest extends TestCase {
         }
     }
 
+    // Concurrent mode
+
+    private static final int THREADS = 8;
+
+    private static LockBasedStorageManager createConcurrent() {
+        return LockBasedStorageManager.createConcurrent(
+                "StorageManagerTest", LockBasedStorageManager.ExceptionHandlingStrategy.THROW, null, null
+        );
+    }
+
+    private static <T> List<T> invokeInParallel(int threads, Callable<T> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CyclicBarrier start = new CyclicBarrier(threads);
+            List<Future<T>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get(30, TimeUnit.SECONDS));
+            }
+            return results;
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    public void testConcurrentLazyValueComputedOnce() throws Exception {
+        AtomicInteger counter = new AtomicInteger();
+        NotNullLazyValue<String> value = createConcurrent().createLazyValue(() -> {
+            Thread.yield();
+            return "ok" + counter.incrementAndGet();
+        });
+
+        List<String> results = invokeInParallel(THREADS, value::invoke);
+        assertEquals(1, counter.get());
+        for (String result : results) {
+            assertEquals("ok1", result);
+        }
+    }
+
+    public void testConcurrentFunctionComputesEveryKeyOnce() throws Exception {
+        ConcurrentMap<String, AtomicInteger> counters = new ConcurrentHashMap<>();
+        MemoizedFunctionToNotNull<String, String> f = createConcurrent().createMemoizedFunction(key -> {
+            counters.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+            return key + "!";
+        });
+
+        invokeInParallel(THREADS, () -> {
+            for (int i = 0; i < 100; i++) {
+                assertEquals(i + "!", f.invoke(String.valueOf(i)));
+            }
+            return null;
+        });
+        assertEquals(100, counters.size());
+        for (AtomicInteger counter : counters.values()) {
+            assertEquals(1, counter.get());
+        }
+    }
+
+    public void testConcurrentFunctionPreservesExceptions() throws Exception {
+        AtomicInteger counter = new AtomicInteger();
+        MemoizedFunctionToNullable<String, String> f = createConcurrent().createMemoizedFunctionWithNullableValues(key -> {
+            counter.incrementAndGet();
+            throw new UnsupportedOperationException();
+        });
+
+        List<Throwable> results = invokeInParallel(THREADS, () -> {
+            try {
+                f.invoke("");
+                return null;
+            }
+            catch (Throwable e) {
+                return e;
+            }
+        });
+        assertEquals(1, counter.get());
+        for (Throwable result : results) {
+            assertTrue("Wrong exception class: " + result, result instanceof UnsupportedOperationException);
+            assertSame(results.get(0), result);
+        }
+    }
+
+    public void testConcurrentRecursionDetection() throws Exception {
+        class C {
+            MemoizedFunctionToNotNull<String, String> rec = createConcurrent().createMemoizedFunction(s -> this.rec.invoke("!!!"));
+        }
+
+        try {
+            new C().rec.invoke("");
+            fail();
+        }
+        catch (AssertionError e) {
+            String message = e.getMessage();
+            assertTrue("Expected message starting with \"Recursion detected\", got: " + message, message.startsWith("Recursion detected on input: !!!"));
+        }
+    }
+
+    public void testConcurrentRecursionTolerance() throws Exception {
+        class C {
+            NotNullLazyValue<String> rec = createConcurrent().createRecursionTolerantLazyValue(() -> {
+                assertEquals("rec", this.rec.invoke());
+                return "tolerant!";
+            }, "rec");
+        }
+
+        assertEquals("tolerant!", new C().rec.invoke());
+    }
+
+    // Each of two threads computes its key, which depends on the key of the other thread. The one that comes second would deadlock
+    // if it waited for the other thread, so it has to get the result of a recursive call, as if both keys were computed in one thread
+    public void testConcurrentCrossKeyCycleIsRecursion() throws Exception {
+        CyclicBarrier bothComputing = new CyclicBarrier(2);
+        class C {
+            MemoizedFunctionToNotNull<String, String> f = createConcurrent().createMemoizedFunction(
+                    key -> {
+                        await(bothComputing);
+                        return key + "(" + this.f.invoke(key.equals("a") ? "b" : "a") + ")";
+                    },
+                    (key, firstTime) -> "rec:" + key
+            );
+        }
+        C c = new C();
+
+        AtomicInteger thread = new AtomicInteger();
+        List<String> results = invokeInParallel(2, () -> thread.getAndIncrement() == 0 ? "a=" + c.f.invoke("a") : "b=" + c.f.invoke("b"));
+
+        String a = c.f.invoke("a");
+        String b = c.f.invoke("b");
+        assertTrue("Unexpected results: " + a + ", " + b,
+                   (a.equals("a(rec:b)") && b.equals("b(a(rec:b))")) || (a.equals("a(b(rec:a))") && b.equals("b(rec:a)")));
+        assertTrue(results.contains("a=" + a));
+        assertTrue(results.contains("b=" + b));
+    }
+
+    public void testConcurrentCrossLazyValueCycleFailsAsRecursion() throws Exception {
+        CyclicBarrier bothComputing = new CyclicBarrier(2);
+        LockBasedStorageManager storageManager = createConcurrent();
+        class C {
+            NotNullLazyValue<String> a = storageManager.createLazyValue(() -> {
+                await(bothComputing);
+                return "a" + this.b.invoke();
+            });
+            NotNullLazyValue<String> b = storageManager.createLazyValue(() -> {
+                await(bothComputing);
+                return "b" + this.a.invoke();
+            });
+        }
+        C c = new C();
+
+        AtomicInteger thread = new AtomicInteger();
+        List<Throwable> results = invokeInParallel(2, () -> {
+            try {
+                if (thread.getAndIncrement() == 0) c.a.invoke(); else c.b.invoke();
+                return null;
+            }
+            catch (Throwable e) {
+                return e;
+            }
+        });
+        for (Throwable result : results) {
+            assertTrue("Expected a recursion error, got: " + result, result instanceof AssertionError);
+        }
+    }
+
+    public void testConcurrentComputeIsExclusive() throws Exception {
+        LockBasedStorageManager storageManager = createConcurrent();
+        AtomicInteger inside = new AtomicInteger();
+        AtomicInteger maxInside = new AtomicInteger();
+
+        invokeInParallel(THREADS, () -> {
+            for (int i = 0; i < 100; i++) {
+                storageManager.compute(() -> {
+                    maxInside.accumulateAndGet(inside.incrementAndGet(), Math::max);
+                    // Reentrant
+                    storageManager.compute(() -> Unit.INSTANCE);
+                    inside.decrementAndGet();
+                    return Unit.INSTANCE;
+                });
+            }
+            return null;
+        });
+        assertEquals(1, maxInside.get());
+    }
+
+    private static void await(CyclicBarrier barrier) {
+        try {
+            barrier.await(30, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException | BrokenBarrierException | TimeoutException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     // Utilities
 
     private static <K, V> Function0<V> apply(Function1<K, V> f, K x) {
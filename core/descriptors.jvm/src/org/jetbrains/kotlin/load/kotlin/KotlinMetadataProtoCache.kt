@@ -0,0 +1,27 @@
+/*
+ * Copyright 2010-2021 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.load.kotlin
+
+import org.jetbrains.kotlin.container.DefaultImplementation
+
+/**
+ * Cache of metadata protos parsed from compiled Kotlin classes, which [DeserializedDescriptorResolver] uses before creating descriptors.
+ *
+ * Parsed protos don't depend on the module, the storage manager or language settings, so unlike descriptors they can be shared
+ *   by all compilations in a long-living process, e.g. in the daemon.
+ */
+@DefaultImplementation(KotlinMetadataProtoCache.None::class)
+interface KotlinMetadataProtoCache {
+    /**
+     * Returns the result of [parse] for [kotlinClass], either cached or computed now.
+     * [parse] must always return the same kind of protos for the same class.
+     */
+    fun <T : Any> getOrParse(kotlinClass: KotlinJvmBinaryClass, parse: () -> T): T
+
+    object None : KotlinMetadataProtoCache {
+        override fun <T : Any> getOrParse(kotlinClass: KotlinJvmBinaryClass, parse: () -> T): T = parse()
+    }
+}
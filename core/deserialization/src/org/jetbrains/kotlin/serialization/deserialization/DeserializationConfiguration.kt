@@ -39,5 +39,13 @@ interface DeserializationConfiguration {
     val preserveDeclarationsOrdering: Boolean
         get() = false
 
+    /**
+     * Whether serialized members of deserialized scopes are kept outside of the Java heap until they are looked up,
+     * see [org.jetbrains.kotlin.serialization.deserialization.descriptors.OffHeapProtoArena].
+     * It reduces the heap used by descriptors of large classpaths, which are mostly never looked into.
+     */
+    val keepMemberProtosOffHeap: Boolean
+        get() = false
+
     object Default : DeserializationConfiguration
 }
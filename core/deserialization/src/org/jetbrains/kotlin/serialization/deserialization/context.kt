@@ -31,6 +31,7 @@ import org.jetbrains.kotlin.resolve.SealedClassInheritorsProvider
 import org.jetbrains.kotlin.resolve.constants.ConstantValue
 import org.jetbrains.kotlin.resolve.sam.SamConversionResolver
 import org.jetbrains.kotlin.serialization.deserialization.descriptors.DeserializedContainerSource
+import org.jetbrains.kotlin.serialization.deserialization.descriptors.OffHeapProtoArena
 import org.jetbrains.kotlin.storage.StorageManager
 import org.jetbrains.kotlin.types.checker.NewKotlinTypeChecker
 
@@ -57,6 +58,8 @@ class DeserializationComponents(
 ) {
     val classDeserializer: ClassDeserializer = ClassDeserializer(this)
 
+    val offHeapProtoArena: OffHeapProtoArena by lazy(LazyThreadSafetyMode.PUBLICATION) { OffHeapProtoArena() }
+
     fun deserializeClass(classId: ClassId): ClassDescriptor? = classDeserializer.deserializeClass(classId)
 
     fun createContext(
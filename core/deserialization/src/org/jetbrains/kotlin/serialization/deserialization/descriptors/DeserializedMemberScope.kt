@@ -240,12 +240,17 @@ abstract class DeserializedMemberScope protected constructor(
             else
                 emptyMap()
 
-        private fun Map<Name, Collection<AbstractMessageLite>>.packToByteArray(): Map<Name, ByteArray> =
-            mapValues { entry ->
+        private fun Map<Name, Collection<AbstractMessageLite>>.packToByteArray(): Map<Name, ByteArray> {
+            val bytesByName = mapValues { entry ->
                 val byteArrayOutputStream = ByteArrayOutputStream()
                 entry.value.map { proto -> proto.writeDelimitedTo(byteArrayOutputStream) }
                 byteArrayOutputStream.toByteArray()
             }
+            return if (c.components.configuration.keepMemberProtosOffHeap)
+                OffHeapPackedProtosByName.create(c.components.offHeapProtoArena, bytesByName)
+            else
+                bytesByName
+        }
 
         private val functions =
             c.storageManager.createMemoizedFunction<Name, Collection<SimpleFunctionDescriptor>> { computeFunctions(it) }
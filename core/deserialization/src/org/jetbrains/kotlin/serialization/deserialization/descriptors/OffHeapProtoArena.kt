@@ -0,0 +1,138 @@
+/*
+ * Copyright 2010-2021 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.serialization.deserialization.descriptors
+
+import org.jetbrains.kotlin.name.Name
+import java.nio.ByteBuffer
+
+/**
+ * Storage of serialized protos outside of the Java heap, shared by all deserialized scopes of the same deserialization components.
+ *
+ * Bytes are appended to chunks of direct byte buffers and are never removed. Chunks are freed when the arena becomes unreachable,
+ *   i.e. together with the descriptors of the module.
+ */
+class OffHeapProtoArena(private val chunkSize: Int = DEFAULT_CHUNK_SIZE) {
+    private val chunks = ArrayList<ByteBuffer>()
+
+    /**
+     * Copies [bytes] to the arena and returns their address
+     */
+    @Synchronized
+    fun put(bytes: ByteArray): Long {
+        var chunk = chunks.lastOrNull()
+        if (chunk == null || chunk.remaining() < bytes.size) {
+            chunk = ByteBuffer.allocateDirect(maxOf(chunkSize, bytes.size))
+            chunks += chunk
+        }
+        val offset = chunk.position()
+        chunk.put(bytes)
+        return ((chunks.size - 1).toLong() shl 32) or offset.toLong()
+    }
+
+    /**
+     * Returns a copy of [length] bytes stored at [address]
+     */
+    fun get(address: Long, length: Int): ByteArray {
+        val chunk = synchronized(this) { chunks[(address ushr 32).toInt()] }
+        val result = ByteArray(length)
+        // Reads through a duplicate don't move the position of the chunk, at which bytes are appended
+        val view = chunk.duplicate()
+        view.position(address.toInt())
+        view.get(result)
+        return result
+    }
+
+    private companion object {
+        const val DEFAULT_CHUNK_SIZE = 1 shl 20
+    }
+}
+
+/**
+ * Read-only map of packed protos by name, whose values are kept in [arena] and are copied to the heap on every lookup.
+ *
+ * Names are kept in the order of the original map, lookups use an open-addressing table of their indices, so the map costs
+ *   a few array slots per name instead of a hash map entry and a byte array.
+ */
+class OffHeapPackedProtosByName private constructor(
+    private val arena: OffHeapProtoArena,
+    private val names: Array<Name>,
+    private val addresses: LongArray,
+    private val lengths: IntArray
+) : AbstractMap<Name, ByteArray>() {
+    // Indices of names plus one, 0 stands for an empty slot
+    private val table = IntArray(tableSize(names.size))
+
+    init {
+        for (index in names.indices) {
+            var slot = slotOf(names[index])
+            while (table[slot] != 0) {
+                slot = (slot + 1) and (table.size - 1)
+            }
+            table[slot] = index + 1
+        }
+    }
+
+    override val size: Int
+        get() = names.size
+
+    override val keys: Set<Name> = object : AbstractSet<Name>() {
+        override val size: Int
+            get() = names.size
+
+        override fun iterator(): Iterator<Name> = names.iterator()
+
+        override fun contains(element: Name): Boolean = indexOf(element) >= 0
+    }
+
+    // Materializes all values, the scopes don't use it
+    override val entries: Set<Map.Entry<Name, ByteArray>>
+        get() = names.indices.mapTo(LinkedHashSet()) { index ->
+            java.util.AbstractMap.SimpleImmutableEntry(names[index], arena.get(addresses[index], lengths[index]))
+        }
+
+    override fun containsKey(key: Name): Boolean = indexOf(key) >= 0
+
+    override fun get(key: Name): ByteArray? {
+        val index = indexOf(key)
+        if (index < 0) return null
+        return arena.get(addresses[index], lengths[index])
+    }
+
+    private fun indexOf(name: Name): Int {
+        var slot = slotOf(name)
+        while (true) {
+            val index = table[slot] - 1
+            if (index < 0) return -1
+            if (names[index] == name) return index
+            slot = (slot + 1) and (table.size - 1)
+        }
+    }
+
+    private fun slotOf(name: Name): Int {
+        val hash = name.hashCode()
+        return (hash xor (hash ushr 16)) and (table.size - 1)
+    }
+
+    companion object {
+        fun create(arena: OffHeapProtoArena, bytesByName: Map<Name, ByteArray>): Map<Name, ByteArray> {
+            if (bytesByName.isEmpty()) return emptyMap()
+
+            val names = bytesByName.keys.toTypedArray()
+            val addresses = LongArray(names.size)
+            val lengths = IntArray(names.size)
+            for ((index, name) in names.withIndex()) {
+                val bytes = bytesByName.getValue(name)
+                addresses[index] = arena.put(bytes)
+                lengths[index] = bytes.size
+            }
+            return OffHeapPackedProtosByName(arena, names, addresses, lengths)
+        }
+
+        // A power of two, at most half of the table is filled
+        private fun tableSize(count: Int): Int =
+            Integer.highestOneBit(maxOf(count, 1) * 2 - 1) shl 1
+    }
+}
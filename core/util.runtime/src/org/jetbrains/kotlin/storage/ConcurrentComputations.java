@@ -0,0 +1,163 @@
+/*
+ * Copyright 2010-2021 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.storage;
+
+import kotlin.Unit;
+import kotlin.jvm.functions.Function0;
+import kotlin.jvm.functions.Function1;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coordinates computations of a storage manager in the concurrent mode, where every lazy value and every key of a memoized function
+ * is computed by the thread which has published a {@link Computation} for it, instead of under the single lock of the storage manager.
+ * <p>
+ * A thread which needs a value being computed by another thread waits for the computation. Threads waiting for each other can't
+ * deadlock: if the owner of a computation is (transitively) waiting for the current thread, the current thread would have come to
+ * the same computation in the single-lock mode while it is on its own stack. So such a computation is treated as owned by the current
+ * thread, i.e. as a recursive call, and {@link #compute} is entered as a reentrant lock.
+ */
+final class ConcurrentComputations {
+    private static final long CHECK_CANCELLATION_PERIOD_MS = 50;
+
+    static final class Computation {
+        private final Thread owner = Thread.currentThread();
+        private final CountDownLatch done = new CountDownLatch(1);
+
+        // Accessed only by the owner and threads it's waiting for, which don't run at the same time
+        boolean recursionWasDetected;
+
+        boolean isDone() {
+            return done.getCount() == 0;
+        }
+
+        void complete() {
+            done.countDown();
+        }
+
+        @Override
+        public String toString() {
+            return "COMPUTING in " + owner.getName();
+        }
+    }
+
+    @Nullable
+    private final Runnable checkCancelled;
+    @Nullable
+    private final Function1<InterruptedException, Unit> interruptedExceptionHandler;
+
+    private final Object waitsLock = new Object();
+
+    // Guarded by waitsLock
+    private final Map<Thread, Computation> waitingFor = new HashMap<Thread, Computation>();
+    // Guarded by waitsLock
+    @Nullable
+    private Computation computeLock = null;
+
+    ConcurrentComputations(
+            @Nullable Runnable checkCancelled,
+            @Nullable Function1<InterruptedException, Unit> interruptedExceptionHandler
+    ) {
+        this.checkCancelled = checkCancelled;
+        this.interruptedExceptionHandler = interruptedExceptionHandler;
+    }
+
+    /**
+     * Waits until {@code computation} is done, unless it's owned by the current thread or by a thread waiting for it.
+     *
+     * @return {@code true} if the computation has been waited for, {@code false} if it's a recursive call
+     */
+    boolean awaitUnlessOwned(@NotNull Computation computation) {
+        Thread currentThread = Thread.currentThread();
+        synchronized (waitsLock) {
+            if (isOwnedBy(computation, currentThread)) return false;
+            waitingFor.put(currentThread, computation);
+        }
+        try {
+            await(computation);
+        }
+        finally {
+            synchronized (waitsLock) {
+                waitingFor.remove(currentThread);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Runs {@code computable} exclusively with other calls of this method, like {@link LockBasedStorageManager#compute} does
+     * in the single-lock mode
+     */
+    <T> T compute(@NotNull Function0<? extends T> computable) {
+        Computation lock = acquireComputeLock();
+        try {
+            return computable.invoke();
+        }
+        finally {
+            if (lock != null) {
+                synchronized (waitsLock) {
+                    computeLock = null;
+                }
+                lock.complete();
+            }
+        }
+    }
+
+    // Returns null if the lock is entered recursively
+    @Nullable
+    private Computation acquireComputeLock() {
+        while (true) {
+            Computation lock;
+            synchronized (waitsLock) {
+                lock = computeLock;
+                if (lock == null) {
+                    computeLock = new Computation();
+                    return computeLock;
+                }
+            }
+            if (!awaitUnlessOwned(lock)) return null;
+        }
+    }
+
+    // Should be called under waitsLock
+    private boolean isOwnedBy(@NotNull Computation computation, @NotNull Thread thread) {
+        if (computation.isDone()) return false;
+
+        Computation current = computation;
+        // Waiting threads form chains, since every thread waits for at most one computation
+        for (int i = 0; i <= waitingFor.size(); i++) {
+            if (current.owner == thread) return true;
+            current = waitingFor.get(current.owner);
+            // A thread which waits for a completed computation is about to wake up
+            if (current == null || current.isDone()) return false;
+        }
+        return false;
+    }
+
+    private void await(@NotNull Computation computation) {
+        try {
+            if (checkCancelled == null) {
+                computation.done.await();
+                return;
+            }
+            while (!computation.done.await(CHECK_CANCELLATION_PERIOD_MS, TimeUnit.MILLISECONDS)) {
+                checkCancelled.run();
+            }
+        }
+        catch (InterruptedException e) {
+            if (interruptedExceptionHandler == null) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for " + computation, e);
+            }
+            interruptedExceptionHandler.invoke(e);
+        }
+    }
+}
@@ -30,6 +30,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 public class LockBasedStorageManager implements StorageManager {
     private static final String PACKAGE_NAME = StringsKt.substringBeforeLast(LockBasedStorageManager.class.getCanonicalName(), ".", "");
@@ -81,18 +82,54 @@ public class LockBasedStorageManager implements StorageManager {
                                            SimpleLock.Companion.simpleLock(checkCancelled, interruptedExceptionHandler));
     }
 
+    /**
+     * Creates a storage manager which doesn't serialize all computations under a single lock: every lazy value and every key
+     * of a memoized function is computed by the first thread which requests it, and other threads requesting it wait for the result.
+     * Recursion detection and post-compute work like in the single-lock mode.
+     * <p>
+     * {@link #compute} calls are mutually exclusive with each other, but unlike the single-lock mode, not with computations of lazy
+     * values and memoized functions running in other threads. So state guarded by {@code compute} must not be accessed by such
+     * computations outside of {@code compute}: e.g. trace wrappers of {@code LockBasedLazyResolveStorageManager} access the trace
+     * only inside {@code compute}, and the trace itself must be thread-safe if it's accessed directly.
+     */
+    @NotNull
+    public static LockBasedStorageManager createConcurrent(
+            @NotNull String debugText,
+            @NotNull ExceptionHandlingStrategy exceptionHandlingStrategy,
+            @Nullable Runnable checkCancelled,
+            @Nullable Function1<InterruptedException, Unit> interruptedExceptionHandler
+    ) {
+        return new LockBasedStorageManager(debugText, exceptionHandlingStrategy,
+                                           SimpleLock.Companion.simpleLock(checkCancelled, interruptedExceptionHandler),
+                                           new ConcurrentComputations(checkCancelled, interruptedExceptionHandler));
+    }
+
     protected final SimpleLock lock;
     private final ExceptionHandlingStrategy exceptionHandlingStrategy;
     private final String debugText;
 
+    // Not null in the concurrent mode, see createConcurrent()
+    @Nullable
+    private final ConcurrentComputations concurrentComputations;
+
     private LockBasedStorageManager(
             @NotNull String debugText,
             @NotNull ExceptionHandlingStrategy exceptionHandlingStrategy,
             @NotNull SimpleLock lock
+    ) {
+        this(debugText, exceptionHandlingStrategy, lock, null);
+    }
+
+    private LockBasedStorageManager(
+            @NotNull String debugText,
+            @NotNull ExceptionHandlingStrategy exceptionHandlingStrategy,
+            @NotNull SimpleLock lock,
+            @Nullable ConcurrentComputations concurrentComputations
     ) {
         this.lock = lock;
         this.exceptionHandlingStrategy = exceptionHandlingStrategy;
         this.debugText = debugText;
+        this.concurrentComputations = concurrentComputations;
     }
 
     public LockBasedStorageManager(String debugText) {
@@ -115,7 +152,7 @@ public class LockBasedStorageManager implements StorageManager {
     public LockBasedStorageManager replaceExceptionHandling(
             @NotNull String debugText, @NotNull ExceptionHandlingStrategy exceptionHandlingStrategy
     ) {
-        return new LockBasedStorageManager(debugText, exceptionHandlingStrategy, lock);
+        return new LockBasedStorageManager(debugText, exceptionHandlingStrategy, lock, concurrentComputations);
     }
 
     @NotNull
@@ -285,6 +322,15 @@ public class LockBasedStorageManager implements StorageManager {
 
     @Override
     public <T> T compute(@NotNull Function0<? extends T> computable) {
+        if (concurrentComputations != null) {
+            try {
+                return concurrentComputations.compute(computable);
+            }
+            catch (Throwable throwable) {
+                throw exceptionHandlingStrategy.handleException(throwable);
+            }
+        }
+
         lock.lock();
         try {
             return computable.invoke();
@@ -357,6 +403,10 @@ public class LockBasedStorageManager implements StorageManager {
     }
 
     private static class LockBasedLazyValue<T> implements NullableLazyValue<T> {
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<LockBasedLazyValue, Object> VALUE_UPDATER =
+                AtomicReferenceFieldUpdater.newUpdater(LockBasedLazyValue.class, Object.class, "value");
+
         private final LockBasedStorageManager storageManager;
         private final Function0<? extends T> computable;
 
@@ -370,18 +420,26 @@ public class LockBasedStorageManager implements StorageManager {
 
         @Override
         public boolean isComputed() {
-            return value != NotValue.NOT_COMPUTED && value != NotValue.COMPUTING;
+            Object _value = value;
+            return _value != NotValue.NOT_COMPUTED && _value != NotValue.COMPUTING && !(_value instanceof ConcurrentComputations.Computation);
         }
 
         @Override
         public boolean isComputing() {
-            return value == NotValue.COMPUTING;
+            Object _value = value;
+            return _value == NotValue.COMPUTING || _value instanceof ConcurrentComputations.Computation;
         }
 
         @Override
         public T invoke() {
             Object _value = value;
-            if (!(_value instanceof NotValue)) return WrappedValues.unescapeThrowable(_value);
+            if (!(_value instanceof NotValue) && !(_value instanceof ConcurrentComputations.Computation)) {
+                return WrappedValues.unescapeThrowable(_value);
+            }
+
+            if (storageManager.concurrentComputations != null) {
+                return invokeConcurrently(storageManager.concurrentComputations);
+            }
 
             storageManager.lock.lock();
             try {
@@ -433,6 +491,68 @@ public class LockBasedStorageManager implements StorageManager {
             }
         }
 
+        private T invokeConcurrently(@NotNull ConcurrentComputations computations) {
+            while (true) {
+                Object _value = value;
+                if (!(_value instanceof NotValue) && !(_value instanceof ConcurrentComputations.Computation)) {
+                    return WrappedValues.unescapeThrowable(_value);
+                }
+
+                if (_value instanceof ConcurrentComputations.Computation) {
+                    ConcurrentComputations.Computation computation = (ConcurrentComputations.Computation) _value;
+                    if (computations.awaitUnlessOwned(computation)) continue;
+
+                    boolean firstTime = !computation.recursionWasDetected;
+                    computation.recursionWasDetected = true;
+                    RecursionDetectedResult<T> result = recursionDetected(firstTime);
+                    if (!result.isFallThrough()) {
+                        return result.getValue();
+                    }
+                    // The value is published by its owner
+                    return computable.invoke();
+                }
+
+                if (_value == NotValue.RECURSION_WAS_DETECTED) {
+                    RecursionDetectedResult<T> result = recursionDetected(/*firstTime = */ false);
+                    if (!result.isFallThrough()) {
+                        return result.getValue();
+                    }
+                }
+
+                ConcurrentComputations.Computation computation = new ConcurrentComputations.Computation();
+                if (!VALUE_UPDATER.compareAndSet(this, _value, computation)) continue;
+
+                try {
+                    T typedValue = computable.invoke();
+
+                    // Other threads wait till post compute is finished, the same as in the single-lock mode
+                    postCompute(typedValue);
+
+                    value = typedValue;
+                    return typedValue;
+                }
+                catch (Throwable throwable) {
+                    if (ExceptionUtilsKt.isProcessCanceledException(throwable)) {
+                        value = NotValue.NOT_COMPUTED;
+                        //noinspection ConstantConditions
+                        throw (RuntimeException)throwable;
+                    }
+
+                    if (computation.recursionWasDetected) {
+                        // Don't store something thrown through recursionDetected()
+                        value = NotValue.RECURSION_WAS_DETECTED;
+                    }
+                    else {
+                        value = WrappedValues.escapeThrowable(throwable);
+                    }
+                    throw storageManager.exceptionHandlingStrategy.handleException(throwable);
+                }
+                finally {
+                    computation.complete();
+                }
+            }
+        }
+
         /**
          * @param firstTime {@code true} when recursion has been just detected, {@code false} otherwise
          * @return a value to be returned on a recursive call or subsequent calls
@@ -549,7 +669,13 @@ public class LockBasedStorageManager implements StorageManager {
         @Nullable
         public V invoke(K input) {
             Object value = cache.get(input);
-            if (value != null && value != NotValue.COMPUTING) return WrappedValues.unescapeExceptionOrNull(value);
+            if (value != null && value != NotValue.COMPUTING && !(value instanceof ConcurrentComputations.Computation)) {
+                return WrappedValues.unescapeExceptionOrNull(value);
+            }
+
+            if (storageManager.concurrentComputations != null) {
+                return invokeConcurrently(input, storageManager.concurrentComputations);
+            }
 
             storageManager.lock.lock();
             try {
@@ -612,6 +738,63 @@ public class LockBasedStorageManager implements StorageManager {
             }
         }
 
+        @Nullable
+        private V invokeConcurrently(K input, @NotNull ConcurrentComputations computations) {
+            while (true) {
+                Object value = cache.get(input);
+                if (value != null && !(value instanceof ConcurrentComputations.Computation)) {
+                    return WrappedValues.unescapeExceptionOrNull(value);
+                }
+
+                if (value != null) {
+                    ConcurrentComputations.Computation computation = (ConcurrentComputations.Computation) value;
+                    if (computations.awaitUnlessOwned(computation)) continue;
+
+                    boolean firstTime = !computation.recursionWasDetected;
+                    computation.recursionWasDetected = true;
+                    RecursionDetectedResult<V> result = recursionDetected(input, firstTime);
+                    if (!result.isFallThrough()) {
+                        return result.getValue();
+                    }
+                    // The value is published by its owner
+                    return compute.invoke(input);
+                }
+
+                ConcurrentComputations.Computation computation = new ConcurrentComputations.Computation();
+                if (cache.putIfAbsent(input, computation) != null) continue;
+
+                AssertionError error = null;
+                try {
+                    V typedValue = compute.invoke(input);
+                    if (!cache.replace(input, computation, WrappedValues.escapeNull(typedValue))) {
+                        error = raceCondition(input, cache.get(input));
+                        throw error;
+                    }
+
+                    return typedValue;
+                }
+                catch (Throwable throwable) {
+                    if (ExceptionUtilsKt.isProcessCanceledException(throwable)) {
+                        cache.remove(input, computation);
+                        //noinspection ConstantConditions
+                        throw (RuntimeException)throwable;
+                    }
+                    if (throwable == error) {
+                        throw storageManager.exceptionHandlingStrategy.handleException(throwable);
+                    }
+
+                    if (!cache.replace(input, computation, WrappedValues.escapeThrowable(throwable))) {
+                        throw raceCondition(input, cache.get(input));
+                    }
+
+                    throw storageManager.exceptionHandlingStrategy.handleException(throwable);
+                }
+                finally {
+                    computation.complete();
+                }
+            }
+        }
+
         @NotNull
         protected RecursionDetectedResult<V> recursionDetected(K input, boolean firstTime) {
             return storageManager.recursionDetectedDefault("", input);
@@ -628,7 +811,7 @@ public class LockBasedStorageManager implements StorageManager {
         @Override
         public boolean isComputed(K key) {
             Object value = cache.get(key);
-            return value != null && value != NotValue.COMPUTING;
+            return value != null && value != NotValue.COMPUTING && !(value instanceof ConcurrentComputations.Computation);
         }
 
         protected LockBasedStorageManager getStorageManager() {
@@ -61,6 +61,9 @@ internal class FirThreadSafeSymbolProviderWrapper(private val provider: FirSymbo
 
     override fun getPackage(fqName: FqName): FqName? =
         packages.getOrCompute(fqName) { provider.getPackage(fqName) }
+
+    override fun mayHaveSymbolsInPackage(fqName: FqName): Boolean =
+        provider.mayHaveSymbolsInPackage(fqName)
 }
 
 private class ThreadSafeCache<KEY, VALUE : Any>(private val lock: ReadWriteLock) {
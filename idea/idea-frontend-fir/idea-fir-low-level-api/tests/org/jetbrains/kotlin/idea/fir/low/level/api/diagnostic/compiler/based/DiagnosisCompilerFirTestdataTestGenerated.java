@@ -4216,6 +4216,12 @@ public class DiagnosisCompilerFirTestdataTestGenerated extends AbstractDiagnosis
             runTest("compiler/fir/analysis-tests/testData/resolveWithStdlib/nullableTypeParameter.kt");
         }
 
+        @Test
+        @TestMetadata("packageRouting.kt")
+        public void testPackageRouting() throws Exception {
+            runTest("compiler/fir/analysis-tests/testData/resolveWithStdlib/packageRouting.kt");
+        }
+
         @Test
         @TestMetadata("plusAssignNullable.kt")
         public void testPlusAssignNullable() throws Exception {
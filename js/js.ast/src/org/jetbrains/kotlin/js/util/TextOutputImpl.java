@@ -4,15 +4,22 @@
 
 package org.jetbrains.kotlin.js.util;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.Arrays;
 
 public class TextOutputImpl implements TextOutput {
+    // Buffered text is written to the stream at the first new line after reaching this size
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+
     private final boolean compact;
     private int identLevel = 0;
     private final static int indentGranularity = 2;
     private char[][] indents = new char[][] {new char[0]};
     private boolean justNewlined;
     private final StringBuilder out;
+    private final Writer stream;
     private int position = 0;
     private int line = 0;
     private int column = 0;
@@ -28,13 +35,41 @@ public class TextOutputImpl implements TextOutput {
     public TextOutputImpl(boolean compact) {
         this.compact = compact;
         out = new StringBuilder();
+        stream = null;
+    }
+
+    /**
+     * Creates output which writes text to {@code stream} as it's printed instead of keeping it in memory.
+     * {@link #flush()} should be called when printing is done.
+     */
+    public TextOutputImpl(Writer stream, boolean compact) {
+        this.compact = compact;
+        out = new StringBuilder(STREAM_BUFFER_SIZE + 1024);
+        this.stream = stream;
     }
 
     @Override
     public String toString() {
+        if (stream != null) {
+            throw new IllegalStateException("Text is written to a stream");
+        }
         return out.toString();
     }
 
+    /**
+     * Writes buffered text to the stream, if any
+     */
+    public void flush() {
+        if (stream == null || out.length() == 0) return;
+        try {
+            stream.append(out);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        out.setLength(0);
+    }
+
     @Override
     public int getPosition() {
         return position;
@@ -76,6 +111,9 @@ public class TextOutputImpl implements TextOutput {
         line++;
         column = 0;
         justNewlined = true;
+        if (stream != null && out.length() >= STREAM_BUFFER_SIZE) {
+            flush();
+        }
     }
 
     @Override
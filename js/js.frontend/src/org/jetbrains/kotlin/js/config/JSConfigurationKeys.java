@@ -78,6 +78,9 @@ public class JSConfigurationKeys {
             CompilerConfigurationKey.create("generate special comments at the start and the end of each file block, " +
                                             "it allows to fold them and navigate to them in the IDEA");
 
+    public static final CompilerConfigurationKey<Boolean> CACHE_FILE_FRAGMENTS =
+            CompilerConfigurationKey.create("reuse JS code of unchanged IR files from the previous compilation of the module in this process");
+
     public static final CompilerConfigurationKey<Map<String, String>> FILE_PATHS_PREFIX_MAP =
             CompilerConfigurationKey.create("this map used to shorten/replace prefix of paths in comments with file paths, " +
                                             "including region comments");
@@ -14,16 +14,24 @@ import org.jetbrains.kotlin.js.parser.sourcemaps.*;
 import org.jetbrains.kotlin.js.util.TextOutput;
 
 import java.io.File;
+import java.io.IOException;
 import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Supplier;
 
 public class SourceMap3Builder implements SourceMapBuilder {
+    // Encoded mappings are written to the stream at the first new line after reaching this size
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+
     private final StringBuilder out = new StringBuilder(8192);
     private final File generatedFile;
     private final TextOutput textOutput;
     private final String pathPrefix;
+    private final Writer stream;
+    private boolean streamStarted;
 
     private final TObjectIntHashMap<SourceKey> sources = new TObjectIntHashMap<SourceKey>() {
         @Override
@@ -47,9 +55,19 @@ public class SourceMap3Builder implements SourceMapBuilder {
     private boolean currentMappingIsEmpty = true;
 
     public SourceMap3Builder(File generatedFile, TextOutput textOutput, String pathPrefix) {
+        this(generatedFile, textOutput, pathPrefix, null);
+    }
+
+    /**
+     * Creates a builder which writes the source map to {@code stream} while mappings are added, instead of building it in memory.
+     * Since sources are known only when all mappings are added, they're written after mappings by {@link #finish()},
+     * which must be called instead of {@link #build()}.
+     */
+    public SourceMap3Builder(File generatedFile, TextOutput textOutput, String pathPrefix, @Nullable Writer stream) {
         this.generatedFile = generatedFile;
         this.textOutput = textOutput;
         this.pathPrefix = pathPrefix;
+        this.stream = stream;
     }
 
     @Override
@@ -59,6 +77,10 @@ public class SourceMap3Builder implements SourceMapBuilder {
 
     @Override
     public String build() {
+        if (stream != null) {
+            throw new IllegalStateException("Source map is written to a stream, finish() should be called instead");
+        }
+
         @SuppressWarnings("unchecked")
         JsonObject json = new JsonObject();
         json.getProperties().put("version", new JsonNumber(3));
@@ -70,6 +92,46 @@ public class SourceMap3Builder implements SourceMapBuilder {
         return json.toString();
     }
 
+    /**
+     * Writes the rest of the source map to the stream
+     */
+    public void finish() throws IOException {
+        if (stream == null) {
+            throw new IllegalStateException("Source map is built in memory, build() should be called instead");
+        }
+
+        writeMappings();
+        stream.append("\",\"sources\":[");
+        for (int i = 0; i < orderedSources.size(); i++) {
+            if (i > 0) stream.append(',');
+            new JsonString(pathPrefix + orderedSources.get(i)).write(stream);
+        }
+        // Contents are read one by one, so that only one source is kept in memory
+        stream.append("],\"sourcesContent\":[");
+        for (int i = 0; i < orderedSourceContentSuppliers.size(); i++) {
+            if (i > 0) stream.append(',');
+            Reader reader = orderedSourceContentSuppliers.get(i).get();
+            (reader != null ? new JsonString(TextStreamsKt.readText(reader)) : JsonNull.INSTANCE).write(stream);
+        }
+        stream.append("],\"names\":[]}");
+        stream.flush();
+    }
+
+    private void writeMappings() throws IOException {
+        if (!streamStarted) {
+            stream.append("{\"version\":3,");
+            if (generatedFile != null) {
+                stream.append("\"file\":");
+                new JsonString(generatedFile.getName()).write(stream);
+                stream.append(',');
+            }
+            stream.append("\"mappings\":\"");
+            streamStarted = true;
+        }
+        stream.append(out);
+        out.setLength(0);
+    }
+
     private void appendSources(JsonObject json) {
         JsonArray array = new JsonArray();
         for (String source : orderedSources) {
@@ -91,10 +153,23 @@ public class SourceMap3Builder implements SourceMapBuilder {
     public void newLine() {
         out.append(';');
         previousGeneratedColumn = -1;
+
+        // Mappings of the next line can't roll back to the previous lines, so they can be written
+        if (stream != null && out.length() >= STREAM_BUFFER_SIZE) {
+            try {
+                writeMappings();
+            }
+            catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
     }
 
     @Override
     public void skipLinesAtBeginning(int count) {
+        if (streamStarted) {
+            throw new IllegalStateException("Beginning of the source map has been already written");
+        }
         out.insert(0, StringUtil.repeatSymbol(';', count));
     }
 
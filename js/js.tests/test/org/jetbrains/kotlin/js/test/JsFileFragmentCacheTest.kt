@@ -0,0 +1,123 @@
+/*
+ * Copyright 2010-2021 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.js.test
+
+import org.jetbrains.kotlin.TestWithWorkingDir
+import org.jetbrains.kotlin.cli.common.ExitCode
+import org.jetbrains.kotlin.cli.common.arguments.K2JSCompilerArguments
+import org.jetbrains.kotlin.cli.common.messages.MessageRenderer
+import org.jetbrains.kotlin.cli.common.messages.PrintingMessageCollector
+import org.jetbrains.kotlin.cli.js.K2JSCompiler
+import org.jetbrains.kotlin.config.Services
+import org.junit.Test
+import java.io.File
+
+/**
+ * Compiles a module twice with `-Xir-cache-file-fragments`, changing a file between compilations in a way which affects
+ *   JS code of another, unchanged file. The second output must work and be the same as the output of a compilation without the cache
+ */
+class JsFileFragmentCacheTest : TestWithWorkingDir() {
+    @Test
+    fun testChangedInlineFunction() {
+        doTest(
+            "inlineFunction",
+            lib1 = "inline fun value(): String = \"O\" + \"K\"",
+            lib2 = "inline fun value(): String = \"K\" + \"O\"",
+            main = "@JsExport fun box(): String = value()",
+            expected1 = "OK",
+            expected2 = "KO"
+        )
+    }
+
+    @Test
+    fun testRenamedDeclaration() {
+        doTest(
+            "renamedDeclaration",
+            lib1 = "@JsName(\"first\") fun value(): String = \"OK\"",
+            lib2 = "@JsName(\"second\") fun value(): String = \"OK\"\nfun first(): String = \"fail\"",
+            main = "@JsExport fun box(): String = value()",
+            expected1 = "OK",
+            expected2 = "OK"
+        )
+    }
+
+    @Test
+    fun testChangedClassModel() {
+        doTest(
+            "classModel",
+            lib1 = "open class Base { open fun value(): String = \"Base\" }\ninterface Marker",
+            lib2 = "open class Base : Marker { open fun value(): String = \"Base\" }\ninterface Marker { fun marker(): String = \"Marker\" }",
+            main = "class Derived : Base() { override fun value(): String = \"Derived\" }\n" +
+                    "@JsExport fun box(): String { val d: Any = Derived(); return (d as Base).value() + (d is Marker) }",
+            expected1 = "Derivedfalse",
+            expected2 = "Derivedtrue"
+        )
+    }
+
+    @Test
+    fun testWhitespaceEditUpdatesSourceMap() {
+        val moduleName = "whitespaceEdit"
+        val srcDir = File(workingDir, "src").apply { mkdirs() }
+        val libFile = File(srcDir, "lib.kt").apply { writeText("fun value(): String {\n    return \"OK\"\n}") }
+        val mainFile = File(srcDir, "main.kt").apply { writeText("@JsExport fun box(): String = value()") }
+        val sources = listOf(libFile, mainFile)
+
+        compile(moduleName, sources, File(workingDir, "first/$moduleName.js"), cacheFileFragments = true, sourceMap = true)
+
+        // Lines and columns of the code are changed, while its IR stays the same
+        libFile.writeText("\n\nfun value(): String {\n        return \"OK\"\n}")
+        val secondOutput = compile(moduleName, sources, File(workingDir, "second/$moduleName.js"), cacheFileFragments = true, sourceMap = true)
+        V8IrJsTestChecker.check(listOf(secondOutput.path), moduleName, null, "box", "OK", false)
+
+        val referenceOutput =
+            compile(moduleName, sources, File(workingDir, "reference/$moduleName.js"), cacheFileFragments = false, sourceMap = true)
+        assertEquals(referenceOutput.readText(), secondOutput.readText())
+        assertEquals(File(referenceOutput.path + ".map").readText(), File(secondOutput.path + ".map").readText())
+    }
+
+    private fun doTest(moduleName: String, lib1: String, lib2: String, main: String, expected1: String, expected2: String) {
+        val srcDir = File(workingDir, "src").apply { mkdirs() }
+        val libFile = File(srcDir, "lib.kt").apply { writeText(lib1) }
+        val mainFile = File(srcDir, "main.kt").apply { writeText(main) }
+        val sources = listOf(libFile, mainFile)
+
+        val firstOutput = compile(moduleName, sources, File(workingDir, "first/$moduleName.js"), cacheFileFragments = true)
+        V8IrJsTestChecker.check(listOf(firstOutput.path), moduleName, null, "box", expected1, false)
+
+        libFile.writeText(lib2)
+        val secondOutput = compile(moduleName, sources, File(workingDir, "second/$moduleName.js"), cacheFileFragments = true)
+        V8IrJsTestChecker.check(listOf(secondOutput.path), moduleName, null, "box", expected2, false)
+
+        val referenceOutput = compile(moduleName, sources, File(workingDir, "reference/$moduleName.js"), cacheFileFragments = false)
+        assertEquals(referenceOutput.readText(), secondOutput.readText())
+    }
+
+    private fun compile(
+        moduleName: String,
+        sources: List<File>,
+        outputFile: File,
+        cacheFileFragments: Boolean,
+        sourceMap: Boolean = false
+    ): File {
+        val args = K2JSCompilerArguments().apply {
+            freeArgs = sources.map { it.absolutePath }
+            libraries = STDLIB_PATH
+            this.outputFile = outputFile.absolutePath
+            irProduceJs = true
+            irOnly = true
+            irModuleName = moduleName
+            irCacheFileFragments = cacheFileFragments
+            this.sourceMap = sourceMap
+        }
+        val messageCollector = PrintingMessageCollector(System.err, MessageRenderer.PLAIN_RELATIVE_PATHS, false)
+        assertEquals(ExitCode.OK, K2JSCompiler().exec(messageCollector, Services.EMPTY, args))
+        return outputFile
+    }
+
+    companion object {
+        private val STDLIB_PATH = System.getProperty("kotlin.js.full.stdlib.path")
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2010-2021 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.js.test
+
+import org.jetbrains.kotlin.TestWithWorkingDir
+import org.jetbrains.kotlin.cli.common.ExitCode
+import org.jetbrains.kotlin.cli.common.arguments.K2JSCompilerArguments
+import org.jetbrains.kotlin.cli.common.messages.MessageRenderer
+import org.jetbrains.kotlin.cli.common.messages.PrintingMessageCollector
+import org.jetbrains.kotlin.cli.js.K2JSCompiler
+import org.jetbrains.kotlin.config.Services
+import org.junit.Test
+import java.io.File
+
+/**
+ * Checks that lowered IR caches of libraries (`-Xir-library-caches-dir`) built by one compilation are reused by the next one
+ *   without changing the output, and are rebuilt when flags affecting lowerings change
+ */
+class JsIrLibraryCachesTest : TestWithWorkingDir() {
+    private val cachesDir get() = File(workingDir, "caches")
+
+    @Test
+    fun testColdAndWarmCompilationsProduceSameCode() {
+        val source = writeSource()
+
+        val coldOutput = compile(source, File(workingDir, "cold/main.js"))
+        val cacheInfosAfterColdRun = cacheInfos()
+        assertTrue("No library caches were built", cacheInfosAfterColdRun.isNotEmpty())
+
+        val warmOutput = compile(source, File(workingDir, "warm/main.js"))
+        assertEquals("Library caches were rebuilt", cacheInfosAfterColdRun, cacheInfos())
+
+        assertEquals(coldOutput.readText(), warmOutput.readText())
+        V8IrJsTestChecker.check(listOf(warmOutput.path), "main", null, "box", "OK", false)
+    }
+
+    @Test
+    fun testCachesAreRebuiltWhenLoweringFlagsChange() {
+        val source = writeSource()
+
+        compile(source, File(workingDir, "default/main.js"))
+        val cacheInfosWithDefaultFlags = cacheInfos()
+
+        val output = compile(source, File(workingDir, "lazy/main.js")) { irPropertyLazyInitialization = true }
+        val cacheInfosWithLazyInitialization = cacheInfos()
+
+        assertEquals(cacheInfosWithDefaultFlags.keys, cacheInfosWithLazyInitialization.keys)
+        for ((cache, info) in cacheInfosWithDefaultFlags) {
+            assertFalse("Cache $cache was not rebuilt", info == cacheInfosWithLazyInitialization[cache])
+        }
+        V8IrJsTestChecker.check(listOf(output.path), "main", null, "box", "OK", false)
+    }
+
+    private fun writeSource(): File =
+        File(workingDir, "main.kt").apply {
+            writeText(
+                """
+                val greeting = listOf("O", "K").joinToString("")
+
+                @JsExport
+                fun box(): String = greeting.takeIf { it.length == 2 } ?: "fail"
+                """.trimIndent()
+            )
+        }
+
+    // Contents of cache info files, which hold hashes of the inputs caches were built from
+    private fun cacheInfos(): Map<String, String> =
+        cachesDir.listFiles { file -> file.isDirectory }.orEmpty().associate { it.name to File(it, "info").readText() }
+
+    private fun compile(source: File, outputFile: File, configure: K2JSCompilerArguments.() -> Unit = {}): File {
+        val args = K2JSCompilerArguments().apply {
+            freeArgs = listOf(source.absolutePath)
+            libraries = System.getProperty("kotlin.js.full.stdlib.path")
+            this.outputFile = outputFile.absolutePath
+            irProduceJs = true
+            irOnly = true
+            irModuleName = "main"
+            irLibraryCachesDir = cachesDir.absolutePath
+            configure()
+        }
+        val messageCollector = PrintingMessageCollector(System.err, MessageRenderer.PLAIN_RELATIVE_PATHS, false)
+        assertEquals(ExitCode.OK, K2JSCompiler().exec(messageCollector, Services.EMPTY, args))
+        return outputFile
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2010-2021 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.js.test
+
+import org.jetbrains.kotlin.TestWithWorkingDir
+import org.jetbrains.kotlin.cli.common.ExitCode
+import org.jetbrains.kotlin.cli.common.arguments.K2JSCompilerArguments
+import org.jetbrains.kotlin.cli.common.messages.MessageRenderer
+import org.jetbrains.kotlin.cli.common.messages.PrintingMessageCollector
+import org.jetbrains.kotlin.cli.js.K2JSCompiler
+import org.jetbrains.kotlin.config.Services
+import org.junit.Test
+import java.io.File
+
+/**
+ * Checks that collecting references of reachable declarations in parallel (`-Dkotlin.js.ir.dce.parallel=true`)
+ *   keeps the same declarations as the sequential DCE
+ */
+class JsIrParallelDceTest : TestWithWorkingDir() {
+    @Test
+    fun testParallelAndSequentialDceProduceSameCode() {
+        val source = File(workingDir, "main.kt").apply {
+            writeText(
+                """
+                interface Shape { fun area(): Double }
+                data class Rect(val w: Double, val h: Double) : Shape { override fun area() = w * h }
+                data class Circle(val r: Double) : Shape { override fun area() = 3.0 * r * r }
+                class Unused : Shape { override fun area() = 0.0 }
+
+                @JsExport
+                fun box(): String {
+                    val shapes = listOf(Rect(1.0, 2.0), Circle(1.0)).sortedBy { it.area() }
+                    val byName = shapes.groupBy { it::class.simpleName }.mapValues { (_, v) -> v.sumOf { it.area() } }
+                    val text = buildString { shapes.forEach { append(it.toString()).append(';') } }
+                    return if (byName.size == 2 && text.startsWith("Rect") && Regex("[0-9.]+").findAll(text).count() == 3) "OK" else "fail: ${'$'}text"
+                }
+                """.trimIndent()
+            )
+        }
+
+        val sequentialOutput = compileWithDce(source, File(workingDir, "sequential/main.js"), parallel = false)
+        val parallelOutput = compileWithDce(source, File(workingDir, "parallel/main.js"), parallel = true)
+
+        assertEquals(sequentialOutput.readText(), parallelOutput.readText())
+        V8IrJsTestChecker.check(listOf(parallelOutput.path), "main", null, "box", "OK", false)
+    }
+
+    private fun compileWithDce(source: File, outputFile: File, parallel: Boolean): File {
+        val args = K2JSCompilerArguments().apply {
+            freeArgs = listOf(source.absolutePath)
+            libraries = System.getProperty("kotlin.js.full.stdlib.path")
+            this.outputFile = outputFile.absolutePath
+            irProduceJs = true
+            irOnly = true
+            irDce = true
+            irModuleName = "main"
+        }
+        val messageCollector = PrintingMessageCollector(System.err, MessageRenderer.PLAIN_RELATIVE_PATHS, false)
+        val parallelBackup = System.getProperty(PARALLEL_DCE_PROPERTY)
+        System.setProperty(PARALLEL_DCE_PROPERTY, parallel.toString())
+        try {
+            assertEquals(ExitCode.OK, K2JSCompiler().exec(messageCollector, Services.EMPTY, args))
+        } finally {
+            if (parallelBackup == null) System.clearProperty(PARALLEL_DCE_PROPERTY) else System.setProperty(PARALLEL_DCE_PROPERTY, parallelBackup)
+        }
+        return outputFile
+    }
+
+    companion object {
+        private const val PARALLEL_DCE_PROPERTY = "kotlin.js.ir.dce.parallel"
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2010-2021 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.js.test
+
+import org.jetbrains.kotlin.backend.common.phaser.PhaseConfig
+import org.jetbrains.kotlin.cli.common.messages.AnalyzerWithCompilerReport
+import org.jetbrains.kotlin.cli.jvm.compiler.EnvironmentConfigFiles
+import org.jetbrains.kotlin.cli.jvm.compiler.KotlinCoreEnvironment
+import org.jetbrains.kotlin.config.CommonConfigurationKeys
+import org.jetbrains.kotlin.config.CompilerConfiguration
+import org.jetbrains.kotlin.ir.backend.js.MainModule
+import org.jetbrains.kotlin.ir.backend.js.compile
+import org.jetbrains.kotlin.ir.backend.js.jsPhases
+import org.jetbrains.kotlin.ir.declarations.impl.IrFactoryImpl
+import org.jetbrains.kotlin.js.config.JSConfigurationKeys
+import org.jetbrains.kotlin.js.parser.sourcemaps.parseJson
+import org.jetbrains.kotlin.name.FqName
+import org.jetbrains.kotlin.test.KotlinTestUtils
+import org.jetbrains.kotlin.test.KotlinTestWithEnvironment
+import org.jetbrains.kotlin.test.util.KtTestUtil
+import java.io.File
+
+/**
+ * Checks that JS code and source maps streamed to files are the same as the ones printed to strings.
+ * The program includes the whole stdlib, so both outputs are flushed many times while they're streamed
+ */
+class JsProgramPrinterTest : KotlinTestWithEnvironment() {
+    fun testStreamedOutputIsSameAsPrintedToString() {
+        val outputDir = KtTestUtil.tmpDir("js-program-printer")
+        val source = File(outputDir, "main.kt").apply {
+            writeText(
+                """
+                class Point(val x: Int, val y: Int) {
+                    override fun toString() = "(${'$'}x, ${'$'}y)"
+                }
+
+                fun box(): String {
+                    val points = (1..10).map { Point(it, it * it) }
+                    return if (points.last().toString() == "(10, 100)") "OK" else "fail"
+                }
+                """.trimIndent()
+            )
+        }
+
+        val outputs = compile(
+            project = environment.project,
+            mainModule = MainModule.SourceFiles(listOf(KotlinTestUtils.loadJetFile(environment.project, source))),
+            analyzer = AnalyzerWithCompilerReport(environment.configuration),
+            configuration = environment.configuration,
+            phaseConfig = PhaseConfig(jsPhases),
+            irFactory = IrFactoryImpl,
+            dependencies = listOf(File(System.getProperty("kotlin.js.full.stdlib.path")).absolutePath),
+            friendDependencies = emptyList(),
+            mainArguments = null,
+            exportedDeclarations = setOf(FqName("box")),
+            propertyLazyInitialization = false
+        ).outputs!!
+
+        // Streamed, since neither the code nor the source map have been printed yet
+        val jsFile = File(outputDir, "main.js")
+        outputs.writeTo(jsFile)
+        val sourceMapFile = File(outputDir, "main.js.map")
+
+        val sourceMap = outputs.sourceMap!!
+        assertEquals(outputs.jsCode + "\n//# sourceMappingURL=main.js.map", jsFile.readText())
+        // Keys of a streamed source map are in a different order, since sources are known only after all mappings
+        assertEquals(parseJson(sourceMap), parseJson(sourceMapFile))
+        assertTrue(jsFile.length() > 64 * 1024)
+    }
+
+    override fun createEnvironment(): KotlinCoreEnvironment {
+        val configuration = CompilerConfiguration().apply {
+            put(CommonConfigurationKeys.MODULE_NAME, "main")
+            put(JSConfigurationKeys.SOURCE_MAP, true)
+        }
+        return KotlinCoreEnvironment.createForTests(testRootDisposable, configuration, EnvironmentConfigFiles.JS_CONFIG_FILES)
+    }
+}